@@ -0,0 +1,67 @@
+package com.kyonggi.backend.auth.audit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.AuditProperties;
+import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GET /actuator/auditlog?from=&to=&afterSequence=&limit= — 이 레플리카의 감사 로그 시각 범위 조회
+ *
+ * - from/to: ISO-8601 Instant (예: 2026-10-18T00:00:00Z). 기본값 to=지금, from=to-1시간. [from, to)
+ * - limit: 기본/상한 app.audit.read-max-records.
+ * - truncated=true면 같은 from/to에 afterSequence=응답의 lastSequence를 붙여 다음 페이지를 읽는다.
+ *   (occurredAt으로 이어 읽지 않는다 → AuditLogReader 참고. to를 생략하면 페이지마다 "지금"이 바뀌므로 첫 응답 시각으로 고정한다)
+ * - MASTER role 전용(SecurityConfig /actuator/** hasRole), exposure.include에 등록해야 노출된다.
+ * - 실패 로그인 이메일은 마스킹해서 내려준다(원문은 세그먼트 파일에만 있다).
+ */
+@Component
+@Endpoint(id = "auditlog")
+@ConditionalOnProperty(prefix = "app.audit", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AuditLogEndpoint {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofHours(1);
+
+    private final AuditLogReader reader;
+    private final AuditProperties props;
+    private final Clock clock;
+
+    @ReadOperation
+    public AuditLogReader.AuditPage auditLog(@Nullable String from, @Nullable String to,
+                                             @Nullable Long afterSequence, @Nullable Integer limit) {
+        Instant end = to == null ? clock.instant() : parse("to", to);
+        Instant start = from == null ? end.minus(DEFAULT_WINDOW) : parse("from", from);
+        if (!start.isBefore(end)) {
+            throw new InvalidEndpointRequestException("from must be before to", "from >= to");
+        }
+        int max = props.readMaxRecords();
+        int size = limit == null ? max : Math.max(1, Math.min(limit, max));
+
+        AuditLogReader.AuditPage page = reader.read(start, end, afterSequence == null ? -1 : afterSequence, size);
+        return page.withRecords(page.records().stream()
+                .map(r -> r.email() == null ? r : r.withEmail(KyonggiEmailUtils.mask(r.email())))
+                .toList());
+    }
+
+    private static Instant parse(String name, String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException(
+                    name + " must be an ISO-8601 instant (e.g. 2026-01-01T00:00:00Z)", "invalid " + name);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.kyonggi.backend.auth.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import com.kyonggi.backend.auth.event.AuthEvent;
+import com.kyonggi.backend.auth.token.domain.RefreshRevokeReason;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 감사 로그 바이너리 포맷 (세그먼트 헤더 + 레코드 프레임, little-endian)
+ *
+ * 세그먼트 파일: {baseSequence 20자리}.audit
+ *   [0]  int   MAGIC ("KGAU")
+ *   [4]  short VERSION
+ *   [6]  short HEADER_BYTES
+ *   [8]  long  baseSequence    이 파일 첫 레코드의 전역 시퀀스
+ *   [16] long  minMillis       레코드 occurredAt 최솟값 (비었으면 Long.MAX_VALUE)
+ *   [24] long  maxMillis       레코드 occurredAt 최댓값 (비었으면 Long.MIN_VALUE) → 조회 시 세그먼트 건너뛰기
+ *
+ * 레코드 프레임 (28 + 이메일 바이트, 보통 50바이트 안팎):
+ *   [0]  int   payloadLength   마지막에 쓴다 → 0 = 끝(미리 잡은 파일의 빈 영역), 읽는 쪽은 CRC로 찢어진 꼬리를 거른다
+ *   [4]  byte  type            AuditType.code
+ *   [5]  byte  reason          타입별 사유 코드 (아래 표, 0 = 없음/알 수 없음)
+ *   [6]  byte  flags           bit0 = rememberMe
+ *   [7]  byte  emailLength     0~255 (LoginFailed만)
+ *   [8]  long  occurredAtMillis
+ *   [16] long  userId          -1 = 없음
+ *   [24] ...   email (UTF-8)
+ *   [..] int   crc32c(payload)
+ *
+ * 코드는 한 번 정하면 바꾸지 않는다(기존 파일 해석이 달라진다). enum ordinal은 쓰지 않는다.
+ */
+final class AuditLogFormat {
+
+    static final int MAGIC = 0x4B474155;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    static final int MIN_MILLIS_OFFSET = 16;
+    static final int MAX_MILLIS_OFFSET = 24;
+
+    static final int FIXED_PAYLOAD_BYTES = 20;
+    static final int FRAME_OVERHEAD = 8; // length + crc
+    static final int MAX_EMAIL_BYTES = 255;
+    static final int MAX_FRAME_BYTES = FRAME_OVERHEAD + FIXED_PAYLOAD_BYTES + MAX_EMAIL_BYTES;
+
+    private static final String SUFFIX = ".audit";
+
+    private AuditLogFormat() {
+    }
+
+    enum AuditType {
+        LOGIN_SUCCEEDED(1), LOGIN_FAILED(2), REFRESH_ROTATED(3), REFRESH_REUSED(4), SESSION_REVOKED(5), USER_REGISTERED(6);
+
+        final byte code;
+
+        AuditType(int code) {
+            this.code = (byte) code;
+        }
+
+        static AuditType of(byte code) {
+            for (AuditType t : values()) {
+                if (t.code == code) return t;
+            }
+            return null;
+        }
+    }
+
+    // ---- 세그먼트 파일 ----
+
+    static Path segmentPath(Path directory, long baseSequence) {
+        return directory.resolve(String.format("%020d%s", baseSequence, SUFFIX));
+    }
+
+    static long baseSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    // 이름 = 0 채운 시퀀스 → 이름순 = 시퀀스순
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) return List.of();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().matches("\\d{20}\\" + SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static void writeHeader(ByteBuffer buf, long baseSequence) {
+        buf.putInt(0, MAGIC);
+        buf.putShort(4, VERSION);
+        buf.putShort(6, (short) HEADER_BYTES);
+        buf.putLong(8, baseSequence);
+        buf.putLong(MIN_MILLIS_OFFSET, Long.MAX_VALUE);
+        buf.putLong(MAX_MILLIS_OFFSET, Long.MIN_VALUE);
+    }
+
+    static boolean isValidHeader(ByteBuffer buf) {
+        return buf.limit() >= HEADER_BYTES
+                && buf.getInt(0) == MAGIC
+                && buf.getShort(4) == VERSION
+                && buf.getShort(6) == HEADER_BYTES;
+    }
+
+    // ---- 레코드 프레임 ----
+
+    /**
+     * @param crcView buf와 같은 메모리를 보는 별도 뷰 (position/limit만 바꿔 CRC 계산 → 할당 없음)
+     * @return 다음 프레임 위치 (호출자가 pos + MAX_FRAME_BYTES ≤ limit 을 보장)
+     */
+    static int writeFrame(ByteBuffer buf, int pos, AuthEvent event, CRC32C crc, ByteBuffer crcView) {
+        int payload = pos + 4;
+        long userId = -1;
+        byte type;
+        byte reason = 0;
+        byte flags = 0;
+        int emailBytes = 0;
+
+        switch (event) {
+            case AuthEvent.LoginSucceeded e -> {
+                type = AuditType.LOGIN_SUCCEEDED.code;
+                userId = e.userId();
+                flags = (byte) (e.rememberMe() ? 1 : 0);
+            }
+            case AuthEvent.LoginFailed e -> {
+                type = AuditType.LOGIN_FAILED.code;
+                reason = loginFailureCode(e.reason());
+                emailBytes = putEmail(buf, payload + FIXED_PAYLOAD_BYTES, e.email());
+            }
+            case AuthEvent.RefreshRotated e -> {
+                type = AuditType.REFRESH_ROTATED.code;
+                userId = e.userId();
+            }
+            case AuthEvent.RefreshReused e -> {
+                type = AuditType.REFRESH_REUSED.code;
+                userId = e.userId();
+            }
+            case AuthEvent.SessionRevoked e -> {
+                type = AuditType.SESSION_REVOKED.code;
+                userId = e.userId();
+                reason = revokeCode(e.reason());
+            }
+            case AuthEvent.UserRegistered e -> {
+                type = AuditType.USER_REGISTERED.code;
+                userId = e.userId();
+            }
+        }
+
+        buf.put(payload, type);
+        buf.put(payload + 1, reason);
+        buf.put(payload + 2, flags);
+        buf.put(payload + 3, (byte) emailBytes);
+        buf.putLong(payload + 4, event.occurredAt().toEpochMilli());
+        buf.putLong(payload + 12, userId);
+
+        int payloadLength = FIXED_PAYLOAD_BYTES + emailBytes;
+        crc.reset();
+        crc.update(crcView.limit(payload + payloadLength).position(payload));
+        buf.putInt(payload + payloadLength, (int) crc.getValue());
+
+        buf.putInt(pos, payloadLength); // 마지막: 이 쓰기 전까지 읽는 쪽에는 "끝"으로 보인다
+        return payload + payloadLength + 4;
+    }
+
+    /** @return payloadLength, -1 = 끝(빈 영역) 또는 찢어진/깨진 프레임 */
+    static int readFrame(ByteBuffer buf, int pos, CRC32C crc, ByteBuffer crcView) {
+        if (pos + FRAME_OVERHEAD + FIXED_PAYLOAD_BYTES > buf.limit()) return -1;
+
+        int payloadLength = buf.getInt(pos);
+        if (payloadLength < FIXED_PAYLOAD_BYTES || payloadLength > FIXED_PAYLOAD_BYTES + MAX_EMAIL_BYTES) return -1;
+
+        int payload = pos + 4;
+        if (payload + payloadLength + 4 > buf.limit()) return -1;
+        if (FIXED_PAYLOAD_BYTES + Byte.toUnsignedInt(buf.get(payload + 3)) != payloadLength) return -1;
+
+        crc.reset();
+        crc.update(crcView.limit(payload + payloadLength).position(payload));
+        return buf.getInt(payload + payloadLength) == (int) crc.getValue() ? payloadLength : -1;
+    }
+
+    static long occurredAtMillis(ByteBuffer buf, int pos) {
+        return buf.getLong(pos + 4 + 4);
+    }
+
+    static AuditRecord decode(ByteBuffer buf, int pos, long sequence) {
+        int payload = pos + 4;
+        AuditType type = AuditType.of(buf.get(payload));
+        byte reason = buf.get(payload + 1);
+        byte flags = buf.get(payload + 2);
+        int emailBytes = Byte.toUnsignedInt(buf.get(payload + 3));
+        long userId = buf.getLong(payload + 12);
+
+        String email = null;
+        if (emailBytes > 0) {
+            byte[] bytes = new byte[emailBytes];
+            buf.get(payload + FIXED_PAYLOAD_BYTES, bytes);
+            email = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return new AuditRecord(
+                sequence,
+                Instant.ofEpochMilli(buf.getLong(payload + 4)),
+                type == null ? "UNKNOWN" : type.name(),
+                userId < 0 ? null : userId,
+                email,
+                reasonName(type, reason),
+                type == AuditType.LOGIN_SUCCEEDED ? (flags & 1) != 0 : null);
+    }
+
+    // ASCII(정규화된 학교 메일)는 바이트 배열 없이 바로 쓴다. 그 외만 UTF-8 인코딩.
+    private static int putEmail(ByteBuffer buf, int at, String email) {
+        if (email == null) return 0;
+
+        int n = Math.min(email.length(), MAX_EMAIL_BYTES);
+        for (int i = 0; i < n; i++) {
+            char c = email.charAt(i);
+            if (c >= 0x80) {
+                byte[] utf8 = email.getBytes(StandardCharsets.UTF_8);
+                int len = Math.min(utf8.length, MAX_EMAIL_BYTES);
+                buf.put(at, utf8, 0, len);
+                return len;
+            }
+            buf.put(at + i, (byte) c);
+        }
+        return n;
+    }
+
+    private static byte loginFailureCode(ErrorCode reason) {
+        return switch (reason) {
+            case INVALID_CREDENTIALS -> 1;
+            case ACCOUNT_DISABLED -> 2;
+            default -> 0;
+        };
+    }
+
+    private static byte revokeCode(RefreshRevokeReason reason) {
+        return switch (reason) {
+            case ROTATED -> 1;
+            case LOGOUT -> 2;
+        };
+    }
+
+    private static String reasonName(AuditType type, byte code) {
+        if (type == AuditType.LOGIN_FAILED) {
+            return switch (code) {
+                case 1 -> ErrorCode.INVALID_CREDENTIALS.name();
+                case 2 -> ErrorCode.ACCOUNT_DISABLED.name();
+                default -> "UNKNOWN";
+            };
+        }
+        if (type == AuditType.SESSION_REVOKED) {
+            return switch (code) {
+                case 1 -> RefreshRevokeReason.ROTATED.name();
+                case 2 -> RefreshRevokeReason.LOGOUT.name();
+                default -> "UNKNOWN";
+            };
+        }
+        return null;
+    }
+}
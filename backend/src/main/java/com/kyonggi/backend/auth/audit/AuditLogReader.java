@@ -0,0 +1,135 @@
+package com.kyonggi.backend.auth.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.AuditProperties;
+
+/**
+ * 감사 로그 조회 (세그먼트 파일을 읽기 전용 mmap으로 스캔)
+ *
+ * - 기록기와 락을 공유하지 않는다. 기록 중인 마지막 세그먼트도 읽는다
+ *   (프레임 길이를 마지막에 쓰고 CRC로 검증 → 쓰는 중인 프레임은 "끝"으로 보인다).
+ * - 헤더의 [minMillis, maxMillis]가 조회 범위와 겹치지 않는 세그먼트는 본문을 열지 않는다.
+ *   (기록 중인 세그먼트는 헤더 갱신이 배치 끝이라 항상 스캔한다)
+ * - 결과는 시퀀스(기록) 순. limit에 닿으면 truncated=true → 같은 [from, to)에 afterSequence=lastSequence로 다음 페이지를 읽는다.
+ *   (occurredAt으로 이어 읽으면 안 된다: from이 포함이라 같은 ms 레코드가 중복되고, occurredAt은 요청 스레드에서
+ *    찍히고 기록은 버스 순서라 더 이른 시각의 레코드가 나중에 기록될 수 있다 → 건너뛰어진다)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.audit", name = "enabled", havingValue = "true")
+public class AuditLogReader {
+
+    private final Path directory;
+
+    public AuditLogReader(AuditProperties props) {
+        this.directory = Path.of(props.directory());
+    }
+
+    /** @param from 포함, to 제외 */
+    public AuditPage read(Instant from, Instant to, int limit) {
+        return read(from, to, -1, limit);
+    }
+
+    /**
+     * @param from 포함, to 제외
+     * @param afterSequence 이 시퀀스 이하는 건너뛴다 (페이지 커서, -1 = 처음부터)
+     */
+    public AuditPage read(Instant from, Instant to, long afterSequence, int limit) {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        List<AuditRecord> records = new ArrayList<>();
+        CRC32C crc = new CRC32C();
+        int scanned = 0;
+        int skipped = 0;
+
+        try {
+            List<Path> segments = AuditLogFormat.listSegments(directory);
+            for (int i = 0; i < segments.size(); i++) {
+                boolean active = i == segments.size() - 1;
+                if (!active && AuditLogFormat.baseSequenceOf(segments.get(i + 1)) <= afterSequence + 1) {
+                    skipped++; // 다음 세그먼트가 커서 이하에서 시작 → 이 세그먼트는 전부 이미 읽은 페이지
+                    continue;
+                }
+                Boolean truncated = scan(segments.get(i), active, fromMillis, toMillis, afterSequence, limit, records, crc);
+                if (truncated == null) {
+                    skipped++;
+                    continue;
+                }
+                scanned++;
+                if (truncated) {
+                    return AuditPage.of(records, true, scanned, skipped);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("audit log read failed: " + directory, e);
+        }
+        return AuditPage.of(records, false, scanned, skipped);
+    }
+
+    // @return null = 건너뜀, true = limit 도달
+    private static Boolean scan(Path path, boolean active, long fromMillis, long toMillis, long afterSequence, int limit,
+                                List<AuditRecord> out, CRC32C crc) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < AuditLogFormat.HEADER_BYTES) return null;
+
+            ByteBuffer header = ByteBuffer.allocate(AuditLogFormat.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            if (!AuditLogFormat.isValidHeader(header)) return null;
+            long minMillis = header.getLong(AuditLogFormat.MIN_MILLIS_OFFSET);
+            long maxMillis = header.getLong(AuditLogFormat.MAX_MILLIS_OFFSET);
+            if (!active && (maxMillis < fromMillis || minMillis >= toMillis)) return null;
+
+            ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer view = buf.duplicate();
+            long sequence = header.getLong(8);
+            int pos = AuditLogFormat.HEADER_BYTES;
+            int payloadLength;
+            while ((payloadLength = AuditLogFormat.readFrame(buf, pos, crc, view)) >= 0) {
+                long millis = AuditLogFormat.occurredAtMillis(buf, pos);
+                if (sequence > afterSequence && millis >= fromMillis && millis < toMillis) {
+                    if (out.size() == limit) return true;
+                    out.add(AuditLogFormat.decode(buf, pos, sequence));
+                }
+                pos += AuditLogFormat.FRAME_OVERHEAD + payloadLength;
+                sequence++;
+            }
+            return false;
+        } catch (NoSuchFileException e) {
+            return null; // 보관 기간이 지나 방금 지워진 세그먼트
+        }
+    }
+
+    /**
+     * @param truncated limit에 닿아 뒤에 더 있을 수 있음
+     * @param lastSequence 이 페이지 마지막 레코드의 시퀀스 = 다음 페이지의 afterSequence (레코드가 없으면 null)
+     * @param segmentsScanned 본문을 읽은 세그먼트 수
+     * @param segmentsSkipped 헤더의 시각 범위 또는 커서로 건너뛴 세그먼트 수
+     */
+    public record AuditPage(List<AuditRecord> records, boolean truncated, Long lastSequence,
+                            int segmentsScanned, int segmentsSkipped) {
+
+        static AuditPage of(List<AuditRecord> records, boolean truncated, int segmentsScanned, int segmentsSkipped) {
+            Long last = records.isEmpty() ? null : records.get(records.size() - 1).sequence();
+            return new AuditPage(records, truncated, last, segmentsScanned, segmentsSkipped);
+        }
+
+        public AuditPage withRecords(List<AuditRecord> records) {
+            return new AuditPage(records, truncated, lastSequence, segmentsScanned, segmentsSkipped);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.kyonggi.backend.auth.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.AuditProperties;
+import com.kyonggi.backend.auth.event.AuthEvent;
+import com.kyonggi.backend.auth.event.AuthEventConsumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 감사 로그 기록기 (AuthEventBus 소비자 → mmap 세그먼트 파일, 단일 기록자)
+ *
+ * 문제:
+ * - 로그인/refresh/재사용 탐지/로그아웃마다 감사 행을 MySQL에 INSERT하면 인증 쓰기 부하가 두 배가 된다.
+ *
+ * 구조:
+ * - 쓰는 스레드는 이 소비자의 버스 전용 스레드 하나뿐이다(onBatch/onIdle) → 위치/버퍼 상태에 락이 없다.
+ *   다른 프로세스가 같은 디렉터리를 쓰지 못하게 .lock 파일에 OS 락을 잡는다(실패 시 기동 실패).
+ * - 세그먼트 = segmentBytes 크기로 미리 mmap한 파일. 레코드는 메모리 쓰기로 끝난다(write 시스템 콜 없음).
+ *   다 차면 강제 flush 후 다음 세그먼트로 회전, retainSegments를 넘는 오래된 파일은 지운다.
+ * - 포맷: AuditLogFormat (고정 28바이트 + 실패 로그인 이메일, CRC32C)
+ *
+ * 내구성 (group commit):
+ * - 버스가 모아 준 배치 단위로 쓰고, fsync 정책에 따라 배치/주기마다 한 번 msync(force)한다.
+ *   NONE: OS writeback에 맡김(프로세스 크래시는 안전, 전원/커널 장애 시 최근 기록 유실 가능)
+ *   BATCH: 배치마다 / INTERVAL: fsyncIntervalMillis마다 (이벤트가 끊겨도 onIdle에서 마저 flush)
+ * - 재기동 시 마지막 세그먼트는 이어 쓰지 않는다. 유효 레코드 수로 다음 시퀀스만 정하고 새 세그먼트를 연다
+ *   (찢어진 꼬리 뒤에 새 레코드를 덧쓰는 경우를 원천 차단).
+ *
+ * 유실 없음:
+ * - lossless()=true → 이 기록기가 등록되면(app.audit.enabled) 버스 overflow는 설정과 무관하게 BLOCK이다.
+ *   버퍼가 차면 발행 스레드가 기다린다(요청 지연 가능, auth.events.lag{consumer=audit-log}로 관찰).
+ * - 버려지는 경우는 버스 정지(기동 전/종료 후) 발행뿐이다(auth.events.dropped).
+ *
+ * 메트릭:
+ * - auth.audit.records / auth.audit.bytes
+ * - auth.audit.fsync (timer) / auth.audit.segments.rotated
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.audit", name = "enabled", havingValue = "true")
+public class AuditLogWriter implements AuthEventConsumer, DisposableBean {
+
+    private final AuditProperties props;
+    private final Path directory;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final long intervalNanos;
+
+    private final CRC32C crc = new CRC32C();
+    private final Counter records;
+    private final Counter bytes;
+    private final Counter rotations;
+    private final Timer fsyncTimer;
+
+    // ---- 기록 스레드 전용 상태 ----
+    private MappedByteBuffer segment;
+    private ByteBuffer crcView;
+    private int position;
+    private int forcedPosition;
+    private long nextSequence;
+    private long minMillis;
+    private long maxMillis;
+    private long lastForceNanos = System.nanoTime();
+
+    public AuditLogWriter(AuditProperties props, MeterRegistry meterRegistry) throws IOException {
+        this.props = props;
+        this.directory = Path.of(props.directory());
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(props.fsyncIntervalMillis());
+
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.lock = tryLock(lockChannel, directory);
+
+        this.records = Counter.builder("auth.audit.records").register(meterRegistry);
+        this.bytes = Counter.builder("auth.audit.bytes").baseUnit("bytes").register(meterRegistry);
+        this.rotations = Counter.builder("auth.audit.segments.rotated").register(meterRegistry);
+        this.fsyncTimer = Timer.builder("auth.audit.fsync").register(meterRegistry);
+
+        recover();
+    }
+
+    @Override
+    public String name() {
+        return "audit-log";
+    }
+
+    @Override
+    public boolean lossless() {
+        return true;
+    }
+
+    @Override
+    public void onBatch(List<AuthEvent> batch) {
+        int start = position;
+        for (AuthEvent event : batch) {
+            if (position + AuditLogFormat.MAX_FRAME_BYTES > segment.limit()) {
+                bytes.increment(position - start);
+                rotate();
+                start = position;
+            }
+            long millis = event.occurredAt().toEpochMilli();
+            minMillis = Math.min(minMillis, millis);
+            maxMillis = Math.max(maxMillis, millis);
+            position = AuditLogFormat.writeFrame(segment, position, event, crc, crcView);
+            nextSequence++;
+        }
+        writeTimeRange();
+
+        records.increment(batch.size());
+        bytes.increment(position - start);
+
+        if (props.fsync() == AuditProperties.Fsync.BATCH) {
+            force();
+        } else if (props.fsync() == AuditProperties.Fsync.INTERVAL && System.nanoTime() - lastForceNanos >= intervalNanos) {
+            force();
+        }
+    }
+
+    @Override
+    public void onIdle() {
+        if (props.fsync() != AuditProperties.Fsync.INTERVAL || forcedPosition == position) {
+            return;
+        }
+        if (System.nanoTime() - lastForceNanos < intervalNanos) {
+            return;
+        }
+        try {
+            force();
+        } catch (UncheckedIOException e) {
+            lastForceNanos = System.nanoTime(); // 다음 주기에 다시 시도 (idle마다 반복 로그 방지)
+            log.warn("감사 로그 flush 실패: {}", e.toString());
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        // 버스(SmartLifecycle)가 먼저 멈추며 남은 이벤트를 onBatch로 비운 뒤 호출된다
+        try {
+            if (segment != null) {
+                segment.force();
+            }
+        } finally {
+            lock.release();
+            lockChannel.close();
+        }
+    }
+
+    private void force() {
+        Timer.Sample sample = Timer.start();
+        try {
+            segment.force(0, position); // msync: 범위 안의 dirty 페이지만 기록된다
+        } finally {
+            sample.stop(fsyncTimer);
+        }
+        forcedPosition = position;
+        lastForceNanos = System.nanoTime();
+    }
+
+    // 헤더의 시각 범위: 조회 시 범위 밖 세그먼트를 열지 않고 건너뛰는 데 쓴다
+    private void writeTimeRange() {
+        segment.putLong(AuditLogFormat.MIN_MILLIS_OFFSET, minMillis);
+        segment.putLong(AuditLogFormat.MAX_MILLIS_OFFSET, maxMillis);
+    }
+
+    private void rotate() {
+        writeTimeRange();
+        segment.force();
+        rotations.increment();
+        try {
+            openSegment(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("audit segment rotation failed: " + directory, e);
+        }
+    }
+
+    // 마지막 세그먼트의 유효 레코드 수로 다음 시퀀스를 정하고 항상 새 세그먼트에서 시작한다
+    private void recover() throws IOException {
+        List<Path> segments = AuditLogFormat.listSegments(directory);
+        long sequence = 0;
+        if (!segments.isEmpty()) {
+            Path last = segments.get(segments.size() - 1);
+            long base = AuditLogFormat.baseSequenceOf(last);
+            long valid = countValidRecords(last);
+            if (valid == 0) {
+                Files.delete(last); // 비었거나 헤더가 깨진 파일 → 같은 이름으로 다시 만든다
+            }
+            sequence = base + valid;
+        }
+        openSegment(sequence);
+        log.info("감사 로그 시작: directory={}, nextSequence={}, segmentBytes={}, fsync={}",
+                directory.toAbsolutePath(), sequence, props.segmentBytes(), props.fsync());
+    }
+
+    private long countValidRecords(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < AuditLogFormat.HEADER_BYTES) return 0;
+
+            ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (!AuditLogFormat.isValidHeader(buf)) return 0;
+
+            ByteBuffer view = buf.duplicate();
+            long count = 0;
+            int pos = AuditLogFormat.HEADER_BYTES;
+            int payloadLength;
+            while ((payloadLength = AuditLogFormat.readFrame(buf, pos, crc, view)) >= 0) {
+                pos += AuditLogFormat.FRAME_OVERHEAD + payloadLength;
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private void openSegment(long baseSequence) throws IOException {
+        Path path = AuditLogFormat.segmentPath(directory, baseSequence);
+        // 매핑은 채널을 닫아도 유지된다. 파일은 sparse로 늘어나므로 실제 디스크 사용량 = 기록한 양
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, props.segmentBytes());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            AuditLogFormat.writeHeader(mapped, baseSequence);
+
+            this.segment = mapped;
+            this.crcView = mapped.duplicate();
+            this.position = AuditLogFormat.HEADER_BYTES;
+            this.forcedPosition = 0;
+            this.nextSequence = baseSequence;
+            this.minMillis = Long.MAX_VALUE;
+            this.maxMillis = Long.MIN_VALUE;
+        }
+        deleteExpiredSegments();
+    }
+
+    private void deleteExpiredSegments() throws IOException {
+        List<Path> segments = AuditLogFormat.listSegments(directory);
+        for (int i = 0; i < segments.size() - props.retainSegments(); i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel, Path directory) throws IOException {
+        FileLock acquired;
+        try {
+            acquired = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null; // 같은 JVM의 다른 기록기
+        }
+        if (acquired == null) {
+            channel.close();
+            throw new IllegalStateException("audit directory is already in use by another writer: " + directory.toAbsolutePath());
+        }
+        return acquired;
+    }
+}
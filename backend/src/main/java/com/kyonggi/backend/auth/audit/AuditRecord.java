@@ -0,0 +1,28 @@
+package com.kyonggi.backend.auth.audit;
+
+import java.time.Instant;
+
+/**
+ * 감사 로그에서 읽은 레코드 1건 (AuditLogFormat.decode)
+ *
+ * - sequence: 프로세스(감사 디렉터리) 안에서 단조 증가하는 전역 번호 (재기동해도 이어진다)
+ * - type: LOGIN_SUCCEEDED | LOGIN_FAILED | REFRESH_ROTATED | REFRESH_REUSED | SESSION_REVOKED | USER_REGISTERED
+ * - userId: LoginFailed는 null (사용자를 특정하지 않는다)
+ * - email: LoginFailed만 (정규화된 입력 이메일)
+ * - reason: LoginFailed = ErrorCode 이름, SessionRevoked = RefreshRevokeReason 이름, 그 외 null
+ * - rememberMe: LoginSucceeded만
+ */
+public record AuditRecord(
+        long sequence,
+        Instant occurredAt,
+        String type,
+        Long userId,
+        String email,
+        String reason,
+        Boolean rememberMe
+) {
+
+    public AuditRecord withEmail(String email) {
+        return new AuditRecord(sequence, occurredAt, type, userId, email, reason, rememberMe);
+    }
+}
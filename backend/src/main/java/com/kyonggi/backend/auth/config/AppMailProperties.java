@@ -1,10 +1,17 @@
 package com.kyonggi.backend.auth.config;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 
 /**
  * # [Application Domain Config]
@@ -12,9 +19,112 @@ import jakarta.validation.constraints.NotBlank;
  * app:
  *   mail:
  *     from: ${APP_MAIL_FROM:? set APP_MAIL_FROM (local)}
+ *     outbox:
+ *       workers: 2
+ *       batch-size: 20
+ *       max-attempts: 5
+ *       base-backoff-millis: 1000
+ *       max-backoff-millis: 60000
+ *       poll-interval-millis: 1000
+ *       lease-seconds: 180
+ *       send-budget-seconds: 120
+ *       dead-retention-hours: 72
+ *     smtp-pool:
+ *       enabled: true
+ *       max-connections: 2
+ *       borrow-timeout-millis: 5000
+ *       max-messages-per-connection: 100
+ *       max-idle-seconds: 30
+ *     relays:                  # (선택) spring.mail(= primary) 외 추가 릴레이
+ *       - name: backup
+ *         host: ${APP_MAIL_BACKUP_HOST}
+ *         port: 587
+ *         username: ${APP_MAIL_BACKUP_USERNAME}
+ *         password: ${APP_MAIL_BACKUP_PASSWORD}
+ *     hedge:
+ *       enabled: true
+ *       min-delay-millis: 200
+ *       max-delay-millis: 3000
+ *       error-penalty-millis: 5000
+ *       dedup-capacity: 10000
  */
 @Validated
 @ConfigurationProperties(prefix = "app.mail")
 public record AppMailProperties(
-                @NotBlank @Email String from) {
-}
\ No newline at end of file
+                @NotBlank @Email String from,
+                @Valid @NotNull Outbox outbox,
+                @Valid @NotNull SmtpPool smtpPool,
+                @Valid @DefaultValue List<Relay> relays,
+                @Valid @NotNull Hedge hedge) {
+
+    /**
+     * 메일 outbox 디스패처 (MailOutboxDispatcher)
+     * - workers: 발송 워커 스레드 수 (= 동시에 열리는 SMTP 대화 수 상한)
+     * - batchSize: 워커가 한 번에 임대하는 메일 수
+     * - maxAttempts: 이 횟수만큼 실패하면 DEAD
+     * - baseBackoffMillis / maxBackoffMillis: 재시도 지연 = min(max, base × 2^(attempts-1)) + jitter
+     * - pollIntervalMillis: 깨우는 신호가 없을 때의 폴링 주기 (다른 레플리카가 넣은 메일/재시도 대상 수거)
+     * - leaseSeconds: 임대 유지 시간. 노드가 죽었을 때 다른 워커가 다시 가져가기까지의 지연이기도 하다.
+     * - sendBudgetSeconds: 메일 한 통의 최악 발송 시간 (연결 대여 대기 + connect + SMTP 명령별 타임아웃 합 + 장애 전환).
+     *   보내기 전 남은 임대가 이보다 짧으면 임대를 연장한다 → leaseSeconds보다 작아야 한다.
+     * - deadRetentionHours: DEAD 행 보존 시간 (조사용)
+     */
+    public record Outbox(
+            @Min(1) int workers,
+            @Min(1) int batchSize,
+            @Min(1) int maxAttempts,
+            @Min(1) long baseBackoffMillis,
+            @Min(1) long maxBackoffMillis,
+            @Min(10) long pollIntervalMillis,
+            @Min(1) int leaseSeconds,
+            @Min(1) int sendBudgetSeconds,
+            @Min(1) int deadRetentionHours
+    ) {}
+
+    /**
+     * SMTP 연결 풀 (SmtpConnectionPool)
+     * - enabled: false면 메일마다 새 연결(JavaMailSender.send)
+     * - maxConnections: 동시에 열어 두는 인증된 연결 수 상한 (outbox workers 이상이면 워커가 기다리지 않는다)
+     * - borrowTimeoutMillis: 모든 연결이 사용 중일 때 기다리는 상한 (초과 시 일시 실패 → outbox 재시도)
+     * - maxMessagesPerConnection: 이만큼 보낸 연결은 닫고 새로 맺는다
+     * - maxIdleSeconds: 이만큼 쉰 연결은 닫는다 (서버 idle timeout보다 짧게)
+     */
+    public record SmtpPool(
+            boolean enabled,
+            @Min(1) int maxConnections,
+            @Min(1) long borrowTimeoutMillis,
+            @Min(1) int maxMessagesPerConnection,
+            @Min(1) int maxIdleSeconds
+    ) {}
+
+    /**
+     * 추가 SMTP 릴레이 (MailRelayRouter)
+     * - spring.mail이 "primary" 릴레이이고, 여기 적은 릴레이가 그 뒤에 선다.
+     * - protocol/encoding/javamail 속성은 spring.mail 값을 물려받고, properties로 릴레이별 덮어쓴다.
+     * - name은 메트릭 태그(relay)로 쓰인다 → 짧고 고정된 이름
+     */
+    public record Relay(
+            @NotBlank String name,
+            @NotBlank String host,
+            @Min(1) int port,
+            String username,
+            String password,
+            Map<String, String> properties
+    ) {}
+
+    /**
+     * 헤지 발송 (MailRelayRouter)
+     * - enabled: 1순위 릴레이가 지연 안에 수락하지 않으면 2순위 릴레이에 같은 메일(같은 Message-ID)을 동시에 보낸다.
+     *   false면 실패 시 다음 릴레이로 넘어가는 장애 전환만 한다.
+     * - minDelayMillis / maxDelayMillis: 헤지 지연 = clamp(1순위 릴레이의 최근 수락 지연 p95, min, max). 표본이 없으면 max
+     * - errorPenaltyMillis: 순위 점수 = EWMA 지연 + EWMA 오류율 × 이 값
+     * - dedupCapacity: 최근 수락된 Message-ID 기억 개수 (같은 메일 재발송 억제)
+     */
+    public record Hedge(
+            boolean enabled,
+            @Min(1) long minDelayMillis,
+            @Min(1) long maxDelayMillis,
+            @Min(0) long errorPenaltyMillis,
+            @Min(1) int dedupCapacity
+    ) {}
+}
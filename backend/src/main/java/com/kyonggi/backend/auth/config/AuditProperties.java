@@ -0,0 +1,45 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 인증 감사 로그(AuditLogWriter) 설정
+ *
+ * # [Application Domain Config]
+ *
+ * app:
+ *   audit:
+ *     enabled: true
+ *     directory: ${APP_AUDIT_DIRECTORY:./data/audit}
+ *     segment-bytes: 67108864
+ *     retain-segments: 32
+ *     fsync: INTERVAL
+ *     fsync-interval-millis: 1000
+ *     read-max-records: 1000
+ *
+ * - directory: 프로세스(레플리카)마다 전용 디렉터리. 같은 디렉터리를 두 프로세스가 쓰면 기동 실패(파일 락).
+ * - segmentBytes: 세그먼트 파일 크기 (미리 잡고 mmap, 다 차면 다음 파일로 회전)
+ * - retainSegments: 보관할 세그먼트 수 (초과분은 오래된 것부터 삭제) → 디스크 상한 ≈ segmentBytes × retainSegments
+ * - fsync: NONE(OS writeback, 회전/종료 때만 강제) | BATCH(소비 배치마다) | INTERVAL(fsyncIntervalMillis마다)
+ * - readMaxRecords: 조회(/actuator/auditlog) 한 번에 돌려주는 최대 레코드 수
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.audit")
+public record AuditProperties(
+        boolean enabled,
+        @NotBlank String directory,
+        @Min(65536) @Max(1L << 30) long segmentBytes,
+        @Min(1) int retainSegments,
+        @NotNull Fsync fsync,
+        @Min(1) long fsyncIntervalMillis,
+        @Min(1) @Max(100000) int readMaxRecords
+) {
+
+    public enum Fsync { NONE, BATCH, INTERVAL }
+}
@@ -8,9 +8,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.kyonggi.backend.auth.password.PasswordEncoders;
+
 /**
  * @Configuration 
  * - 이 클래스가 "스프링 설정 클래스"임을 의미
@@ -18,13 +20,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * 
  * @EnableConfigurationProperties
  *  - @ConfigurationProperties가 붙은 클래스들을 스프링이 자동으로 바인딩 + 검증하도록 활성화
- *  - 여기서는: { OtpProperties, AuthProperties, AppMailProperties }
+ *  - 여기서는: { OtpProperties, AuthProperties, AppMailProperties, GuardProperties, AuditProperties, RefreshShardingProperties }
+ *
+ * @EnableScheduling
+ *  - @Scheduled 작업 활성화 (가입 이메일 필터 증분 동기화/재구축)
  */  
 @Configuration
+@EnableScheduling
 @EnableConfigurationProperties({
         OtpProperties.class, 
         AuthProperties.class,
-        AppMailProperties.class
+        AppMailProperties.class,
+        GuardProperties.class,
+        AuditProperties.class,
+        RefreshShardingProperties.class
 })
 public class AuthModuleConfig {
 
@@ -47,8 +56,13 @@ public class AuthModuleConfig {
         return new SecureRandom();
     }
 
+    /**
+     * PasswordEncoder:
+     * - DelegatingPasswordEncoder({bcrypt} / {argon2}) + 기동 시 현재 하드웨어 기준 cost 보정
+     * - 환경별 보안 ↔ 처리량 트레이드오프는 app.auth.password.*(budget/min/max)로 정한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AuthProperties props) {
+        return PasswordEncoders.calibrated(props.password());
     }
 }
@@ -4,6 +4,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -31,11 +34,40 @@ import jakarta.validation.constraints.Size;
         cookie-secure: false # 로컬은 HTTPS가 아니므로 false
         remember-me-seconds: 604800 
         session-ttl-seconds: 86400 
+
+      password:
+        hash-threads: 0
+        hash-queue-capacity: 64
+        busy-retry-after-seconds: 1
+        algorithm: BCRYPT
+        hash-budget-millis: 100
+        bcrypt-min-strength: 10
+        bcrypt-max-strength: 14
+        argon2-memory-kib: 19456
+        argon2-max-iterations: 10
+
+      email-filter:
+        enabled: true
+        expected-insertions: 1000000
+        false-positive-rate: 0.01
+        sync-interval-seconds: 5
+        sync-overlap-ids: 1000
+        rebuild-interval-seconds: 600
+        scan-batch-size: 5000
+
+      events:
+        capacity: 8192
+        overflow: DROP
+        max-batch-size: 256
+        idle-park-micros: 1000
  */
 @Validated
 @ConfigurationProperties(prefix = "app.auth")
 public record AuthProperties(@Valid @NotNull Jwt jwt, 
-                             @Valid @NotNull Refresh refresh) {
+                             @Valid @NotNull Refresh refresh,
+                             @Valid @NotNull Password password,
+                             @Valid @NotNull EmailFilter emailFilter,
+                             @Valid @NotNull Events events) {
     
     /**
      * Access Token(JWT) 관련 설정
@@ -75,6 +107,79 @@ public record AuthProperties(@Valid @NotNull Jwt jwt,
             @Min(1) long sessionTtlSeconds  
     ) {}
 
+    /**
+     * 비밀번호 해싱 설정
+     *
+     * [전용 실행기]
+     * - hashThreads: 해싱 워커 스레드 수 (0이면 availableProcessors() = CPU 수만큼)
+     * - hashQueueCapacity: 워커가 모두 바쁠 때 대기 가능한 작업 수 (초과 시 즉시 503)
+     * - busyRetryAfterSeconds: 503 SERVER_BUSY 응답의 Retry-After 값
+     *
+     * [알고리즘/cost 자동 보정] (PasswordEncoders 참고)
+     * - algorithm: 새 해시에 쓸 알고리즘 (BCRYPT / ARGON2ID)
+     * - hashBudgetMillis: 해시 1회 목표 지연. 기동 시 현재 하드웨어에서 측정해 이 값을 넘지 않는 최대 cost를 고른다.
+     * - bcryptMinStrength / bcryptMaxStrength: BCrypt cost 하한(보안 바닥) / 상한
+     * - argon2MemoryKib: Argon2id 메모리 비용(KiB, 고정)
+     * - argon2MaxIterations: Argon2id 반복 횟수 상한 (1 ~ 상한 사이에서 보정)
+     */
+    public record Password(
+            @Min(0) int hashThreads,
+            @Min(1) int hashQueueCapacity,
+            @Min(1) int busyRetryAfterSeconds,
+
+            @NotNull Algorithm algorithm,
+            @Min(1) long hashBudgetMillis,
+            @Min(4) @Max(31) int bcryptMinStrength,
+            @Min(4) @Max(31) int bcryptMaxStrength,
+            @Min(8) int argon2MemoryKib,
+            @Min(1) int argon2MaxIterations
+    ) {
+
+        public enum Algorithm {
+            BCRYPT, ARGON2ID
+        }
+    }
+
+    /**
+     * 가입된 이메일 Bloom filter 설정 (RegisteredEmailFilter)
+     * - enabled: false면 항상 "있을 수도 있음" → 기존처럼 매번 DB 조회
+     * - expectedInsertions / falsePositiveRate: 비트 배열 크기 산정 (실제 유저 수가 더 많으면 재구축 시 자동으로 키운다)
+     * - syncIntervalSeconds: 다른 레플리카에서 가입한 유저를 id 증분 스캔으로 반영하는 주기
+     * - syncOverlapIds: 증분 스캔 시 마지막 id보다 이만큼 앞에서 다시 읽는다 (AUTO_INCREMENT 커밋 순서 역전 대비)
+     * - rebuildIntervalSeconds: 전체 재구축 주기 (삭제된 이메일 정리 + 누락 보정)
+     * - scanBatchSize: 키셋 스캔 1회당 읽는 row 수
+     * - missRecheckMillis: "확실히 없음"으로 답하기 전 users max(id)를 다시 확인하는 최소 간격
+     *   (다른 레플리카 가입분이 이 시간 안에는 아직 미스로 보일 수 있다. 0 = 미스마다 확인)
+     */
+    public record EmailFilter(
+            boolean enabled,
+            @Min(1) long expectedInsertions,
+            @DecimalMin("0.0001") @DecimalMax("0.5") double falsePositiveRate,
+            @Min(1) long syncIntervalSeconds,
+            @Min(0) long syncOverlapIds,
+            @Min(1) long rebuildIntervalSeconds,
+            @Min(100) int scanBatchSize,
+            @Min(0) long missRecheckMillis
+    ) {}
+
+    /**
+     * 인증 이벤트 버스 (AuthEventBus)
+     * - capacity: 링 버퍼 슬롯 수 (2의 거듭제곱으로 올림). 가장 느린 소비자가 이만큼 밀리면 overflow 정책 적용
+     * - overflow: DROP(버리고 카운트, 요청 지연 없음) | BLOCK(자리가 날 때까지 발행 스레드 대기, 유실 없음)
+     * - maxBatchSize: 소비자 onBatch 한 번에 넘기는 최대 이벤트 수
+     * - idleParkMicros: 소비자가 새 이벤트가 없을 때 쉬는 시간 (발행자가 깨우지 않으므로 = 최대 전달 지연)
+     */
+    public record Events(
+            @Min(2) @Max(1 << 20) int capacity,
+            @NotNull Overflow overflow,
+            @Min(1) int maxBatchSize,
+            @Min(1) long idleParkMicros
+    ) {}
+
+    public enum Overflow {
+        DROP, BLOCK
+    }
+
     // SameSite는 오타가 치명적이라 enum으로 고정
     public enum SameSite {
         Lax, Strict, None
@@ -0,0 +1,83 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 남용 방지(guard) 설정 — DB/BCrypt에 닿기 전에 프로세스 안에서 거절한다.
+ *
+ * # [Application Domain Config]
+ *
+ * app:
+ *   guard:
+ *     rate-limit:
+ *       enabled: true
+ *       max-entries: 20000
+ *       stripes: 64
+ *       idle-evict-seconds: 600
+ *       login-ip:          { capacity: 30, refill-per-minute: 30 }
+ *       login-email:       { capacity: 10, refill-per-minute: 5 }
+ *       refresh-ip:        { capacity: 60, refill-per-minute: 60 }
+ *       otp-request-ip:    { capacity: 10, refill-per-minute: 5 }
+ *       otp-request-email: { capacity: 3,  refill-per-minute: 1 }
+ *     heavy-hitters:
+ *       enabled: true
+ *       width: 4096
+ *       depth: 4
+ *       top-k: 20
+ *       decay-interval-seconds: 60
+ *       auto-throttle: false
+ *       throttle-threshold: 600
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.guard")
+public record GuardProperties(@Valid @NotNull RateLimit rateLimit,
+                              @Valid @NotNull HeavyHitters heavyHitters) {
+
+    /**
+     * 토큰 버킷 레이트 리미터 (AuthRateLimiter)
+     * - enabled: false면 모든 요청 통과
+     * - maxEntries: 리미터(규칙) 1개당 추적할 최대 키(IP/이메일) 수. 넘치면 오래된 키부터 밀어낸다.
+     * - stripes: 락 분할 수 (2의 거듭제곱으로 올림)
+     * - idleEvictSeconds: 이 시간 동안 요청이 없던 키는 제거 (어차피 버킷이 가득 찬 상태라 제거해도 결과가 같다)
+     * - 규칙별 capacity(버스트 허용량) / refillPerMinute(분당 충전량)
+     */
+    public record RateLimit(
+            boolean enabled,
+            @Min(16) int maxEntries,
+            @Min(1) int stripes,
+            @Min(1) long idleEvictSeconds,
+            @Valid @NotNull Bucket loginIp,
+            @Valid @NotNull Bucket loginEmail,
+            @Valid @NotNull Bucket refreshIp,
+            @Valid @NotNull Bucket otpRequestIp,
+            @Valid @NotNull Bucket otpRequestEmail
+    ) {}
+
+    /**
+     * 헤비 히터 추적 (HeavyHitterTracker) — 키 개수와 무관한 고정 메모리
+     * - width / depth: count-min sketch 크기 (차원당 width × depth × 4B)
+     * - topK: 차원(IP/이메일/refresh 해시 prefix)별로 보고할 상위 키 수
+     * - decayIntervalSeconds: 이 주기마다 모든 카운트를 반감 → 최근 구간 빈도
+     * - autoThrottle: true면 추정 빈도가 throttleThreshold 이상인 키를 429로 거절
+     */
+    public record HeavyHitters(
+            boolean enabled,
+            @Min(64) int width,
+            @Min(1) @Max(16) int depth,
+            @Min(1) @Max(1000) int topK,
+            @Min(1) long decayIntervalSeconds,
+            boolean autoThrottle,
+            @Min(1) long throttleThreshold
+    ) {}
+
+    public record Bucket(
+            @Min(1) int capacity,
+            @Min(1) int refillPerMinute
+    ) {}
+}
@@ -0,0 +1,27 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+import com.kyonggi.backend.auth.repo.OutboxMailRepository;
+import com.kyonggi.backend.auth.token.repo.RefreshTokenRepository;
+
+/**
+ * 리포지토리 → EntityManagerFactory 배정 (메인)
+ *
+ * - @EnableJpaRepositories를 직접 선언하면 부트의 리포지토리 자동 스캔은 꺼진다 → 메인 쪽도 여기서 선언한다.
+ * - 메인: 아래 셋을 뺀 전부 (EmailOtpConsumptionRepository 포함)
+ * - otp    : EmailOtpRepository / OutboxMailRepository (OtpDataSourceConfig)
+ * - refresh: RefreshTokenRepository (RefreshTokenDataSourceConfig, 샤드 라우팅)
+ */
+@Configuration
+@EnableJpaRepositories(
+        basePackages = "com.kyonggi.backend",
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = { EmailOtpRepository.class, OutboxMailRepository.class, RefreshTokenRepository.class }))
+public class JpaRepositoriesConfig {
+}
@@ -0,0 +1,118 @@
+package com.kyonggi.backend.auth.config;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.domain.EmailOtp;
+import com.kyonggi.backend.auth.domain.OutboxMail;
+import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+import com.kyonggi.backend.auth.repo.OutboxMailRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * email_otp / mail_outbox 전용 커넥션 풀 + EntityManagerFactory + 트랜잭션 매니저
+ *
+ * 문제:
+ * - OTP 발급 폭주(upsert + outbox INSERT)와 outbox 워커(임대/삭제/재시도)가 메인 Hikari 풀을 같이 쓰면
+ *   SIGNUP 격벽 permit만큼의 커넥션이 로그인/refresh 몫에서 빠진다.
+ *
+ * 정책:
+ * - OTP 발급/검증과 outbox 적재/발송 상태 갱신은 "otp" 풀에서만 커넥션을 얻는다.
+ *   → 발급의 email_otp upsert와 mail_outbox INSERT는 여전히 한 트랜잭션(otp 트랜잭션 매니저)으로 함께 커밋된다.
+ * - 가입 완료는 메인 풀에 남는다: OTP 1회 소비(DELETE)와 users INSERT가 한 트랜잭션이어야 하므로
+ *   소비만 메인 EntityManagerFactory 쪽 EmailOtpConsumptionRepository로 한다. (같은 DB, 같은 테이블)
+ * - 접속 정보/초기화 SQL/타임아웃은 메인 풀 설정을 복사하고 크기만 app.otp.pool로 따로 정한다.
+ * - 빈은 모두 defaultCandidate=false + @Qualifier(OTP) → 타입만으로 주입받는 곳(메인 JPA/JdbcTemplate 자동 설정 등)은
+ *   여전히 메인 풀 하나만 본다.
+ *
+ * 메트릭:
+ * - hikaricp.connections.*{pool=otp}
+ */
+@Configuration
+public class OtpDataSourceConfig {
+
+    public static final String OTP = "otp";
+
+    @Bean(defaultCandidate = false)
+    @Qualifier(OTP)
+    public DataSource otpDataSource(DataSource dataSource, OtpProperties props, MeterRegistry meterRegistry)
+            throws SQLException {
+        HikariDataSource main = dataSource.unwrap(HikariDataSource.class);
+
+        HikariDataSource otp = new HikariDataSource();
+        main.copyStateTo(otp);
+        otp.setPoolName(OTP);
+        otp.setMaximumPoolSize(props.pool().maximumPoolSize());
+        otp.setMinimumIdle(Math.min(otp.getMinimumIdle(), props.pool().maximumPoolSize()));
+        if (otp.getMetricRegistry() == null && otp.getMetricsTrackerFactory() == null) {
+            otp.setMetricRegistry(meterRegistry);
+        }
+        return otp;
+    }
+
+    /**
+     * 스프링 부트가 메인 EntityManagerFactory에 넣는 Hibernate 설정(ddl-auto=validate, 네이밍 전략, spring.jpa.properties.*)을 그대로 쓴다.
+     * 관리 엔티티는 EmailOtp / OutboxMail 두 개뿐이다.
+     */
+    @Bean(defaultCandidate = false)
+    @Qualifier(OTP)
+    public LocalContainerEntityManagerFactoryBean otpEntityManagerFactory(
+            EntityManagerFactoryBuilder builder,
+            @Qualifier(OTP) DataSource otpDataSource,
+            JpaProperties jpaProperties,
+            HibernateProperties hibernateProperties
+    ) {
+        Map<String, Object> hibernate = hibernateProperties.determineHibernateProperties(
+                jpaProperties.getProperties(), new HibernateSettings());
+
+        return builder.dataSource(otpDataSource)
+                .managedTypes(PersistenceManagedTypes.of(EmailOtp.class.getName(), OutboxMail.class.getName()))
+                .persistenceUnit(OTP)
+                .properties(hibernate)
+                .build();
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier(OTP)
+    public JpaTransactionManager otpTransactionManager(@Qualifier(OTP) EntityManagerFactory otpEntityManagerFactory) {
+        return new JpaTransactionManager(otpEntityManagerFactory);
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier(OTP)
+    public TransactionTemplate otpTransactionTemplate(@Qualifier(OTP) JpaTransactionManager otpTransactionManager) {
+        return new TransactionTemplate(otpTransactionManager);
+    }
+
+    // otp 리포지토리는 이 둘뿐 (메인 쪽 배정은 JpaRepositoriesConfig에서 이 둘을 뺀다)
+    @Configuration
+    @EnableJpaRepositories(
+            basePackageClasses = EmailOtpRepository.class,
+            includeFilters = @ComponentScan.Filter(
+                    type = FilterType.ASSIGNABLE_TYPE,
+                    classes = { EmailOtpRepository.class, OutboxMailRepository.class }),
+            entityManagerFactoryRef = "otpEntityManagerFactory",
+            transactionManagerRef = "otpTransactionManager")
+    static class OtpRepositories {
+    }
+}
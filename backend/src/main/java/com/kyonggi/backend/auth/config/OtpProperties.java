@@ -3,8 +3,10 @@ package com.kyonggi.backend.auth.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 /**
@@ -18,6 +20,11 @@ import jakarta.validation.constraints.Size;
  *   max-failures: 5
  *   resend-cooldown-seconds: 20
  *   daily-send-limit: 5
+ *   ticket-ttl-seconds: 600
+ *   cleanup-interval-seconds: 600
+ *   store: jpa            # jpa | memory (OtpStore 구현 선택)
+ *   pool:
+ *     maximum-pool-size: 4 # email_otp / mail_outbox 전용 커넥션 풀 (OtpDataSourceConfig)
  *   hmac-secret: ${APP_OTP_HMAC_SECRET:?set APP_OTP_HMAC_SECRET (local)}
  */  
 @Validated
@@ -27,6 +34,19 @@ public record OtpProperties(
         @Min(1) int maxFailures,                // 허용 실패 횟수
         @Min(1) int resendCooldownSeconds,      // 재전송 쿨다운
         @Min(1) int dailySendLimit,             // 일일 발송제한
+        @Min(1) int ticketTtlSeconds,           // 가입 티켓 유효기간 (verify 성공 → complete)
+        @Min(1) int cleanupIntervalSeconds,     // 만료 OTP 행 정리 주기
+        @NotNull Store store,                   // OTP 상태 저장소 (JPA: email_otp / MEMORY: 프로세스 메모리)
+        @Valid @NotNull Pool pool,              // OTP 발급/검증 + mail_outbox 전용 커넥션 풀
         @NotBlank @Size(min = 32) String hmacSecret // OTP 검증/서명(HMAC)용 비밀키
 ) {
-}
\ No newline at end of file
+
+    public enum Store { JPA, MEMORY }
+
+    /**
+     * 접속 정보/초기화 SQL/타임아웃은 메인 풀(spring.datasource.*)을 그대로 따르고, 크기만 따로 정한다.
+     */
+    public record Pool(
+            @Min(1) int maximumPoolSize
+    ) {}
+}
@@ -0,0 +1,51 @@
+package com.kyonggi.backend.auth.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * refresh_tokens 샤딩 설정 (RefreshTokenShards)
+ *
+ * # [Application Domain Config]
+ *
+ * app:
+ *   auth:
+ *     refresh-sharding:
+ *       shards:                  # 추가 샤드 (순서대로 shard 1..N). shard 0 = 메인 DataSource(spring.datasource)
+ *         - url: ${APP_REFRESH_SHARD1_URL}
+ *           username: ${APP_REFRESH_SHARD1_USERNAME}
+ *           password: ${APP_REFRESH_SHARD1_PASSWORD}
+ *       new-token-shards: 0,1    # 새 토큰을 받는 샤드 (user_id 해시로 이 중 하나를 고른다)
+ *       purge-batch-size: 1000
+ *
+ * - shards가 비어 있으면 단일 샤드(메인 DB) 모드다.
+ * - 샤드 순서는 토큰에 박히는 shard id다 → 기존 항목의 순서를 바꾸거나 지우지 않는다(뒤에만 추가).
+ * - 리밸런싱 = new-token-shards 변경: 이후 rotate부터 세션이 새 샤드로 옮겨 간다. (RUNBOOK 참고)
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.refresh-sharding")
+public record RefreshShardingProperties(
+        @Valid @DefaultValue List<Shard> shards,
+        @NotEmpty @DefaultValue("0") List<Integer> newTokenShards,
+        @Min(1) @DefaultValue("1000") int purgeBatchSize
+) {
+
+    /**
+     * 추가 샤드 접속 정보
+     * - 풀 크기/타임아웃/초기화 SQL은 메인 풀(spring.datasource.hikari.*)을 따른다.
+     * - 기동 시 classpath:db/refresh-shard 마이그레이션(refresh_tokens만)을 적용한다.
+     */
+    public record Shard(
+            @NotBlank String url,
+            @NotBlank String username,
+            String password
+    ) {}
+}
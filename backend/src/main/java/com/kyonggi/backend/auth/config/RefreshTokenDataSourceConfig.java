@@ -0,0 +1,90 @@
+package com.kyonggi.backend.auth.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+
+import com.kyonggi.backend.auth.token.domain.RefreshToken;
+import com.kyonggi.backend.auth.token.repo.RefreshTokenRepository;
+import com.kyonggi.backend.auth.token.shard.RefreshTokenRoutingDataSource;
+import com.kyonggi.backend.auth.token.shard.RefreshTokenShards;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * refresh_tokens 전용 라우팅 DataSource + EntityManagerFactory + 트랜잭션 매니저
+ *
+ * 문제:
+ * - 세션 쓰기(로그인 발급, rotate, logout)가 users와 같은 DB 한 대에 몰린다. (RefreshTokenShards)
+ *
+ * 정책:
+ * - RefreshTokenRepository만 이 EntityManagerFactory를 쓴다. 커넥션은 샤드 문맥으로 고른 풀에서 나온다.
+ * - 트랜잭션은 RefreshTokenTransactions.execute(shard, ...)로만 연다. (문맥 → 트랜잭션 순서 보장)
+ * - Hibernate 설정은 메인 EntityManagerFactory와 같다. 스키마 검증(validate)은 문맥 없는 기동 시점 = shard 0에서 한다.
+ * - 빈은 모두 defaultCandidate=false + @Qualifier(REFRESH) → 메인 JPA/JdbcTemplate 자동 설정은 메인 풀 하나만 본다.
+ * - 라우팅 DataSource는 빈이라 DeadlineConfig가 한 번 감싼다. (대상 풀은 감싸지 않은 Hikari)
+ *
+ * 메트릭:
+ * - hikaricp.connections.*{pool=refresh-shard-N} (shard 0은 메인 풀 지표)
+ */
+@Configuration
+public class RefreshTokenDataSourceConfig {
+
+    public static final String REFRESH = "refresh";
+
+    @Bean(defaultCandidate = false)
+    @Qualifier(REFRESH)
+    public DataSource refreshDataSource(RefreshTokenShards shards) {
+        return new RefreshTokenRoutingDataSource(shards);
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier(REFRESH)
+    public LocalContainerEntityManagerFactoryBean refreshEntityManagerFactory(
+            EntityManagerFactoryBuilder builder,
+            @Qualifier(REFRESH) DataSource refreshDataSource,
+            JpaProperties jpaProperties,
+            HibernateProperties hibernateProperties
+    ) {
+        Map<String, Object> hibernate = hibernateProperties.determineHibernateProperties(
+                jpaProperties.getProperties(), new HibernateSettings());
+
+        return builder.dataSource(refreshDataSource)
+                .managedTypes(PersistenceManagedTypes.of(RefreshToken.class.getName()))
+                .persistenceUnit(REFRESH)
+                .properties(hibernate)
+                .build();
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier(REFRESH)
+    public JpaTransactionManager refreshTransactionManager(
+            @Qualifier(REFRESH) EntityManagerFactory refreshEntityManagerFactory) {
+        return new JpaTransactionManager(refreshEntityManagerFactory);
+    }
+
+    @Configuration
+    @EnableJpaRepositories(
+            basePackageClasses = RefreshTokenRepository.class,
+            includeFilters = @ComponentScan.Filter(
+                    type = FilterType.ASSIGNABLE_TYPE,
+                    classes = RefreshTokenRepository.class),
+            entityManagerFactoryRef = "refreshEntityManagerFactory",
+            transactionManagerRef = "refreshTransactionManager")
+    static class RefreshRepositories {
+    }
+}
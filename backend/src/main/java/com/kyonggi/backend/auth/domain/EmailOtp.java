@@ -3,12 +3,12 @@ package com.kyonggi.backend.auth.domain;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.kyonggi.backend.global.jpa.TimeOrderedId;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -31,9 +31,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access=AccessLevel.PROTECTED)
 public class EmailOtp {
 
-    // PK - AUTO_INCREMENT
+    // PK - 애플리케이션에서 생성하는 시간 순서 BIGINT (INSERT 배치 가능, V2 마이그레이션 참고)
     @Id 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -122,6 +122,7 @@ public class EmailOtp {
     }
 
     // getters
+    public Long getId() {return id;}
     public String getEmail() {return email;}
     public String getCodeHash() {return codeHash;}
     public OtpPurpose getPurpose() {return purpose;}
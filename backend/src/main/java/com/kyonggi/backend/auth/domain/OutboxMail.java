@@ -0,0 +1,99 @@
+package com.kyonggi.backend.auth.domain;
+
+import java.time.LocalDateTime;
+
+import com.kyonggi.backend.global.jpa.TimeOrderedId;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 outbox 엔티티 (V5__mail_outbox.sql)
+ *
+ * - 보낼 메일을 업무 트랜잭션(OTP 발급)과 같은 커밋으로 남긴다 → 커밋되면 언젠가 반드시 발송 시도된다.
+ * - 발송은 MailOutboxDispatcher 워커가 한다. 성공 행은 삭제, 실패는 attempts/next_attempt_at으로 재시도, 끝내 실패면 DEAD.
+ * - payload는 종류별 어댑터가 해석하는 불투명 값이다. (SIGNUP_OTP: OtpCodeCipher 암호문)
+ */
+@Entity
+@Table(name = "mail_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMail {
+
+    // PK - 애플리케이션에서 생성하는 시간 순서 BIGINT (발급 트랜잭션 안에서 email_otp와 함께 flush)
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OutboxMailKind kind;
+
+    @Column(nullable = false, length = 255)
+    private String recipient;
+
+    @Column(nullable = false, length = 255)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxMailStatus status;
+
+    @Column(nullable = false)
+    private int attempts; // 지금까지 실패한 발송 시도 수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 이 시각 이후에만 워커가 가져간다 (재시도 백오프)
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil; // 워커 임대 만료 시각 (null = 임대 없음)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 이후에는 보내지 않는다
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static OutboxMail pending(OutboxMailKind kind, String recipient, String payload,
+            LocalDateTime expiresAt, LocalDateTime now) {
+        OutboxMail m = new OutboxMail();
+        m.kind = kind;
+        m.recipient = recipient;
+        m.payload = payload;
+        m.status = OutboxMailStatus.PENDING;
+        m.attempts = 0;
+        m.nextAttemptAt = now; // 즉시 발송 대상
+        m.expiresAt = expiresAt;
+        m.createdAt = now;
+        return m;
+    }
+
+    // 워커 임대 (SKIP LOCKED로 잠근 트랜잭션 안에서 호출)
+    public void claim(LocalDateTime until) {
+        this.claimedUntil = until;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    // getters
+    public Long getId() {return id;}
+    public OutboxMailKind getKind() {return kind;}
+    public String getRecipient() {return recipient;}
+    public String getPayload() {return payload;}
+    public OutboxMailStatus getStatus() {return status;}
+    public int getAttempts() {return attempts;}
+    public LocalDateTime getNextAttemptAt() {return nextAttemptAt;}
+    public LocalDateTime getExpiresAt() {return expiresAt;}
+    public String getLastError() {return lastError;}
+    public LocalDateTime getCreatedAt() {return createdAt;}
+}
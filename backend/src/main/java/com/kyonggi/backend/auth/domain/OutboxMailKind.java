@@ -0,0 +1,8 @@
+package com.kyonggi.backend.auth.domain;
+
+/**
+ * outbox 메일 종류 → MailOutboxDispatcher가 어떤 어댑터로 보낼지 결정한다.
+ */
+public enum OutboxMailKind {
+    SIGNUP_OTP
+}
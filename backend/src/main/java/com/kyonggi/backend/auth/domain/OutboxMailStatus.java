@@ -0,0 +1,12 @@
+package com.kyonggi.backend.auth.domain;
+
+/**
+ * outbox 메일 상태
+ * - PENDING: 발송 대기 (재시도 대기 포함)
+ * - DEAD   : 최대 시도 초과 / 영구 실패 / 만료 → 더 이상 보내지 않는다 (조사용으로 보존 후 정리)
+ * 발송에 성공한 메일은 상태를 바꾸지 않고 행을 삭제한다.
+ */
+public enum OutboxMailStatus {
+    PENDING,
+    DEAD
+}
@@ -2,8 +2,11 @@ package com.kyonggi.backend.auth.domain;
 
 import java.time.LocalDateTime;
 
+import com.kyonggi.backend.auth.identity.filter.RegisteredEmailListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -26,6 +29,7 @@ import lombok.NoArgsConstructor;
  * - status/role로 인증/인가 정책 적용
  */
 @Entity
+@EntityListeners(RegisteredEmailListener.class) // INSERT 시 가입 이메일 필터 갱신
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(name = "uq_users_email", columnNames = "email"),
         @UniqueConstraint(name = "uq_users_nickname", columnNames = "nickname")
@@ -33,6 +37,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
+    // IDENTITY 유지: userId는 JWT sub / MeResponse로 클라이언트에 노출되므로
+    // JS Number(2^53)를 넘는 시간 순서 ID(TimeOrderedIds)를 쓰지 않는다.
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // PK. JWT의 sub(subject)로 쓰임(userId)
@@ -40,8 +46,8 @@ public class User {
     @Column(nullable = false, length = 255)
     private String email; // 로그인 ID (Unique)
 
-    @Column(name = "password_hash", nullable = false, length = 100)
-    private String passwordHash; // 비밀번호를 BCrypt된 해시로 저장 (원문 저장 금지)
+    @Column(name = "password_hash", nullable = false, length = 255)
+    private String passwordHash; // "{bcrypt}..." / "{argon2}..." 형식의 해시로 저장 (원문 저장 금지, prefix 없는 값은 레거시 BCrypt)
 
     @Column(nullable = false, length = 30) 
     private String nickname; // 커뮤니티 표시명. 유니크
@@ -0,0 +1,88 @@
+package com.kyonggi.backend.auth.event;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인증 활동 집계 (AuthEventBus 소비자)
+ *
+ * - 요청 경로에서 하던 일이 아니라 이벤트 버스의 전용 스레드에서 센다 → 로그인/refresh 응답 지연과 무관.
+ * - 대시보드용 합계만 남긴다. 사용자별 집계는 하지 않는다(태그 카디널리티 고정).
+ *
+ * 메트릭:
+ * - auth.activity{event=login_succeeded|login_failed|refresh_rotated|refresh_reused|session_revoked|user_registered}
+ * - auth.activity.login_failed{reason=INVALID_CREDENTIALS|ACCOUNT_DISABLED|OTHER}
+ *   (미터는 생성자에서 한 번만 등록 → 이벤트마다 레지스트리를 조회하지 않는다. 목록 밖 사유는 OTHER)
+ */
+@Component
+public class AuthActivityMetrics implements AuthEventConsumer {
+
+    private static final List<ErrorCode> LOGIN_FAILURE_REASONS =
+            List.of(ErrorCode.INVALID_CREDENTIALS, ErrorCode.ACCOUNT_DISABLED);
+
+    private final MeterRegistry meterRegistry;
+    private final Counter loginSucceeded;
+    private final Counter loginFailed;
+    private final Counter refreshRotated;
+    private final Counter refreshReused;
+    private final Counter sessionRevoked;
+    private final Counter userRegistered;
+    private final Map<ErrorCode, Counter> loginFailedByReason = new EnumMap<>(ErrorCode.class);
+    private final Counter loginFailedOther;
+
+    public AuthActivityMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.loginSucceeded = activity("login_succeeded");
+        this.loginFailed = activity("login_failed");
+        this.refreshRotated = activity("refresh_rotated");
+        this.refreshReused = activity("refresh_reused");
+        this.sessionRevoked = activity("session_revoked");
+        this.userRegistered = activity("user_registered");
+        for (ErrorCode reason : LOGIN_FAILURE_REASONS) {
+            loginFailedByReason.put(reason, loginFailedReason(reason.name()));
+        }
+        this.loginFailedOther = loginFailedReason("OTHER");
+    }
+
+    @Override
+    public String name() {
+        return "activity-metrics";
+    }
+
+    @Override
+    public void onBatch(List<AuthEvent> batch) {
+        for (AuthEvent event : batch) {
+            switch (event) {
+                case AuthEvent.LoginSucceeded e -> loginSucceeded.increment();
+                case AuthEvent.LoginFailed e -> {
+                    loginFailed.increment();
+                    loginFailedByReason.getOrDefault(e.reason(), loginFailedOther).increment();
+                }
+                case AuthEvent.RefreshRotated e -> refreshRotated.increment();
+                case AuthEvent.RefreshReused e -> refreshReused.increment();
+                case AuthEvent.SessionRevoked e -> sessionRevoked.increment();
+                case AuthEvent.UserRegistered e -> userRegistered.increment();
+            }
+        }
+    }
+
+    private Counter activity(String event) {
+        return Counter.builder("auth.activity")
+                .tag("event", event)
+                .register(meterRegistry);
+    }
+
+    private Counter loginFailedReason(String reason) {
+        return Counter.builder("auth.activity.login_failed")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
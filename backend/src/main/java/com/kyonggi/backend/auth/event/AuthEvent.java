@@ -0,0 +1,36 @@
+package com.kyonggi.backend.auth.event;
+
+import java.time.Instant;
+
+import com.kyonggi.backend.auth.token.domain.RefreshRevokeReason;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 인증 수명주기 이벤트 (AuthEventBus로 발행, 커밋된 변경 또는 거절된 시도만 싣는다)
+ *
+ * - 요청 스레드가 만드는 불변 레코드 → 링 버퍼 슬롯에 참조만 들어간다(복사/직렬화 없음).
+ * - 비밀값(비밀번호/토큰 원문/해시)은 싣지 않는다. 사용자 식별은 userId, 실패 로그인만 정규화 이메일.
+ * - sealed: 소비자가 switch로 빠짐없이 분기할 수 있다.
+ */
+public sealed interface AuthEvent {
+
+    Instant occurredAt();
+
+    /** 로그인 성공 (lastLoginAt 갱신 + refresh 발급 커밋 이후) */
+    record LoginSucceeded(long userId, boolean rememberMe, Instant occurredAt) implements AuthEvent {}
+
+    /** 로그인 실패 (reason = INVALID_CREDENTIALS | ACCOUNT_DISABLED) */
+    record LoginFailed(String email, ErrorCode reason, Instant occurredAt) implements AuthEvent {}
+
+    /** refresh 로테이션 성공 (구 토큰 ROTATED + 새 토큰 발급 커밋 이후) */
+    record RefreshRotated(long userId, Instant occurredAt) implements AuthEvent {}
+
+    /** 로테이션된 refresh 재제출 (REFRESH_REUSED 거절, 토큰 탈취/중복 제출 의심) */
+    record RefreshReused(long userId, Instant occurredAt) implements AuthEvent {}
+
+    /** 세션 종료 (refresh 토큰 revoke 커밋 이후, 이미 없던 토큰은 발행하지 않음) */
+    record SessionRevoked(long userId, RefreshRevokeReason reason, Instant occurredAt) implements AuthEvent {}
+
+    /** 가입 완료 (user INSERT 커밋 이후) */
+    record UserRegistered(long userId, Instant occurredAt) implements AuthEvent {}
+}
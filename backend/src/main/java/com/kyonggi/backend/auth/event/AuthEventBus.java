@@ -0,0 +1,262 @@
+package com.kyonggi.backend.auth.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.AuthProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 이벤트 버스 (고정 크기 링 버퍼, 다중 발행자 / 소비자별 전용 스레드)
+ *
+ * 문제:
+ * - ApplicationEventPublisher는 리스너를 발행 스레드에서 동기 호출한다.
+ *   → 분석/캐시 무효화 같은 부가 작업이 LoginService/RefreshTokenService 응답 지연에 그대로 더해진다.
+ *
+ * 구조 (Disruptor와 같은 시퀀스 방식):
+ * - cursor: 마지막으로 예약된 시퀀스. 발행자는 CAS 한 번으로 다음 시퀀스를 예약한다(락 없음).
+ * - slots[seq & mask]: 이벤트 참조. published[seq & mask] = seq 로 "쓰기 완료"를 알린다(release 쓰기).
+ * - 소비자마다 자기 sequence(처리 완료한 마지막 시퀀스)를 가진다. 소비자끼리는 서로 기다리지 않는다.
+ * - 버퍼가 가득 참 = 예약하려는 시퀀스가 가장 느린 소비자보다 capacity 이상 앞섬.
+ *   가장 느린 소비자 위치는 캐시해 두고, 캐시로 판단이 안 될 때만 소비자 시퀀스를 다시 읽는다.
+ *
+ * 발행 비용 (요청 스레드):
+ * - 평소: volatile 읽기 2회 + CAS 1회 + 배열 쓰기 + release 쓰기. 할당/락/시스템 콜/스레드 깨우기 없음.
+ *   (소비자를 unpark하지 않는다 → 소비자는 idleParkMicros 주기로 스스로 확인한다. 지연 ≤ 그 주기)
+ * - 가득 찼을 때: overflow=DROP이면 버리고 auth.events.dropped +1 (요청은 영향 없음)
+ *                 overflow=BLOCK이면 자리가 날 때까지 짧게 park하며 기다린다 (이벤트 유실 없음, 요청 지연 가능)
+ *                 lossless 소비자(AuthEventConsumer.lossless)가 등록돼 있으면 설정이 DROP이어도 BLOCK으로 동작한다.
+ * - 버스가 멈춰 있으면(기동 전/종료 후) 버퍼 여유와 정책에 상관없이 publish 첫머리에서 버리고 auth.events.dropped +1.
+ *   (버퍼에 넣어도 소비자 스레드가 없거나 이미 비우고 끝났으므로 아무도 꺼내지 않는다)
+ *   BLOCK으로 기다리던 발행자도 stop()이 running을 내리면 기다림을 멈추고 버린다.
+ *
+ * 소비:
+ * - 발행 완료된 연속 구간을 maxBatchSize까지 모아 onBatch 한 번으로 넘긴다 → 몰릴수록 배치가 커진다.
+ * - 비어 있으면 onIdle()을 부르고 idleParkMicros만큼 쉰다.
+ * - 종료 시 남은 이벤트를 비우고 스레드를 끝낸다.
+ *
+ * 메트릭:
+ * - auth.events.published / auth.events.dropped
+ * - auth.events.consumed{consumer} / auth.events.failed{consumer}
+ * - auth.events.lag{consumer} : 예약된 마지막 시퀀스 - 소비자가 처리한 마지막 시퀀스
+ */
+@Slf4j
+@Component
+public class AuthEventBus implements SmartLifecycle {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuthProperties.Events props;
+    private final AuthProperties.Overflow overflow; // 실제 적용 정책 (lossless 소비자가 있으면 BLOCK)
+    private final int mask;
+    private final AuthEvent[] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<ConsumerWorker> workers = new ArrayList<>();
+
+    private final Counter dropped;
+
+    private volatile long gatingCache = -1; // 마지막으로 확인한 min(소비자 sequence)
+    private volatile boolean running;
+
+    public AuthEventBus(AuthProperties authProperties, List<AuthEventConsumer> consumers, MeterRegistry meterRegistry) {
+        this.props = authProperties.events();
+
+        int capacity = Integer.highestOneBit(props.capacity() - 1) << 1; // 2의 거듭제곱으로 올림 → 나머지 대신 마스크
+        this.mask = capacity - 1;
+        this.slots = new AuthEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+
+        for (AuthEventConsumer consumer : consumers) {
+            workers.add(new ConsumerWorker(consumer, meterRegistry));
+        }
+        this.overflow = consumers.stream().anyMatch(AuthEventConsumer::lossless)
+                ? AuthProperties.Overflow.BLOCK
+                : props.overflow();
+
+        FunctionCounter.builder("auth.events.published", cursor, c -> c.get() + 1)
+                .description("Auth events accepted into the ring buffer")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("auth.events.dropped")
+                .description("Auth events dropped because the ring buffer was full (overflow=DROP) or the bus was stopped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return false = 버려짐 (가득 참 + DROP, 또는 버스 정지)
+     */
+    public boolean publish(AuthEvent event) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+        long seq = claim();
+        if (seq < 0) {
+            dropped.increment();
+            return false;
+        }
+        int index = (int) (seq & mask);
+        slots[index] = event;
+        published.setRelease(index, seq); // 소비자의 getAcquire가 이 값을 보면 위의 슬롯 쓰기도 보인다
+        return true;
+    }
+
+    // @return 예약한 시퀀스, -1 = 자리 없음(버림)
+    private long claim() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - slots.length; // 이 시퀀스의 슬롯을 쓰던 이전 이벤트
+
+            if (wrapPoint > gatingCache) {
+                long slowest = slowestConsumer(current);
+                gatingCache = slowest;
+                if (wrapPoint > slowest) {
+                    if (overflow == AuthProperties.Overflow.DROP || !running) { // !running: BLOCK 대기 중 stop()
+                        return -1;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    continue;
+                }
+            }
+
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long slowestConsumer(long current) {
+        long slowest = current; // 소비자가 없으면 막을 것이 없다
+        for (ConsumerWorker worker : workers) {
+            slowest = Math.min(slowest, worker.sequence.get());
+        }
+        return slowest;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers.forEach(ConsumerWorker::start);
+        log.info("인증 이벤트 버스 시작: capacity={}, overflow={} (설정 {}), consumers={}",
+                slots.length, overflow, props.overflow(), workers.stream().map(w -> w.consumer.name()).toList());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (ConsumerWorker worker : workers) {
+            try {
+                worker.thread.join(TimeUnit.SECONDS.toMillis(5)); // 남은 이벤트를 비우고 끝난다
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown)보다 먼저 시작하고 나중에 멈춘다
+     * → 처리 중인 요청이 종료 직전에 발행한 이벤트도 소비된다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private final class ConsumerWorker implements Runnable {
+        private final AuthEventConsumer consumer;
+        private final AtomicLong sequence = new AtomicLong(-1); // 처리 완료한 마지막 시퀀스
+        private final List<AuthEvent> batch = new ArrayList<>(props.maxBatchSize());
+        private final List<AuthEvent> batchView = Collections.unmodifiableList(batch);
+        private final Counter consumed;
+        private final Counter failed;
+        private Thread thread;
+
+        private ConsumerWorker(AuthEventConsumer consumer, MeterRegistry meterRegistry) {
+            this.consumer = consumer;
+            this.consumed = Counter.builder("auth.events.consumed")
+                    .tag("consumer", consumer.name())
+                    .register(meterRegistry);
+            this.failed = Counter.builder("auth.events.failed")
+                    .tag("consumer", consumer.name())
+                    .register(meterRegistry);
+            Gauge.builder("auth.events.lag", this, w -> cursor.get() - w.sequence.get())
+                    .description("Events published but not yet processed by this consumer")
+                    .tag("consumer", consumer.name())
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            thread = new Thread(this, "auth-events-" + consumer.name());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            long idleParkNanos = TimeUnit.MICROSECONDS.toNanos(props.idleParkMicros());
+            while (true) {
+                long next = sequence.get() + 1;
+                long last = next - 1;
+                long limit = next + props.maxBatchSize() - 1;
+                while (last < limit && published.getAcquire((int) ((last + 1) & mask)) == last + 1) {
+                    last++;
+                }
+
+                if (last < next) {
+                    if (!running) {
+                        return; // 정지 + 남은 이벤트 없음
+                    }
+                    idle();
+                    LockSupport.parkNanos(idleParkNanos);
+                    continue;
+                }
+
+                batch.clear();
+                for (long seq = next; seq <= last; seq++) {
+                    batch.add(slots[(int) (seq & mask)]);
+                }
+                try {
+                    consumer.onBatch(batchView);
+                    consumed.increment(batch.size());
+                } catch (RuntimeException e) {
+                    failed.increment(batch.size());
+                    log.warn("인증 이벤트 소비 실패 (배치 건너뜀): consumer={}, size={}, error={}",
+                            consumer.name(), batch.size(), e.toString());
+                }
+                batch.clear();
+                sequence.set(last); // 이 시점 이후 발행자가 슬롯을 재사용할 수 있다
+            }
+        }
+
+        private void idle() {
+            try {
+                consumer.onIdle();
+            } catch (RuntimeException e) {
+                log.warn("인증 이벤트 소비자 idle 작업 실패: consumer={}, error={}", consumer.name(), e.toString());
+            }
+        }
+    }
+}
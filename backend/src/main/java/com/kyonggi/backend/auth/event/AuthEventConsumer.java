@@ -0,0 +1,36 @@
+package com.kyonggi.backend.auth.event;
+
+import java.util.List;
+
+/**
+ * AuthEventBus 소비자 (스프링 빈으로 등록하면 버스가 전용 스레드를 하나씩 붙인다)
+ *
+ * - 모든 소비자가 모든 이벤트를 발행 순서대로 본다(브로드캐스트). 소비자끼리는 서로 기다리지 않는다.
+ * - onBatch는 그 소비자의 전용 스레드에서만 호출된다 → 소비자 내부 상태에 동기화가 필요 없다.
+ * - 예외를 던지면 그 배치는 건너뛴다(로그 + 실패 카운터). 재시도가 필요한 소비자는 스스로 처리한다.
+ * - 느린 소비자는 자기 lag만 키우다가 버퍼를 채운다 → 그때 발행 측 overflow 정책(DROP/BLOCK)이 적용된다.
+ *   lossless()=true인 소비자가 하나라도 있으면 버스는 설정과 무관하게 BLOCK으로 동작한다.
+ */
+public interface AuthEventConsumer {
+
+    /** 스레드 이름/메트릭 태그 (짧고 고정된 값) */
+    String name();
+
+    /** @param batch 발행 순서대로 최대 maxBatchSize개. 호출이 끝나면 재사용되므로 참조를 보관하지 않는다. */
+    void onBatch(List<AuthEvent> batch);
+
+    /**
+     * 처리할 이벤트가 없을 때 idleParkMicros 주기로 같은 전용 스레드에서 호출된다.
+     * - 주기 작업(지연된 flush 등)을 별도 스레드 없이 하기 위한 훅. 빨리 끝나야 한다(다음 이벤트 지연).
+     */
+    default void onIdle() {
+    }
+
+    /**
+     * 이벤트를 하나도 잃으면 안 되는 소비자(감사 로그 등)면 true.
+     * - 링 버퍼는 모든 소비자가 공유하므로 "이 소비자에게만 버리지 않기"는 불가능하다 → 버스 전체가 BLOCK이 된다.
+     */
+    default boolean lossless() {
+        return false;
+    }
+}
@@ -0,0 +1,124 @@
+package com.kyonggi.backend.auth.guard;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.GuardProperties;
+import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인증 엔드포인트 레이트 리미터 (프로세스 내, 토큰 버킷)
+ *
+ * 문제:
+ * - /auth/login, /auth/refresh, /auth/signup/otp/request에는 요청 빈도 제한이 없다.
+ *   (DB에 있는 건 이메일별 OTP 쿨다운뿐) → 남용 트래픽이 BCrypt/행 락까지 도달한 뒤에야 거절된다.
+ *
+ * 정책:
+ * - 컨트롤러 진입 직후(서비스/트랜잭션 이전) 클라이언트 IP + 정규화 이메일 기준으로 버킷을 소비한다.
+ * - 거절 시 429 RATE_LIMITED + Retry-After(다음 토큰까지 남은 초) — GlobalExceptionHandler의 기존 매핑을 그대로 탄다.
+ * - 키는 문자열을 보관하지 않고 64bit 해시(long)로만 보관한다. (충돌 시 두 키가 버킷을 공유할 뿐)
+ *
+ * 한계:
+ * - 레플리카별 카운트다. N개 레플리카면 실효 한도는 최대 N배 (DB/Redis 왕복 없이 막는 1차 방어선).
+ * - 클라이언트 IP는 request.getRemoteAddr() 기준 → 프록시 뒤에서는 server.forward-headers-strategy 설정이 필요하다.
+ *
+ * 메트릭:
+ * - auth.ratelimit.requests{limiter, outcome=allowed|rejected}
+ * - auth.ratelimit.entries{limiter}      : 추적 중인 키 수
+ * - auth.ratelimit.memory.bytes{limiter} : 버킷 테이블이 점유한 메모리(고정 할당)
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final GuardProperties.RateLimit props;
+
+    private final Rule loginIp;
+    private final Rule loginEmail;
+    private final Rule refreshIp;
+    private final Rule otpRequestIp;
+    private final Rule otpRequestEmail;
+    private final List<Rule> rules;
+
+    public AuthRateLimiter(GuardProperties guardProperties, MeterRegistry meterRegistry) {
+        this.props = guardProperties.rateLimit();
+
+        this.loginIp = new Rule("login_ip", props.loginIp(), props, meterRegistry);
+        this.loginEmail = new Rule("login_email", props.loginEmail(), props, meterRegistry);
+        this.refreshIp = new Rule("refresh_ip", props.refreshIp(), props, meterRegistry);
+        this.otpRequestIp = new Rule("otp_request_ip", props.otpRequestIp(), props, meterRegistry);
+        this.otpRequestEmail = new Rule("otp_request_email", props.otpRequestEmail(), props, meterRegistry);
+        this.rules = List.of(loginIp, loginEmail, refreshIp, otpRequestIp, otpRequestEmail);
+    }
+
+    public void checkLogin(String clientIp, String rawEmail) {
+        acquire(loginIp, clientIp);
+        acquire(loginEmail, KyonggiEmailUtils.normalize(rawEmail));
+    }
+
+    public void checkRefresh(String clientIp) {
+        acquire(refreshIp, clientIp);
+    }
+
+    public void checkOtpRequest(String clientIp, String rawEmail) {
+        acquire(otpRequestIp, clientIp);
+        acquire(otpRequestEmail, KyonggiEmailUtils.normalize(rawEmail));
+    }
+
+    @Scheduled(fixedDelayString = "${app.guard.rate-limit.idle-evict-seconds}", timeUnit = TimeUnit.SECONDS)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.SECONDS.toNanos(props.idleEvictSeconds());
+        for (Rule rule : rules) {
+            rule.limiter.evictIdle(now, idleNanos);
+        }
+    }
+
+    private void acquire(Rule rule, String key) {
+        if (!props.enabled() || key == null || key.isBlank()) {
+            return;
+        }
+
+        long waitNanos = rule.limiter.tryAcquire(KeyHashing.hash64(key), System.nanoTime());
+        if (waitNanos == 0L) {
+            rule.allowed.increment();
+            return;
+        }
+
+        rule.rejected.increment();
+        int retryAfterSeconds = (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        throw new ApiException(ErrorCode.RATE_LIMITED, retryAfterSeconds);
+    }
+
+    private static final class Rule {
+        private final TokenBucketLimiter limiter;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        Rule(String name, GuardProperties.Bucket bucket, GuardProperties.RateLimit props, MeterRegistry meterRegistry) {
+            this.limiter = new TokenBucketLimiter(bucket, props.maxEntries(), props.stripes());
+            this.allowed = Counter.builder("auth.ratelimit.requests")
+                    .tag("limiter", name).tag("outcome", "allowed")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("auth.ratelimit.requests")
+                    .tag("limiter", name).tag("outcome", "rejected")
+                    .register(meterRegistry);
+
+            Gauge.builder("auth.ratelimit.entries", limiter, TokenBucketLimiter::size)
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+            Gauge.builder("auth.ratelimit.memory.bytes", limiter, TokenBucketLimiter::memoryBytes)
+                    .tag("limiter", name)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.kyonggi.backend.auth.guard;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 감쇠(decay) count-min sketch — 키 개수와 무관한 고정 메모리 빈도 추정
+ *
+ * - depth개 행 × width개 카운터. add는 행마다 카운터 1개씩 +1, estimate는 행별 값의 최솟값.
+ * - 충돌로 과대추정만 가능하고 과소추정은 없다(estimate ≥ 실제 값).
+ * - decay()는 모든 카운터를 반으로 줄인다 → "최근 구간" 빈도에 가깝게 유지된다(지수 감쇠).
+ *
+ * 메모리: depth × width × 4B (기동 시 한 번 할당)
+ */
+final class CountMinSketch {
+
+    private final AtomicIntegerArray counters;
+    private final int depth;
+    private final int widthMask;
+
+    CountMinSketch(int width, int depth) {
+        int w = width <= 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.counters = new AtomicIntegerArray(w * depth);
+        this.depth = depth;
+        this.widthMask = w - 1;
+    }
+
+    /**
+     * @return add 이후의 추정 빈도
+     */
+    int addAndEstimate(long keyHash) {
+        long h2 = KeyHashing.mix(keyHash + 0x9E3779B97F4A7C15L) | 1L;
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int v = counters.incrementAndGet(index(row, keyHash, h2));
+            if (v < min) min = v;
+        }
+        return min;
+    }
+
+    int estimate(long keyHash) {
+        long h2 = KeyHashing.mix(keyHash + 0x9E3779B97F4A7C15L) | 1L;
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int v = counters.get(index(row, keyHash, h2));
+            if (v < min) min = v;
+        }
+        return min;
+    }
+
+    void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, v -> v >>> 1);
+        }
+    }
+
+    long memoryBytes() {
+        return (long) counters.length() * Integer.BYTES;
+    }
+
+    private int index(int row, long h1, long h2) {
+        int col = (int) ((h1 + row * h2) >>> 32) & widthMask;
+        return row * (widthMask + 1) + col;
+    }
+}
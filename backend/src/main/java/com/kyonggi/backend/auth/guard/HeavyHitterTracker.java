@@ -0,0 +1,119 @@
+package com.kyonggi.backend.auth.guard;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.GuardProperties;
+import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
+import com.kyonggi.backend.auth.token.support.TokenHashUtils;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 남용 클라이언트(헤비 히터) 탐지 — 고정 메모리
+ *
+ * 문제:
+ * - 키별 정확한 카운터(Map<key, count>)는 수천 개 IP로 분산된 공격에서 키 수만큼 계속 커진다.
+ *
+ * 구조 (차원 = IP / EMAIL / REFRESH):
+ * - 차원마다 감쇠 count-min sketch 1개 + top-K 힙 1개
+ * - 요청마다 sketch에 +1 → 추정치로 top-K 갱신 (K개를 넘는 원문 키는 보관하지 않음)
+ * - decayIntervalSeconds마다 sketch/top-K를 함께 반감 → "최근" 헤비 히터만 남는다
+ * - REFRESH 차원은 refresh 원문이 아니라 sha256 앞 16자(hex)만 키로 쓴다(토큰 재사용/스터핑 탐지용)
+ *
+ * 자동 차단(autoThrottle=true):
+ * - 어느 차원이든 추정 빈도 ≥ throttleThreshold면 429 RATE_LIMITED (Retry-After = 감쇠 주기)
+ * - count-min은 과대추정만 하므로 드물게 무고한 키가 걸릴 수 있다 → 기본값 false, 관찰 후 켠다.
+ *
+ * 조회: /actuator/heavyhitters (HeavyHittersEndpoint)
+ * 메트릭: auth.heavyhitters.throttled{dimension}, auth.heavyhitters.memory.bytes
+ */
+@Component
+public class HeavyHitterTracker {
+
+    public enum Dimension { IP, EMAIL, REFRESH }
+
+    private static final int REFRESH_PREFIX_LENGTH = 16;
+
+    private final GuardProperties.HeavyHitters props;
+    private final Map<Dimension, Tracked> tracked = new EnumMap<>(Dimension.class);
+
+    public HeavyHitterTracker(GuardProperties guardProperties, MeterRegistry meterRegistry) {
+        this.props = guardProperties.heavyHitters();
+
+        for (Dimension d : Dimension.values()) {
+            Tracked t = new Tracked(
+                    new CountMinSketch(props.width(), props.depth()),
+                    new TopK(props.topK()),
+                    Counter.builder("auth.heavyhitters.throttled")
+                            .tag("dimension", d.name().toLowerCase())
+                            .register(meterRegistry));
+            tracked.put(d, t);
+        }
+
+        Gauge.builder("auth.heavyhitters.memory.bytes", tracked,
+                        m -> m.values().stream().mapToLong(t -> t.sketch.memoryBytes()).sum())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public void observeLogin(String clientIp, String rawEmail) {
+        observe(Dimension.IP, clientIp);
+        observe(Dimension.EMAIL, KyonggiEmailUtils.normalize(rawEmail));
+    }
+
+    public void observeRefresh(String clientIp, String refreshRaw) {
+        observe(Dimension.IP, clientIp);
+        if (refreshRaw != null && !refreshRaw.isBlank()) {
+            observe(Dimension.REFRESH, TokenHashUtils.sha256Hex(refreshRaw).substring(0, REFRESH_PREFIX_LENGTH));
+        }
+    }
+
+    public void observeOtp(String clientIp, String rawEmail) {
+        observe(Dimension.IP, clientIp);
+        observe(Dimension.EMAIL, KyonggiEmailUtils.normalize(rawEmail));
+    }
+
+    public Map<Dimension, List<TopK.Entry>> topOffenders() {
+        Map<Dimension, List<TopK.Entry>> result = new EnumMap<>(Dimension.class);
+        tracked.forEach((d, t) -> result.put(d, t.topK.snapshot()));
+        return result;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.guard.heavy-hitters.decay-interval-seconds}",
+            fixedDelayString = "${app.guard.heavy-hitters.decay-interval-seconds}",
+            timeUnit = TimeUnit.SECONDS)
+    public void decay() {
+        for (Tracked t : tracked.values()) {
+            t.sketch.decay();
+            t.topK.decay();
+        }
+    }
+
+    private void observe(Dimension dimension, String key) {
+        if (!props.enabled() || key == null || key.isBlank()) {
+            return;
+        }
+
+        Tracked t = tracked.get(dimension);
+        int estimate = t.sketch.addAndEstimate(KeyHashing.hash64(key));
+        t.topK.offer(key, estimate);
+
+        if (props.autoThrottle() && estimate >= props.throttleThreshold()) {
+            t.throttled.increment();
+            throw new ApiException(ErrorCode.RATE_LIMITED, (int) props.decayIntervalSeconds());
+        }
+    }
+
+    private record Tracked(CountMinSketch sketch, TopK topK, Counter throttled) {}
+}
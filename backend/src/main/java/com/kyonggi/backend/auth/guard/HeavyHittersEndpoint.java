@@ -0,0 +1,46 @@
+package com.kyonggi.backend.auth.guard;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.guard.HeavyHitterTracker.Dimension;
+import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GET /actuator/heavyhitters — 차원별 현재 상위 남용 키
+ *
+ * - MASTER role 전용(SecurityConfig /actuator/** hasRole), exposure.include에 등록해야 노출된다.
+ * - 이메일은 로컬 파트 앞 2글자만 남기고 마스킹한다(운영 화면/로그 유출 대비).
+ * - count는 감쇠 count-min 추정치다(과대추정 가능, 최근 구간 기준).
+ */
+@Component
+@Endpoint(id = "heavyhitters")
+@RequiredArgsConstructor
+public class HeavyHittersEndpoint {
+
+    private final HeavyHitterTracker tracker;
+
+    @ReadOperation
+    public Map<String, List<Offender>> heavyHitters() {
+        Map<String, List<Offender>> body = new LinkedHashMap<>();
+        tracker.topOffenders().forEach((dimension, entries) -> body.put(
+                dimension.name().toLowerCase(),
+                entries.stream()
+                        .map(e -> new Offender(display(dimension, e.key()), e.count()))
+                        .toList()));
+        return body;
+    }
+
+    private static String display(Dimension dimension, String key) {
+        return dimension == Dimension.EMAIL ? KyonggiEmailUtils.mask(key) : key;
+    }
+
+    public record Offender(String key, long count) {}
+}
@@ -0,0 +1,28 @@
+package com.kyonggi.backend.auth.guard;
+
+/**
+ * guard 패키지 공용 64bit 키 해시 (FNV-1a over chars → murmur3 fmix64)
+ * - 키 문자열을 보관하지 않고 long으로만 다루기 위한 용도. 암호학적 해시가 아니다.
+ */
+final class KeyHashing {
+
+    private KeyHashing() {}
+
+    static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,204 @@
+package com.kyonggi.backend.auth.guard;
+
+import com.kyonggi.backend.auth.config.GuardProperties;
+
+/**
+ * long 키 → 토큰 버킷 (락 분할 + primitive open addressing)
+ *
+ * 구조:
+ * - stripes개의 Stripe로 키 공간을 나누고, Stripe마다 독립된 락(synchronized)을 쓴다.
+ *   → 서로 다른 IP/이메일 요청은 대부분 다른 락을 잡으므로 경합이 거의 없다.
+ * - Stripe는 long[] / double[] / long[] 배열 3개짜리 선형 탐사 해시맵이다.
+ *   → 엔트리당 객체/박싱 없음, 메모리 = 슬롯 수 × 24B 로 고정 (기동 시 한 번 할당)
+ *
+ * 상한/정리:
+ * - Stripe당 maxEntries / stripes개까지만 보관. 가득 차면 일부 슬롯을 샘플링해 가장 오래 안 쓴 키를 밀어낸다.
+ * - evictIdle: idle 시간 이상 요청이 없던 키 제거 (그 사이 버킷은 이미 가득 찼으므로 결과가 달라지지 않는다)
+ *
+ * 키 0은 "빈 슬롯" 표식이라 1로 바꿔 저장한다(해시 충돌 1건이 늘 뿐).
+ */
+final class TokenBucketLimiter {
+
+    private static final int EVICTION_SAMPLES = 16;
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    TokenBucketLimiter(GuardProperties.Bucket rule, int maxEntries, int stripeCount) {
+        int n = ceilPow2(stripeCount);
+        this.capacity = rule.capacity();
+        this.refillPerNano = rule.refillPerMinute() / 60_000_000_000.0;
+        this.stripes = new Stripe[n];
+        this.stripeMask = n - 1;
+
+        int perStripe = Math.max(4, maxEntries / n);
+        for (int i = 0; i < n; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 0이면 통과, 양수면 다음 토큰까지 남은 시간(nanos)
+     */
+    long tryAcquire(long key, long nowNanos) {
+        long k = key == 0 ? 1 : key;
+        Stripe stripe = stripes[(int) k & stripeMask];
+        synchronized (stripe) {
+            return stripe.acquire(k, nowNanos, capacity, refillPerNano);
+        }
+    }
+
+    int evictIdle(long nowNanos, long idleNanos) {
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                evicted += stripe.evictIdle(nowNanos, idleNanos);
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.size;
+            }
+        }
+        return total;
+    }
+
+    long memoryBytes() {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            total += (long) stripe.keys.length * (Long.BYTES + Double.BYTES + Long.BYTES);
+        }
+        return total;
+    }
+
+    private static int ceilPow2(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    private static final class Stripe {
+
+        private final long[] keys;       // 0 = 빈 슬롯
+        private final double[] tokens;   // 남은 토큰
+        private final long[] touchedAt;  // 마지막 갱신 시각 (nanoTime)
+        private final int mask;
+        private final int maxSize;
+        private int size;
+        private int evictCursor;
+
+        Stripe(int maxSize) {
+            int slots = ceilPow2(maxSize * 2); // load factor ≤ 0.5 → 탐사 길이 짧게
+            this.keys = new long[slots];
+            this.tokens = new double[slots];
+            this.touchedAt = new long[slots];
+            this.mask = slots - 1;
+            this.maxSize = maxSize;
+        }
+
+        long acquire(long key, long now, double capacity, double refillPerNano) {
+            int slot = find(key);
+            double available;
+
+            if (slot < 0) {
+                if (size >= maxSize) evictOldest();
+                slot = insert(key);
+                available = capacity; // 처음 보는 키는 가득 찬 버킷으로 시작
+            } else {
+                available = Math.min(capacity, tokens[slot] + (now - touchedAt[slot]) * refillPerNano);
+            }
+
+            touchedAt[slot] = now;
+            if (available >= 1.0) {
+                tokens[slot] = available - 1.0;
+                return 0L;
+            }
+            tokens[slot] = available;
+            return (long) Math.ceil((1.0 - available) / refillPerNano);
+        }
+
+        int evictIdle(long now, long idleNanos) {
+            int evicted = 0;
+            for (int i = 0; i < keys.length; i++) {
+                // remove가 뒤 엔트리를 i로 당겨올 수 있으므로 같은 슬롯을 다시 본다.
+                while (keys[i] != 0 && now - touchedAt[i] >= idleNanos) {
+                    remove(i);
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+
+        private int home(long key) {
+            return (int) (key >>> 32) & mask; // 하위 비트는 stripe 선택에 썼으므로 상위 비트 사용
+        }
+
+        private int find(long key) {
+            int idx = home(key);
+            while (keys[idx] != 0) {
+                if (keys[idx] == key) return idx;
+                idx = (idx + 1) & mask;
+            }
+            return -1;
+        }
+
+        private int insert(long key) {
+            int idx = home(key);
+            while (keys[idx] != 0) {
+                idx = (idx + 1) & mask;
+            }
+            keys[idx] = key;
+            size++;
+            return idx;
+        }
+
+        // 가득 찼을 때: 커서부터 EVICTION_SAMPLES개 엔트리 중 가장 오래 안 쓴 것을 제거 (근사 LRU)
+        private void evictOldest() {
+            int victim = -1;
+            long oldest = Long.MAX_VALUE;
+            int seen = 0;
+
+            for (int i = 0; i < keys.length && seen < EVICTION_SAMPLES; i++) {
+                int idx = (evictCursor + i) & mask;
+                if (keys[idx] == 0) continue;
+                seen++;
+                if (victim < 0 || touchedAt[idx] - oldest < 0) {
+                    oldest = touchedAt[idx];
+                    victim = idx;
+                }
+            }
+
+            if (victim >= 0) {
+                evictCursor = (victim + 1) & mask;
+                remove(victim);
+            }
+        }
+
+        // 선형 탐사 삭제: tombstone 없이 뒤따르는 클러스터를 앞으로 당긴다(backward shift).
+        private void remove(int slot) {
+            int hole = slot;
+            keys[hole] = 0;
+            size--;
+
+            int idx = (hole + 1) & mask;
+            while (keys[idx] != 0) {
+                int h = home(keys[idx]);
+                // hole이 [h, idx) 구간 안이면 idx의 엔트리를 hole로 옮겨도 탐사 경로가 유지된다.
+                if (((idx - h) & mask) >= ((idx - hole) & mask)) {
+                    keys[hole] = keys[idx];
+                    tokens[hole] = tokens[idx];
+                    touchedAt[hole] = touchedAt[idx];
+                    keys[idx] = 0;
+                    hole = idx;
+                }
+                idx = (idx + 1) & mask;
+            }
+        }
+    }
+}
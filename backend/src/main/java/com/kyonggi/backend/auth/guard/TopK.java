@@ -0,0 +1,75 @@
+package com.kyonggi.backend.auth.guard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 상위 K개 키 추적 (최소 힙)
+ *
+ * - 원문 키는 상위 K개만 보관한다 → 메모리는 K에만 비례.
+ * - 힙이 가득 찼을 때 최솟값(floor)보다 작은 추정치는 락 없이 바로 버린다(대부분의 요청).
+ * - 카운트는 CountMinSketch 추정치를 그대로 쓰므로, sketch와 같은 시점에 함께 decay한다.
+ */
+final class TopK {
+
+    private final int k;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingLong(Entry::count));
+    private volatile long floor; // 힙이 가득 찼을 때의 최솟값, 아니면 0
+
+    TopK(int k) {
+        this.k = k;
+    }
+
+    void offer(String key, long estimate) {
+        if (estimate <= floor) return;
+
+        synchronized (this) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                heap.remove(existing);
+                Entry updated = new Entry(key, Math.max(existing.count(), estimate));
+                entries.put(key, updated);
+                heap.add(updated);
+            } else if (heap.size() < k) {
+                Entry added = new Entry(key, estimate);
+                entries.put(key, added);
+                heap.add(added);
+            } else if (estimate > heap.peek().count()) {
+                Entry evicted = heap.poll();
+                entries.remove(evicted.key());
+                Entry added = new Entry(key, estimate);
+                entries.put(key, added);
+                heap.add(added);
+            }
+            floor = heap.size() < k ? 0 : heap.peek().count();
+        }
+    }
+
+    synchronized void decay() {
+        List<Entry> halved = new ArrayList<>(heap.size());
+        for (Entry e : heap) {
+            if (e.count() > 1) halved.add(new Entry(e.key(), e.count() >>> 1));
+        }
+        heap.clear();
+        entries.clear();
+        for (Entry e : halved) {
+            heap.add(e);
+            entries.put(e.key(), e);
+        }
+        floor = heap.size() < k ? 0 : heap.peek().count();
+    }
+
+    // 내림차순 스냅샷
+    synchronized List<Entry> snapshot() {
+        List<Entry> list = new ArrayList<>(heap);
+        list.sort(Comparator.comparingLong(Entry::count).reversed());
+        return list;
+    }
+
+    record Entry(String key, long count) {}
+}
@@ -0,0 +1,221 @@
+package com.kyonggi.backend.auth.identity.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.AuthProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입된 이메일 집합의 확률적 멤버십 필터 (Bloom filter)
+ *
+ * 문제:
+ * - 크리덴셜 스터핑 목록의 대부분은 "가입되지 않은 이메일"이다.
+ *   그래도 시도마다 로그인 조회 쿼리가 DB를 친다. (가입 중복은 선검사 없이 INSERT의 UNIQUE 위반으로 판정한다)
+ *
+ * 정책:
+ * - mightExist(email) == false → 확실히 미가입 → DB 조회 생략 (호출자가 동일 에러/동일 지연으로 응답)
+ *   단, "필터가 DB를 따라잡았을 때"만 false다 (아래 다른 레플리카 가입 창).
+ * - mightExist(email) == true  → 기존처럼 DB 조회 (오탐은 비용만 들 뿐 결과는 틀리지 않는다)
+ * - 필터가 아직 없으면(기동 직후/비활성) 항상 true → 안전한 쪽(DB 조회)으로 동작한다.
+ *
+ * 갱신 경로:
+ * 1) 기동 시: users를 id 키셋으로 스트리밍 스캔해서 구축 (ApplicationReadyEvent → readiness 이전)
+ * 2) 가입 시: User INSERT 직후 add (RegisteredEmailListener, @PostPersist)
+ * 3) 다른 레플리카 가입분: syncIntervalSeconds마다 id 증분 스캔 (overlap으로 커밋 순서 역전 보정)
+ * 4) 삭제 반영/누락 보정: rebuildIntervalSeconds마다 새 필터를 처음부터 만들어 교체
+ *
+ * 다른 레플리카 가입 창:
+ * - B에서 가입하고 다음 동기화(syncIntervalSeconds) 전에 A로 로그인하면 A의 필터엔 그 이메일이 없다.
+ *   이걸 그대로 "확실히 없음"으로 답하면 실제 계정이 401 INVALID_CREDENTIALS를 받는다.
+ * - 그래서 미스로 답하기 전에 users의 max(id)(PK 인덱스 끝 1행)를 필터가 본 마지막 id와 비교한다.
+ *   더 크면 증분 동기화를 그 자리에서 당겨 하고 다시 본다. 동기화를 못 하면(스캔 중) DB 조회로 넘긴다.
+ * - max(id) 확인은 missRecheckMillis마다 한 번만 한다(미스 폭주 시에도 쿼리 1개/주기).
+ *   → 남는 창 = missRecheckMillis (0이면 미스마다 확인 → 창 없음, 미스당 max(id) 1회)
+ *   + AUTO_INCREMENT 커밋 순서 역전으로 max(id)보다 작은 id가 늦게 커밋되는 경우(다음 동기화의 overlap이 보정).
+ *
+ * 동시성:
+ * - rebuild/syncRecent는 JDBC 스캔을 하는 동안 락을 쥔다 → synchronized 대신 ReentrantLock
+ *   (가상 스레드 모드에서 synchronized 안의 블로킹 I/O는 캐리어 스레드를 고정시킨다)
+ *
+ * - add는 재구축 교체(current/building)와 경합할 수 있다 → 넣은 뒤 둘 다 다시 읽어 바뀌었으면 새 필터에도 넣는다.
+ *
+ * 메트릭:
+ * - auth.email.filter.definite_miss : DB 조회를 건너뛴 횟수
+ * - auth.email.filter.uncovered     : 필터가 DB보다 뒤처져 있어 미스를 DB 조회로 넘긴 횟수
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private final JdbcTemplate jdbc;
+    private final AuthProperties.EmailFilter props;
+    private final Counter definiteMisses;
+    private final Counter uncovered;
+    private final ReentrantLock scanLock = new ReentrantLock();
+    private final long missRecheckNanos;
+    private final AtomicLong maxIdCheckedAt;
+
+    private volatile BloomFilter current;   // null = 아직 구축 전 → 항상 "있을 수도 있음"
+    private volatile BloomFilter building;  // 재구축 중 들어온 add를 새 필터에도 반영
+    private volatile long lastSeenId;
+    private volatile long knownMaxId;       // 마지막으로 확인한 users max(id)
+
+    public RegisteredEmailFilter(JdbcTemplate jdbc, AuthProperties authProperties, MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.props = authProperties.emailFilter();
+        this.definiteMisses = Counter.builder("auth.email.filter.definite_miss")
+                .description("Lookups answered as 'not registered' without touching the database")
+                .register(meterRegistry);
+        this.uncovered = Counter.builder("auth.email.filter.uncovered")
+                .description("Misses sent to the database because the filter had not caught up with users yet")
+                .register(meterRegistry);
+        this.missRecheckNanos = TimeUnit.MILLISECONDS.toNanos(props.missRecheckMillis());
+        this.maxIdCheckedAt = new AtomicLong(System.nanoTime() - missRecheckNanos); // 첫 미스에서 바로 확인
+    }
+
+    public boolean mightExist(String email) {
+        BloomFilter filter = current;
+        if (!props.enabled() || filter == null) {
+            return true;
+        }
+        if (filter.mightContain(email)) {
+            return true;
+        }
+        if (!caughtUp()) {
+            uncovered.increment();
+            return true; // 다른 레플리카에서 방금 가입했을 수 있다 → DB 조회
+        }
+        if (current.mightContain(email)) {
+            return true; // 방금 당겨 한 동기화로 들어옴
+        }
+        definiteMisses.increment();
+        return false;
+    }
+
+    public void add(String email) {
+        BloomFilter filter;
+        BloomFilter next;
+        do {
+            filter = current;
+            next = building;
+            if (filter != null) filter.put(email);
+            if (next != null) next.put(email);
+        } while (filter != current || next != building); // 그 사이 재구축이 교체했으면 새 필터에도 넣는다
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (props.enabled()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.auth.email-filter.rebuild-interval-seconds}",
+            fixedDelayString = "${app.auth.email-filter.rebuild-interval-seconds}",
+            timeUnit = TimeUnit.SECONDS)
+    public void rebuild() {
+        if (!props.enabled()) return;
+
+        scanLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        long started = System.nanoTime();
+        Long count = jdbc.queryForObject("select count(*) from users", Long.class);
+        long expected = Math.max(props.expectedInsertions(), (long) ((count == null ? 0 : count) * 1.5));
+
+        BloomFilter next = BloomFilter.create(expected, props.falsePositiveRate());
+        building = next;
+        try {
+            long maxId = scan(next, 0L);
+            current = next;
+            lastSeenId = maxId;
+        } finally {
+            building = null;
+        }
+
+        log.info("가입 이메일 필터 재구축: users={}, bits={}, hashes={}, tookMs={}",
+                count, next.bitCount(), next.hashCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    // 필터가 users를 따라잡았는가: max(id) ≤ 마지막으로 스캔한 id. 뒤처졌으면 증분 동기화를 당겨서 한다.
+    private boolean caughtUp() {
+        long checkedAt = maxIdCheckedAt.get();
+        long now = System.nanoTime();
+        if (now - checkedAt >= missRecheckNanos && maxIdCheckedAt.compareAndSet(checkedAt, now)) {
+            Long maxId = jdbc.queryForObject("select coalesce(max(id), 0) from users", Long.class);
+            knownMaxId = maxId == null ? 0L : maxId;
+            if (knownMaxId > lastSeenId && scanLock.tryLock()) { // 재구축/동기화 중이면 기다리지 않는다
+                try {
+                    syncLocked();
+                } finally {
+                    scanLock.unlock();
+                }
+            }
+        }
+        return knownMaxId <= lastSeenId;
+    }
+
+    /**
+     * id 증분 스캔
+     * - AUTO_INCREMENT는 "할당 순서 ≠ 커밋 순서"라, 작은 id가 나중에 커밋될 수 있다.
+     *   → 마지막으로 본 id보다 syncOverlapIds만큼 앞에서부터 다시 읽는다(중복 put은 무해).
+     */
+    @Scheduled(fixedDelayString = "${app.auth.email-filter.sync-interval-seconds}", timeUnit = TimeUnit.SECONDS)
+    public void syncRecent() {
+        if (!props.enabled()) return;
+
+        scanLock.lock();
+        try {
+            syncLocked();
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private void syncLocked() {
+        BloomFilter filter = current;
+        if (filter == null) return;
+
+        long from = Math.max(0L, lastSeenId - props.syncOverlapIds());
+        lastSeenId = Math.max(lastSeenId, scan(filter, from));
+    }
+
+    // 키셋 페이지네이션: 배치마다 짧은 쿼리 1개 → 커넥션을 오래 잡지 않는다.
+    private long scan(BloomFilter target, long afterId) {
+        long cursor = afterId;
+        while (true) {
+            long[] lastId = { cursor };
+            int[] rows = { 0 };
+            jdbc.query("select id, email from users where id > ? order by id limit ?",
+                    rs -> {
+                        lastId[0] = rs.getLong(1);
+                        target.put(rs.getString(2));
+                        rows[0]++;
+                    },
+                    cursor, props.scanBatchSize());
+
+            cursor = lastId[0];
+            if (rows[0] < props.scanBatchSize()) {
+                return cursor;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.kyonggi.backend.auth.identity.filter;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.domain.User;
+
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * User INSERT → 가입 이메일 필터에 즉시 반영 (JPA 엔티티 리스너)
+ *
+ * - SignupService.completeSignup의 user insert가 여기로 들어온다.
+ * - 스프링 부트가 Hibernate BeanContainer를 SpringBeanContainer로 연결하므로 이 리스너는 스프링 빈으로 주입된다.
+ * - 커밋 전에 add되지만, 롤백되면 오탐 1건이 늘 뿐(결과는 DB 조회가 결정)이라 무해하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegisteredEmailListener {
+
+    private final RegisteredEmailFilter registeredEmailFilter;
+
+    @PostPersist
+    public void onPersist(User user) {
+        registeredEmailFilter.add(user.getEmail());
+    }
+}
@@ -2,15 +2,19 @@ package com.kyonggi.backend.auth.identity.login.service;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.function.Supplier;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.kyonggi.backend.auth.domain.User;
 import com.kyonggi.backend.auth.domain.UserStatus;
+import com.kyonggi.backend.auth.event.AuthEvent;
+import com.kyonggi.backend.auth.event.AuthEventBus;
+import com.kyonggi.backend.auth.identity.filter.RegisteredEmailFilter;
 import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
+import com.kyonggi.backend.auth.password.PasswordHasher;
+import com.kyonggi.backend.auth.repo.LoginCredential;
 import com.kyonggi.backend.auth.repo.UserRepository;
 import com.kyonggi.backend.auth.token.service.RefreshTokenService;
 import com.kyonggi.backend.auth.token.service.RefreshTokenService.Issued;
@@ -32,6 +36,10 @@ import lombok.RequiredArgsConstructor;
  * 보안:
  * - "이메일 없음"과 "비밀번호 불일치"는 동일 에러로 처리해 계정 유무 추측을 어렵게 한다.
  * - refresh는 원문을 DB에 저장하지 않고 해시만 저장(세션 통제)
+ *
+ * 이벤트(AuthEventBus):
+ * - 성공(커밋 이후) → LoginSucceeded, 자격 증명/계정 상태 실패 → LoginFailed
+ * - 발행은 링 버퍼에 참조 하나를 넣는 것뿐이다 → 분석/부가 작업이 로그인 응답 지연에 더해지지 않는다.
  * 
  * 토큰 발급:
  * 1) JwtService: Access Token 발급(서명/클레임 생성) = Authentication: Bearer <token>
@@ -41,20 +49,34 @@ import lombok.RequiredArgsConstructor;
  * 2) RefreshTokenService: Refresh Token 발급 + DB 저장 = Set-Cookie: refresh=<token>; HttpOnly
  * - raw 토큰은 HttpOnly 쿠키로 클라이언트에 전달
  * - 서버에는 해시만 저장(유출 대비)
+ * - 저장 위치는 user_id로 고른 refresh 샤드(RefreshTokenShards) → lastLoginAt 갱신 트랜잭션과 따로 커밋된다.
  */
 @Service
 @RequiredArgsConstructor
 public class LoginService {
 
     private final UserRepository userRepository; 
-    private final PasswordEncoder passwordEncoder;
+    private final RegisteredEmailFilter registeredEmailFilter; // 확실히 미가입인 이메일은 DB 조회 생략
+    private final PasswordHasher passwordHasher; // BCrypt는 전용 실행기에서 (포화 시 503 SERVER_BUSY)
 
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
 
+    private final TransactionTemplate transactionTemplate; // 해싱 이후의 짧은 쓰기 트랜잭션 경계
+    private final AuthEventBus eventBus;
+
     private final Clock clock;
 
-    @Transactional
+    /**
+     * 트랜잭션 경계(의도적으로 메서드 전체에 @Transactional을 걸지 않는다):
+     * 1) 조회: findLoginCredentialByEmail (커버링 인덱스 프로젝션, 리포지토리 기본 readOnly 트랜잭션 → 끝나면 커넥션 반납)
+     * 2) 해싱: passwordHasher.matches (~100ms, 커넥션을 물지 않음)
+     *    + 저장된 해시가 현재 정책보다 약하면 재해싱 (레거시 prefix 없음 / 낮은 cost / 다른 알고리즘)
+     * 3) 쓰기: lastLoginAt 갱신 + (재해싱 결과 반영)을 짧은 트랜잭션 하나로 묶는다.
+     * 4) refresh 발급: 커밋 이후 사용자의 refresh 샤드에서 자체 트랜잭션 (다른 DB일 수 있음)
+     *
+     * → BCrypt 동안 Hikari 커넥션을 잡고 있지 않으므로, 풀 크기(prod 10)가 로그인 처리량 상한이 되지 않는다.
+     */
     public LoginResult login(String rawEmail, String rawPassword, boolean rememberMe) {
         /**
          *  @DisplayName("email blank → 400 (컨트롤러 (검증) + Set-Cookie 없음")
@@ -73,35 +95,58 @@ public class LoginService {
          * 1) "사용자 조회" + "비밀번호 매칭"
          * - 존재하지 않는 이메일/비밀번호 틀림 → "401 INVALID_CREDENTIALS" + Set-Cookie 없음
          * - 보안상 이유로 "이메일 없음"과 "비번 틀림"은 동일 에러로 처리해 계정 유무 추측을 어렵게 한다
+         *   (응답 시간도 맞춘다: 이메일이 없어도 더미 해시로 matches 1회를 수행)
+         * - 가입 이메일 필터가 "확실히 없음"이라고 하면 DB 조회 없이 같은 경로로 실패한다.
          * 
          * 2) 계정 상태 검사
          * - ACTIVE가 아니면 → "403 ACCOUNT_DISABLED" + Set-Cookie 없음
          * 
-         * 3) User 엔티티가 영속성 컨텍스트에 올라온 객체이므로
-         *    이후 해당 객체의 상태 변경은 "더티체킹"으로 커밋 시점에 DB에 반영된다.
+         * 3) 엔티티가 아니라 프로젝션(id/passwordHash/status/role)만 읽는다.
+         *    상태 변경(lastLoginAt)은 더티체킹이 아니라 쓰기 트랜잭션에서 UPDATE 쿼리로 반영한다.
          */
-        User user = userRepository.findByEmail(email) // @DisplayName("존재하지 않는 이메일 → 401 INVALID_CREDENTIALS + Set-Cookie 없음")
-                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_CREDENTIALS));
+        if (!registeredEmailFilter.mightExist(email)) { // 확실히 미가입 → DB 조회 생략
+            passwordHasher.simulateMatches(rawPassword); // 응답 시간 균등화 (계정 존재 여부 추측 방지)
+            throw loginFailed(email, ErrorCode.INVALID_CREDENTIALS);
+        }
+
+        LoginCredential user = userRepository.findLoginCredentialByEmail(email).orElse(null);
+        if (user == null) { // @DisplayName("존재하지 않는 이메일 → 401 INVALID_CREDENTIALS + Set-Cookie 없음")
+            passwordHasher.simulateMatches(rawPassword);
+            throw loginFailed(email, ErrorCode.INVALID_CREDENTIALS);
+        }
          
-        if (!passwordEncoder.matches(rawPassword, user.getPasswordHash())) { // @DisplayName("비밀번호 틀림 → 401 INVALID_CREDENTIALS + Set-Cookie 없음")
-            throw new ApiException(ErrorCode.INVALID_CREDENTIALS);
+        if (!passwordHasher.matches(rawPassword, user.getPasswordHash())) { // @DisplayName("비밀번호 틀림 → 401 INVALID_CREDENTIALS + Set-Cookie 없음")
+            throw loginFailed(email, ErrorCode.INVALID_CREDENTIALS);
         }
 
         if (user.getStatus() != UserStatus.ACTIVE) {
-            throw new ApiException(ErrorCode.ACCOUNT_DISABLED); // @DisplayName("비활성 계정 → 403 ACCOUNT_DISABLED + Set-Cookie 없음")
+            throw loginFailed(email, ErrorCode.ACCOUNT_DISABLED); // @DisplayName("비활성 계정 → 403 ACCOUNT_DISABLED + Set-Cookie 없음")
         }
 
-        String accessToken = jwtService.issueAccessToken(user.getId(), user.getRole());
-        Issued refreshToken = refreshTokenService.issue(user.getId(), rememberMe);
+        // @DisplayName("login 성공: 레거시(prefix 없는) BCrypt 해시는 현재 정책 해시로 재저장된다")
+        Optional<String> upgradedHash = passwordHasher.rehashIfOutdated(rawPassword, user.getPasswordHash());
 
         /**
          * @DisplayName("login 성공: rememberMe=true 가 false 보다 refresh 쿠키 TTL(Max-Age)이 길다")
          * @DisplayName("login 성공: 이메일 normalize(공백/대소문자) 되어도 성공")
          */
-        user.setLastLoginAt(now);
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.updateLastLoginAt(user.getId(), now);
+            upgradedHash.ifPresent(hash -> userRepository.updatePasswordHash(user.getId(), user.getPasswordHash(), hash));
+        });
+        // refresh 발급은 커밋 이후 사용자의 샤드에서 따로 커밋한다 (메인 커넥션을 쥔 채 샤드 커넥션을 기다리지 않게)
+        Issued refreshToken = refreshTokenService.issue(user.getId(), rememberMe);
+
+        String accessToken = jwtService.issueAccessToken(user.getId(), user.getRole());
+        eventBus.publish(new AuthEvent.LoginSucceeded(user.getId(), rememberMe, clock.instant()));
         return new LoginResult(accessToken, refreshToken.raw(), rememberMe);
     }
 
+    private ApiException loginFailed(String email, ErrorCode reason) {
+        eventBus.publish(new AuthEvent.LoginFailed(email, reason, clock.instant()));
+        return new ApiException(reason);
+    }
+
     private String normalizeKyonggiEmail(String rawEmail) {
         KyonggiEmailUtils.validateKyonggiDomain(rawEmail);
         return KyonggiEmailUtils.normalize(rawEmail);
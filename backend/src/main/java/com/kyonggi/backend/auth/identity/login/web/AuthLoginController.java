@@ -5,12 +5,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kyonggi.backend.auth.guard.AuthRateLimiter;
+import com.kyonggi.backend.auth.guard.HeavyHitterTracker;
 import com.kyonggi.backend.auth.identity.login.dto.LoginRequest;
 import com.kyonggi.backend.auth.identity.login.dto.LoginResponse;
 import com.kyonggi.backend.auth.identity.login.service.LoginService;
 import com.kyonggi.backend.auth.identity.login.service.LoginService.LoginResult;
 import com.kyonggi.backend.auth.token.support.AuthCookieUtils;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,7 @@ import lombok.RequiredArgsConstructor;
  * 로그인 API
  *
  * - 요청(JSON) 검증: @Valid DTO
+ * - 헤비 히터 관찰 + 레이트 리밋: IP + 이메일 기준, 서비스(BCrypt/DB) 진입 전에 429로 거절
  * - 핵심 로직: 서비스로 위임(인증/정책/토큰 발급)
  * - 응답 변환:
  *   - accessToken: 바디
@@ -32,9 +36,15 @@ public class AuthLoginController {
 
     private final LoginService loginService;
     private final AuthCookieUtils cookieUtils; // refresh token 쿠키를 생성/삭제하는 유틸
+    private final AuthRateLimiter rateLimiter;
+    private final HeavyHitterTracker heavyHitters;
 
     @PostMapping("/login")
-    public LoginResponse login(@Valid @RequestBody LoginRequest req, HttpServletResponse response) {
+    public LoginResponse login(@Valid @RequestBody LoginRequest req,
+                               HttpServletRequest request,
+                               HttpServletResponse response) {
+        heavyHitters.observeLogin(request.getRemoteAddr(), req.email());
+        rateLimiter.checkLogin(request.getRemoteAddr(), req.email());
 
         LoginResult result = loginService.login(
                 req.email(),
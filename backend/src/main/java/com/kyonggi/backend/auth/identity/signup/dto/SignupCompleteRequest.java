@@ -29,7 +29,11 @@ public record SignupCompleteRequest(
         
         @NotBlank(message = "닉네임은 필수입니다.")
         @Size(max = 50, message = "닉네임이 너무 깁니다.")
-        String nickname
+        String nickname,
+
+        // OTP 검증 응답으로 받은 가입 티켓 (없으면 서버가 OTP 행을 직접 확인 — 구 클라이언트 호환)
+        @Size(max = 1024, message = "가입 티켓이 너무 깁니다.")
+        String signupTicket
         ) {
 }
 
@@ -0,0 +1,9 @@
+package com.kyonggi.backend.auth.identity.signup.dto;
+
+/**
+ * 회원가입 OTP 검증 응답
+ *
+ * - signupTicket: 검증 성공을 증명하는 HMAC 서명 티켓 (email + verified_at, 짧은 유효기간)
+ *   → /auth/signup/complete 요청 바디에 그대로 넣는다. 서버는 OTP 행을 잠그거나 읽지 않고 검증 사실을 확인한다.
+ */
+public record SignupOtpVerifyResponse(String signupTicket) {}
@@ -1,8 +1,7 @@
 package com.kyonggi.backend.auth.identity.signup.event;
 
 /**
- * OTP를 발급/저장한 뒤, 커밋 완료 후 메일 발송을 위해 발행하는 이벤트
- * - OTP 원문은 DB에 저장하지 않으므로, 메일 발송은 서비스 계층의 "트랜잭션 커밋 이후"에
- *   이벤트로 처리해야 한다.
+ * OTP 발급 트랜잭션 안에서 발행하는 이벤트 (커밋 이후 메일 outbox 디스패처를 깨운다)
+ * - OTP 원문은 이벤트에 싣지 않는다. 메일 내용은 같은 트랜잭션으로 적재된 mail_outbox 행(암호문)에 있다.
  */
-public record SignupOtpIssuedEvent (String email, String code) {}
+public record SignupOtpIssuedEvent (String email) {}
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Component;
 
 import com.kyonggi.backend.auth.config.AppMailProperties;
 import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.auth.mail.MailRelayRouter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,6 +19,12 @@ import lombok.RequiredArgsConstructor;
  * 
  * @Service가 직접 JavaMailSender를 쓰지 않고 
  *  이 클래스를 거친다 -> 관심사 분리 (SRP) 
+ *
+ * 호출 위치: MailOutboxDispatcher 워커 스레드 (mail_outbox → SMTP)뿐이다.
+ * - 요청 스레드는 SMTP를 기다리지 않는다 → 요청 마감(RequestDeadline)과 무관하고, SMTP 타임아웃은 설정값 그대로 쓴다.
+ * - MailRelayRouter로 보낸다: 지연/오류율 순위로 릴레이를 고르고, 느리면 다음 릴레이에 헤지 발송한다.
+ *   각 릴레이는 인증된 연결을 재사용한다(SmtpConnectionPool). 릴레이가 없으면 기본 JavaMailSender로 보낸다.
+ * - messageKey(outbox 행 id 등)로 Message-ID를 고정한다 → 헤지 사본/재발송이 같은 메일로 합쳐진다.
  */
 @Component
 @RequiredArgsConstructor
@@ -28,16 +35,31 @@ public class SignupMailSender {
     private final JavaMailSender mailSender;
     private final OtpProperties props;
     private final AppMailProperties mailProps;
+    private final MailRelayRouter relayRouter;
 
-    public void sendOtp(String toEmail, String code) {
+    /**
+     * @param messageKey 메일 하나를 식별하는 키 (Message-ID 로컬 파트). 재시도해도 같은 값이어야 한다.
+     */
+    public void sendOtp(String toEmail, String code, String messageKey) {
         SimpleMailMessage msg = new SimpleMailMessage();
         msg.setTo(toEmail);
         msg.setFrom(mailProps.from());  // ✅ 핵심
         msg.setSubject(SUBJECT);
         msg.setText(buildBody(code));
+
+        if (relayRouter.isAvailable()) {
+            relayRouter.send(messageId(messageKey), msg); // 릴레이 순위 + 헤지 + 연결 재사용
+            return;
+        }
         mailSender.send(msg);
     }
 
+    // <messageKey@발신 도메인> — 발신 도메인 아래에서만 유일하면 된다
+    private String messageId(String messageKey) {
+        String from = mailProps.from();
+        return "<" + messageKey + "@" + from.substring(from.indexOf('@') + 1) + ">";
+    }
+
     private String buildBody(String code) {
         return "인증번호: " + code + "\n\n" + props.ttlMinutes() + "분 이내에 입력해주세요.";
     }
@@ -1,25 +1,33 @@
 package com.kyonggi.backend.auth.identity.signup.service;
 
 import java.time.Clock;
-import java.time.Duration;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.kyonggi.backend.auth.config.OtpDataSourceConfig;
 import com.kyonggi.backend.auth.config.OtpProperties;
-import com.kyonggi.backend.auth.domain.EmailOtp;
-import com.kyonggi.backend.auth.domain.OtpPurpose;
 import com.kyonggi.backend.auth.identity.signup.event.SignupOtpIssuedEvent;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore.IssueCommand;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore.IssueOutcome;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore.IssueResult;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore.VerifyResult;
 import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
 import com.kyonggi.backend.auth.identity.signup.support.OtpCodeGenerator;
 import com.kyonggi.backend.auth.identity.signup.support.OtpHasher;
-import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+import com.kyonggi.backend.auth.identity.signup.support.SignupTicketCodec;
+import com.kyonggi.backend.auth.mail.MailOutbox;
 import com.kyonggi.backend.global.ApiException;
 import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.global.overload.LockContention;
+import com.kyonggi.backend.global.overload.StripedKeyLock;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,170 +36,144 @@ import lombok.RequiredArgsConstructor;
  * 
  * 1) OTP 발급: public void requestSignupOtp(String rawEmail) {...}
  *  - 도메인 검증 / 정규화
- *  - 해당 이메일 상태 검사 (쿨다운 / 일일 제한 / 검증 완료)
- *  - OTP는 보안을 위해 해시만 DB에 저장, 원문은 SignupMailSender가 커밋 이후 이벤트로 메일 전송
+ *  - 해당 이메일 상태 검사 (쿨다운 / 일일 제한 / 검증 완료) → OtpStore.issue 한 번의 원자적 전이로 평가
+ *  - OTP는 보안을 위해 해시만 저장, 원문은 암호문으로 mail_outbox에 같은 트랜잭션으로 적재 → 커밋 이후 비동기 발송
  * 
  * 2) OTP 검증: public void verifySignupOtp(String rawEmail, String incomingCode) {...}
  *  - 실패 횟수는 반드시 누적되어야 하므로, "OTP 코드 불일치"는 롤백하지 않는다. (해당 레코드의 속성 값이 증가해야함)
+ *  - 행 락 없이 OtpStore.verify의 원자적 전이 결과로 성공/실패를 가른다.
+ *  - 성공 시 가입 티켓(HMAC 서명, email + verified_at)을 돌려준다 → 가입 완료는 티켓만으로 검증 사실을 확인한다.
+ *
+ * 같은 이메일 동시 발급 요청(더블클릭 등):
+ *  - 트랜잭션을 열기 전에 StripedKeyLock(OTP_LOCK, email)으로 먼저 줄 세운다.
+ *    → 후속 요청은 커넥션 없이 메모리에서 기다리고, 같은 행을 쓰려는 커넥션은 노드당 1개뿐이다.
+ *  - 검증은 줄 세우지 않는다(저장소 전이가 원자적이므로 동시 시도끼리도 실패 횟수가 정확히 누적된다).
+ *
+ * 상태 저장소(OtpStore, app.otp.store):
+ *  - jpa(기본): email_otp 테이블. 발급은 이 서비스의 TransactionTemplate(outbox 적재 포함)에 참여하고,
+ *    검증은 JpaOtpStore 안쪽의 TransactionTemplate이 경계다.
+ *    둘 다 otp 전용 커넥션 풀/트랜잭션 매니저(OtpDataSourceConfig)라 메인 풀 커넥션을 쓰지 않는다.
+ *  - memory: 프로세스 메모리(InMemoryOtpStore). DB 쓰기 없음, 단일 노드/sticky 라우팅 전용.
  */
 @Service
 @RequiredArgsConstructor
 public class SignupOtpService {
 
-    private static final OtpPurpose PURPOSE = OtpPurpose.SIGNUP;
+    /** OTP 발급을 이메일별로 줄 세우는 키 락 네임스페이스 */
+    private static final String OTP_LOCK = StripedKeyLock.SIGNUP_OTP;
 
-    private final EmailOtpRepository emailOtpRepository;
-    private final ApplicationEventPublisher eventPublisher; // 메일 발송을 "커밋 이후"로 보내기 위한 이벤트 발행자
+    private final OtpStore otpStore;
+    private final MailOutbox mailOutbox;
+    private final ApplicationEventPublisher eventPublisher; // 커밋 이후 outbox 디스패처를 깨우기 위한 이벤트 발행자
+    @Qualifier(OtpDataSourceConfig.OTP)
+    private final TransactionTemplate transactionTemplate; // otp 전용 풀의 트랜잭션 (email_otp + mail_outbox)
+    private final LockContention lockContention;
 
     private final OtpCodeGenerator otpCodeGenerator;
     private final OtpHasher otpHasher;
     private final OtpProperties props;
     private final Clock clock;
+    private final StripedKeyLock keyLock;
+    private final SignupTicketCodec ticketCodec;
 
-    @Transactional
     public void requestSignupOtp(String rawEmail) {
         String email = normalizeKyonggiEmail(rawEmail); // @DisplayName("request: kyonggi 도메인 아니면 → 400 EMAIL_DOMAIN_NOT_ALLOWED")
 
-        LocalDateTime now = LocalDateTime.now(clock);
-        LocalDate today = now.toLocalDate();
+        // 발급 확정(커밋)까지 키 락 안에서 끝난다 → 후속 더블클릭은 갱신된 쿨다운을 보고 429로 끝난다.
+        keyLock.runWithLock(OTP_LOCK, email, () -> issueLocked(email));
+    }
 
-        /**
-         * [동시성 정책 보장 메커니즘]
-         * 
-         * 1) row가 이미 존재할 때:
-         *  - findByEmailAndPurposeForUpdate(...): SELECT ... FOR UPDATE
-         *  - 같은 (email, purpose) 요청이 동시에 와도 1개의 트랜잭션만 진행하도 나머지는 대기함
-         *  - 쿨다운/일일제한/verified 같은 정책 체크가 "정확히" 적용된다.
-         * 
-         * 2) row가 없을 때(최초 요청)
-         *  - 잠금 row 자체가 없어서 둘이 동시에 INSERT 경쟁이 날 수 있다.
-         *  - 그래서 DB에 (email,purpose) UNIQUE 제약이 “최후의 단일 승자”를 만든다.
-         *  - 패자는 DataIntegrityViolationException을 받고, 다시 잠금 조회 후 동일 정책(validateReissuePolicy)을 적용한다.
-         */
-        EmailOtp otp = emailOtpRepository.findByEmailAndPurposeForUpdate(email, PURPOSE).orElse(null);
-        if (otp != null) {
-            // @DisplayName("request: 이미 verified + 미만료면 → 400 OTP_ALREADY_VERIFIED") 
-            // @DisplayName("request: daily-send-limit 초과 → 429 OTP_DAILY_LIMIT (기본 프로퍼티로)")
-            // @DisplayName("request: 연속 요청(쿨다운 내) → 429 OTP_COOLDOWN")
-            validateReissuePolicy(otp, now, today);
-        }
+    private void issueLocked(String email) {
+        LocalDateTime now = LocalDateTime.now(clock);
 
         String code = otpCodeGenerator.generate6Digits();
         String codeHash = otpHasher.hash(code);
 
         LocalDateTime expiresAt = now.plusMinutes(props.ttlMinutes());
-        LocalDateTime resendAvailableAt = now.plusSeconds(props.resendCooldownSeconds());
-
-        // EmailOtp 엔티티 생성
-        EmailOtp toSave = (otp == null)
-                ? EmailOtp.create(email, codeHash, PURPOSE, expiresAt, now, today, resendAvailableAt)
-                : reissueAndReturn(otp, codeHash, expiresAt, now, today, resendAvailableAt);
-
-        try {
-            // @DisplayName("request: 정상 → 2xx + 메일로 OTP 발송됨")
-            // @DisplayName("request: verified라도 만료된 후면 재발급 가능(2xx)")
-            emailOtpRepository.save(toSave);
-        } catch (DataIntegrityViolationException e) {
-            // 레이스로 누가 먼저 생성한 경우: 다시 잠금 조회 후 정책대로 처리/재발급
-            EmailOtp existing = emailOtpRepository.findByEmailAndPurposeForUpdate(email, PURPOSE)
-                    .orElseThrow(() -> e);
-
-            validateReissuePolicy(existing, now, today);
-            reissueAndReturn(existing, codeHash, expiresAt, now, today, resendAvailableAt);
-            emailOtpRepository.save(existing);
-        }
+        IssueCommand command = new IssueCommand(
+                email, codeHash, now,
+                expiresAt,
+                now.plusSeconds(props.resendCooldownSeconds()),
+                props.dailySendLimit());
 
         /**
-         * 메일은 트랜잭션 커밋 후, SignupMailSender가 처리한다.
-         * - @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+         * [동시성 정책 보장 메커니즘]
+         * - 정책 검사(쿨다운/일일제한/verified)와 발급은 OtpStore 안에서 키 단위로 원자적이다.
+         *   (JPA: INSERT ... ON DUPLICATE KEY UPDATE 조건식 / 메모리: Stripe 락 안의 전이)
+         *
+         * [발급 + 메일 outbox = 한 트랜잭션]
+         * - JpaOtpStore는 이 트랜잭션에 참여한다 → email_otp upsert와 mail_outbox INSERT가 함께 커밋된다.
+         *   (커밋된 발급은 메일이 반드시 시도되고, 롤백된 발급은 메일도 없다)
+         * - 요청 스레드는 SMTP를 기다리지 않는다. 커밋 이후 MailOutboxDispatcher 워커가 보낸다.
+         * - 메모리 저장소는 DB 트랜잭션에 묶이지 않는다 → outbox INSERT가 실패하면 발급만 남는다(쿨다운 후 재요청).
          */
-        eventPublisher.publishEvent(new SignupOtpIssuedEvent(email, code));
+        IssueResult result = lockContention.failFast(() -> transactionTemplate.execute(status -> {
+            IssueResult issued = otpStore.issue(command);
+            if (issued.outcome() == IssueOutcome.ISSUED) {
+                mailOutbox.enqueueSignupOtp(email, code, expiresAt);
+                eventPublisher.publishEvent(new SignupOtpIssuedEvent(email)); // 커밋 후 디스패처 깨우기
+            }
+            return issued;
+        }));
+
+        switch (result.outcome()) {
+            // @DisplayName("request: 이미 verified + 미만료면 → 400 OTP_ALREADY_VERIFIED")
+            case ALREADY_VERIFIED -> throw new ApiException(ErrorCode.OTP_ALREADY_VERIFIED);
+            // @DisplayName("request: daily-send-limit 초과 → 429 OTP_DAILY_LIMIT (기본 프로퍼티로)")
+            case DAILY_LIMIT -> throw new ApiException(ErrorCode.OTP_DAILY_LIMIT);
+            // @DisplayName("request: 연속 요청(쿨다운 내) → 429 OTP_COOLDOWN")
+            case COOLDOWN -> throw new ApiException(
+                    ErrorCode.OTP_COOLDOWN,
+                    ErrorCode.OTP_COOLDOWN.defaultMessage(),
+                    result.retryAfterSeconds(),
+                    null);
+            case ISSUED -> {
+                // @DisplayName("request: 정상 → 2xx + 메일로 OTP 발송됨")
+                // @DisplayName("request: verified라도 만료된 후면 재발급 가능(2xx)")
+            }
+        }
     }
 
-    @Transactional(noRollbackFor = OtpInvalidException.class)
-    public void verifySignupOtp(String rawEmail, String incomingCode) {
+    /**
+     * @return 가입 티켓 (SignupTicketCodec) — /auth/signup/complete 가 OTP 상태를 잠그거나 읽지 않고 검증 사실을 확인한다.
+     */
+    public String verifySignupOtp(String rawEmail, String incomingCode) {
         String email = normalizeKyonggiEmail(rawEmail);
-        LocalDateTime now = LocalDateTime.now(clock);
-
-        /**
-         * findByEmailAndPurposeForUpdate: PESSIMISTIC_WRITE 락 걸린 상태로 조회
-         * - 비관적 락: 다른 트랜잭션이 같은 행을 수정하지 못하게 막는다. 
-         * - 동시 검증 요청이 실패 횟수 누적을 뚫지 못하게 한다.
-         * 
-         * 영속성 컨텍스트에 올라온 엔티티이므로, 이후의 상태 변경은 "더티체킹"으로 커밋 시점에 DB에 반영된다.
-         * - verified 처리
-         * - 실패 횟수 증가
-         */
-        EmailOtp otpEntity = emailOtpRepository.findByEmailAndPurposeForUpdate(email, PURPOSE)
-                .orElseThrow(() -> new ApiException(ErrorCode.OTP_NOT_FOUND)); // @DisplayName("verify: 요청 이력 없으면 → 400 OTP_NOT_FOUND")
-
-         // 이미 검증 완료면 멱등 성공(실패 횟수 증가 없음)
-        if (otpEntity.isVerified()) { // @DisplayName("verify: 이미 verified면 멱등 성공(2xx) + 실패횟수 증가 없음")
-            return;
-        }
-
-        if (otpEntity.isExpired(now)) {
-            throw new ApiException(ErrorCode.OTP_EXPIRED); // @DisplayName("verify: 만료된 OTP → 400 OTP_EXPIRED")
-        }
-
-        if (otpEntity.getFailedAttempts() >= props.maxFailures()) {
-            throw new ApiException(ErrorCode.OTP_TOO_MANY_FAILURES); // @DisplayName("verify: 실패횟수 초과(>= maxFailures) → 400 OTP_TOO_MANY_FAILURES")
-        }
 
+        // DATETIME(6)에 저장되는 값 그대로(마이크로초) 티켓에 담아야 가입 완료 시 verified_at 비교가 맞는다.
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+        String incomingHash = (incomingCode == null || incomingCode.isBlank()) ? "" : otpHasher.hash(incomingCode); // "" = 어떤 해시와도 불일치
 
         /**
-         * 불일치 실패: 실패 횟수 +1 후 "OTP_INVALID": (noRollbackFor로 커밋 보장)
-         * - 정책상 실패 횟수를 반드시 남겨야 하므로 예외가 터져도 롤백하지 않는다.
+         * 불일치 실패는 "실패 횟수 +1이 확정된 뒤" OTP_INVALID로 응답해야 한다.
+         * - OtpStore.verify가 돌아왔을 때 실패 횟수는 이미 반영(커밋)되어 있다 → 여기서 예외를 던져도 롤백되지 않는다.
+         * - 키 락 없이 호출한다: 저장소의 전이가 원자적이므로 동시 시도끼리도 실패 횟수가 정확히 누적된다.
          */
-        if (!otpHasher.matches(incomingCode, otpEntity.getCodeHash())) { // @DisplayName("verify: 코드 불일치 → 400 OTP_INVALID + failedAttempts가 DB에 +1 커밋됨(noRollbackFor 검증)")
-            otpEntity.increaseFailure();    
-            throw new OtpInvalidException(); 
-        }
-
-        otpEntity.markVerified(now); // @DisplayName("verify: 정상 → 2xx + verified=true")
-    }
-
-
-    
-    private void validateReissuePolicy(EmailOtp otp, LocalDateTime now, LocalDate today) {
-        // 이미 검증 + 미만료면 재요청 금지
-        if (otp.isVerified() && !otp.isExpired(now)) {
-            throw new ApiException(ErrorCode.OTP_ALREADY_VERIFIED);
-        }
-
-        // 일일 제한: 날짜가 바뀌면 카운트는 0으로 취급
-        int currentCount = otp.getSendCountDate().equals(today) ? otp.getSendCount() : 0;
-        if (currentCount >= props.dailySendLimit()) {
-            throw new ApiException(ErrorCode.OTP_DAILY_LIMIT);
-        }
-
-        // 쿨다운
-        if (otp.getResendAvailableAt().isAfter(now)) {
-            long retry = Duration.between(now, otp.getResendAvailableAt()).getSeconds();
-            throw new ApiException(
-                    ErrorCode.OTP_COOLDOWN,
-                    ErrorCode.OTP_COOLDOWN.defaultMessage(),
-                    (int) Math.max(retry, 1),
-                    null
-            );
-        }
+        VerifyResult result = otpStore.verify(email, incomingHash, now, props.maxFailures());
+
+        return switch (result.outcome()) {
+            // @DisplayName("verify: 정상 → 2xx + verified=true")
+            // @DisplayName("verify: 이미 verified면 멱등 성공(2xx) + 실패횟수 증가 없음")
+            case VERIFIED -> ticketCodec.issue(email, result.verifiedAt());
+            // @DisplayName("verify: 코드 불일치 → 400 OTP_INVALID + failedAttempts가 DB에 +1 커밋됨(noRollbackFor 검증)")
+            case MISMATCH -> throw new ApiException(ErrorCode.OTP_INVALID);
+            // @DisplayName("verify: 요청 이력 없으면 → 400 OTP_NOT_FOUND")
+            case NOT_FOUND -> throw new ApiException(ErrorCode.OTP_NOT_FOUND);
+            // @DisplayName("verify: 만료된 OTP → 400 OTP_EXPIRED")
+            case EXPIRED -> throw new ApiException(ErrorCode.OTP_EXPIRED);
+            // @DisplayName("verify: 실패횟수 초과(>= maxFailures) → 400 OTP_TOO_MANY_FAILURES")
+            case TOO_MANY_FAILURES -> throw new ApiException(ErrorCode.OTP_TOO_MANY_FAILURES);
+        };
     }
 
-    private EmailOtp reissueAndReturn(
-            EmailOtp otpEntity,
-            String codeHash,
-            LocalDateTime expiresAt,
-            LocalDateTime now,
-            LocalDate today,
-            LocalDateTime resendAvailableAt) {
-        otpEntity.reissue(codeHash, expiresAt, now, today, resendAvailableAt);
-        return otpEntity;
-    }
-
-    private static class OtpInvalidException extends ApiException {
-        public OtpInvalidException() {
-            super(ErrorCode.OTP_INVALID);
-        }
+    /**
+     * 만료 OTP 정리 (가입 완료 경로에서 뺀 정리 작업)
+     * - 가입 완료는 조건부 소비만 한다. 소비되지 않고 버려진 OTP는 여기서 치운다.
+     * - 오늘 발송분은 일일 제한 카운터이므로 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${app.otp.cleanup-interval-seconds}", timeUnit = TimeUnit.SECONDS)
+    public void purgeStale() {
+        otpStore.purgeStale(LocalDateTime.now(clock));
     }
 
     private String normalizeKyonggiEmail(String rawEmail) {
@@ -5,19 +5,23 @@ import java.time.LocalDateTime;
 import java.util.regex.Pattern;  
 
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.kyonggi.backend.auth.domain.EmailOtp;
-import com.kyonggi.backend.auth.domain.OtpPurpose;
 import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.event.AuthEvent;
+import com.kyonggi.backend.auth.event.AuthEventBus;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore.OtpState;
 import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
 import com.kyonggi.backend.auth.identity.signup.support.SignupPatterns;
-import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+import com.kyonggi.backend.auth.identity.signup.support.SignupTicketCodec;
+import com.kyonggi.backend.auth.password.PasswordHasher;
 import com.kyonggi.backend.auth.repo.UserRepository;
 import com.kyonggi.backend.global.ApiException;
 import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.global.jpa.ConstraintViolations;
+import com.kyonggi.backend.global.overload.LockContention;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,17 +29,38 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SignupService {
 
-    private final EmailOtpRepository emailOtpRepository;
+    private final OtpStore otpStore;
     private final UserRepository userRepository;
 
     private final Clock clock;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate; // 해싱 이후의 짧은 쓰기 트랜잭션 경계
+    private final SignupTicketCodec ticketCodec;
+    private final LockContention lockContention;
+    private final AuthEventBus eventBus;
+
+    // V1__create_auth_tables.sql 의 UNIQUE KEY 이름
+    private static final String UQ_USERS_EMAIL = "uq_users_email";
+    private static final String UQ_USERS_NICKNAME = "uq_users_nickname";
 
     private static final Pattern PASSWORD_PATTERN = Pattern.compile(SignupPatterns.PASSWORD_REGEX);
     private static final Pattern NICKNAME_PATTERN = Pattern.compile(SignupPatterns.NICKNAME_REGEX);
 
-    @Transactional
-    public void completeSignup(String rawEmail, String rawPassword, String rawPasswordConfirm, String nickname) {
+    /**
+     * 트랜잭션 경계(의도적으로 메서드 전체에 @Transactional을 걸지 않는다):
+     * 1) 검증 사실 확인: 가입 티켓(서명/만료/이메일)을 메모리에서 확인 → OTP 행 조회/락 없음
+     *    (티켓 없이 온 요청만 OTP 행을 잠금 없이 한 번 읽는다 — 구 클라이언트 호환)
+     * 2) 해싱: passwordHasher.encode (~100ms, 커넥션/행 락을 물지 않음)
+     * 3) 쓰기: OTP 조건부 DELETE(1회 소비) → user insert 를 짧은 트랜잭션 하나로 묶는다.
+     *    이메일/닉네임 중복은 exists 선검사 없이 INSERT의 UNIQUE 위반(제약 이름)으로 판정한다.
+     *    (중복 요청은 드물다 → 드문 실패에 해싱 1회를 더 쓰고, 모든 성공 요청에서 조회 2회를 뺀다)
+     *
+     * → 이전에는 쓰기 단계에서 OTP 행을 FOR UPDATE로 다시 읽고 검증한 뒤 지웠다(락 + 조회 + 삭제).
+     *   이제는 OtpStore.consume 한 번이 검증과 소비를 겸한다.
+     *   (jpa: DELETE ... WHERE verified_at = 티켓값 AND expires_at > now / memory: 롤백 시 되살리는 조건부 제거)
+     */
+    public void completeSignup(String rawEmail, String rawPassword, String rawPasswordConfirm, String nickname,
+                               String signupTicket) {
         String email = normalizeKyonggiEmail(rawEmail); // @DisplayName("completeSignup: kyonggi 도메인 아니면 → 400 EMAIL_DOMAIN_NOT_ALLOWED")
         LocalDateTime now = LocalDateTime.now(clock);
 
@@ -47,17 +72,81 @@ public class SignupService {
         validatePassword(rawPassword, rawPasswordConfirm);
         String nick = normalizeAndValidateNickname(nickname);
 
-        /**
-         * @Lock(PESSIMISTIC_WRITE): 비관적 락
-         * - 동시에 두 트랜잭션이 같은 OTP 레코드를 사용하려 할 때,
-         *   먼저 락을 획득한 트랜잭션이 끝날 때까지 다른 트랜잭션이 대기하도록 함.
-         * 
-         * - OTP는 잠금 조회: 동시에 complete가 두 번 들어와도 정책이 흔들리지 않게 한다.
-         * - 해당 이메일이 OTP 레코드에 있는지 검사 -> 없으면 OTP 인증 필요
-         */
-        EmailOtp otp = emailOtpRepository.findByEmailAndPurposeForUpdate(email, OtpPurpose.SIGNUP) // @DisplayName("completeSignup: OTP 없으면 → 400 OTP_NOT_FOUND")
+        // 1) 검증 사실 확인: 어떤 검증(verified_at)을 소비할지 정한다.
+        LocalDateTime verifiedAt = (signupTicket == null || signupTicket.isBlank())
+                ? verifiedAtFromOtpRow(email, now)
+                : verifiedAtFromTicket(signupTicket, email, now);
+
+        // 2) 해싱 단계: 어떤 트랜잭션/커넥션도 잡지 않은 상태
+        String passwordHash = passwordHasher.encode(rawPassword);
+
+        // 3) 쓰기 단계: 행 락 선조회 없음. DELETE가 잡는 행 X 락은 이 짧은 트랜잭션 동안만 유지된다.
+        //    락 대기 타임아웃/데드락이면 429 LOCK_CONFLICT (OTP 소비는 멱등이 아니므로 재시도 없음)
+        User registered = lockContention.failFast(() -> transactionTemplate.execute(status -> {
+            /**
+             * 1회 소비: 동시에 complete가 두 번 들어와도 1을 받는 트랜잭션은 하나뿐이다.
+             * - 1)과 3) 사이에 OTP가 소비/재발급/만료됐으면 0 → 남은 행으로 이유를 판별한다.
+             * - 아래 user insert가 실패하면 롤백되어 OTP도 되살아난다(다시 시도 가능).
+             */
+            if (!otpStore.consume(email, verifiedAt, now)) {
+                throw notConsumable(email, verifiedAt, now);
+            }
+
+            try {
+                // @DisplayName("completeSignup: 정상 → 2xx + user 생성 + otp 삭제 (실제 OTP 플로우)")
+                return userRepository.save(User.create(email, passwordHash, nick));
+            } catch (DataIntegrityViolationException e) {
+                /**
+                 * 중복은 선검사하지 않고 DB UNIQUE 제약이 단독으로 판정한다. (성공 경로 왕복 = DELETE + INSERT)
+                 * - 어떤 제약에 걸렸는지는 예외가 이미 알고 있다(uq_users_email / uq_users_nickname) → 추가 조회 없음
+                 * - 정말 다른 무결성 문제면 그대로 예외를 던진다. throw e;
+                 */
+                if (ConstraintViolations.isViolated(e, UQ_USERS_EMAIL)) {
+                    throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS); // @DisplayName("completeSignup: 이메일 중복 → 400 EMAIL_ALREADY_EXISTS")
+                }
+                if (ConstraintViolations.isViolated(e, UQ_USERS_NICKNAME)) {
+                    throw new ApiException(ErrorCode.NICKNAME_ALREADY_EXISTS); // @DisplayName("completeSignup: 닉네임 중복 → 400 NICKNAME_ALREADY_EXISTS")
+                }
+                throw e;
+            }
+        }));
+
+        eventBus.publish(new AuthEvent.UserRegistered(registered.getId(), clock.instant())); // 커밋 이후
+    }
+
+    private LocalDateTime verifiedAtFromTicket(String signupTicket, String email, LocalDateTime now) {
+        SignupTicketCodec.Ticket ticket = ticketCodec.decode(signupTicket);
+
+        // 위조/손상되었거나 다른 이메일의 티켓 → 검증 사실 없음
+        if (ticket == null || !ticket.email().equals(email))
+            throw new ApiException(ErrorCode.OTP_NOT_VERIFIED);
+
+        if (ticket.isExpired(now))
+            throw new ApiException(ErrorCode.OTP_EXPIRED);
+
+        return ticket.verifiedAt();
+    }
+
+    private LocalDateTime verifiedAtFromOtpRow(String email, LocalDateTime now) {
+        OtpState snapshot = otpStore.find(email) // @DisplayName("completeSignup: OTP 없으면 → 400 OTP_NOT_FOUND")
                 .orElseThrow(() -> new ApiException(ErrorCode.OTP_NOT_FOUND));
+        ensureConsumable(snapshot, now);
+        return snapshot.verifiedAt();
+    }
+
+    // 조건부 소비가 실패했을 때만 상태를 읽어 실패 이유를 고른다. (성공 경로에는 없는 조회)
+    private ApiException notConsumable(String email, LocalDateTime verifiedAt, LocalDateTime now) {
+        OtpState otp = otpStore.find(email).orElse(null);
+        if (otp == null) {
+            return new ApiException(ErrorCode.OTP_NOT_FOUND); // 이미 소비됨(가입 완료) 또는 정리됨
+        }
+        if (!verifiedAt.equals(otp.verifiedAt())) {
+            return new ApiException(ErrorCode.OTP_NOT_VERIFIED); // 재발급되어 티켓의 검증이 무효
+        }
+        return new ApiException(ErrorCode.OTP_EXPIRED);
+    }
 
+    private void ensureConsumable(OtpState otp, LocalDateTime now) {
         // OTP 인증 미완료
         if (!otp.isVerified()) 
             throw new ApiException(ErrorCode.OTP_NOT_VERIFIED); // @DisplayName("completeSignup: OTP verified=false → 400 OTP_NOT_VERIFIED (request만 하고 verify는 안함)")
@@ -65,41 +154,8 @@ public class SignupService {
         // OTP 인증 만료, 재인증 필요 (EmailOtp: reissue)
         if (otp.isExpired(now)) 
             throw new ApiException(ErrorCode.OTP_EXPIRED); // @DisplayName("completeSignup: OTP 만료 → 400 OTP_EXPIRED (verify 후 Clock 이동)")
-        
-        
-        /// 중복 선검사 + 최종은 DB 제약으로 차단
-        if (userRepository.existsByEmail(email)) 
-            throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS); // @DisplayName("completeSignup: 이메일 중복 → 400 EMAIL_ALREADY_EXISTS")
-        
-        if (userRepository.existsByNickname(nick))
-            throw new ApiException(ErrorCode.NICKNAME_ALREADY_EXISTS); // @DisplayName("completeSignup: 닉네임 중복 → 400 NICKNAME_ALREADY_EXISTS")
-        
-
-        String passwordHash = passwordEncoder.encode(rawPassword);
-
-        try {
-            userRepository.save(User.create(email, passwordHash, nick));
-        } catch (DataIntegrityViolationException e) {
-            /**
-             * 레이스로 중복 가입 시도된 경우에도 DB 무결성 제약으로 최종 차단
-             * - 이메일/닉네임 둘 다 Unique 제약이 걸려 있으므로, (uq_users_email, uq_users_nickname)
-             *    어떤 제약에 걸렸는지 다시 조회하여 적절한 에러코드로 매핑한다.
-             * - 정말 다른 무결성 문제면 그대로 예외를 던진다. throw e;
-             */
-            if (userRepository.existsByEmail(email)) {
-                throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS);
-            }
-            if (userRepository.existsByNickname(nick)) {
-                throw new ApiException(ErrorCode.NICKNAME_ALREADY_EXISTS);
-            }
-            throw e;
-        }
-
-        // 재사용 방지: OTP 레코드 제거
-        emailOtpRepository.delete(otp); // @DisplayName("completeSignup: 정상 → 2xx + user 생성 + otp 삭제 (실제 OTP 플로우)")
     }
 
-
     private String normalizeKyonggiEmail(String rawEmail) {
         KyonggiEmailUtils.validateKyonggiDomain(rawEmail);
         return KyonggiEmailUtils.normalize(rawEmail);
@@ -0,0 +1,236 @@
+package com.kyonggi.backend.auth.identity.signup.store;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 프로세스 메모리 OTP 저장소 (app.otp.store=memory)
+ *
+ * 왜:
+ * - OTP는 10분짜리 상태인데 email_otp에 두면 발급/검증마다 행 락 + redo 로그 + 보조 인덱스 2개 갱신이 따라온다.
+ * - 단일 노드이거나 이메일 기준 sticky 라우팅이면 같은 이메일의 요청은 항상 같은 프로세스로 온다
+ *   → OTP 트래픽을 DB 쓰기 없이 처리할 수 있다.
+ *
+ * 구조:
+ * - stripes개의 Stripe(HashMap + ReentrantLock)로 키 공간을 나눈다. 한 키의 모든 전이는 그 Stripe 락 안에서 원자적이다.
+ *   (가상 스레드 모드에서도 캐리어를 고정하지 않도록 synchronized 대신 ReentrantLock)
+ * - 엔트리 정리는 OtpExpiryWheel(초 단위 타이머 휠)이 한다.
+ *   정리 시각 = max(OTP 만료, 마지막 발송일 다음 날 0시) → 일일 발송 제한 카운터가 만료 OTP와 함께 사라지지 않게 한다.
+ *
+ * 한계 (운영 선택 시 반드시 확인):
+ * - 레플리카 간 공유되지 않는다. 임의 라우팅 + 여러 레플리카에서는 쿨다운/일일 제한/실패 횟수가 레플리카별이 된다.
+ * - 재시작하면 진행 중인 OTP가 사라진다(사용자는 재발급하면 된다).
+ *
+ * 메트릭:
+ * - auth.otp.store.entries : 보관 중인 OTP 수
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.otp", name = "store", havingValue = "memory")
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final int STRIPES = 64;
+    private static final int WHEEL_SLOTS = 4096; // 초 단위 → 한 바퀴 약 68분
+
+    private final Clock clock;
+    private final Stripe[] stripes;
+    private final OtpExpiryWheel wheel;
+
+    public InMemoryOtpStore(Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.wheel = new OtpExpiryWheel(WHEEL_SLOTS, clock.instant().getEpochSecond());
+
+        Gauge.builder("auth.otp.store.entries", this, InMemoryOtpStore::size)
+                .description("Signup OTP entries held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public IssueResult issue(IssueCommand command) {
+        return withStripe(command.email(), map -> {
+            Entry entry = map.get(command.email());
+            if (entry != null) {
+                IssueResult rejection = OtpReissuePolicy.rejection(
+                        entry.verifiedAt, entry.expiresAt, entry.sendCountDate, entry.sendCount,
+                        entry.resendAvailableAt, command);
+                if (rejection != null) {
+                    return rejection;
+                }
+            } else {
+                entry = new Entry();
+                map.put(command.email(), entry);
+            }
+
+            int count = entry.sendCountDate == null ? 0
+                    : OtpReissuePolicy.dailyCount(entry.sendCountDate, entry.sendCount, command.today());
+            entry.codeHash = command.codeHash();
+            entry.expiresAt = command.expiresAt();
+            entry.verifiedAt = null;
+            entry.failedAttempts = 0;
+            entry.resendAvailableAt = command.resendAvailableAt();
+            entry.sendCountDate = command.today();
+            entry.sendCount = count + 1;
+            scheduleEviction(command.email(), entry);
+            return IssueResult.ISSUED;
+        });
+    }
+
+    @Override
+    public VerifyResult verify(String email, String codeHash, LocalDateTime now, int maxFailures) {
+        return withStripe(email, map -> {
+            Entry entry = map.get(email);
+            if (entry == null) {
+                return VerifyResult.of(VerifyOutcome.NOT_FOUND);
+            }
+            if (entry.verifiedAt != null) {
+                return VerifyResult.verified(entry.verifiedAt); // 멱등 성공
+            }
+            if (!entry.expiresAt.isAfter(now)) {
+                return VerifyResult.of(VerifyOutcome.EXPIRED);
+            }
+            if (entry.failedAttempts >= maxFailures) {
+                return VerifyResult.of(VerifyOutcome.TOO_MANY_FAILURES);
+            }
+            if (!MessageDigest.isEqual(
+                    codeHash.getBytes(StandardCharsets.UTF_8),
+                    entry.codeHash.getBytes(StandardCharsets.UTF_8))) {
+                entry.failedAttempts++;
+                return VerifyResult.of(VerifyOutcome.MISMATCH);
+            }
+            entry.verifiedAt = now;
+            return VerifyResult.verified(now);
+        });
+    }
+
+    @Override
+    public Optional<OtpState> find(String email) {
+        return withStripe(email, map -> Optional.ofNullable(map.get(email))
+                .map(entry -> new OtpState(entry.verifiedAt, entry.expiresAt)));
+    }
+
+    @Override
+    public boolean consume(String email, LocalDateTime verifiedAt, LocalDateTime now) {
+        Entry consumed = withStripe(email, map -> {
+            Entry entry = map.get(email);
+            if (entry == null || !verifiedAt.equals(entry.verifiedAt) || !entry.expiresAt.isAfter(now)) {
+                return null;
+            }
+            map.remove(email);
+            return entry;
+        });
+        if (consumed == null) {
+            return false;
+        }
+
+        // 호출자의 트랜잭션(user INSERT)이 롤백되면 소비를 되돌린다 → JPA 구현의 DELETE 롤백과 같은 의미
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        restore(email, consumed);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public void purgeStale(LocalDateTime now) {
+        tick();
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void tick() {
+        // 휠 모니터를 놓은 뒤에 Stripe 락을 잡는다 (OtpExpiryWheel 락 순서 참고)
+        for (OtpExpiryWheel.Timeout timeout : wheel.advance(clock.instant().getEpochSecond())) {
+            withStripe(timeout.key(), map -> {
+                Entry entry = map.get(timeout.key());
+                if (entry != null && entry.generation == timeout.generation()) {
+                    map.remove(timeout.key());
+                }
+                return null;
+            });
+        }
+    }
+
+    int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    private void restore(String email, Entry entry) {
+        withStripe(email, map -> {
+            if (map.putIfAbsent(email, entry) == null) {
+                scheduleEviction(email, entry); // 소비 중에 지난 예약이 처리됐을 수 있으므로 새로 건다
+            }
+            return null;
+        });
+    }
+
+    // Stripe 락 안에서 호출된다.
+    private void scheduleEviction(String email, Entry entry) {
+        LocalDateTime nextDay = entry.sendCountDate.plusDays(1).atStartOfDay();
+        LocalDateTime evictAt = entry.expiresAt.isAfter(nextDay) ? entry.expiresAt : nextDay;
+        entry.generation++;
+        wheel.schedule(email, evictAt.atZone(clock.getZone()).toEpochSecond(), entry.generation);
+    }
+
+    private <T> T withStripe(String email, Function<Map<String, Entry>, T> action) {
+        int h = email.hashCode();
+        Stripe stripe = stripes[(h ^ (h >>> 16)) & (STRIPES - 1)]; // HashMap.spread와 같은 하위 비트 보정
+        stripe.lock.lock();
+        try {
+            return action.apply(stripe.entries);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Entry> entries = new HashMap<>();
+    }
+
+    // email_otp 행과 같은 상태 (id/purpose 제외)
+    private static final class Entry {
+        private String codeHash;
+        private LocalDateTime expiresAt;
+        private LocalDateTime verifiedAt;
+        private int failedAttempts;
+        private LocalDateTime resendAvailableAt;
+        private LocalDate sendCountDate;
+        private int sendCount;
+        private long generation; // 휠 예약 세대 (재발급마다 증가 → 이전 예약 무효)
+    }
+}
@@ -0,0 +1,145 @@
+package com.kyonggi.backend.auth.identity.signup.store;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.config.OtpDataSourceConfig;
+import com.kyonggi.backend.auth.domain.EmailOtp;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+import com.kyonggi.backend.auth.repo.EmailOtpConsumptionRepository;
+import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+import com.kyonggi.backend.global.jpa.TimeOrderedIds;
+import com.kyonggi.backend.global.overload.LockContention;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * email_otp 테이블 기반 OTP 저장소 (기본)
+ *
+ * - 발급: INSERT ... ON DUPLICATE KEY UPDATE 한 문장 (EmailOtpRepository.upsertIssue)
+ * - 검증: 조건부 UPDATE 2개 (markVerifiedIfMatches / increaseFailureIfMismatch), 영향 행 수가 결과
+ * - 소비: 조건부 DELETE 한 문장 (deleteIfConsumable) — 호출자의 트랜잭션에 참여
+ * - 어느 경로도 SELECT ... FOR UPDATE 선조회를 하지 않는다.
+ *
+ * 커넥션 풀 (OtpDataSourceConfig):
+ * - 발급/검증/조회/정리: otp 전용 풀 + otp 트랜잭션 매니저 → OTP 폭주가 메인 풀을 잠식하지 않는다.
+ * - 소비: 메인 풀 (EmailOtpConsumptionRepository) → 가입 완료의 users INSERT와 같은 트랜잭션
+ *   (소비 실패 후 이유 판별용 find는 메인 커넥션을 쥔 채 otp 풀에서 읽는다. 반대 순서로 잡는 경로는 없다 → 풀 간 교착 없음)
+ *
+ * 행 락 충돌(락 대기 타임아웃/데드락):
+ * - 발급은 멱등이 아니므로 즉시 429 LOCK_CONFLICT (LockContention.failFast)
+ * - 검증은 실패한 시도가 통째로 롤백되므로(실패 횟수 포함) 지터 재시도 (LockContention.retryIdempotent)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.otp", name = "store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaOtpStore implements OtpStore {
+
+    private static final OtpPurpose PURPOSE = OtpPurpose.SIGNUP;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final EmailOtpRepository emailOtpRepository;
+    private final EmailOtpConsumptionRepository emailOtpConsumptionRepository;
+    @Qualifier(OtpDataSourceConfig.OTP)
+    private final TransactionTemplate transactionTemplate;
+    private final LockContention lockContention;
+
+    @Override
+    public IssueResult issue(IssueCommand command) {
+        return lockContention.failFast(() -> transactionTemplate.execute(status -> issueInTransaction(command)));
+    }
+
+    private IssueResult issueInTransaction(IssueCommand command) {
+        long newId = TimeOrderedIds.next();
+
+        /**
+         * 행이 없으면 INSERT, 있으면 쿨다운/일일제한/verified 조건을 만족할 때만 재발급 값으로 갱신한다.
+         * - 최초 생성 레이스도 (email, purpose) UNIQUE 키 위에서 DB가 직접 upsert로 해소한다 → 예외 경로 없음.
+         * 왕복: 재발급 성공 1회 / 최초 발급·정책 위반 2회(결과 판별용 일반 SELECT)
+         */
+        int affected = emailOtpRepository.upsertIssue(
+                newId, command.email(), PURPOSE.name(), command.codeHash(),
+                command.expiresAt(), command.now(), command.resendAvailableAt(), command.today(),
+                command.dailySendLimit());
+
+        if (affected == 2) {
+            return IssueResult.ISSUED;
+        }
+
+        // 1 = 새 행 INSERT(id가 우리 것) 또는 정책 위반으로 변경 없음 → 남아 있는 행 상태로 이유를 돌려준다.
+        EmailOtp current = emailOtpRepository.findByEmailAndPurpose(command.email(), PURPOSE)
+                .orElseThrow(() -> new IllegalStateException("email_otp row missing after upsert"));
+        if (current.getId() == newId) {
+            return IssueResult.ISSUED;
+        }
+
+        IssueResult rejection = OtpReissuePolicy.rejection(
+                current.getVerifiedAt(), current.getExpiresAt(),
+                current.getSendCountDate(), current.getSendCount(),
+                current.getResendAvailableAt(), command);
+        if (rejection == null) {
+            throw new IllegalStateException("OTP upsert skipped without a policy violation");
+        }
+        return rejection;
+    }
+
+    @Override
+    public VerifyResult verify(String email, String codeHash, LocalDateTime now, int maxFailures) {
+        return lockContention.retryIdempotent(() -> transactionTemplate.execute(
+                status -> verifyInTransaction(email, codeHash, now, maxFailures)));
+    }
+
+    private VerifyResult verifyInTransaction(String email, String codeHash, LocalDateTime now, int maxFailures) {
+        // 1) 일치 + 미검증 + 미만료 + 실패 여유 → verified
+        if (emailOtpRepository.markVerifiedIfMatches(email, PURPOSE, codeHash, now, maxFailures) == 1) {
+            return VerifyResult.verified(now);
+        }
+
+        // 2) 불일치 + 미검증 + 미만료 + 실패 여유 → failed_attempts + 1 (커밋된 뒤 호출자가 OTP_INVALID)
+        if (emailOtpRepository.increaseFailureIfMismatch(email, PURPOSE, codeHash, now, maxFailures) == 1) {
+            return VerifyResult.of(VerifyOutcome.MISMATCH);
+        }
+
+        // 3) 둘 다 0 → 행을 일반 조회해 이유를 판별
+        EmailOtp otp = emailOtpRepository.findByEmailAndPurpose(email, PURPOSE).orElse(null);
+        if (otp == null) {
+            return VerifyResult.of(VerifyOutcome.NOT_FOUND);
+        }
+        if (otp.isVerified()) {
+            return VerifyResult.verified(otp.getVerifiedAt()); // 멱등 성공: 같은 검증을 다시 돌려준다
+        }
+        if (otp.isExpired(now)) {
+            return VerifyResult.of(VerifyOutcome.EXPIRED);
+        }
+        if (otp.getFailedAttempts() >= maxFailures) {
+            return VerifyResult.of(VerifyOutcome.TOO_MANY_FAILURES);
+        }
+        // 두 UPDATE 사이에 재발급 등으로 행이 바뀐 경우: 실패로 세지 않고 불일치로만 응답한다.
+        return VerifyResult.of(VerifyOutcome.MISMATCH);
+    }
+
+    @Override
+    public Optional<OtpState> find(String email) {
+        return emailOtpRepository.findByEmailAndPurpose(email, PURPOSE)
+                .map(otp -> new OtpState(otp.getVerifiedAt(), otp.getExpiresAt()));
+    }
+
+    @Override
+    public boolean consume(String email, LocalDateTime verifiedAt, LocalDateTime now) {
+        return emailOtpConsumptionRepository.deleteIfConsumable(email, PURPOSE, verifiedAt, now) == 1;
+    }
+
+    @Override
+    public void purgeStale(LocalDateTime now) {
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(
+                    status -> emailOtpRepository.deleteStale(now, now.toLocalDate(), PURGE_BATCH_SIZE));
+        } while (deleted != null && deleted == PURGE_BATCH_SIZE);
+    }
+}
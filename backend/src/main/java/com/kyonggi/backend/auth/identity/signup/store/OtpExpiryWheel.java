@@ -0,0 +1,86 @@
+package com.kyonggi.backend.auth.identity.signup.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 초 단위 해시 타이머 휠 (InMemoryOtpStore 만료 정리용)
+ *
+ * - slots개의 버킷을 deadline(epoch second) & mask 로 고른다. 등록/취소가 O(1)이다.
+ *   (만료 시각 순 정렬 구조(PriorityQueue 등)는 등록마다 O(log n) + 전역 락이 필요하다)
+ * - 취소는 하지 않는다. 대신 호출자가 세대(generation)를 비교해 지난 예약을 무시한다.
+ * - 휠 한 바퀴(slots초)보다 먼 deadline은 버킷을 지날 때마다 다시 넣어 다음 바퀴에 본다.
+ *
+ * 락 순서 (InMemoryOtpStore와의 교착 방지):
+ * - schedule은 Stripe 락 안에서 불린다 → 휠 모니터를 잡지 않는다(cursorSecond는 volatile 읽기).
+ * - advance는 모니터 안에서 만료 예약을 모으기만 하고 돌려준다. 호출자가 모니터 밖에서 Stripe 락을 잡고 처리한다.
+ *   (모니터 안에서 콜백으로 Stripe 락을 잡으면 issue(Stripe 락 → 모니터)와 tick(모니터 → Stripe 락)이 교착된다)
+ * - advance는 버킷을 비우기 전에 커서를 먼저 옮긴다. schedule은 넣은 뒤 커서를 다시 읽어
+ *   그 버킷이 이미 지나갔을 수 있으면 다음 버킷에 한 번 더 넣는다(한 바퀴 늦게 처리되는 것 방지).
+ *   같은 예약이 두 번 처리될 수 있지만 호출자가 세대를 비교하므로 무해하다.
+ */
+final class OtpExpiryWheel {
+
+    record Timeout(String key, long deadlineSecond, long generation) {}
+
+    private final Queue<Timeout>[] slots;
+    private final int mask;
+    private volatile long cursorSecond; // 처리했거나 처리 중인 마지막 초 (쓰기는 advance 모니터 안에서만)
+
+    @SuppressWarnings("unchecked")
+    OtpExpiryWheel(int slotCount, long startSecond) {
+        int n = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.slots = new Queue[n];
+        for (int i = 0; i < n; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.mask = n - 1;
+        this.cursorSecond = startSecond;
+    }
+
+    void schedule(String key, long deadlineSecond, long generation) {
+        // 이미 지나간 버킷에 넣으면 한 바퀴 뒤에야 보이므로 다음 처리 버킷으로 당긴다.
+        Timeout timeout = new Timeout(key, deadlineSecond, generation);
+        long slotSecond = Math.max(deadlineSecond, cursorSecond + 1);
+        while (true) {
+            slots[(int) (slotSecond & mask)].add(timeout);
+            long cursor = cursorSecond;
+            if (cursor < slotSecond) {
+                return; // 아직 처리 전인 버킷
+            }
+            slotSecond = cursor + 1; // 넣는 사이 advance가 지나갔을 수 있다
+        }
+    }
+
+    /**
+     * (cursor, nowSecond] 구간의 버킷을 돌며 만료된 예약을 모아 돌려준다. 처리는 호출자가 모니터 밖에서 한다.
+     * - 시계가 한 바퀴 이상 건너뛰면 모든 버킷을 한 번씩만 본다.
+     */
+    synchronized List<Timeout> advance(long nowSecond) {
+        if (nowSecond <= cursorSecond) {
+            return List.of();
+        }
+        long from = cursorSecond;
+        cursorSecond = nowSecond; // 버킷을 비우기 전에 옮긴다 (schedule의 재확인 기준)
+
+        List<Timeout> due = new ArrayList<>();
+        long steps = Math.min(nowSecond - from, slots.length);
+        for (long s = 1; s <= steps; s++) {
+            Queue<Timeout> slot = slots[(int) ((from + s) & mask)];
+            for (int i = slot.size(); i > 0; i--) {
+                Timeout timeout = slot.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.deadlineSecond() <= nowSecond) {
+                    due.add(timeout);
+                } else {
+                    slot.add(timeout); // 다음 바퀴
+                }
+            }
+        }
+        return due;
+    }
+}
@@ -0,0 +1,48 @@
+package com.kyonggi.backend.auth.identity.signup.store;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore.IssueCommand;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore.IssueOutcome;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore.IssueResult;
+
+/**
+ * 재발급 정책 (구현 공통)
+ * - 검사 순서: verified 미만료 → 일일 제한 → 쿨다운 (EmailOtpRepository.upsertIssue 조건식과 같은 정책)
+ */
+final class OtpReissuePolicy {
+
+    private OtpReissuePolicy() {}
+
+    /**
+     * @return 재발급이 막히면 그 이유, 허용이면 null
+     */
+    static IssueResult rejection(LocalDateTime verifiedAt, LocalDateTime expiresAt,
+                                 LocalDate sendCountDate, int sendCount,
+                                 LocalDateTime resendAvailableAt, IssueCommand command) {
+        LocalDateTime now = command.now();
+
+        // 이미 검증 + 미만료면 재요청 금지
+        if (verifiedAt != null && expiresAt.isAfter(now)) {
+            return new IssueResult(IssueOutcome.ALREADY_VERIFIED, 0);
+        }
+
+        // 일일 제한: 날짜가 바뀌면 카운트는 0으로 취급
+        if (dailyCount(sendCountDate, sendCount, command.today()) >= command.dailySendLimit()) {
+            return new IssueResult(IssueOutcome.DAILY_LIMIT, 0);
+        }
+
+        // 쿨다운
+        if (resendAvailableAt.isAfter(now)) {
+            long retry = Duration.between(now, resendAvailableAt).getSeconds();
+            return new IssueResult(IssueOutcome.COOLDOWN, (int) Math.max(retry, 1));
+        }
+        return null;
+    }
+
+    static int dailyCount(LocalDate sendCountDate, int sendCount, LocalDate today) {
+        return sendCountDate.equals(today) ? sendCount : 0;
+    }
+}
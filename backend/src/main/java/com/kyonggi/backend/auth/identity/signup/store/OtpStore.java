@@ -0,0 +1,79 @@
+package com.kyonggi.backend.auth.identity.signup.store;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 회원가입 OTP 상태 저장소 (SignupOtpService / SignupService 뒤의 교체 지점)
+ *
+ * 구현:
+ * - JpaOtpStore      (app.otp.store=jpa, 기본): email_otp 테이블. 레플리카 여러 개 + 임의 라우팅에서도 정확하다.
+ * - InMemoryOtpStore (app.otp.store=memory)  : 프로세스 메모리. DB 쓰기 0. 단일 노드 또는 이메일 기준 sticky 라우팅 전용.
+ *
+ * 계약:
+ * - 모든 상태 전이(발급/검증/소비)는 키(email) 단위로 원자적이다. 정책 판단도 전이와 같은 원자 구간에서 한다.
+ * - verify는 결과를 돌려줄 때 이미 "확정"되어 있다(JPA는 커밋 후). 호출자는 결과를 보고 예외를 결정한다.
+ * - issue는 호출자의 트랜잭션이 있으면 참여한다(JPA) → 같은 커밋으로 mail_outbox를 적재할 수 있다.
+ * - consume은 호출자의 트랜잭션에 참여한다. 트랜잭션이 롤백되면 소비도 되돌려진다.
+ */
+public interface OtpStore {
+
+    IssueResult issue(IssueCommand command);
+
+    VerifyResult verify(String email, String codeHash, LocalDateTime now, int maxFailures);
+
+    Optional<OtpState> find(String email);
+
+    /**
+     * 가입 완료 시 1회 소비: verifiedAt이 일치하고 미만료일 때만 제거한다.
+     * @return true = 이번 호출이 소비함
+     */
+    boolean consume(String email, LocalDateTime verifiedAt, LocalDateTime now);
+
+    /** 만료 + 어제 이전 발송분 정리 (오늘 발송분은 일일 제한 카운터라 남긴다) */
+    void purgeStale(LocalDateTime now);
+
+    record IssueCommand(
+            String email,
+            String codeHash,
+            LocalDateTime now,
+            LocalDateTime expiresAt,
+            LocalDateTime resendAvailableAt,
+            int dailySendLimit
+    ) {
+        public LocalDate today() {
+            return now.toLocalDate();
+        }
+    }
+
+    enum IssueOutcome { ISSUED, ALREADY_VERIFIED, DAILY_LIMIT, COOLDOWN }
+
+    /** retryAfterSeconds는 COOLDOWN일 때만 의미가 있다. */
+    record IssueResult(IssueOutcome outcome, int retryAfterSeconds) {
+        public static final IssueResult ISSUED = new IssueResult(IssueOutcome.ISSUED, 0);
+    }
+
+    enum VerifyOutcome { VERIFIED, MISMATCH, NOT_FOUND, EXPIRED, TOO_MANY_FAILURES }
+
+    /** verifiedAt은 VERIFIED일 때만 채워진다 (가입 티켓에 담기는 값). */
+    record VerifyResult(VerifyOutcome outcome, LocalDateTime verifiedAt) {
+        public static VerifyResult verified(LocalDateTime verifiedAt) {
+            return new VerifyResult(VerifyOutcome.VERIFIED, verifiedAt);
+        }
+
+        public static VerifyResult of(VerifyOutcome outcome) {
+            return new VerifyResult(outcome, null);
+        }
+    }
+
+    record OtpState(LocalDateTime verifiedAt, LocalDateTime expiresAt) {
+        public boolean isVerified() {
+            return verifiedAt != null;
+        }
+
+        public boolean isExpired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
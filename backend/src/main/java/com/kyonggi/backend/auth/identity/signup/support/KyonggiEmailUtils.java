@@ -11,6 +11,17 @@ public class KyonggiEmailUtils {
     public static String normalize(String email) {
         return email == null ? null : email.trim().toLowerCase();
     }
+
+    // 운영 화면/로그 노출용: 로컬 파트 앞 2글자만 남긴다 (ab****@kyonggi.ac.kr)
+    public static String mask(String email) {
+        if (email == null) return null;
+
+        int at = email.indexOf('@');
+        if (at < 0) return "***";
+        if (at <= 2) return "**" + email.substring(at);
+        return email.substring(0, 2) + "*".repeat(at - 2) + email.substring(at);
+    }
+
     /**
      * 경기대 이메일 도메인 검증
      * - 비즈니스 규칙: @kyonggi.ac.kr 이메일만 가입 가능
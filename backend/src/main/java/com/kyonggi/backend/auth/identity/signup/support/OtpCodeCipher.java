@@ -0,0 +1,77 @@
+package com.kyonggi.backend.auth.identity.signup.support;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * OTP 원문 봉인 (mail_outbox.payload 전용)
+ *
+ * 문제:
+ * - 메일 outbox는 "보낼 메일"을 DB에 남겨야 한다. 그런데 OTP 원문은 DB에 저장하지 않는다는 게 이 모듈의 불변 조건이다.
+ *
+ * 정책:
+ * - AES-256-GCM으로 봉인한 값만 저장한다. 형식: base64url(iv(12) || ciphertext+tag)
+ * - 키 = HMAC-SHA256(app.otp.hmac-secret, "mail-outbox-key:v1") → OTP 해시/티켓 서명과 키 공간이 분리된다.
+ * - 수신자 이메일을 AAD로 묶는다 → 다른 행의 payload를 복사해 다른 수신자에게 보내게 만들 수 없다.
+ */
+@Component
+public class OtpCodeCipher {
+
+    private static final String DOMAIN = "mail-outbox-key";
+    private static final String KEY_VERSION = "v1";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final SecureRandom secureRandom;
+
+    public OtpCodeCipher(OtpHasher otpHasher, SecureRandom secureRandom) {
+        this.key = new SecretKeySpec(HexFormat.of().parseHex(otpHasher.sign(DOMAIN, KEY_VERSION)), "AES");
+        this.secureRandom = secureRandom;
+    }
+
+    public String seal(String recipient, String code) {
+        byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(recipient.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(code.getBytes(StandardCharsets.UTF_8));
+            return ENCODER.encodeToString(ByteBuffer.allocate(IV_LENGTH + sealed.length).put(iv).put(sealed).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to seal OTP code", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 손상/위조되었거나 다른 수신자의 값 (재시도해도 같은 결과 → 영구 실패)
+     */
+    public String open(String recipient, String sealed) {
+        try {
+            byte[] raw = DECODER.decode(sealed);
+            if (raw.length <= IV_LENGTH) {
+                throw new IllegalArgumentException("sealed OTP payload too short");
+            }
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, raw, 0, IV_LENGTH));
+            cipher.updateAAD(recipient.getBytes(StandardCharsets.UTF_8));
+            return new String(cipher.doFinal(raw, IV_LENGTH, raw.length - IV_LENGTH), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("sealed OTP payload rejected", e);
+        }
+    }
+}
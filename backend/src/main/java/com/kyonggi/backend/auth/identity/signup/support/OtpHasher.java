@@ -37,6 +37,24 @@ public class OtpHasher {
         );
     }
 
+    /**
+     * 같은 비밀키로 임의 payload에 서명한다. (SignupTicketCodec)
+     * - domain 접두사로 OTP 코드 해시와 서명 공간을 분리한다 → OTP 해시를 티켓 서명으로 재사용할 수 없다.
+     */
+    public String sign(String domain, String payload) {
+        return hmacSha256Hex(props.hmacSecret(), domain + ":" + payload);
+    }
+
+    public boolean signatureMatches(String domain, String payload, String signature) {
+        if (payload == null || signature == null || signature.isBlank()) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(domain, payload).getBytes(StandardCharsets.UTF_8),
+                signature.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
     private static String hmacSha256Hex(String secret, String data) {
         try {
             Mac mac = Mac.getInstance("HmacSHA256");
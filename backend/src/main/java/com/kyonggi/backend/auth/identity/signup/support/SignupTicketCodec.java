@@ -0,0 +1,87 @@
+package com.kyonggi.backend.auth.identity.signup.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.OtpProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가입 티켓 (OTP 검증 성공 → 가입 완료까지의 무상태 증명)
+ *
+ * 형식: base64url(email|verifiedAt|expiresAt) + "." + HMAC-SHA256(hex)
+ * - 서명 키는 OTP 해시와 같은 app.otp.hmac-secret (OtpHasher.sign, domain="signup-ticket")
+ * - verifiedAt은 email_otp.verified_at과 같은 값(마이크로초) → 가입 완료 시 "그 검증" 행만 지울 수 있다.
+ *   (재발급/재검증되면 verified_at이 바뀌므로 이전 티켓은 자동으로 무효)
+ *
+ * 티켓은 "검증을 마쳤다"는 사실만 증명한다. 1회 사용은 DB의 조건부 DELETE가 보장한다. (SignupService)
+ */
+@Component
+@RequiredArgsConstructor
+public class SignupTicketCodec {
+
+    private static final String DOMAIN = "signup-ticket";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final OtpHasher otpHasher;
+    private final OtpProperties props;
+
+    public record Ticket(String email, LocalDateTime verifiedAt, LocalDateTime expiresAt) {
+
+        public boolean isExpired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+
+    public String issue(String email, LocalDateTime verifiedAt) {
+        LocalDateTime expiresAt = verifiedAt.plusSeconds(props.ticketTtlSeconds());
+        String payload = email + "|" + verifiedAt + "|" + expiresAt;
+        return ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + otpHasher.sign(DOMAIN, payload);
+    }
+
+    /**
+     * 서명이 맞고 형식이 올바르면 티켓 내용을 돌려준다. (만료/이메일 일치 판단은 호출자)
+     * @return 위조/손상된 티켓이면 null
+     */
+    public Ticket decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+
+        String payload;
+        try {
+            payload = new String(DECODER.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!otpHasher.signatureMatches(DOMAIN, payload, token.substring(dot + 1))) {
+            return null;
+        }
+
+        // 이메일 local-part에 '|'가 올 수 있으므로 뒤에서부터 자른다.
+        int second = payload.lastIndexOf('|');
+        int first = second > 0 ? payload.lastIndexOf('|', second - 1) : -1;
+        if (first <= 0) {
+            return null;
+        }
+        try {
+            return new Ticket(
+                    payload.substring(0, first),
+                    LocalDateTime.parse(payload.substring(first + 1, second)),
+                    LocalDateTime.parse(payload.substring(second + 1)));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
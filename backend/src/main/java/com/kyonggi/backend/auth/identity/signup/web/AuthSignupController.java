@@ -7,12 +7,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kyonggi.backend.auth.guard.AuthRateLimiter;
+import com.kyonggi.backend.auth.guard.HeavyHitterTracker;
 import com.kyonggi.backend.auth.identity.signup.dto.SignupCompleteRequest;
 import com.kyonggi.backend.auth.identity.signup.dto.SignupOtpRequest;
 import com.kyonggi.backend.auth.identity.signup.dto.SignupOtpVerifyRequest;
+import com.kyonggi.backend.auth.identity.signup.dto.SignupOtpVerifyResponse;
 import com.kyonggi.backend.auth.identity.signup.service.SignupOtpService;
 import com.kyonggi.backend.auth.identity.signup.service.SignupService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -28,19 +32,24 @@ public class AuthSignupController {
 
     private final SignupOtpService otpService;
     private final SignupService signupService;
+    private final AuthRateLimiter rateLimiter;
+    private final HeavyHitterTracker heavyHitters;
 
     // OTP 발급 요청: 204 No Content
     @PostMapping("/otp/request")
-    public ResponseEntity<Void> requestOtp(@RequestBody @Valid SignupOtpRequest req) {
+    public ResponseEntity<Void> requestOtp(@RequestBody @Valid SignupOtpRequest req, HttpServletRequest request) {
+        heavyHitters.observeOtp(request.getRemoteAddr(), req.email());
+        rateLimiter.checkOtpRequest(request.getRemoteAddr(), req.email()); // DB 쿨다운(행 락) 이전의 1차 방어
         otpService.requestSignupOtp(req.email());
         return ResponseEntity.noContent().build();
     }
 
-    // OTP 검증: 204 No Content
+    // OTP 검증: 200 OK + 가입 티켓
     @PostMapping("/otp/verify")
-    public ResponseEntity<Void> verifyOtp(@RequestBody @Valid SignupOtpVerifyRequest req) {
-        otpService.verifySignupOtp(req.email(), req.code());
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<SignupOtpVerifyResponse> verifyOtp(@RequestBody @Valid SignupOtpVerifyRequest req, HttpServletRequest request) {
+        heavyHitters.observeOtp(request.getRemoteAddr(), req.email()); // OTP 추측(brute force) 관찰
+        String ticket = otpService.verifySignupOtp(req.email(), req.code());
+        return ResponseEntity.ok(new SignupOtpVerifyResponse(ticket));
     }
 
     // 회원가입 완료: 201 Created
@@ -50,7 +59,8 @@ public class AuthSignupController {
             req.email(), 
             req.password(), 
             req.passwordConfirm(), 
-            req.nickname()
+            req.nickname(),
+            req.signupTicket()
         ); 
         return ResponseEntity.status(201).build();
     }
@@ -0,0 +1,42 @@
+package com.kyonggi.backend.auth.mail;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.domain.OutboxMail;
+import com.kyonggi.backend.auth.domain.OutboxMailKind;
+import com.kyonggi.backend.auth.identity.signup.support.OtpCodeCipher;
+import com.kyonggi.backend.auth.repo.OutboxMailRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메일 outbox 적재 (트랜잭션 쪽 입구)
+ *
+ * - 반드시 업무 트랜잭션 안에서 호출한다 → 업무 변경과 "보낼 메일"이 함께 커밋되거나 함께 롤백된다.
+ *   mail_outbox는 otp 전용 풀(OtpDataSourceConfig)에 있다 → 업무 트랜잭션도 otp 트랜잭션 매니저로 연다. (OTP 발급: SignupOtpService)
+ * - 여기서는 INSERT만 한다(SMTP 없음). 발송은 MailOutboxDispatcher가 커밋 이후 비동기로 한다.
+ *   (같은 노드의 커밋 직후 깨우기는 SignupOtpMailEventListener → MailOutboxDispatcher.wakeUp)
+ */
+@Component
+@RequiredArgsConstructor
+public class MailOutbox {
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final OtpCodeCipher codeCipher;
+    private final Clock clock;
+
+    /**
+     * @param expiresAt OTP 만료 시각 — 이 시각까지 못 보냈으면 보내지 않는다(받아도 쓸 수 없는 코드)
+     */
+    public void enqueueSignupOtp(String email, String code, LocalDateTime expiresAt) {
+        outboxMailRepository.save(OutboxMail.pending(
+                OutboxMailKind.SIGNUP_OTP,
+                email,
+                codeCipher.seal(email, code),
+                expiresAt,
+                LocalDateTime.now(clock)));
+    }
+}
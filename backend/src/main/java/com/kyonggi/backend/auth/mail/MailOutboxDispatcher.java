@@ -0,0 +1,340 @@
+package com.kyonggi.backend.auth.mail;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.config.AppMailProperties;
+import com.kyonggi.backend.auth.config.OtpDataSourceConfig;
+import com.kyonggi.backend.auth.domain.OutboxMail;
+import com.kyonggi.backend.auth.domain.OutboxMailStatus;
+import com.kyonggi.backend.auth.identity.signup.service.SignupMailSender;
+import com.kyonggi.backend.auth.identity.signup.support.OtpCodeCipher;
+import com.kyonggi.backend.auth.repo.OutboxMailRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 outbox 디스패처 (mail_outbox → SMTP)
+ *
+ * 문제:
+ * - 예전에는 AFTER_COMMIT 리스너가 요청 스레드에서 SMTP 대화를 끝까지 기다렸다. (최대 타임아웃 5s × 3)
+ *   → OTP 요청 지연 = SMTP 지연, 발송 실패는 로그만 남고 사라졌다.
+ *
+ * 동작:
+ * - workers개의 전용 플랫폼 스레드가 각자 루프를 돈다:
+ *   1) 짧은 트랜잭션: SELECT ... FOR UPDATE SKIP LOCKED 로 batchSize개를 잠그고 claimed_until(임대)을 찍고 커밋
+ *   2) 트랜잭션 밖: 한 통씩 SMTP 발송 (행 락/커넥션을 쥐지 않는다)
+ *   3) 결과 반영: 한 통 끝날 때마다 바로 — 성공은 DELETE, 실패는 재시도 예약 또는 DEAD
+ * - 임대 덕분에 레플리카 여러 개가 같은 테이블을 동시에 비워도 한 메일을 두 번 가져가지 않는다.
+ *   노드가 발송 도중 죽으면 임대가 만료된 뒤 다른 워커가 다시 보낸다(at-least-once).
+ *
+ * 임대 유지:
+ * - 한 통의 최악 발송 시간은 SMTP 타임아웃 하나가 아니다: 연결 대여 대기 + connect + EHLO/STARTTLS/AUTH/MAIL/RCPT/DATA
+ *   각각의 타임아웃 (+ 장애 전환 시 다음 릴레이) → sendBudgetSeconds로 따로 잡는다.
+ * - 매 통 보내기 전에 남은 임대를 확인한다. 남은 임대 < sendBudget이면 아직 쥐고 있는 동안 남은 행 전체를 연장하고,
+ *   이미 만료됐으면(다른 워커가 가져갔을 수 있다) 나머지는 보내지 않고 손을 뗀다 → 느린 배치가 임대를 넘겨 중복 발송하지 않는다.
+ * - 대기: 같은 노드 발급은 커밋 직후 wakeUp()으로 즉시 깨운다. 그 외(다른 레플리카분/재시도 도래)는 pollInterval 폴링.
+ *   배치를 꽉 채워 가져간 워커는 다른 워커를 하나 더 깨운다 → 몰릴 때만 워커가 연쇄적으로 붙는다.
+ *
+ * 실패 분류:
+ * - 만료(expires_at 경과): 보내지 않고 DEAD (받아도 쓸 수 없는 OTP)
+ * - 영구 실패(주소/메시지 구성 오류, 수신자 영구 거절(RCPT 5xx), payload 복호화 실패): 재시도 없이 DEAD
+ * - 그 외(연결/타임아웃/SMTP 4xx 등): 지수 백오프 + jitter로 재시도, maxAttempts번째 실패에서 DEAD
+ *
+ * 메트릭:
+ * - auth.mail.outbox.dispatched{outcome=sent|retried|dead}
+ * - auth.mail.outbox.lag : 적재(커밋) → 발송 성공까지 걸린 시간
+ * - auth.mail.outbox.lease{outcome=renewed|lost} : 배치 도중 임대 연장 / 임대를 잃고 남은 배치를 포기
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher implements SmartLifecycle {
+
+    private static final int LAST_ERROR_MAX = 500;
+    private static final int DEAD_PURGE_BATCH_SIZE = 1000;
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SignupMailSender signupMailSender;
+    private final OtpCodeCipher codeCipher;
+    private final Clock clock;
+    private final AppMailProperties.Outbox props;
+
+    private final Semaphore wakeups = new Semaphore(0);
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+    private final Timer lag;
+    private final Counter leaseRenewed;
+    private final Counter leaseLost;
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public MailOutboxDispatcher(OutboxMailRepository outboxMailRepository,
+                                @Qualifier(OtpDataSourceConfig.OTP) TransactionTemplate transactionTemplate,
+                                SignupMailSender signupMailSender,
+                                OtpCodeCipher codeCipher,
+                                Clock clock,
+                                AppMailProperties mailProperties,
+                                MeterRegistry meterRegistry) {
+        this.outboxMailRepository = outboxMailRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.signupMailSender = signupMailSender;
+        this.codeCipher = codeCipher;
+        this.clock = clock;
+        this.props = mailProperties.outbox();
+        if (props.leaseSeconds() <= props.sendBudgetSeconds()) {
+            throw new IllegalStateException("app.mail.outbox.lease-seconds(" + props.leaseSeconds()
+                    + ") must be greater than send-budget-seconds(" + props.sendBudgetSeconds() + ")");
+        }
+
+        this.sent = Counter.builder("auth.mail.outbox.dispatched")
+                .tag("outcome", "sent")
+                .register(meterRegistry);
+        this.retried = Counter.builder("auth.mail.outbox.dispatched")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        this.dead = Counter.builder("auth.mail.outbox.dispatched")
+                .tag("outcome", "dead")
+                .register(meterRegistry);
+        this.lag = Timer.builder("auth.mail.outbox.lag")
+                .description("Time from outbox commit to successful SMTP hand-off")
+                .register(meterRegistry);
+        this.leaseRenewed = Counter.builder("auth.mail.outbox.lease")
+                .tag("outcome", "renewed")
+                .register(meterRegistry);
+        this.leaseLost = Counter.builder("auth.mail.outbox.lease")
+                .tag("outcome", "lost")
+                .register(meterRegistry);
+    }
+
+    /** 커밋 직후 호출 → 잠든 워커 하나를 바로 깨운다 (폴링 주기를 기다리지 않음) */
+    public void wakeUp() {
+        wakeups.release();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(props.workers(), new OutboxThreadFactory());
+        for (int i = 0; i < props.workers(); i++) {
+            workers.execute(this::workLoop);
+        }
+        log.info("메일 outbox 디스패처 시작: workers={}, batchSize={}", props.workers(), props.batchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeups.release(props.workers());
+        ExecutorService pool = workers;
+        if (pool == null) {
+            return;
+        }
+        pool.shutdown();
+        try {
+            // 발송 중인 한 통은 마저 끝낸다. 임대만 잡힌 나머지는 lease 만료 후 다른 노드가 가져간다.
+            if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * DEAD 행 정리 (보존 기간 경과분)
+     * - 발송 성공 행은 즉시 지워지므로 테이블이 커지는 원인은 DEAD뿐이다.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void purgeDead() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(props.deadRetentionHours());
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(
+                    status -> outboxMailRepository.deleteDeadBefore(cutoff, DEAD_PURGE_BATCH_SIZE));
+        } while (deleted != null && deleted == DEAD_PURGE_BATCH_SIZE);
+    }
+
+    private void workLoop() {
+        while (running) {
+            int claimed;
+            try {
+                claimed = dispatchOnce();
+            } catch (RuntimeException e) {
+                // DB 일시 장애 등: 워커는 죽지 않고 다음 주기에 다시 시도한다.
+                log.warn("메일 outbox 처리 실패 (다음 주기에 재시도): {}", e.toString());
+                claimed = 0;
+            }
+
+            if (claimed < props.batchSize()) {
+                awaitWork();
+            }
+        }
+    }
+
+    private void awaitWork() {
+        try {
+            if (wakeups.tryAcquire(props.pollIntervalMillis(), TimeUnit.MILLISECONDS)) {
+                wakeups.drainPermits(); // 몰린 신호는 한 번의 임대 조회로 합친다 (배치가 차면 다른 워커를 다시 깨운다)
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    // @return 이번에 임대한 메일 수
+    int dispatchOnce() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime claimedUntil = now.plusSeconds(props.leaseSeconds());
+
+        List<OutboxMail> batch = transactionTemplate.execute(status -> {
+            List<OutboxMail> due = outboxMailRepository.findClaimable(
+                    OutboxMailStatus.PENDING, now, PageRequest.of(0, props.batchSize()));
+            due.forEach(mail -> mail.claim(claimedUntil)); // 커밋 시 UPDATE 배치
+            return due;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        if (batch.size() == props.batchSize()) {
+            wakeUp(); // 더 남아 있을 수 있다 → 다른 워커도 붙인다
+        }
+
+        LocalDateTime leaseUntil = claimedUntil;
+        for (int i = 0; i < batch.size(); i++) {
+            if (!running) {
+                break; // 남은 임대분은 lease 만료 후 재수거
+            }
+            leaseUntil = ensureLease(batch.subList(i, batch.size()), leaseUntil);
+            if (leaseUntil == null) {
+                break; // 임대를 잃었다 → 남은 행은 이미 다른 워커 몫일 수 있다 (보내면 중복)
+            }
+            OutboxMail mail = batch.get(i);
+            if (deliver(mail)) {
+                transactionTemplate.executeWithoutResult(status -> outboxMailRepository.deleteSent(mail.getId()));
+            }
+        }
+        return batch.size();
+    }
+
+    /**
+     * 다음 한 통을 보내는 동안(최악 sendBudget) 임대가 유지되도록 한다.
+     * @param remaining 아직 처리하지 않은 행 (첫 행 = 다음에 보낼 메일)
+     * @return 유효한 임대 만료 시각, null = 임대를 잃음
+     */
+    private LocalDateTime ensureLease(List<OutboxMail> remaining, LocalDateTime leaseUntil) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!now.plusSeconds(props.sendBudgetSeconds()).isAfter(leaseUntil)) {
+            return leaseUntil; // 충분히 남음 (대부분의 배치는 여기서 끝난다 → 추가 쿼리 없음)
+        }
+
+        LocalDateTime extended = now.plusSeconds(props.leaseSeconds());
+        List<Long> ids = remaining.stream().map(OutboxMail::getId).toList();
+        Integer renewed = now.isBefore(leaseUntil)
+                ? transactionTemplate.execute(status -> outboxMailRepository.extendLease(ids, now, extended))
+                : Integer.valueOf(0);
+        if (renewed == null || renewed < ids.size()) {
+            leaseLost.increment();
+            log.warn("메일 outbox 임대 만료로 남은 배치 포기: remaining={}, renewed={}, leaseUntil={}",
+                    ids.size(), renewed, leaseUntil);
+            return null;
+        }
+        leaseRenewed.increment();
+        return extended;
+    }
+
+    // @return true = SMTP 서버가 메일을 받아들임 (호출자가 바로 삭제)
+    private boolean deliver(OutboxMail mail) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (mail.isExpired(now)) {
+            markDead(mail, "expired before dispatch");
+            return false;
+        }
+
+        try {
+            switch (mail.getKind()) {
+                case SIGNUP_OTP -> signupMailSender.sendOtp(
+                        mail.getRecipient(),
+                        codeCipher.open(mail.getRecipient(), mail.getPayload()),
+                        "outbox-" + mail.getId()); // 재시도/재수거/헤지 사본 모두 같은 Message-ID
+            }
+        } catch (MailParseException | MailPreparationException | MailRecipientRejectedException | IllegalArgumentException e) {
+            markDead(mail, e.toString()); // 다시 보내도 같은 결과
+            return false;
+        } catch (RuntimeException e) {
+            if (mail.getAttempts() + 1 >= props.maxAttempts()) {
+                markDead(mail, e.toString());
+            } else {
+                scheduleRetry(mail, now, e.toString());
+            }
+            return false;
+        }
+
+        sent.increment();
+        lag.record(Duration.between(mail.getCreatedAt(), LocalDateTime.now(clock)));
+        return true;
+    }
+
+    private void scheduleRetry(OutboxMail mail, LocalDateTime now, String error) {
+        long cap = Math.min(props.maxBackoffMillis(), props.baseBackoffMillis() << Math.min(mail.getAttempts(), 20));
+        long delayMillis = cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1); // equal jitter: 최소 cap/2는 쉰다
+        transactionTemplate.executeWithoutResult(status -> outboxMailRepository.scheduleRetry(
+                mail.getId(), now.plus(Duration.ofMillis(delayMillis)), truncate(error)));
+        retried.increment();
+        log.info("메일 발송 실패, 재시도 예약: id={}, attempt={}, delay={}ms, error={}",
+                mail.getId(), mail.getAttempts() + 1, delayMillis, error);
+    }
+
+    private void markDead(OutboxMail mail, String error) {
+        transactionTemplate.executeWithoutResult(status -> outboxMailRepository.markDead(
+                mail.getId(), OutboxMailStatus.DEAD, truncate(error)));
+        dead.increment();
+        log.error("메일 발송 포기(DEAD): id={}, kind={}, recipient={}, attempts={}, error={}",
+                mail.getId(), mail.getKind(), mail.getRecipient(), mail.getAttempts() + 1, error);
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= LAST_ERROR_MAX ? error : error.substring(0, LAST_ERROR_MAX);
+    }
+
+    private static final class OutboxThreadFactory implements ThreadFactory {
+        private final AtomicInteger seq = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "mail-outbox-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
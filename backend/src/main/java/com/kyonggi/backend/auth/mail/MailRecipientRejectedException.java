@@ -0,0 +1,17 @@
+package com.kyonggi.backend.auth.mail;
+
+import org.springframework.mail.MailSendException;
+
+/**
+ * SMTP 서버가 수신자를 영구 거절함 (RCPT 5xx, 예: 550 5.1.1 No such user)
+ *
+ * - 같은 릴레이로 다시 보내도, 다른 릴레이로 보내도 결과가 같다.
+ *   → MailOutboxDispatcher는 재시도 없이 DEAD, MailRelayRouter는 장애 전환하지 않고 릴레이 오류율에도 넣지 않는다.
+ * - 4xx(일시 거절: 450 mailbox busy 등)는 여기에 해당하지 않는다 → 일반 MailSendException으로 재시도된다.
+ */
+public class MailRecipientRejectedException extends MailSendException {
+
+    public MailRecipientRejectedException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
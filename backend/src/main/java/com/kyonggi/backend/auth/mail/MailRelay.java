@@ -0,0 +1,159 @@
+package com.kyonggi.backend.auth.mail;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.kyonggi.backend.auth.config.AppMailProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * SMTP 릴레이 하나 (연결 풀 + 관측 지연/오류율)
+ *
+ * 순위 점수(score, ms): EWMA(수락 지연) + EWMA(오류율) × errorPenaltyMillis
+ * - 낮을수록 먼저 시도한다. 관측이 한 번도 없는 릴레이는 +∞ (설정 순서대로 뒤에 선다)
+ * - 실패만 있고 수락 표본이 없는 릴레이는 EWMA(지연) 자리에 errorPenaltyMillis를 쓴다 → 점수 ≥ errorPenaltyMillis
+ *   → 평소엔 설정 순서(spring.mail = primary 먼저), primary가 느려지면 헤지/장애 전환으로 측정된 백업이 앞선다.
+ * - 성공 지연은 최근 SAMPLE_SIZE개를 링 버퍼에 보관한다 → 헤지 지연(p95) 계산용
+ *
+ * 동시성: 갱신은 발송 한 번에 한 번(수 μs 미만의 임계 구역)이라 synchronized로 충분하다.
+ *
+ * 메트릭:
+ * - auth.mail.relay.attempts{relay,outcome=accepted|failed|skipped|rejected}
+ *   (skipped = 다른 릴레이가 먼저 수락해 DATA 전에 멈춘 헤지 사본, rejected = 수신자 영구 거절 → 점수에 넣지 않는다)
+ * - auth.mail.relay.accept{relay} : 시도 시작(연결 대여 포함) → 수락까지
+ * - auth.mail.relay.score{relay}
+ */
+final class MailRelay {
+
+    private static final double EWMA_WEIGHT = 0.2; // 최근 ~5회가 점수를 주도
+    private static final int SAMPLE_SIZE = 128;
+
+    private final String name;
+    private final int order;
+    private final JavaMailSenderImpl sender;
+    private final SmtpConnectionPool pool;
+    private final long errorPenaltyMillis;
+
+    private final Counter accepted;
+    private final Counter failed;
+    private final Counter skipped;
+    private final Counter rejected;
+    private final Timer acceptLatency;
+
+    private final long[] samples = new long[SAMPLE_SIZE]; // 성공 지연(ms) 링 버퍼
+    private int sampleCount;
+    private int sampleNext;
+    private double latencyEwmaMillis = Double.NaN;
+    private double errorRateEwma;
+    private boolean observed;
+
+    MailRelay(String name, int order, JavaMailSenderImpl sender,
+              AppMailProperties.SmtpPool poolProps, long errorPenaltyMillis, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.order = order;
+        this.sender = sender;
+        this.pool = new SmtpConnectionPool(name, sender, poolProps, meterRegistry);
+        this.errorPenaltyMillis = errorPenaltyMillis;
+
+        this.accepted = attemptCounter(meterRegistry, name, "accepted");
+        this.failed = attemptCounter(meterRegistry, name, "failed");
+        this.skipped = attemptCounter(meterRegistry, name, "skipped");
+        this.rejected = attemptCounter(meterRegistry, name, "rejected");
+        this.acceptLatency = Timer.builder("auth.mail.relay.accept")
+                .description("Time from relay attempt start to SMTP acceptance")
+                .tag("relay", name)
+                .register(meterRegistry);
+        Gauge.builder("auth.mail.relay.score", this, MailRelay::score)
+                .description("Relay ranking score in millis (EWMA latency + error penalty), lower is preferred")
+                .tag("relay", name)
+                .register(meterRegistry);
+    }
+
+    String name() {
+        return name;
+    }
+
+    int order() {
+        return order;
+    }
+
+    JavaMailSenderImpl sender() {
+        return sender;
+    }
+
+    SmtpConnectionPool pool() {
+        return pool;
+    }
+
+    void recordSuccess(long elapsedNanos) {
+        accepted.increment();
+        acceptLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        observe(elapsedNanos);
+    }
+
+    void recordFailure() {
+        failed.increment();
+        observeFailure();
+    }
+
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    // 수신자 영구 거절(RCPT 5xx): 릴레이는 정상 응답했다 → 지연/오류율 모두 건드리지 않는다
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    private synchronized void observe(long elapsedNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        latencyEwmaMillis = Double.isNaN(latencyEwmaMillis)
+                ? millis
+                : latencyEwmaMillis + EWMA_WEIGHT * (millis - latencyEwmaMillis);
+        errorRateEwma -= EWMA_WEIGHT * errorRateEwma;
+        observed = true;
+
+        samples[sampleNext] = millis;
+        sampleNext = (sampleNext + 1) % SAMPLE_SIZE;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+    }
+
+    private synchronized void observeFailure() {
+        errorRateEwma += EWMA_WEIGHT * (1.0 - errorRateEwma);
+        observed = true;
+    }
+
+    /** @return 순위 점수(ms), 관측 전이면 +∞ */
+    synchronized double score() {
+        if (!observed) {
+            return Double.POSITIVE_INFINITY;
+        }
+        // 실패만 관측됨 → 지연을 0으로 두면 한 번 실패한 릴레이(EWMA_WEIGHT × 벌점)가 건강한 릴레이보다 앞선다.
+        //   수락 지연 표본이 생기기 전까지는 벌점만큼 느린 것으로 본다.
+        double latency = Double.isNaN(latencyEwmaMillis) ? errorPenaltyMillis : latencyEwmaMillis;
+        return latency + errorRateEwma * errorPenaltyMillis;
+    }
+
+    /** @return 최근 성공 지연의 p95(ms), 표본이 없으면 -1 */
+    synchronized long p95Millis() {
+        if (sampleCount == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sampleCount * 0.95) - 1];
+    }
+
+    private static Counter attemptCounter(MeterRegistry meterRegistry, String relay, String outcome) {
+        return Counter.builder("auth.mail.relay.attempts")
+                .tag("relay", relay)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,289 @@
+package com.kyonggi.backend.auth.mail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.AppMailProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다중 SMTP 릴레이 라우터 (지연 기반 순위 + 헤지 발송)
+ *
+ * 문제:
+ * - spring.mail은 릴레이를 하나만 가리킨다 → 그 릴레이가 느려지면 모든 OTP 메일이 같이 느려진다.
+ *   (백업 릴레이가 있어도 수동으로 설정을 바꿔 재배포하기 전까지는 쓰지 못했다)
+ *
+ * 정책:
+ * - 릴레이 = spring.mail("primary") + app.mail.relays. 각자 SmtpConnectionPool을 가진다.
+ * - 발송마다 순위 점수(MailRelay: EWMA 지연 + 오류율 벌점)가 낮은 순서로 시도한다.
+ * - 헤지: 1순위가 hedgeDelay 안에 수락하지 않으면 2순위에도 같은 메일을 보낸다. 먼저 수락한 쪽이 이긴다.
+ *   hedgeDelay = clamp(1순위의 최근 수락 지연 p95, min, max) → 평소 지연의 꼬리에서만 두 번째 발송이 생긴다(대략 5%).
+ * - 장애 전환: 시도가 실패하면 아직 시도하지 않은 다음 릴레이를 바로 시작한다.
+ *   수신자 영구 거절(MailRecipientRejectedException)은 장애가 아니다 → 전환하지 않고 바로 던지며, 순위 점수에도 넣지 않는다.
+ * - 모든 릴레이가 실패하면 마지막 예외를 던진다 → outbox가 재시도/DEAD를 정한다.
+ *
+ * 중복 제거(Message-ID):
+ * - 호출자가 준 Message-ID를 헤더에 고정한다(saveChanges가 새로 만들지 않는다) → 헤지 사본/재발송이 모두 같은 ID.
+ * - 노드 안: 늦은 헤지 사본은 연결을 빌린 뒤 DATA 직전에 "이미 수락됨"을 확인하고 보내지 않는다(skipped).
+ *   최근 수락한 Message-ID(dedupCapacity개)는 다시 보내지 않는다 → outbox 행 삭제 전에 임대가 풀린 재수거분 억제.
+ * - 노드 밖: 두 사본이 이미 DATA를 넘긴 경우는 막을 수 없다 → 수신 측(MUA/MTA)이 같은 Message-ID로 합친다.
+ *
+ * 시도는 전용 데몬 스레드(mail-relay-N)에서 돌고, 호출한 outbox 워커는 결과만 기다린다.
+ *
+ * 메트릭:
+ * - auth.mail.relay.hedged     : 헤지 사본을 시작한 횟수
+ * - auth.mail.relay.duplicates : 최근 수락한 Message-ID라 보내지 않은 횟수
+ * - 릴레이별 지표는 MailRelay / SmtpConnectionPool 참고
+ */
+@Slf4j
+@Component
+public class MailRelayRouter implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+    private static final int MAX_IN_FLIGHT = 2; // 원본 + 헤지 사본 1개
+
+    private final List<MailRelay> relays; // 설정 순서 (primary 먼저)
+    private final AppMailProperties.Hedge hedge;
+    private final Map<String, Boolean> recentlyAccepted;
+    private final ExecutorService attempts = Executors.newCachedThreadPool(new RelayThreadFactory());
+
+    private final Counter hedged;
+    private final Counter duplicates;
+
+    public MailRelayRouter(JavaMailSender mailSender, AppMailProperties mailProperties, MeterRegistry meterRegistry) {
+        this.hedge = mailProperties.hedge();
+
+        List<MailRelay> configured = new ArrayList<>();
+        if (mailSender instanceof JavaMailSenderImpl base) {
+            configured.add(new MailRelay(PRIMARY, 0, base,
+                    mailProperties.smtpPool(), hedge.errorPenaltyMillis(), meterRegistry));
+            for (AppMailProperties.Relay relay : mailProperties.relays()) {
+                configured.add(new MailRelay(relay.name(), configured.size(), derive(base, relay),
+                        mailProperties.smtpPool(), hedge.errorPenaltyMillis(), meterRegistry));
+            }
+        }
+        this.relays = List.copyOf(configured);
+
+        int capacity = hedge.dedupCapacity();
+        this.recentlyAccepted = Collections.synchronizedMap(new LinkedHashMap<String, Boolean>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        });
+
+        this.hedged = Counter.builder("auth.mail.relay.hedged")
+                .description("Hedged copies started because the preferred relay was slower than its p95")
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("auth.mail.relay.duplicates")
+                .description("Sends skipped because the Message-ID was accepted recently")
+                .register(meterRegistry);
+    }
+
+    /** false면(JavaMailSenderImpl이 아닌 구현) 호출자가 JavaMailSender.send로 보낸다 */
+    public boolean isAvailable() {
+        return !relays.isEmpty();
+    }
+
+    /** 현재 순위 (진단/테스트용) */
+    public List<String> rankedRelayNames() {
+        return ranked().stream().map(MailRelay::name).toList();
+    }
+
+    /**
+     * @param messageId Message-ID 헤더 값 ("<...@...>"). 같은 메일의 모든 사본/재발송에 같은 값을 준다.
+     */
+    public void send(String messageId, SimpleMailMessage message) {
+        if (recentlyAccepted.containsKey(messageId)) {
+            duplicates.increment();
+            log.info("최근 수락된 메일이라 재발송하지 않음: messageId={}", messageId);
+            return;
+        }
+
+        List<MailRelay> ranked = ranked();
+        MimeMessage first = build(ranked.get(0), messageId, message); // 구성 오류(MailParseException)는 어느 릴레이에도 보내기 전에 끝난다
+        long hedgeDelayMillis = hedgeDelayMillis(ranked.get(0));
+
+        AtomicBoolean accepted = new AtomicBoolean();
+        CompletionService<Boolean> results = new ExecutorCompletionService<>(attempts);
+        results.submit(attempt(ranked.get(0), first, accepted));
+        int next = 1;
+        int inFlight = 1;
+        RuntimeException lastFailure = null;
+
+        try {
+            while (inFlight > 0) {
+                boolean canHedge = hedge.enabled() && next < ranked.size() && inFlight < MAX_IN_FLIGHT;
+                Future<Boolean> done = canHedge
+                        ? results.poll(hedgeDelayMillis, TimeUnit.MILLISECONDS)
+                        : results.take();
+
+                if (done == null) { // 1순위가 p95 안에 수락하지 않음 → 헤지
+                    hedged.increment();
+                    MailRelay backup = ranked.get(next++);
+                    results.submit(attempt(backup, build(backup, messageId, message), accepted));
+                    inFlight++;
+                    continue;
+                }
+
+                inFlight--;
+                try {
+                    if (done.get()) {
+                        recentlyAccepted.put(messageId, Boolean.TRUE);
+                        return; // 남은 사본은 DATA 전이면 스스로 멈춘다(skipped)
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof MailRecipientRejectedException rejected) {
+                        throw rejected; // 수신자 문제 → 다른 릴레이로 넘겨도 같은 결과
+                    }
+                    lastFailure = e.getCause() instanceof RuntimeException re
+                            ? re
+                            : new MailSendException("Relay attempt failed", e.getCause());
+                    if (next < ranked.size() && inFlight < MAX_IN_FLIGHT) { // 장애 전환: 다음 릴레이 바로 시작
+                        MailRelay backup = ranked.get(next++);
+                        results.submit(attempt(backup, build(backup, messageId, message), accepted));
+                        inFlight++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for SMTP relays");
+        }
+
+        throw lastFailure != null ? lastFailure : new MailSendException("No relay accepted the message");
+    }
+
+    /** 오래 쉰 연결 정리 (릴레이별 SmtpConnectionPool) */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void evictIdle() {
+        relays.forEach(relay -> relay.pool().evictIdle());
+    }
+
+    @Override
+    public void destroy() {
+        attempts.shutdownNow();
+        relays.forEach(relay -> relay.pool().close());
+    }
+
+    private List<MailRelay> ranked() {
+        List<MailRelay> ranked = new ArrayList<>(relays);
+        ranked.sort(Comparator.comparingDouble(MailRelay::score).thenComparingInt(MailRelay::order));
+        return ranked;
+    }
+
+    private long hedgeDelayMillis(MailRelay preferred) {
+        long p95 = preferred.p95Millis();
+        if (p95 < 0) {
+            return hedge.maxDelayMillis(); // 표본 없음 → 보수적으로
+        }
+        return Math.max(hedge.minDelayMillis(), Math.min(hedge.maxDelayMillis(), p95));
+    }
+
+    private static Callable<Boolean> attempt(MailRelay relay, MimeMessage message, AtomicBoolean accepted) {
+        return () -> {
+            long started = System.nanoTime();
+            try {
+                if (!relay.pool().send(message, () -> !accepted.get())) {
+                    relay.recordSkipped();
+                    return false;
+                }
+                accepted.set(true);
+                relay.recordSuccess(System.nanoTime() - started);
+                return true;
+            } catch (MailRecipientRejectedException e) {
+                relay.recordRejected();
+                log.info("SMTP 릴레이가 수신자를 거절: relay={}, error={}", relay.name(), e.getMessage());
+                throw e;
+            } catch (RuntimeException e) {
+                relay.recordFailure();
+                log.warn("SMTP 릴레이 발송 실패: relay={}, error={}", relay.name(), e.toString());
+                throw e;
+            }
+        };
+    }
+
+    // 사본마다 MimeMessage를 따로 만든다 (동시에 두 스레드가 한 메시지를 직렬화하지 않도록)
+    private static MimeMessage build(MailRelay relay, String messageId, SimpleMailMessage message) {
+        MimeMessage mime = new FixedIdMimeMessage(relay.sender().getSession(), messageId);
+        message.copyTo(new MimeMailMessage(new MimeMessageHelper(mime, relay.sender().getDefaultEncoding())));
+        return mime;
+    }
+
+    // primary(spring.mail)의 protocol/encoding/javamail 속성을 물려받고 접속 정보만 바꾼다
+    private static JavaMailSenderImpl derive(JavaMailSenderImpl base, AppMailProperties.Relay relay) {
+        Properties properties = new Properties();
+        properties.putAll(base.getJavaMailProperties());
+        if (relay.properties() != null) {
+            properties.putAll(relay.properties());
+        }
+
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost(relay.host());
+        sender.setPort(relay.port());
+        sender.setUsername(relay.username());
+        sender.setPassword(relay.password());
+        sender.setProtocol(base.getProtocol() == null ? "smtp" : base.getProtocol());
+        sender.setDefaultEncoding(base.getDefaultEncoding());
+        sender.setJavaMailProperties(properties);
+        return sender;
+    }
+
+    /** saveChanges가 Message-ID를 새로 만들지 않고 호출자가 준 값을 유지한다 */
+    private static final class FixedIdMimeMessage extends MimeMessage {
+        private final String messageId;
+
+        private FixedIdMimeMessage(Session session, String messageId) {
+            super(session);
+            this.messageId = messageId;
+        }
+
+        @Override
+        protected void updateMessageID() throws MessagingException {
+            setHeader("Message-ID", messageId);
+        }
+    }
+
+    private static final class RelayThreadFactory implements ThreadFactory {
+        private final AtomicInteger seq = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "mail-relay-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.kyonggi.backend.auth.mail;
+
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.kyonggi.backend.auth.config.AppMailProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMTP 연결 풀 (릴레이 하나의 인증까지 끝난 Transport 재사용)
+ *
+ * 문제:
+ * - JavaMailSender.send는 메일 한 통마다 TCP 연결 → EHLO → STARTTLS(TLS 핸드셰이크) → AUTH → 발송 → QUIT 을 반복한다.
+ *   학기 초 가입 몰림에서는 본문 전송보다 이 핸드셰이크가 처리량을 결정한다.
+ *
+ * 정책:
+ * - 최대 maxConnections개의 연결을 슬롯(0..N-1)에 두고, 빌린 연결로 여러 통을 연속 발송한다(연결/TLS/AUTH는 연결당 한 번).
+ *   → outbox 워커가 배치를 보내는 동안 같은 인증 세션이 계속 재사용된다.
+ * - 반납은 LIFO: 방금 쓴(따뜻한) 연결부터 다시 쓰고, 오래 쉰 연결은 뒤에서 늙어 정리된다.
+ * - 재활용(닫고 새로 연결):
+ *   · maxMessagesPerConnection통을 보냈을 때 (서버의 세션당 메일 수 제한/장기 세션 누수 방지)
+ *   · maxIdleSeconds 이상 쉬었을 때 (서버가 먼저 끊었을 가능성이 높다 → 빌릴 때/주기 정리에서 닫는다)
+ *   · 1초 이상 쉰 연결을 빌려 줄 때 NOOP이 실패하면 (서버가 maxIdleSeconds 전에 끊은 세션)
+ *     → 그 메일을 끊긴 세션에 태워 실패(릴레이 오류율 + outbox 백오프)시키지 않고, 다른 idle 연결이나 새 연결을 준다.
+ *   · 발송 중 오류가 났을 때 (세션 상태를 믿을 수 없다). 재발송은 하지 않는다 → outbox 재시도가 담당.
+ *     단, 수신자 영구 거절(RCPT 5xx)은 세션 오류가 아니다 → 연결은 유지하고 MailRecipientRejectedException으로 구분해 던진다.
+ * - 모든 연결이 빌려져 있으면 borrowTimeoutMillis까지만 기다리고 MailSendException(일시 실패)으로 끝낸다.
+ * - enabled=false면 연결을 쥐고 있지 않는다(메일마다 연결 후 바로 QUIT).
+ * - 릴레이마다 하나씩, MailRelayRouter가 만들고 닫는다 (빈이 아님).
+ *
+ * 메트릭:
+ * - auth.mail.smtp.handshake{relay,slot}  : 연결 + STARTTLS + AUTH 소요 시간
+ * - auth.mail.smtp.messages{relay,slot}   : 연결 슬롯별 발송 수 (슬롯 = 연결 자리, 재연결해도 태그 수는 N개로 고정)
+ * - auth.mail.smtp.send{relay,slot}       : 연결된 세션에서 메일 한 통 전송 시간
+ * - auth.mail.smtp.recycled{relay,reason=idle|max-messages|error|stale}
+ * - auth.mail.smtp.connections{relay,state=open|idle}
+ */
+@Slf4j
+class SmtpConnectionPool {
+
+    private static final long VALIDATE_AFTER_IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String relay;
+    private final JavaMailSenderImpl sender;
+    private final AppMailProperties.SmtpPool props;
+
+    private final Semaphore permits;
+    private final BlockingQueue<Integer> freeSlots;
+    private final ConcurrentLinkedDeque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+
+    private final Timer[] handshakeTimers;
+    private final Timer[] sendTimers;
+    private final Counter[] messageCounters;
+    private final Counter recycledIdle;
+    private final Counter recycledMaxMessages;
+    private final Counter recycledError;
+    private final Counter recycledStale;
+
+    SmtpConnectionPool(String relay, JavaMailSenderImpl sender, AppMailProperties.SmtpPool props, MeterRegistry meterRegistry) {
+        this.relay = relay;
+        this.sender = sender;
+        this.props = props;
+
+        int size = props.maxConnections();
+        this.permits = new Semaphore(size, true);
+        this.freeSlots = new ArrayBlockingQueue<>(size);
+        this.handshakeTimers = new Timer[size];
+        this.sendTimers = new Timer[size];
+        this.messageCounters = new Counter[size];
+        for (int slot = 0; slot < size; slot++) {
+            freeSlots.add(slot);
+            String tag = String.valueOf(slot);
+            handshakeTimers[slot] = Timer.builder("auth.mail.smtp.handshake")
+                    .description("SMTP connect + STARTTLS + AUTH latency")
+                    .tag("relay", relay)
+                    .tag("slot", tag)
+                    .register(meterRegistry);
+            sendTimers[slot] = Timer.builder("auth.mail.smtp.send")
+                    .description("Time to transfer one message over an open SMTP session")
+                    .tag("relay", relay)
+                    .tag("slot", tag)
+                    .register(meterRegistry);
+            messageCounters[slot] = Counter.builder("auth.mail.smtp.messages")
+                    .description("Messages sent per pooled SMTP connection slot")
+                    .tag("relay", relay)
+                    .tag("slot", tag)
+                    .register(meterRegistry);
+        }
+
+        this.recycledIdle = recycledCounter(meterRegistry, relay, "idle");
+        this.recycledMaxMessages = recycledCounter(meterRegistry, relay, "max-messages");
+        this.recycledError = recycledCounter(meterRegistry, relay, "error");
+        this.recycledStale = recycledCounter(meterRegistry, relay, "stale");
+
+        Gauge.builder("auth.mail.smtp.connections", freeSlots, q -> size - q.size())
+                .tag("relay", relay)
+                .tag("state", "open")
+                .register(meterRegistry);
+        Gauge.builder("auth.mail.smtp.connections", idle, ConcurrentLinkedDeque::size)
+                .tag("relay", relay)
+                .tag("state", "idle")
+                .register(meterRegistry);
+    }
+
+    String relay() {
+        return relay;
+    }
+
+    /**
+     * @param stillNeeded 연결을 빌린 직후(DATA 직전)에 다시 묻는다. false면 보내지 않는다 (다른 릴레이가 이미 수락한 헤지 사본)
+     * @return true = 이 릴레이가 메일을 수락함, false = 보내지 않고 건너뜀
+     */
+    boolean send(MimeMessage message, BooleanSupplier stillNeeded) {
+        PooledTransport conn = borrow();
+        boolean healthy = false;
+        try {
+            if (!stillNeeded.getAsBoolean()) {
+                healthy = true;
+                return false;
+            }
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges(); // Transport.send와 달리 sendMessage는 헤더(Message-ID 등)를 채우지 않는다
+            long started = System.nanoTime();
+            conn.transport.sendMessage(message, message.getAllRecipients());
+            sendTimers[conn.slot].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            messageCounters[conn.slot].increment();
+            conn.messages++;
+            healthy = true;
+            return true;
+        } catch (MessagingException e) {
+            if (isRecipientRejected(e)) {
+                healthy = true; // 거절 후 JavaMail이 RSET까지 마쳤다 → 세션은 그대로 쓸 수 있다 (RSET 실패면 스스로 닫고, 다음 대여 때 걸러진다)
+                throw new MailRecipientRejectedException("SMTP recipient rejected (relay " + relay + "): " + e.getMessage(), e);
+            }
+            throw new MailSendException("SMTP send failed on pooled connection (relay " + relay + ", slot " + conn.slot + ")", e);
+        } finally {
+            release(conn, healthy);
+        }
+    }
+
+    /** 오래 쉰 연결을 닫는다 (서버 쪽 idle timeout보다 먼저 정리, MailRelayRouter가 주기 호출) */
+    void evictIdle() {
+        long now = System.nanoTime();
+        for (PooledTransport conn : idle) {
+            if (conn.isIdleTooLong(now, props.maxIdleSeconds()) && idle.remove(conn)) {
+                recycledIdle.increment();
+                close(conn);
+            }
+        }
+    }
+
+    void close() {
+        PooledTransport conn;
+        while ((conn = idle.pollFirst()) != null) {
+            close(conn);
+        }
+    }
+
+    private PooledTransport borrow() {
+        try {
+            if (!permits.tryAcquire(props.borrowTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("SMTP connection pool exhausted (relay " + relay + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for an SMTP connection");
+        }
+
+        try {
+            long now = System.nanoTime();
+            PooledTransport conn;
+            while ((conn = idle.pollFirst()) != null) {
+                if (conn.isIdleTooLong(now, props.maxIdleSeconds())) {
+                    recycledIdle.increment();
+                    close(conn);
+                } else if (conn.isAlive(now)) {
+                    return conn;
+                } else {
+                    recycledStale.increment(); // 서버가 먼저 끊음 → 이 메일을 실패시키지 않고 다음 연결/새 연결로
+                    close(conn);
+                }
+            }
+            return connect();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledTransport conn, boolean healthy) {
+        try {
+            if (!healthy) {
+                recycledError.increment();
+                close(conn);
+            } else if (!props.enabled()) {
+                close(conn); // 풀 비활성: 연결을 쥐고 있지 않는다
+            } else if (conn.messages >= props.maxMessagesPerConnection()) {
+                recycledMaxMessages.increment();
+                close(conn);
+            } else {
+                conn.lastUsedNanos = System.nanoTime();
+                idle.offerFirst(conn);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 빈 슬롯은 permit을 쥔 호출자만 가져간다 → (열린 연결 수) ≤ (maxConnections) 불변식 유지
+    private PooledTransport connect() {
+        Integer slot = freeSlots.poll();
+        if (slot == null) {
+            throw new IllegalStateException("SMTP pool slot accounting broken: permit held but no free slot");
+        }
+        long started = System.nanoTime();
+        try {
+            Transport transport = sender.getSession().getTransport(protocol());
+            transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+            handshakeTimers[slot].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return new PooledTransport(slot, transport);
+        } catch (AuthenticationFailedException e) {
+            freeSlots.add(slot);
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            freeSlots.add(slot);
+            throw new MailSendException("SMTP connect failed (relay " + relay + ", slot " + slot + ")", e);
+        }
+    }
+
+    private void close(PooledTransport conn) {
+        try {
+            conn.transport.close(); // QUIT
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 중 오류 (무시): relay={}, slot={}, {}", relay, conn.slot, e.toString());
+        } finally {
+            freeSlots.add(conn.slot);
+        }
+    }
+
+    // SendFailedException → nextException 사슬에 RCPT 5xx(SMTPAddressFailedException)가 있으면 영구 거절
+    private static boolean isRecipientRejected(MessagingException e) {
+        for (Exception cur = e; cur != null; cur = cur instanceof MessagingException m ? m.getNextException() : null) {
+            if (cur instanceof SMTPAddressFailedException rejected && rejected.getReturnCode() / 100 == 5) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String protocol() {
+        return sender.getProtocol() == null ? "smtp" : sender.getProtocol();
+    }
+
+    private static Counter recycledCounter(MeterRegistry meterRegistry, String relay, String reason) {
+        return Counter.builder("auth.mail.smtp.recycled")
+                .description("Pooled SMTP connections closed and replaced")
+                .tag("relay", relay)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class PooledTransport {
+        private final int slot;
+        private final Transport transport;
+        private int messages;          // 빌린 스레드만 갱신 (반납 전까지 단독 소유)
+        private volatile long lastUsedNanos;
+
+        private PooledTransport(int slot, Transport transport) {
+            this.slot = slot;
+            this.transport = transport;
+            this.lastUsedNanos = System.nanoTime();
+        }
+
+        private boolean isIdleTooLong(long nowNanos, int maxIdleSeconds) {
+            return nowNanos - lastUsedNanos >= TimeUnit.SECONDS.toNanos(maxIdleSeconds);
+        }
+
+        // 방금 반납된 연결은 그대로 믿는다 (배치 연속 발송에서 메일마다 왕복 1회를 더하지 않는다)
+        // 그보다 오래 쉬었으면 NOOP 왕복으로 확인 (SMTPTransport.isConnected: 실패 시 스스로 닫고 false)
+        private boolean isAlive(long nowNanos) {
+            return nowNanos - lastUsedNanos < VALIDATE_AFTER_IDLE_NANOS || transport.isConnected();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.kyonggi.backend.auth.password;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.kyonggi.backend.auth.config.AuthProperties;
+import com.kyonggi.backend.auth.config.AuthProperties.Password.Algorithm;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 현재 하드웨어에서 해시 cost를 보정한 DelegatingPasswordEncoder 생성
+ *
+ * 문제:
+ * - new BCryptPasswordEncoder()는 cost 10 고정이다.
+ *   같은 cost라도 파드 CPU(request 100m 등)에 따라 해시 1회가 30ms가 될 수도, 300ms가 될 수도 있다.
+ *
+ * 정책:
+ * - 하한(min)부터 실제로 해시를 돌려보며, 다음 단계가 hashBudgetMillis 안에 들어오는 동안 cost를 올린다.
+ *   (BCrypt는 strength +1마다 2배, Argon2id는 iterations에 선형)
+ * - 하한에서 이미 budget을 넘으면 하한을 그대로 쓴다(보안 바닥 > 지연 목표).
+ *
+ * 저장 형식:
+ * - 새 해시: "{bcrypt}$2a$.." 또는 "{argon2}$argon2id$.."
+ * - prefix 없는 기존 해시: 레거시 BCrypt로 간주해 매칭한다(setDefaultPasswordEncoderForMatches).
+ * - upgradeEncoding(hash)가 true면(레거시/다른 알고리즘/더 약한 cost) 로그인 성공 시 재해싱한다. (LoginService)
+ */
+@Slf4j
+public final class PasswordEncoders {
+
+    static final String BCRYPT_ID = "bcrypt";
+    static final String ARGON2_ID = "argon2";
+
+    private static final String PROBE = "calibration-probe-1!";
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+
+    private PasswordEncoders() {}
+
+    public static PasswordEncoder calibrated(AuthProperties.Password props) {
+        if (props.bcryptMinStrength() > props.bcryptMaxStrength()) {
+            throw new IllegalStateException("app.auth.password.bcrypt-min-strength must be <= bcrypt-max-strength");
+        }
+
+        /**
+         * 매칭용 인코더는 cost와 무관하다(해시 문자열에 cost/파라미터가 들어 있음).
+         * → 현재 알고리즘만 보정하고, 나머지는 "기존 해시 검증용"으로만 등록한다.
+         */
+        PasswordEncoder bcrypt;
+        PasswordEncoder argon2;
+        String idForEncode;
+
+        if (props.algorithm() == Algorithm.ARGON2ID) {
+            bcrypt = new BCryptPasswordEncoder(props.bcryptMinStrength());
+            argon2 = calibrateArgon2(props);
+            idForEncode = ARGON2_ID;
+        } else {
+            bcrypt = calibrateBcrypt(props);
+            argon2 = argon2(props.argon2MemoryKib(), 1);
+            idForEncode = BCRYPT_ID;
+        }
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, bcrypt);
+        encoders.put(ARGON2_ID, argon2);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt); // prefix 없는 레거시 BCrypt 해시
+        return delegating;
+    }
+
+    private static PasswordEncoder calibrateBcrypt(AuthProperties.Password props) {
+        int strength = calibrate(
+                props.bcryptMinStrength(), props.bcryptMaxStrength(), props.hashBudgetMillis(),
+                BCryptPasswordEncoder::new,
+                (cost, elapsedMs) -> elapsedMs * 2); // strength +1 → 2배
+
+        log.info("비밀번호 해시 보정 완료: algorithm=BCRYPT, strength={}, budgetMs={}", strength, props.hashBudgetMillis());
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    private static PasswordEncoder calibrateArgon2(AuthProperties.Password props) {
+        int memoryKib = props.argon2MemoryKib();
+        int iterations = calibrate(
+                1, props.argon2MaxIterations(), props.hashBudgetMillis(),
+                it -> argon2(memoryKib, it),
+                (it, elapsedMs) -> elapsedMs * (it + 1) / it); // iterations에 선형
+
+        log.info("비밀번호 해시 보정 완료: algorithm=ARGON2ID, memoryKib={}, iterations={}, budgetMs={}",
+                memoryKib, iterations, props.hashBudgetMillis());
+        return argon2(memoryKib, iterations);
+    }
+
+    /**
+     * min부터 한 단계씩 올리되, "다음 단계 예상 시간"이 budget을 넘으면 멈춘다.
+     * - 예상이 맞는지 매 단계 실제로 다시 측정한다(JIT/캐시 영향으로 첫 측정은 부정확할 수 있음).
+     */
+    private static int calibrate(int min, int max, long budgetMs,
+                                 IntFunction<PasswordEncoder> factory, NextCostEstimator estimator) {
+        int cost = min;
+        long elapsedMs = measureMillis(factory.apply(cost));
+
+        if (elapsedMs > budgetMs) {
+            log.warn("비밀번호 해시 하한 cost({})가 이미 budget({}ms)을 넘음: measured={}ms → 하한 유지", cost, budgetMs, elapsedMs);
+            return cost;
+        }
+
+        while (cost < max && estimator.next(cost, elapsedMs) <= budgetMs) {
+            long measured = measureMillis(factory.apply(cost + 1));
+            if (measured > budgetMs) break;
+            cost++;
+            elapsedMs = measured;
+        }
+        return cost;
+    }
+
+    // 워밍업 1회 + 측정 2회 중 최솟값 (GC/스케줄링 노이즈 제거)
+    private static long measureMillis(PasswordEncoder encoder) {
+        encoder.encode(PROBE);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(PROBE);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+
+    private static Argon2PasswordEncoder argon2(int memoryKib, int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, memoryKib, iterations);
+    }
+
+    @FunctionalInterface
+    private interface NextCostEstimator {
+        long next(int currentCost, long currentElapsedMs);
+    }
+}
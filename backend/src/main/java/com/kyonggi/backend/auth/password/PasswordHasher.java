@@ -0,0 +1,202 @@
+package com.kyonggi.backend.auth.password;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.AuthProperties;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.global.deadline.RequestDeadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 비밀번호 해싱 전용 실행기 (BCrypt를 Tomcat 워커 스레드에서 분리)
+ *
+ * 문제:
+ * - BCrypt encode/matches는 요청당 ~100ms CPU를 쓴다.
+ * - 로그인 폭주 시 모든 Tomcat 워커가 해싱에 묶이면 /auth/me, /auth/refresh 같은
+ *   가벼운 요청까지 굶는다.
+ *
+ * 정책:
+ * - CPU 수만큼의 고정 워커 + bounded 큐에서만 해싱한다. (동시 해싱 = CPU 수로 상한)
+ * - 큐가 가득 차면 기다리지 않고 즉시 503 SERVER_BUSY + Retry-After로 실패한다(fail-fast).
+ * - 요청 스레드는 결과를 기다리지만 CPU를 쓰지 않으므로, 다른 요청은 CPU를 계속 받는다.
+ * - 요청 마감(RequestDeadline)이 있으면 결과 대기를 남은 예산으로 제한하고,
+ *   큐에서 기다리다 마감이 지난 작업은 해싱을 시작하지 않고 버린다(아무도 기다리지 않는 CPU 작업 제거).
+ * - 가상 스레드 모드(spring.threads.virtual.enabled)에서도 해싱 워커는 플랫폼 스레드로 둔다.
+ *   (CPU 바운드 작업을 가상 스레드로 돌리면 캐리어를 독점해 I/O 대기 중인 가상 스레드들이 굶는다)
+ *
+ * 메트릭 (/actuator/metrics):
+ * - auth.password.hash.queue.depth : 대기 중인 해싱 작업 수
+ * - auth.password.hash.active      : 실행 중인 해싱 작업 수
+ * - auth.password.hash.wait        : 큐 대기 시간
+ * - auth.password.hash.duration    : 해싱 자체 소요 시간 (op=encode|matches)
+ * - auth.password.hash.rejected    : 큐 포화로 거절된 횟수
+ * - auth.password.rehashed         : 로그인 시 더 강한 정책으로 재해싱된 횟수
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int busyRetryAfterSeconds;
+    private final String dummyHash; // 미가입 이메일 응답 시간 균등화용 (현재 정책 cost로 생성)
+
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+    private final Counter rehashed;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, AuthProperties props, MeterRegistry meterRegistry) {
+        AuthProperties.Password p = props.password();
+        int threads = p.hashThreads() > 0 ? p.hashThreads() : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.busyRetryAfterSeconds = p.busyRetryAfterSeconds();
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(p.hashQueueCapacity()),
+                new HashThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()); // 포화 시 RejectedExecutionException → 503
+
+        Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting in queue")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+
+        this.waitTimer = Timer.builder("auth.password.hash.wait")
+                .description("Time spent waiting for a hashing worker")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash.duration")
+                .tag("op", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash.duration")
+                .tag("op", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("Hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        this.rehashed = Counter.builder("auth.password.rehashed")
+                .description("Stored hashes upgraded to the current algorithm/cost on login")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * 계정이 없을 때도 실제 matches와 같은 비용을 치르게 한다 (계정 존재 여부 추측 방지).
+     * - "이메일 없음" 응답이 "비밀번호 틀림"보다 눈에 띄게 빠르면 응답 시간만으로 가입 여부가 새어 나간다.
+     */
+    public void simulateMatches(String rawPassword) {
+        matches(rawPassword, dummyHash);
+    }
+
+    /**
+     * 저장된 해시가 현재 정책(알고리즘/cost)보다 약하면 새 해시를 만들어 돌려준다.
+     * - 반드시 matches 성공 이후에 호출한다(원문이 맞다는 게 확인된 상태).
+     * - 업그레이드는 필수가 아니므로 이번에는 건너뛰고(다음 로그인에서 다시 시도) 로그인은 그대로 성공시킨다:
+     *   · 남은 요청 예산이 평균 encode 시간보다 적을 때 (시작하지 않는다 → 뒤따르는 토큰 발급 예산을 남긴다)
+     *   · 실행기가 포화일 때 (SERVER_BUSY)
+     *   · 해싱 대기 중 요청 마감을 넘겼을 때 (DEADLINE_EXCEEDED)
+     */
+    public Optional<String> rehashIfOutdated(String rawPassword, String passwordHash) {
+        if (!passwordEncoder.upgradeEncoding(passwordHash)) {
+            return Optional.empty();
+        }
+        if (RequestDeadline.remainingNanos() <= encodeTimer.mean(TimeUnit.NANOSECONDS)) {
+            return Optional.empty();
+        }
+        try {
+            String upgraded = encode(rawPassword);
+            rehashed.increment();
+            return Optional.of(upgraded);
+        } catch (ApiException e) {
+            if (ErrorCode.SERVER_BUSY.name().equals(e.getCode())) return Optional.empty();
+            if (ErrorCode.DEADLINE_EXCEEDED.name().equals(e.getCode())) return Optional.empty();
+            throw e;
+        }
+    }
+
+    private <T> T execute(Timer durationTimer, Callable<T> task) {
+        RequestDeadline.checkNotExceeded();
+        Long deadlineNanos = RequestDeadline.captureDeadlineNanos(); // 실행기 스레드에는 ThreadLocal이 없으므로 값으로 넘긴다
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                if (deadlineNanos != null && deadlineNanos - startedAt <= 0) {
+                    throw new ApiException(ErrorCode.DEADLINE_EXCEEDED);
+                }
+                return durationTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY, busyRetryAfterSeconds);
+        }
+
+        try {
+            long remainingNanos = RequestDeadline.remainingNanos();
+            return remainingNanos == Long.MAX_VALUE
+                    ? future.get()
+                    : future.get(Math.max(0L, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ApiException(ErrorCode.DEADLINE_EXCEEDED);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("password hashing failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class HashThreadFactory implements ThreadFactory {
+        private final AtomicInteger seq = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
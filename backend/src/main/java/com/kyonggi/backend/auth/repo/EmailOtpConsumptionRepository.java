@@ -0,0 +1,39 @@
+package com.kyonggi.backend.auth.repo;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.kyonggi.backend.auth.domain.EmailOtp;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+
+/**
+ * 가입 완료 전용 email_otp 접근 (메인 풀 / 메인 트랜잭션 매니저)
+ *
+ * - OTP 발급/검증은 otp 전용 풀(EmailOtpRepository)을 쓰지만,
+ *   가입 완료는 OTP 1회 소비와 users INSERT가 한 트랜잭션이어야 한다 → 소비 DELETE만 메인 쪽에 둔다.
+ * - 같은 DB의 같은 테이블이므로 행 락/조건은 발급·검증 경로와 그대로 맞물린다.
+ */
+public interface EmailOtpConsumptionRepository extends Repository<EmailOtp, Long> {
+
+    /**
+     * 가입 완료 시 OTP 1회 소비 (조건부 DELETE 한 방)
+     * - 가입 티켓이 가리키는 "그 검증"(verified_at 일치)이고 아직 미만료일 때만 지운다.
+     * - 동시에 두 번 완료해도 한 트랜잭션만 1을 받는다. (나머지는 행 X 락 해제 후 0)
+     * - 반환값 1 = 소비 성공, 0 = 이미 소비/재발급/만료(이유는 호출자가 판별)
+     * @Transactional 안에서 호출되어야 한다.
+     */
+    @Modifying
+    @Query("""
+            delete from EmailOtp e
+            where e.email = :email and e.purpose = :purpose
+              and e.verifiedAt = :verifiedAt and e.expiresAt > :now
+            """)
+    int deleteIfConsumable(@Param("email") String email,
+                           @Param("purpose") OtpPurpose purpose,
+                           @Param("verifiedAt") LocalDateTime verifiedAt,
+                           @Param("now") LocalDateTime now);
+}
@@ -1,10 +1,14 @@
 package com.kyonggi.backend.auth.repo;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,7 +16,12 @@ import com.kyonggi.backend.auth.domain.EmailOtp;
 import com.kyonggi.backend.auth.domain.OtpPurpose;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
+/**
+ * email_otp 리포지토리 (otp 풀 / otp 트랜잭션 매니저, OtpDataSourceConfig)
+ * - 발급/검증/정리 전용. 가입 완료의 1회 소비는 메인 풀의 EmailOtpConsumptionRepository가 한다.
+ */
 @Repository
 public interface EmailOtpRepository extends JpaRepository<EmailOtp, Long> {
 
@@ -23,15 +32,14 @@ public interface EmailOtpRepository extends JpaRepository<EmailOtp, Long> {
      * Row-lock 조회 (대부분 DB에서 SELECT ... FOR UPDATE).
      *
      * 동일 (email, purpose) OTP 흐름을 트랜잭션 단위로 직렬화한다.
-     * - request: 쿨다운/일일제한 체크 레이스 방지    (동시에 OTP 발급 요청)
-     * - verify: 실패 횟수 누적(lost update) 방지   (동시에 OTP 인증 요청)
      * - complete: OTP 1회 소비(one-time use) 보장 (동시에 회원가입 요청)
      *
      * 주의: row가 없으면 잠글 대상이 없다.
-     * → 최초 생성 레이스는 (email, purpose) UNIQUE 제약으로 막고,
-     *   insert 충돌(DataIntegrityViolationException) 시 재조회 후 정책 검증/갱신으로 처리한다.
+     * → 발급(request)은 잠금 조회 대신 upsertIssue 한 문장으로 처리한다. (최초 생성 레이스는 UNIQUE 키 위 upsert가 해소)
+     * 검증(verify)도 잠금 조회 없이 조건부 UPDATE(markVerifiedIfMatches / increaseFailureIfMismatch)로 처리한다.
      *
      * @Transactional 안에서 호출되어야 락이 유지된다.
+     * 락 대기는 커넥션 초기화 SQL의 innodb_lock_wait_timeout으로 제한된다 (application.yml hikari.connection-init-sql).
      */
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -39,4 +47,127 @@ public interface EmailOtpRepository extends JpaRepository<EmailOtp, Long> {
     Optional<EmailOtp> findByEmailAndPurposeForUpdate(
             @Param("email") String email,
             @Param("purpose") OtpPurpose purpose);
+
+    /**
+     * NOWAIT 변형 (SELECT ... FOR UPDATE NOWAIT)
+     * - 이미 다른 트랜잭션이 잠근 행이면 기다리지 않고 즉시 PessimisticLockingFailureException
+     *   → LockContention이 429 LOCK_CONFLICT로 바꾼다. (커넥션을 쥔 채 줄 서지 않는다)
+     * - jakarta.persistence.lock.timeout=0 → Hibernate MySQLDialect가 NOWAIT로 렌더링
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("select e from EmailOtp e where e.email = :email and e.purpose = :purpose")
+    Optional<EmailOtp> findByEmailAndPurposeForUpdateNoWait(
+            @Param("email") String email,
+            @Param("purpose") OtpPurpose purpose);
+
+    /**
+     * OTP 발급 upsert (INSERT ... ON DUPLICATE KEY UPDATE 한 방)
+     *
+     * - 행이 없으면 새 OTP를 INSERT (id = 호출자가 만든 TimeOrderedIds 값)
+     * - 행이 있으면 재발급 정책(verified 미만료 / 일일 제한 / 쿨다운)을 "조건식"으로 평가해
+     *   통과할 때만 재발급 값으로 덮어쓰고, 아니면 모든 컬럼을 그대로 둔다.
+     *   → SELECT ... FOR UPDATE 선조회도, UNIQUE 충돌 예외 경로도 없다.
+     *
+     * MySQL은 UPDATE 절의 대입을 왼쪽부터 적용하고, 뒤의 대입은 "이미 바뀐 값"을 읽는다.
+     * - 그래서 정책 조건은 원래 값이 살아 있는 첫 대입(send_count)에서 한 번만 평가하고,
+     *   통과 여부를 send_count + 1,000,000,000 으로 표식한다. (일일 발송 횟수는 이 값에 절대 닿지 않는다)
+     * - 나머지 대입은 표식(send_count >= 1000000000)만 보고, 마지막 대입에서 표식을 걷어낸다.
+     *
+     * 반환값(영향 행 수, Connector/J 기본 CLIENT_FOUND_ROWS 기준):
+     * - 2: 기존 행 재발급됨
+     * - 1: 새 행 INSERT 또는 정책 위반으로 변경 없음 → 호출자가 행 id로 구분한다.
+     *
+     * @Transactional 안에서 호출되어야 한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            insert into email_otp
+                (id, email, purpose, code_hash, expires_at, verified_at, failed_attempts,
+                 last_sent_at, resend_available_at, send_count_date, send_count)
+            values
+                (:id, :email, :purpose, :codeHash, :expiresAt, null, 0,
+                 :now, :resendAvailableAt, :today, 1)
+            on duplicate key update
+                send_count = if(
+                        not (verified_at is not null and expires_at > :now)
+                        and if(send_count_date = :today, send_count, 0) < :dailyLimit
+                        and resend_available_at <= :now,
+                        if(send_count_date = :today, send_count, 0) + 1 + 1000000000,
+                        send_count),
+                code_hash           = if(send_count >= 1000000000, :codeHash, code_hash),
+                expires_at          = if(send_count >= 1000000000, :expiresAt, expires_at),
+                verified_at         = if(send_count >= 1000000000, null, verified_at),
+                failed_attempts     = if(send_count >= 1000000000, 0, failed_attempts),
+                last_sent_at        = if(send_count >= 1000000000, :now, last_sent_at),
+                resend_available_at = if(send_count >= 1000000000, :resendAvailableAt, resend_available_at),
+                send_count_date     = if(send_count >= 1000000000, :today, send_count_date),
+                send_count          = if(send_count >= 1000000000, send_count - 1000000000, send_count)
+            """, nativeQuery = true)
+    int upsertIssue(@Param("id") long id,
+                    @Param("email") String email,
+                    @Param("purpose") String purpose,
+                    @Param("codeHash") String codeHash,
+                    @Param("expiresAt") LocalDateTime expiresAt,
+                    @Param("now") LocalDateTime now,
+                    @Param("resendAvailableAt") LocalDateTime resendAvailableAt,
+                    @Param("today") LocalDate today,
+                    @Param("dailyLimit") int dailyLimit);
+
+    /**
+     * OTP 검증 성공 처리 (조건부 UPDATE, 행 락 선조회 없음)
+     * - 코드 해시 일치 + 미검증 + 미만료 + 실패 횟수 여유가 "한 문장 안에서" 동시에 참일 때만 verified로 바꾼다.
+     * - 반환값 1 = 검증 성공, 0 = 조건 불충족(이유는 호출자가 판별)
+     * @Transactional 안에서 호출되어야 한다.
+     */
+    @Modifying
+    @Query("""
+            update EmailOtp e set e.verifiedAt = :now
+            where e.email = :email and e.purpose = :purpose
+              and e.codeHash = :codeHash
+              and e.verifiedAt is null and e.expiresAt > :now
+              and e.failedAttempts < :maxFailures
+            """)
+    int markVerifiedIfMatches(@Param("email") String email,
+                              @Param("purpose") OtpPurpose purpose,
+                              @Param("codeHash") String codeHash,
+                              @Param("now") LocalDateTime now,
+                              @Param("maxFailures") int maxFailures);
+
+    /**
+     * OTP 불일치 실패 누적 (원자적 +1)
+     * - failed_attempts = failed_attempts + 1 을 DB가 계산하므로 동시 시도끼리 lost update가 없다.
+     * - 상한(maxFailures) 도달 이후에는 더 올리지 않는다.
+     * - 반환값 1 = 실패 1회 기록, 0 = 누적 대상 아님(없음/검증됨/만료/상한/코드 일치)
+     * @Transactional 안에서 호출되어야 한다.
+     */
+    @Modifying
+    @Query("""
+            update EmailOtp e set e.failedAttempts = e.failedAttempts + 1
+            where e.email = :email and e.purpose = :purpose
+              and e.codeHash <> :codeHash
+              and e.verifiedAt is null and e.expiresAt > :now
+              and e.failedAttempts < :maxFailures
+            """)
+    int increaseFailureIfMismatch(@Param("email") String email,
+                                  @Param("purpose") OtpPurpose purpose,
+                                  @Param("codeHash") String codeHash,
+                                  @Param("now") LocalDateTime now,
+                                  @Param("maxFailures") int maxFailures);
+
+    /**
+     * 만료된 OTP 행 비동기 정리 (가입 완료 경로 밖, @Scheduled)
+     * - 오늘 발송분(send_count_date = today)은 일일 발송 제한 카운터라 만료돼도 남긴다.
+     * - 한 번에 batchSize행만 지운다 → 긴 트랜잭션/대량 언두 로그 없이 반복 호출로 비운다.
+     * @Transactional 안에서 호출되어야 한다.
+     */
+    @Modifying
+    @Query(value = """
+            delete from email_otp
+            where expires_at < :now and send_count_date < :today
+            limit :batchSize
+            """, nativeQuery = true)
+    int deleteStale(@Param("now") LocalDateTime now,
+                    @Param("today") LocalDate today,
+                    @Param("batchSize") int batchSize);
 }
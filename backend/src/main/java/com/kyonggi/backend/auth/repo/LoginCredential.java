@@ -0,0 +1,21 @@
+package com.kyonggi.backend.auth.repo;
+
+import com.kyonggi.backend.auth.domain.UserRole;
+import com.kyonggi.backend.auth.domain.UserStatus;
+
+/**
+ * 로그인 판정에 필요한 컬럼만 담는 조회 전용 프로젝션
+ *
+ * - User 엔티티 전체(모든 컬럼 + 영속성 컨텍스트 스냅샷)를 올리지 않는다.
+ * - idx_users_login_cover(email, password_hash, status, role [+ PK]) 하나로 응답되도록 컬럼을 맞춘다.
+ */
+public interface LoginCredential {
+
+    Long getId();
+
+    String getPasswordHash();
+
+    UserStatus getStatus();
+
+    UserRole getRole();
+}
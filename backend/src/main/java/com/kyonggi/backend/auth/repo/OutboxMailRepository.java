@@ -0,0 +1,106 @@
+package com.kyonggi.backend.auth.repo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kyonggi.backend.auth.domain.OutboxMail;
+import com.kyonggi.backend.auth.domain.OutboxMailStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * mail_outbox 리포지토리 (otp 풀 / otp 트랜잭션 매니저, OtpDataSourceConfig)
+ */
+@Repository
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, Long> {
+
+    /**
+     * 발송 대상 임대용 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * - lock.timeout = -2 → Hibernate LockOptions.SKIP_LOCKED
+     * - 여러 워커/레플리카가 동시에 가져가도 서로 기다리지 않고, 이미 잠긴 행은 건너뛴다.
+     * - 잠금은 임대(claimed_until) 갱신 커밋까지만 유지된다. SMTP 대화 동안에는 행 락/커넥션을 쥐지 않는다.
+     * - idx_mail_outbox_due (status, next_attempt_at) 범위 스캔
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select m from OutboxMail m
+            where m.status = :status
+              and m.nextAttemptAt <= :now
+              and (m.claimedUntil is null or m.claimedUntil <= :now)
+            order by m.nextAttemptAt
+            """)
+    List<OutboxMail> findClaimable(@Param("status") OutboxMailStatus status,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable page);
+
+    // 발송 성공분 삭제 (한 통 보낼 때마다 바로 → 임대가 끝난 뒤 다른 워커가 다시 보내는 창을 줄인다)
+    @Modifying
+    @Query("delete from OutboxMail m where m.id = :id")
+    int deleteSent(@Param("id") Long id);
+
+    /**
+     * 임대 연장 (배치 발송이 길어질 때)
+     * - claimed_until > now = 아직 만료 전 → 다른 워커가 가져갈 수 없었던 행, 즉 여전히 이 워커의 임대다.
+     * - 만료된 행은 건드리지 않는다(이미 다른 워커가 임대했을 수 있다) → 반환값 < ids.size()면 임대를 잃은 것.
+     */
+    @Modifying
+    @Query("""
+            update OutboxMail m
+               set m.claimedUntil = :until
+             where m.id in :ids
+               and m.claimedUntil > :now
+            """)
+    int extendLease(@Param("ids") Collection<Long> ids,
+                    @Param("now") LocalDateTime now,
+                    @Param("until") LocalDateTime until);
+
+    // 일시 실패: 임대를 풀고 백오프 뒤에 다시 가져가게 한다.
+    @Modifying
+    @Query("""
+            update OutboxMail m
+               set m.attempts = m.attempts + 1,
+                   m.nextAttemptAt = :nextAttemptAt,
+                   m.claimedUntil = null,
+                   m.lastError = :error
+             where m.id = :id
+            """)
+    int scheduleRetry(@Param("id") Long id,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    // 실패 확정: 더 이상 보내지 않는다. payload(암호문)는 쓸모가 없으므로 비운다.
+    @Modifying
+    @Query("""
+            update OutboxMail m
+               set m.status = :dead,
+                   m.attempts = m.attempts + 1,
+                   m.payload = '',
+                   m.claimedUntil = null,
+                   m.lastError = :error
+             where m.id = :id
+            """)
+    int markDead(@Param("id") Long id,
+                 @Param("dead") OutboxMailStatus dead,
+                 @Param("error") String error);
+
+    // 보존 기간이 지난 DEAD 행 정리 (LIMIT 배치)
+    @Modifying
+    @Query(value = """
+            DELETE FROM mail_outbox
+            WHERE status = 'DEAD' AND created_at < :cutoff
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deleteDeadBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -1,8 +1,12 @@
 package com.kyonggi.backend.auth.repo;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kyonggi.backend.auth.domain.User;
@@ -15,4 +19,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
     
     Optional<User> findByEmail(String email);
+
+    /**
+     * 로그인 조회 (커버링 인덱스 전용 프로젝션)
+     * - idx_users_login_cover만 읽고 클러스터드(PK) 레코드는 건드리지 않는다.
+     * - email은 UNIQUE라 힌트가 없으면 옵티마이저가 uq_users_email(const)을 골라 PK 룩업이 한 번 더 생긴다.
+     */
+    @Query(value = """
+            select u.id as id, u.password_hash as passwordHash, u.status as status, u.role as role
+            from users u force index (idx_users_login_cover)
+            where u.email = :email
+            """, nativeQuery = true)
+    Optional<LoginCredential> findLoginCredentialByEmail(@Param("email") String email);
+
+    /**
+     * 로그인 성공 시각 갱신 (엔티티 로딩/더티체킹 없이 UPDATE 1방)
+     * - LoginService는 해싱을 트랜잭션 밖에서 하므로 User가 준영속 상태다.
+     * @Transactional 안에서 호출되어야 한다.
+     */
+    @Modifying
+    @Query("update User u set u.lastLoginAt = :now where u.id = :id")
+    int updateLastLoginAt(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 로그인 시 재해싱 결과 반영 (compare-and-set)
+     * - 해싱 동안 다른 경로로 비밀번호가 바뀌었으면 덮어쓰지 않는다(where password_hash = :currentHash).
+     * @Transactional 안에서 호출되어야 한다.
+     */
+    @Modifying
+    @Query("update User u set u.passwordHash = :upgradedHash where u.id = :id and u.passwordHash = :currentHash")
+    int updatePasswordHash(@Param("id") Long id,
+                           @Param("currentHash") String currentHash,
+                           @Param("upgradedHash") String upgradedHash);
 }
@@ -3,12 +3,12 @@ package com.kyonggi.backend.auth.token.domain;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+import com.kyonggi.backend.global.jpa.TimeOrderedId;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
@@ -55,8 +55,9 @@ public class RefreshToken {
 
     private static final String HEX64_REGEX = "^[0-9a-f]{64}$";
 
+    // PK - 애플리케이션에서 생성하는 시간 순서 BIGINT (IDENTITY와 달리 INSERT를 flush까지 모아 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -1,17 +1,27 @@
 package com.kyonggi.backend.auth.token.repo;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kyonggi.backend.auth.token.domain.RefreshToken;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
+/**
+ * refresh_tokens 리포지토리 (refresh 라우팅 풀 / refresh 트랜잭션 매니저, RefreshTokenDataSourceConfig)
+ *
+ * - 모든 호출은 샤드 하나에 간다: RefreshTokenTransactions.execute(shard, ...) 안에서 부른다.
+ *   (문맥 없이 부르면 shard 0 = 메인 DB)
+ */
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
@@ -31,4 +41,26 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select r from RefreshToken r where r.tokenHash = :tokenHash")
     Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+
+    /**
+     * NOWAIT 변형 (SELECT ... FOR UPDATE NOWAIT) — rotate/logout 핫 경로용
+     * - 같은 노드의 동일 토큰 요청은 StripedKeyLock이 이미 줄 세우므로, 여기서 충돌하는 건 다른 레플리카의 동시 요청뿐이다.
+     *   → 기다리지 않고 즉시 실패시켜 커넥션을 돌려준다. (LockContention → 429 LOCK_CONFLICT)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("select r from RefreshToken r where r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdateNoWait(@Param("tokenHash") String tokenHash);
+
+    /** 살아 있는 세션 수 (RefreshShardsEndpoint: 리밸런싱 후 샤드가 비었는지 확인) */
+    @Query("select count(r) from RefreshToken r where r.revokedAt is null and r.expiresAt > :now")
+    long countLive(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 행 정리 (한 번에 limit개, 호출자가 limit 미만이 나올 때까지 반복)
+     * - 만료 전 ROTATED/LOGOUT 행은 남긴다: 재사용 탐지(REFRESH_REUSED)/REFRESH_REVOKED 응답에 필요하다.
+     */
+    @Modifying
+    @Query(value = "delete from refresh_tokens where expires_at <= :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
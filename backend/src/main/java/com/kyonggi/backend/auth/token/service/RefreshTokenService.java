@@ -4,18 +4,23 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.kyonggi.backend.auth.config.AuthProperties;
 import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.event.AuthEvent;
+import com.kyonggi.backend.auth.event.AuthEventBus;
 import com.kyonggi.backend.auth.repo.UserRepository;
 import com.kyonggi.backend.auth.token.domain.RefreshRevokeReason;
 import com.kyonggi.backend.auth.token.domain.RefreshToken;
 import com.kyonggi.backend.auth.token.repo.RefreshTokenRepository;
+import com.kyonggi.backend.auth.token.shard.RefreshTokenShards;
+import com.kyonggi.backend.auth.token.shard.RefreshTokenTransactions;
 import com.kyonggi.backend.auth.token.support.TokenGenerator;
 import com.kyonggi.backend.auth.token.support.TokenHashUtils;
 import com.kyonggi.backend.global.ApiException;
 import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.global.overload.LockContention;
+import com.kyonggi.backend.global.overload.StripedKeyLock;
 import com.kyonggi.backend.security.JwtService;
 
 import lombok.RequiredArgsConstructor;
@@ -30,6 +35,19 @@ import lombok.RequiredArgsConstructor;
  * 동시성:
  * - old row를 SELECT ... FOR UPDATE(PESSIMISTIC_WRITE)로 잠가
  *    같은 Row에 동시 여러 트랜잭션의 접근을 막는다
+ * - 그 전에 같은 refresh 해시의 rotate/revoke를 StripedKeyLock으로 메모리에서 줄 세운다.
+ *    (여러 탭의 동시 refresh가 각자 커넥션을 쥔 채 행 락을 기다리지 않게: 노드당 토큰당 커넥션 1개)
+ *    → rotate/revokeIfPresent의 트랜잭션 경계는 락 안쪽의 샤드 트랜잭션(RefreshTokenTransactions)이다.
+ *
+ * 샤딩(RefreshTokenShards):
+ * - 새 토큰은 user_id 해시로 고른 샤드에 저장하고 원문에 "<shard>." prefix를 붙인다.
+ * - rotate/revokeIfPresent는 원문의 prefix만 보고 그 샤드 하나에서 트랜잭션을 연다. (prefix 없음 = shard 0)
+ * - rotate = [old 샤드: 잠금/검증/ROTATED 커밋] → 사용자 조회(메인) → [새 샤드: 발급 커밋]
+ *    한 번에 커넥션 하나만 쥔다(풀끼리 서로 기다리지 않게). old와 새 샤드가 달라도(리밸런싱 중) 같은 순서다.
+ *    발급이 실패하면 old는 이미 ROTATED → 세션 종료로 끝난다(fail-closed, 재로그인).
+ *
+ * 이벤트(AuthEventBus, 커밋 이후 발행):
+ * - rotate 성공 → RefreshRotated, revoke로 세션이 실제로 종료됨 → SessionRevoked (이미 없던/폐기된 토큰은 발행 안 함)
  *
  * rememberMe 정책
  * - rememberMe=true → rememberMeSeconds
@@ -49,8 +67,15 @@ public class RefreshTokenService {
     private final AuthProperties props;       
     private final Clock clock;                 
 
-    // 리프레쉬 토큰 발급
-    @Transactional
+    private final StripedKeyLock keyLock;
+    private final LockContention lockContention;
+    private final RefreshTokenShards shards;
+    private final RefreshTokenTransactions shardTransactions;
+    private final AuthEventBus eventBus;
+
+    private static final String REFRESH_LOCK = StripedKeyLock.REFRESH;
+
+    // 리프레쉬 토큰 발급 (이 사용자의 샤드에서 자체 트랜잭션으로 커밋, 다른 트랜잭션 안에서 부르지 않는다)
     public Issued issue(Long userId, boolean rememberMe) {
         if (userId == null) throw new IllegalArgumentException("userId must not be null");
 
@@ -58,35 +83,65 @@ public class RefreshTokenService {
         long ttlSeconds = resolveTtlSeconds(rememberMe);
         LocalDateTime expiresAt = now.plusSeconds(ttlSeconds);
 
-        String raw = tokenGenerator.generateRefreshToken();
-        if (raw == null || raw.isBlank()) {
+        String random = tokenGenerator.generateRefreshToken();
+        if (random == null || random.isBlank()) {
             throw new IllegalStateException("generated refresh token is blank");
         }
 
+        int shard = shards.shardFor(userId);
+        String raw = RefreshTokenShards.format(shard, random);
         String hash = TokenHashUtils.sha256Hex(raw);
 
         RefreshToken newRefreshToken = RefreshToken.issue(userId, hash, rememberMe, now, expiresAt);
-        refreshTokenRepository.save(newRefreshToken);
+        shardTransactions.execute(shard, () -> refreshTokenRepository.save(newRefreshToken));
 
         return new Issued(raw, expiresAt, rememberMe); // 토큰의 원문을 쿠키로 내려줘야 하므로 raw를 반환한다.
     }
 
     // 리프레쉬 토큰 재발급
-    @Transactional
     public RotateResult rotate(String oldRefreshRaw) {
         if (oldRefreshRaw == null || oldRefreshRaw.isBlank()) {
             throw new ApiException(ErrorCode.REFRESH_INVALID); // @DisplayName("리프레시: 쿠키 없음 → 401 REFRESH_INVALID")
         }
-        
+
+        int shard = shards.shardOf(oldRefreshRaw);
+        if (shard < 0) {
+            throw new ApiException(ErrorCode.REFRESH_INVALID); // prefix 형식이 틀리거나 없는 샤드 = 우리가 발급한 적 없는 토큰
+        }
+
+        String hash = TokenHashUtils.sha256Hex(oldRefreshRaw);
+        // 다른 레플리카가 같은 토큰을 잠그고 있으면 즉시 429 LOCK_CONFLICT (재시도하면 REFRESH_REUSED를 보게 된다)
+        Rotated rotated = keyLock.withLock(REFRESH_LOCK, hash, () -> lockContention.failFast(
+                () -> shardTransactions.execute(shard, () -> rotateLocked(hash))));
+
+        // 3) user lookup (old 샤드 커밋 이후, 역추적/정보노출 방지: User가 없으면 REFRESH_INVALID로 뭉개기)
+        User user = userRepository.findById(rotated.userId())
+                .orElseThrow(() -> new ApiException(ErrorCode.REFRESH_INVALID)); // @DisplayName("refresh: 로그인 후 유저 삭제(토큰 row도 함께 제거됨) → REFRESH_INVALID")
+
+        // 4) issue: new Refresh & Access Token (이 사용자의 현재 샤드: 리밸런싱 중이면 old와 다른 샤드)
+        Issued newlyIssued = issue(user.getId(), rotated.rememberMe());
+        String accessToken = jwtService.issueAccessToken(user.getId(), user.getRole());
+
+       /**
+         * @DisplayName("로그인: refresh 쿠키 발급 + DB에는 refresh 해시 저장(rememberMe=false)")
+         * @DisplayName("로그인: refresh 쿠키 발급 + DB rememberMe=true 저장(rememberMe=true)")
+         * @DisplayName("리프레시: 정상 로테이션(새 refresh 발급) + 기존 refresh ROTATED로 폐기 + 새 row는 revoked=false")
+         * @DisplayName("리프레시: 로테이션 후 rememberMe 정책 유지(쿠키 TTL + DB rememberMe 유지)")
+         */
+        eventBus.publish(new AuthEvent.RefreshRotated(user.getId(), clock.instant()));
+        return new RotateResult(accessToken, newlyIssued.raw(), rotated.rememberMe(), user.getId());
+    }
+
+    private Rotated rotateLocked(String hash) {
         LocalDateTime now = LocalDateTime.now(clock);
 
         /**
-         * oldRefreshRaw를 해싱하여 DB로 (Unique)조회 
-         * - LockModeType.PESSIMISTIC_WRITE: 
+         * oldRefreshRaw의 해시로 DB (Unique)조회 
+         * - LockModeType.PESSIMISTIC_WRITE (NOWAIT): 
          *    old refresh row를 PESSIMISTIC_WRITE로 잠가서 같은 토큰을 두 번 성공하는 것을 구조적으로 차단한다.
+         *    이미 잠겨 있으면 기다리지 않고 실패한다.
          */
-        String hash = TokenHashUtils.sha256Hex(oldRefreshRaw);
-        RefreshToken oldRefreshToken = refreshTokenRepository.findByTokenHash(hash)
+        RefreshToken oldRefreshToken = refreshTokenRepository.findByTokenHashForUpdateNoWait(hash)
                                 .orElseThrow(() -> new ApiException(ErrorCode.REFRESH_INVALID)); // @DisplayName("리프레시: 미발급 refresh 토큰 → 401 REFRESH_INVALID")
 
 
@@ -97,46 +152,49 @@ public class RefreshTokenService {
          * - isRevoked: 로그아웃 등으로 폐기된 리프레쉬 토큰인지 검증
          * - isExpired: 만료 날짜가 지난 토큰인지 검증
          */
-        if (oldRefreshToken.isRotated()) throw new ApiException(ErrorCode.REFRESH_REUSED); // @DisplayName("리프레시: 로테이션 후 구 refresh 재사용 → 401 REFRESH_REUSED")
+        if (oldRefreshToken.isRotated()) throw refreshReused(oldRefreshToken.getUserId()); // @DisplayName("리프레시: 로테이션 후 구 refresh 재사용 → 401 REFRESH_REUSED")
         if (oldRefreshToken.isRevoked())  throw new ApiException(ErrorCode.REFRESH_REVOKED); // @DisplayName("refresh: logout으로 revoke된 refresh로 refresh 시도 → 401 REFRESH_REVOKED")
         if (oldRefreshToken.isExpired(now)) throw new ApiException(ErrorCode.REFRESH_EXPIRED); // @DisplayName("refresh: expires_at 지난 refresh → 401 REFRESH_EXPIRED")
 
-        // 2) user lookup (역추적/정보노출 방지: User가 없으면 REFRESH_INVALID로 뭉개기)
-        User user = userRepository.findById(oldRefreshToken.getUserId())
-                .orElseThrow(() -> new ApiException(ErrorCode.REFRESH_INVALID)); // @DisplayName("refresh: 로그인 후 유저 삭제(토큰 row도 함께 제거됨) → REFRESH_INVALID")
-
-        // 3) revoke old token as ROTATED
+        // 2) revoke old token as ROTATED (이 샤드 트랜잭션은 여기서 끝난다)
         oldRefreshToken.touch(now);
         oldRefreshToken.revoke(now, RefreshRevokeReason.ROTATED);
+        return new Rotated(oldRefreshToken.getUserId(), oldRefreshToken.isRememberMe());
+    }
 
-        // 4) issue: new Refresh & Access Token
-        boolean rememberMe = oldRefreshToken.isRememberMe();
-        Issued newlyIssued = issue(oldRefreshToken.getUserId(), rememberMe); 
-        String accessToken = jwtService.issueAccessToken(user.getId(), user.getRole());
-        
-       /**
-         * @DisplayName("로그인: refresh 쿠키 발급 + DB에는 refresh 해시 저장(rememberMe=false)")
-         * @DisplayName("로그인: refresh 쿠키 발급 + DB rememberMe=true 저장(rememberMe=true)")
-         * @DisplayName("리프레시: 정상 로테이션(새 refresh 발급) + 기존 refresh ROTATED로 폐기 + 새 row는 revoked=false")
-         * @DisplayName("리프레시: 로테이션 후 rememberMe 정책 유지(쿠키 TTL + DB rememberMe 유지)")
-         */
-        return new RotateResult(accessToken, newlyIssued.raw(), rememberMe);
+    // 재사용 시도는 롤백과 무관하게 남긴다 (감사 로그/탐지용, 트랜잭션은 아무것도 바꾸지 않은 채 끝난다)
+    private ApiException refreshReused(long userId) {
+        eventBus.publish(new AuthEvent.RefreshReused(userId, clock.instant()));
+        return new ApiException(ErrorCode.REFRESH_REUSED);
     }
 
     // 로그아웃/세션 종료 revoke (멱등)
-    @Transactional
     public void revokeIfPresent(String refreshRaw, RefreshRevokeReason reason) {
         if (refreshRaw == null || refreshRaw.isBlank()) // @DisplayName("logout: 미발급 쿠키 → 204 (idempotent) + 쿠키 삭제(Max-Age=0)")
             return;
 
+        int shard = shards.shardOf(refreshRaw);
+        if (shard < 0) // 발급한 적 없는 형식 → 지울 세션도 없다
+            return;
+
         String hash = TokenHashUtils.sha256Hex(refreshRaw);
 
         // @DisplayName("logout: refresh 쿠키 있음 → DB 토큰 revoke(LOGOUT) + 쿠키 삭제(Max-Age=0)")
-        refreshTokenRepository.findByTokenHashForUpdate(hash).ifPresent(token -> {
-            LocalDateTime now = LocalDateTime.now(clock);
-            token.touch(now);
-            token.revoke(now, reason); // 해당 세션 종료시키기 
-        });
+        // revoke는 멱등 → 락 충돌 시 지터 백오프로 재시도
+        // @return 이번 호출로 세션이 종료된 사용자 id (없던 토큰/이미 폐기된 토큰이면 null)
+        Long revokedUserId = keyLock.withLock(REFRESH_LOCK, hash, () -> lockContention.retryIdempotent(() ->
+                shardTransactions.execute(shard, () ->
+                        refreshTokenRepository.findByTokenHashForUpdateNoWait(hash).map(token -> {
+                            boolean alreadyRevoked = token.isRevoked();
+                            LocalDateTime now = LocalDateTime.now(clock);
+                            token.touch(now);
+                            token.revoke(now, reason); // 해당 세션 종료시키기 (이미 revoked면 변경 없음)
+                            return alreadyRevoked ? null : token.getUserId();
+                        }).orElse(null))));
+
+        if (revokedUserId != null) {
+            eventBus.publish(new AuthEvent.SessionRevoked(revokedUserId, reason, clock.instant()));
+        }
 
         // @DisplayName("logout: 쿠키 없음 → 204 (idempotent) + 쿠키 삭제 헤더는 내려옴")
     }
@@ -148,5 +206,7 @@ public class RefreshTokenService {
     }
 
     public record Issued(String raw, LocalDateTime expiresAt, boolean rememberMe) {}
-    public record RotateResult(String accessToken, String newRefreshRaw, boolean rememberMe) {}
+    public record RotateResult(String accessToken, String newRefreshRaw, boolean rememberMe, Long userId) {}
+
+    private record Rotated(long userId, boolean rememberMe) {}
 }
@@ -0,0 +1,80 @@
+package com.kyonggi.backend.auth.token.shard;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.RefreshShardingProperties;
+import com.kyonggi.backend.auth.token.repo.RefreshTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/refreshshards — refresh_tokens 샤드 리밸런싱 도구
+ *
+ * - GET: 샤드별 { acceptsNew, live(미폐기·미만료), total }
+ * - DELETE /actuator/refreshshards/{shard}: 그 샤드의 만료 행을 배치(app.auth.refresh-sharding.purge-batch-size)로 삭제
+ *
+ * 리밸런싱 절차 (RUNBOOK 4.4):
+ * 1) 새 샤드를 shards 끝에 추가하고 new-token-shards를 바꿔 재배포 → 새 로그인/rotate는 새 배치대로 간다.
+ * 2) 빠지는 샤드의 live가 0이 될 때까지 기다린다. (활성 세션은 다음 rotate 때 옮겨 가고, 나머지는 만료된다: 최대 remember-me-seconds)
+ * 3) DELETE로 만료 행을 비운 뒤 total=0이면 그 샤드는 더 이상 읽히지 않는다.
+ *
+ * - MASTER role 전용(SecurityConfig /actuator/** hasRole), exposure.include에 등록해야 노출된다.
+ * - live/total은 COUNT 쿼리다 → 대시보드 폴링 용도가 아니라 운영자가 리밸런싱 중에 확인하는 용도.
+ */
+@Component
+@Endpoint(id = "refreshshards")
+@RequiredArgsConstructor
+public class RefreshShardsEndpoint {
+
+    private final RefreshTokenShards shards;
+    private final RefreshTokenTransactions shardTransactions;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshShardingProperties props;
+    private final Clock clock;
+
+    @ReadOperation
+    public List<ShardStatus> refreshShards() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ShardStatus> body = new ArrayList<>();
+        for (int shard = 0; shard < shards.count(); shard++) {
+            int id = shard;
+            body.add(shardTransactions.execute(id, () -> new ShardStatus(
+                    id,
+                    shards.acceptsNew(id),
+                    refreshTokenRepository.countLive(now),
+                    refreshTokenRepository.count())));
+        }
+        return body;
+    }
+
+    @DeleteOperation
+    public PurgeResult purgeExpired(@Selector int shard) {
+        if (shard < 0 || shard >= shards.count()) {
+            throw new InvalidEndpointRequestException("unknown shard: " + shard, "unknown shard");
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        int batchSize = props.purgeBatchSize();
+        long deleted = 0;
+        int batch;
+        do { // 배치마다 커밋 → 큰 DELETE 하나로 행 락/언두를 오래 쥐지 않는다
+            batch = shardTransactions.execute(shard, () -> refreshTokenRepository.deleteExpired(now, batchSize));
+            deleted += batch;
+        } while (batch == batchSize);
+
+        return new PurgeResult(shard, deleted);
+    }
+
+    public record ShardStatus(int shard, boolean acceptsNew, long live, long total) {}
+    public record PurgeResult(int shard, long deleted) {}
+}
@@ -0,0 +1,48 @@
+package com.kyonggi.backend.auth.token.shard;
+
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * refresh_tokens 샤드 라우팅 DataSource (refresh EntityManagerFactory 전용)
+ *
+ * - 커넥션을 얻는 순간의 스레드 샤드 문맥(withShard)으로 대상 풀을 고른다.
+ *   → 문맥은 트랜잭션 시작 전에 걸어야 한다. (RefreshTokenTransactions가 보장)
+ * - 문맥 없음 = shard 0(메인 DB): 기동 시 스키마 검증, 테스트의 직접 리포지토리 호출 등
+ * - 없는 샤드 id는 메인으로 흘리지 않고 IllegalStateException (lenientFallback=false)
+ */
+public class RefreshTokenRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    public RefreshTokenRoutingDataSource(RefreshTokenShards shards) {
+        setTargetDataSources(shards.routingTargets());
+        setDefaultTargetDataSource(shards.routingTargets().get(RefreshTokenShards.LEGACY_SHARD));
+        setLenientFallback(false);
+    }
+
+    /** @return 현재 스레드의 샤드 (없으면 null) */
+    static Integer currentShard() {
+        return CURRENT_SHARD.get();
+    }
+
+    static <T> T withShard(int shard, Supplier<T> action) {
+        Integer previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT_SHARD.get();
+    }
+}
@@ -0,0 +1,168 @@
+package com.kyonggi.backend.auth.token.shard;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.RefreshShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * refresh_tokens 샤드 토폴로지 (app.auth.refresh-sharding)
+ *
+ * 문제:
+ * - 모든 세션(refresh_tokens)이 메인 DB 하나에 있으면 로그인/rotate/logout 쓰기가 users와 같은 인스턴스에 몰린다.
+ *
+ * 정책:
+ * - shard 0 = 메인 DataSource(기존 토큰이 있는 곳), shard 1..N = app.auth.refresh-sharding.shards 순서
+ * - 새 토큰은 user_id 해시로 new-token-shards 중 하나에 발급하고, 원문 앞에 "<shard>." 를 붙인다.
+ *   → rotate/logout은 토큰만 보고 정확히 한 샤드로 간다. (조회용 중앙 디렉터리 없음)
+ * - prefix 없는 원문 = 샤딩 전 발급분 → shard 0
+ * - 같은 설정에서 한 사용자의 새 세션은 늘 같은 샤드(shardFor)에 모인다.
+ *   new-token-shards를 바꾸면(리밸런싱) 기존 세션은 다음 rotate 때 새 샤드로 옮겨 간다.
+ *
+ * 추가 샤드:
+ * - 커넥션 풀은 메인 풀 설정(타임아웃/초기화 SQL/크기)을 복사해 url/username/password만 바꾼다. (pool=refresh-shard-N)
+ * - 기동 시 classpath:db/refresh-shard 마이그레이션을 적용한다. (refresh_tokens만, 빈 DB 전제: baseline 없음)
+ * - 샤드 풀은 스프링 빈이 아니다 → 요청 마감(DeadlineDataSource)은 이들을 묶은 라우팅 DataSource 빈에서 한 번만 걸린다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenShards implements DisposableBean {
+
+    public static final int LEGACY_SHARD = 0;
+
+    private static final String MIGRATIONS = "classpath:db/refresh-shard";
+    private static final String POOL_PREFIX = "refresh-shard-";
+    private static final long MIX = 0x9E3779B97F4A7C15L; // 연속된 user_id를 샤드에 고르게 흩는다 (피보나치 해싱)
+    private static final int MAX_SHARD_DIGITS = 3;
+
+    private final List<DataSource> dataSources = new ArrayList<>(); // index = shard id (감싸지 않은 Hikari 풀)
+    private final List<HikariDataSource> ownedPools = new ArrayList<>();
+    private final List<Integer> newTokenShards;
+
+    public RefreshTokenShards(DataSource dataSource, RefreshShardingProperties props, MeterRegistry meterRegistry)
+            throws SQLException {
+        HikariDataSource main = dataSource.unwrap(HikariDataSource.class);
+        dataSources.add(main);
+
+        try {
+            for (RefreshShardingProperties.Shard shard : props.shards()) {
+                int id = dataSources.size();
+                HikariDataSource pool = newPool(main, shard, id, meterRegistry);
+                ownedPools.add(pool);
+                migrate(pool);
+                dataSources.add(pool);
+            }
+            this.newTokenShards = validate(props.newTokenShards());
+        } catch (RuntimeException e) {
+            destroy();
+            throw e;
+        }
+
+        log.info("[refresh-shards] shards={} newTokenShards={}", dataSources.size(), newTokenShards);
+    }
+
+    /** 이 사용자의 새 토큰을 받을 샤드 */
+    public int shardFor(long userId) {
+        int index = Math.floorMod(Long.hashCode(userId * MIX), newTokenShards.size());
+        return newTokenShards.get(index);
+    }
+
+    /** 클라이언트에 내려 줄 원문: "<shard>.<random>" (random은 base64url이라 '.'이 없다) */
+    public static String format(int shard, String random) {
+        return shard + "." + random;
+    }
+
+    /**
+     * 원문에서 샤드를 읽는다.
+     * @return prefix 없음 → LEGACY_SHARD, 형식이 틀리거나 없는 샤드 → -1
+     */
+    public int shardOf(String raw) {
+        int dot = raw.indexOf('.');
+        if (dot < 0) {
+            return LEGACY_SHARD;
+        }
+        if (dot == 0 || dot > MAX_SHARD_DIGITS) {
+            return -1;
+        }
+
+        int shard = 0;
+        for (int i = 0; i < dot; i++) {
+            char c = raw.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            shard = shard * 10 + (c - '0');
+        }
+        return shard < dataSources.size() ? shard : -1;
+    }
+
+    public boolean acceptsNew(int shard) {
+        return newTokenShards.contains(shard);
+    }
+
+    public int count() {
+        return dataSources.size();
+    }
+
+    /** RefreshTokenRoutingDataSource 대상 (key = shard id) */
+    Map<Object, Object> routingTargets() {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < dataSources.size(); shard++) {
+            targets.put(shard, dataSources.get(shard));
+        }
+        return targets;
+    }
+
+    @Override
+    public void destroy() {
+        ownedPools.forEach(HikariDataSource::close);
+    }
+
+    private static HikariDataSource newPool(HikariDataSource main, RefreshShardingProperties.Shard shard, int id,
+                                            MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        main.copyStateTo(pool);
+        pool.setPoolName(POOL_PREFIX + id);
+        pool.setJdbcUrl(shard.url());
+        pool.setUsername(shard.username());
+        pool.setPassword(shard.password());
+        if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+            pool.setMetricRegistry(meterRegistry);
+        }
+        return pool;
+    }
+
+    private static void migrate(DataSource shard) {
+        Flyway.configure()
+                .dataSource(shard)
+                .locations(MIGRATIONS)
+                .load()
+                .migrate();
+    }
+
+    private List<Integer> validate(List<Integer> configured) {
+        Set<Integer> unique = new LinkedHashSet<>(configured);
+        for (Integer shard : unique) {
+            if (shard == null || shard < 0 || shard >= dataSources.size()) {
+                throw new IllegalStateException("app.auth.refresh-sharding.new-token-shards has unknown shard: " + shard
+                        + " (configured shards: 0.." + (dataSources.size() - 1) + ")");
+            }
+        }
+        return List.copyOf(unique);
+    }
+}
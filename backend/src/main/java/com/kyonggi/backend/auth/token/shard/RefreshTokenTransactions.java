@@ -0,0 +1,38 @@
+package com.kyonggi.backend.auth.token.shard;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.config.RefreshTokenDataSourceConfig;
+
+/**
+ * 샤드 하나에 대한 refresh_tokens 트랜잭션
+ *
+ * - 샤드 문맥을 먼저 걸고 트랜잭션을 연다 → 트랜잭션 커넥션이 그 샤드 풀에서 나온다.
+ * - 같은 샤드 안에서 다시 부르면 바깥 트랜잭션에 참여한다.
+ * - 다른 샤드 트랜잭션 안에서 부르면 IllegalStateException:
+ *   한 요청이 풀 커넥션을 쥔 채 다른 풀(또는 같은 풀)의 커넥션을 기다리면 부하 시 풀끼리 서로를 굶긴다.
+ *   → 샤드를 넘나드는 작업(교차 샤드 rotate)은 앞 트랜잭션을 커밋한 뒤 다음 샤드를 연다.
+ */
+@Component
+public class RefreshTokenTransactions {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public RefreshTokenTransactions(
+            @Qualifier(RefreshTokenDataSourceConfig.REFRESH) PlatformTransactionManager refreshTransactionManager) {
+        this.transactionTemplate = new TransactionTemplate(refreshTransactionManager);
+    }
+
+    public <T> T execute(int shard, Supplier<T> action) {
+        Integer current = RefreshTokenRoutingDataSource.currentShard();
+        if (current != null && current != shard) {
+            throw new IllegalStateException("refresh shard " + shard + " opened inside shard " + current);
+        }
+        return RefreshTokenRoutingDataSource.withShard(shard, () -> transactionTemplate.execute(status -> action.get()));
+    }
+}
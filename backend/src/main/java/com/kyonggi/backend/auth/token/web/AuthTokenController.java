@@ -4,6 +4,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kyonggi.backend.auth.guard.AuthRateLimiter;
+import com.kyonggi.backend.auth.guard.HeavyHitterTracker;
 import com.kyonggi.backend.auth.token.dto.RefreshResponse;
 import com.kyonggi.backend.auth.token.service.RefreshTokenService;
 import com.kyonggi.backend.auth.token.service.RefreshTokenService.RotateResult;
@@ -30,11 +32,16 @@ public class AuthTokenController {
 
     private final RefreshTokenService refreshTokenService;
     private final AuthCookieUtils cookieUtils;
+    private final AuthRateLimiter rateLimiter;
+    private final HeavyHitterTracker heavyHitters;
 
     @PostMapping("/refresh")
     public RefreshResponse refresh(HttpServletRequest request, HttpServletResponse response) {
         String refreshRaw = cookieUtils.readRefreshCookie(request);
 
+        heavyHitters.observeRefresh(request.getRemoteAddr(), refreshRaw);
+        rateLimiter.checkRefresh(request.getRemoteAddr()); // 행 락(FOR UPDATE) 이전에 거절
+
         // Service owns validation + concurrency + reuse detection.
         RotateResult result = refreshTokenService.rotate(refreshRaw);
 
@@ -56,6 +56,8 @@ public enum ErrorCode {
             "인증이 필요합니다."),
     ACCESS_INVALID(HttpStatus.UNAUTHORIZED,
             "엑세스 토큰이 유효하지 않습니다."),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN,
+            "접근 권한이 없습니다."),
 
     // Refresh token
     REFRESH_INVALID(HttpStatus.UNAUTHORIZED,
@@ -71,6 +73,16 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.UNAUTHORIZED,
             "사용자를 찾을 수 없습니다."),
 
+    // Overload
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE,
+            "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS,
+            "요청이 너무 잦습니다. 잠시 후 다시 시도해주세요."),
+    LOCK_CONFLICT(HttpStatus.TOO_MANY_REQUESTS,
+            "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    DEADLINE_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE,
+            "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+
     // Validation / Common
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST,
             "요청 값이 올바르지 않습니다."),
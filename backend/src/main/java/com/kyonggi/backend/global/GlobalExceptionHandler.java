@@ -1,5 +1,7 @@
 package com.kyonggi.backend.global;
 
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+
+    private static final int LOCK_CONFLICT_RETRY_AFTER_SECONDS = 1;
     
     /**
      * ApiException 전용 핸들러
@@ -36,6 +40,31 @@ public class GlobalExceptionHandler {
         return builder.body(ApiError.from(e));
     }
 
+    /**
+     * 행 락 대기 타임아웃/데드락 (LockContention을 거치지 않은 경로의 최후 방어선)
+     * - 대부분은 LockContention이 ApiException(LOCK_CONFLICT)로 바꿔서 올라온다.
+     * - 여기까지 온 경우도 500이 아니라 429 LOCK_CONFLICT + Retry-After로 응답한다.
+     */
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleLockConflict(PessimisticLockingFailureException e) {
+        log.warn("행 락 충돌: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity
+                .status(ErrorCode.LOCK_CONFLICT.status())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(LOCK_CONFLICT_RETRY_AFTER_SECONDS))
+                .body(ApiError.of(ErrorCode.LOCK_CONFLICT, LOCK_CONFLICT_RETRY_AFTER_SECONDS));
+    }
+
+    /**
+     * 요청 마감 초과로 중단된 쿼리 (DeadlineDataSource가 건 query timeout / 마감 후 statement 생성 차단)
+     */
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ApiError> handleQueryTimeout(QueryTimeoutException e) {
+        log.warn("쿼리 타임아웃(요청 마감): {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity
+                .status(ErrorCode.DEADLINE_EXCEEDED.status())
+                .body(ApiError.of(ErrorCode.DEADLINE_EXCEEDED));
+    }
+
     /**
      * @RequestBody + @Valid 검증 실패 (DTO 전체 단위 오류)
      * 
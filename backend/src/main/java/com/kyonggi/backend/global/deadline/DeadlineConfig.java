@@ -0,0 +1,43 @@
+package com.kyonggi.backend.global.deadline;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.kyonggi.backend.global.overload.OverloadConfig;
+import com.kyonggi.backend.global.overload.OverloadProperties;
+
+/**
+ * 요청 마감 전파 설정
+ *
+ * - RequestDeadlineFilter: 과부하 보호 필터들보다 먼저 → 격벽 대기 시간도 예산에 포함된다.
+ * - DataSource를 DeadlineDataSource로 감싼다 → 요청 스레드의 모든 JDBC statement에 남은 예산만큼 query timeout
+ */
+@Configuration
+public class DeadlineConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(OverloadProperties props) {
+        FilterRegistrationBean<RequestDeadlineFilter> registration =
+                new FilterRegistrationBean<>(new RequestDeadlineFilter(props.deadline()));
+        registration.setOrder(OverloadConfig.FILTER_ORDER - 1);
+        return registration;
+    }
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static
+    @Bean
+    public static BeanPostProcessor deadlineDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DeadlineDataSource)) {
+                    return new DeadlineDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.kyonggi.backend.global.deadline;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 요청 마감 → JDBC statement query timeout
+ *
+ * - 요청 스레드(RequestDeadline 설정됨)에서 꺼낸 커넥션만 프록시로 감싼다.
+ *   스케줄러/기동 작업은 원래 커넥션 그대로 (오버헤드 없음)
+ * - Statement 생성(createStatement/prepareStatement/prepareCall) 시점의 남은 예산으로 setQueryTimeout(초, 올림)
+ *   → JPA/JdbcTemplate 구분 없이 모든 쿼리에 적용된다.
+ * - 이미 마감이 지났으면 쿼리를 보내지 않고 SQLTimeoutException
+ *   (Spring이 QueryTimeoutException으로 번역 → GlobalExceptionHandler가 503 DEADLINE_EXCEEDED)
+ *
+ * DelegatingDataSource라서 unwrap(HikariDataSource)과 Boot의 Hikari 메트릭 바인딩은 그대로 동작한다.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+    public DeadlineDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection target) {
+        if (!RequestDeadline.isSet()) {
+            return target;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                DeadlineDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (result instanceof Statement statement) {
+                        applyRemainingBudget(statement);
+                    }
+                    return result;
+                });
+    }
+
+    private static void applyRemainingBudget(Statement statement) throws SQLException {
+        long remainingNanos = RequestDeadline.remainingNanos();
+        if (remainingNanos == Long.MAX_VALUE) {
+            return; // 커넥션을 다른 스레드로 넘긴 경우 등: 마감 정보 없음
+        }
+        if (remainingNanos <= 0) {
+            statement.close();
+            throw new SQLTimeoutException("request deadline exceeded before statement execution");
+        }
+        int seconds = (int) Math.max(1, (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        statement.setQueryTimeout(seconds);
+    }
+}
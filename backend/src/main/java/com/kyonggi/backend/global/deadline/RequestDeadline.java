@@ -0,0 +1,61 @@
+package com.kyonggi.backend.global.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 요청 마감 시각 보관소 (요청 스레드 ThreadLocal)
+ *
+ * - RequestDeadlineFilter가 요청 진입 시 설정하고, 요청이 끝나면 지운다.
+ * - 하위 I/O는 "남은 예산"으로 자기 타임아웃을 정한다:
+ *   JDBC statement query timeout (DeadlineDataSource), 비밀번호 해싱 대기 (PasswordHasher)
+ * - OTP 메일(SMTP)은 outbox 워커에서 보내므로 요청 마감의 대상이 아니다 (SignupMailSender)
+ * - 마감이 없는 스레드(스케줄러/기동 시 작업)에서는 모든 메서드가 "제한 없음"으로 동작한다.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    static void set(long deadlineNanos) {
+        DEADLINE_NANOS.set(deadlineNanos);
+    }
+
+    static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    public static boolean isSet() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /** 마감이 없으면 Long.MAX_VALUE, 지났으면 0 이하 */
+    public static long remainingNanos() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    public static long remainingMillis() {
+        long nanos = remainingNanos();
+        return nanos == Long.MAX_VALUE ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    public static boolean isExceeded() {
+        return remainingNanos() <= 0;
+    }
+
+    /** 마감이 지났으면 더 진행하지 않는다 (503 DEADLINE_EXCEEDED) */
+    public static void checkNotExceeded() {
+        if (isExceeded()) {
+            throw new ApiException(ErrorCode.DEADLINE_EXCEEDED);
+        }
+    }
+
+    /** 다른 스레드(해싱 실행기 등)로 넘길 때 쓰는 절대 마감 시각 (없으면 null) */
+    public static Long captureDeadlineNanos() {
+        return DEADLINE_NANOS.get();
+    }
+}
@@ -0,0 +1,78 @@
+package com.kyonggi.backend.global.deadline;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.kyonggi.backend.global.overload.OverloadProperties;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 마감(deadline) 설정 필터 (과부하 보호 필터들보다 먼저 실행)
+ *
+ * - 예산 = min(경로별 설정값, 클라이언트 헤더값)
+ *   · 경로별: app.overload.deadline.routes (가장 긴 prefix 일치, 없으면 default-millis)
+ *   · 헤더: app.overload.deadline.header (남은 시간 ms, 상대값 — 서버/클라이언트 시계 차이와 무관)
+ *     클라이언트/게이트웨이가 더 짧게 기다린다면 그보다 오래 일할 이유가 없다.
+ * - 헤더가 더 긴 값을 요구해도 설정값을 넘지 않는다(서버 자원 보호 상한).
+ * - /actuator/** 는 제외.
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final OverloadProperties.Deadline props;
+    private final List<Map.Entry<String, Long>> routes; // prefix 길이 내림차순
+
+    public RequestDeadlineFilter(OverloadProperties.Deadline props) {
+        this.props = props;
+        this.routes = props.routes().entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, Long> e) -> e.getKey().length()).reversed())
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.enabled() || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        long budgetMillis = Math.min(routeBudget(request.getRequestURI()), headerBudget(request));
+        RequestDeadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private long routeBudget(String uri) {
+        for (Map.Entry<String, Long> route : routes) {
+            if (uri.startsWith(route.getKey())) {
+                return route.getValue();
+            }
+        }
+        return props.defaultMillis();
+    }
+
+    private long headerBudget(HttpServletRequest request) {
+        String value = request.getHeader(props.header());
+        if (value == null || value.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Math.max(1L, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE; // 잘못된 헤더는 무시하고 설정값만 적용
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.kyonggi.backend.global.jpa;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 무결성 위반 예외 → 위반된 제약 이름
+ *
+ * 왜 필요한가:
+ * - UNIQUE 충돌 후 "어느 컬럼이 겹쳤는지"를 exists 쿼리로 다시 묻는 대신,
+ *   DB가 이미 알려 준 제약 이름(uq_users_email 등)으로 바로 분기한다. (추가 왕복 0)
+ *
+ * 출처 (먼저 찾은 것):
+ * 1) Hibernate ConstraintViolationException.getConstraintName() — 방언(MySQLDialect)이 추출한 값
+ * 2) SQLException 메시지 — MySQL 1062: "Duplicate entry '...' for key 'users.uq_users_email'"
+ *
+ * MySQL 8은 키 이름 앞에 "테이블." 을 붙이므로 비교는 isViolated(e, name)로 한다(접두사 무시, 대소문자 무시).
+ */
+public final class ConstraintViolations {
+
+    private static final String MYSQL_DUPLICATE_KEY_MARKER = "for key '";
+
+    private ConstraintViolations() {}
+
+    public static boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+        String violated = violatedConstraint(e);
+        if (violated == null) {
+            return false;
+        }
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        return violated.equals(expected) || violated.endsWith("." + expected);
+    }
+
+    /**
+     * @return 소문자 제약 이름 (테이블 접두사가 붙어 있을 수 있음), 알 수 없으면 null
+     */
+    public static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+                return cve.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+            if (t instanceof SQLException sql && sql.getMessage() != null) {
+                String fromMessage = fromMySqlMessage(sql.getMessage());
+                if (fromMessage != null) {
+                    return fromMessage;
+                }
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    private static String fromMySqlMessage(String message) {
+        int start = message.lastIndexOf(MYSQL_DUPLICATE_KEY_MARKER);
+        if (start < 0) {
+            return null;
+        }
+        start += MYSQL_DUPLICATE_KEY_MARKER.length();
+        int end = message.indexOf('\'', start);
+        return end > start ? message.substring(start, end).toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.kyonggi.backend.global.jpa;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * @Id 필드에 붙이면 INSERT 전에 TimeOrderedIds.next()로 PK를 채운다.
+ * - @GeneratedValue와 함께 쓰지 않는다. (이 애노테이션 자체가 생성 전략)
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,68 @@
+package com.kyonggi.backend.global.jpa;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+
+/**
+ * 시간 순서 BIGINT ID 생성기 (Snowflake / UUIDv7 스타일, 63bit)
+ *
+ * 레이아웃 (부호 비트 0 고정):
+ * - 41bit: EPOCH(2026-01-01T00:00:00Z) 이후 경과 ms  (약 69년)
+ * - 12bit: 노드 ID (JVM 기동 시 SecureRandom으로 1회 결정)
+ * - 10bit: 같은 ms 안의 시퀀스 (노드당 1,024개/ms)
+ *
+ * 왜 필요한가:
+ * - GenerationType.IDENTITY는 INSERT를 실행해야 PK를 알 수 있어서
+ *   Hibernate가 INSERT를 즉시 실행한다 → JDBC 배치가 꺼진다.
+ * - 애플리케이션에서 PK를 먼저 만들면 INSERT를 flush 시점까지 모아 배치로 보낼 수 있다.
+ * - 시간 순서라 InnoDB 클러스터드 인덱스에 항상 "뒤쪽"으로 append 된다(페이지 분할 최소화).
+ *
+ * 주의:
+ * - 노드 ID는 랜덤이므로 레플리카가 많아지면 (같은 ms + 같은 노드 ID + 같은 시퀀스) 충돌 확률이 0은 아니다.
+ *   현재 레플리카 수(1~소수) 기준으로는 무시 가능한 수준이며, 충돌 시 PK 제약이 최종 차단한다.
+ * - JS Number(2^53) 범위를 넘으므로, 클라이언트에 노출되는 ID(User.id → MeResponse.userId)에는 쓰지 않는다.
+ */
+public final class TimeOrderedIds {
+
+    private TimeOrderedIds() {}
+
+    private static final long EPOCH_MILLIS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 12;
+    private static final int SEQUENCE_BITS = 10;
+
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long NODE_ID = new SecureRandom().nextInt((int) MAX_NODE + 1);
+
+    private static long lastMillis = -1L;
+    private static long sequence = 0L;
+
+    public static synchronized long next() {
+        long now = Math.max(System.currentTimeMillis(), lastMillis); // 시계 역행 방어: 마지막 ms에 고정
+
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                now = waitNextMillis(lastMillis); // 같은 ms에 1,024개 소진 → 다음 ms까지 대기
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (NODE_ID << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private static long waitNextMillis(long last) {
+        long now = System.currentTimeMillis();
+        while (now <= last) {
+            Thread.onSpinWait();
+            now = System.currentTimeMillis();
+        }
+        return now;
+    }
+}
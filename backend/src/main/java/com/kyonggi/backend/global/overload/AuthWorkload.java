@@ -0,0 +1,27 @@
+package com.kyonggi.backend.global.overload;
+
+/**
+ * 요청 경로 → 워크로드 그룹
+ *
+ * - TOKEN  : /auth/refresh, /auth/me, /auth/logout — 이미 로그인한 사용자의 세션 유지 (가볍고 가장 중요)
+ * - LOGIN  : /auth/login — BCrypt CPU 비용이 큼
+ * - SIGNUP : /auth/signup/** — OTP 발급/검증/가입, SMTP 발송 포함 (가장 미뤄도 되는 트래픽)
+ * - OTHER  : 그 외
+ */
+enum AuthWorkload {
+
+    TOKEN, LOGIN, SIGNUP, OTHER;
+
+    static AuthWorkload of(String uri) {
+        if (uri.startsWith("/auth/refresh") || uri.startsWith("/auth/me") || uri.startsWith("/auth/logout")) {
+            return TOKEN;
+        }
+        if (uri.startsWith("/auth/login")) {
+            return LOGIN;
+        }
+        if (uri.startsWith("/auth/signup")) {
+            return SIGNUP;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,122 @@
+package com.kyonggi.backend.global.overload;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.SecurityErrorWriter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 적응형 동시성 한도 필터 (Security Filter Chain보다 먼저 실행)
+ *
+ * 문제:
+ * - 부하가 몰리면 요청이 Tomcat 워커 → Hikari 대기열 → BCrypt 실행기 큐에 차곡차곡 쌓인다.
+ *   결국 모든 요청이 타임아웃 직전까지 기다렸다가 함께 느려진다(처리량은 그대로, 지연만 폭증).
+ *
+ * 정책:
+ * - 서버가 "지금 감당 가능한 동시 요청 수"(GradientConcurrencyLimit)를 넘는 요청은 기다리게 하지 않고
+ *   즉시 503 SERVER_BUSY + Retry-After로 돌려보낸다.
+ * - 우선순위별로 쓸 수 있는 한도를 나눈다:
+ *   CRITICAL (/auth/refresh, /auth/me, /auth/logout) : 한도 100% — 이미 로그인한 사용자의 세션 유지가 최우선
+ *   NORMAL   (/auth/login 및 기타)                   : 한도 × normalShare
+ *   LOW      (/auth/signup/**)                       : 한도 × lowShare — 가입은 미뤄도 되는 트래픽
+ *   → 포화 시 LOW가 먼저, 그 다음 NORMAL이 잘리고 CRITICAL은 마지막까지 남는다.
+ * - /actuator/** 는 제외 (k8s probe가 부하 차단에 걸리면 파드가 재시작되어 상황이 더 나빠진다)
+ *
+ * 메트릭:
+ * - overload.concurrency.limit    : 현재 학습된 한도
+ * - overload.concurrency.inflight : 처리 중인 요청 수
+ * - overload.concurrency.shed{priority} : 우선순위별 차단 횟수
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    enum Priority { CRITICAL, NORMAL, LOW }
+
+    private final OverloadProperties.Concurrency props;
+    private final GradientConcurrencyLimit limit;
+    private final IntSupplier hikariPending;
+    private final SecurityErrorWriter errorWriter;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<Priority, Counter> shed = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitFilter(
+            OverloadProperties.Concurrency props,
+            IntSupplier hikariPending,
+            SecurityErrorWriter errorWriter,
+            MeterRegistry meterRegistry
+    ) {
+        this.props = props;
+        this.limit = new GradientConcurrencyLimit(props);
+        this.hikariPending = hikariPending;
+        this.errorWriter = errorWriter;
+
+        Gauge.builder("overload.concurrency.limit", limit, GradientConcurrencyLimit::current)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("overload.concurrency.inflight", inflight, AtomicInteger::get)
+                .register(meterRegistry);
+        for (Priority p : Priority.values()) {
+            shed.put(p, Counter.builder("overload.concurrency.shed")
+                    .tag("priority", p.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.enabled() || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Priority priority = classify(request.getRequestURI());
+        int allowed = Math.max(1, (int) (limit.current() * share(priority)));
+
+        int current = inflight.incrementAndGet();
+        if (current > allowed) {
+            inflight.decrementAndGet();
+            shed.get(priority).increment();
+            errorWriter.writeWithRetryAfter(response, ErrorCode.SERVER_BUSY, props.retryAfterSeconds());
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inflight.decrementAndGet();
+            limit.onSample(System.nanoTime() - started, current, hikariPending.getAsInt());
+        }
+    }
+
+    static Priority classify(String uri) {
+        return switch (AuthWorkload.of(uri)) {
+            case TOKEN -> Priority.CRITICAL;
+            case SIGNUP -> Priority.LOW;
+            case LOGIN, OTHER -> Priority.NORMAL;
+        };
+    }
+
+    private double share(Priority priority) {
+        return switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> props.normalShare();
+            case LOW -> props.lowShare();
+        };
+    }
+}
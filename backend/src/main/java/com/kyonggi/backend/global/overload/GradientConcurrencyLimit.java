@@ -0,0 +1,99 @@
+package com.kyonggi.backend.global.overload;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관측 지연(RTT) 기울기로 "지속 가능한 동시 요청 수"를 학습하는 한도 (Gradient/Vegas 계열)
+ *
+ * 아이디어:
+ * - 장기 RTT EWMA = 부하가 없을 때의 기준선, 단기 RTT EWMA = 지금
+ * - gradient = clamp(rttTolerance × 장기 / 단기, 0.5, 1.0)
+ *   → 지금이 기준선보다 느려지면(큐잉 발생) gradient < 1 → 한도를 줄인다.
+ * - newLimit = limit × gradient + sqrt(limit)  (sqrt 항 = 탐색용 여유 큐, 지연이 안정적이면 한도가 천천히 커진다)
+ * - smoothing 비율로만 반영해 한 샘플에 크게 흔들리지 않게 한다.
+ *
+ * DB 신호:
+ * - Hikari 커넥션 대기 스레드 수가 임계치를 넘으면 RTT가 아직 안 늘었어도 한도를 줄인다.
+ *   (대기열이 쌓이기 시작한 시점이 곧 풀 포화 시점이므로 RTT보다 빠른 신호다)
+ *
+ * app-limited:
+ * - 실제 동시 요청이 한도의 절반도 안 되면 샘플이 한도를 검증하지 못한 것이므로 한도를 키우지 않는다.
+ *
+ * 동시성:
+ * - onSample은 모든 요청 완료마다 불린다 → 전역 락이면 포화 시점에 완료 경로가 줄을 선다.
+ * - 갱신 중인 스레드가 있으면 그 샘플은 버린다(CAS 한 번, 기다리지 않음).
+ *   요청이 몰릴수록 샘플도 많으므로 일부를 버려도 EWMA 추정은 거의 같다.
+ * - 추정 상태(EWMA/estimatedLimit)는 updating을 잡은 스레드만 읽고 쓴다 (CAS 획득/해제가 가시성을 보장).
+ */
+final class GradientConcurrencyLimit {
+
+    private final OverloadProperties.Concurrency props;
+    private final double shortAlpha;
+    private final double longAlpha;
+
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    GradientConcurrencyLimit(OverloadProperties.Concurrency props) {
+        this.props = props;
+        this.shortAlpha = 2.0 / (props.shortWindow() + 1);
+        this.longAlpha = 2.0 / (props.longWindow() + 1);
+        this.estimatedLimit = clamp(props.initialLimit(), props.minLimit(), props.maxLimit());
+        this.limit = (int) estimatedLimit;
+    }
+
+    int current() {
+        return limit;
+    }
+
+    void onSample(long rttNanos, int inflight, int hikariPending) {
+        if (!updating.compareAndSet(false, true)) {
+            return; // 다른 완료가 갱신 중 → 이 샘플은 건너뛴다
+        }
+        try {
+            update(rttNanos, inflight, hikariPending);
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    private void update(long rttNanos, int inflight, int hikariPending) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+
+        shortRttNanos += (rttNanos - shortRttNanos) * shortAlpha;
+        longRttNanos += (rttNanos - longRttNanos) * longAlpha;
+
+        // 부하가 빠진 뒤 장기 기준선이 단기보다 2배 이상 크면 기준선을 빠르게 끌어내린다.
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        boolean dbPressure = hikariPending > props.hikariPendingThreshold();
+        if (!dbPressure && inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = clamp(props.rttTolerance() * longRttNanos / shortRttNanos, 0.5, 1.0);
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+
+        if (dbPressure) {
+            newLimit = Math.min(newLimit, estimatedLimit * props.hikariBackoffRatio());
+        }
+
+        newLimit = estimatedLimit * (1 - props.smoothing()) + newLimit * props.smoothing();
+        estimatedLimit = clamp(newLimit, props.minLimit(), props.maxLimit());
+        limit = (int) estimatedLimit;
+    }
+
+    private static double clamp(double v, double min, double max) {
+        return Math.max(min, Math.min(max, v));
+    }
+}
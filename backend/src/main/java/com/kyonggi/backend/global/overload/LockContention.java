@@ -0,0 +1,90 @@
+package com.kyonggi.backend.global.overload;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행 락 충돌 → 빠른 429 (LOCK_CONFLICT + Retry-After)
+ *
+ * 배경:
+ * - 락 조회(SELECT ... FOR UPDATE)는 기본적으로 InnoDB innodb_lock_wait_timeout(50초)까지 기다린다.
+ *   그동안 Hikari 커넥션을 쥐고 있으므로, 경합이 곧 풀 고갈이 된다.
+ * - 핫 경로는 NOWAIT 변형(*ForUpdateNoWait)으로 바꿨다 → 이미 잠겨 있으면 즉시 예외.
+ *   그 외 락 대기도 커넥션 초기화 SQL(innodb_lock_wait_timeout)로 짧게 묶여 있다.
+ *
+ * 정책 (TransactionTemplate 호출을 바깥에서 감싼다 = 시도마다 새 트랜잭션):
+ * - failFast: 충돌하면 재시도 없이 429 LOCK_CONFLICT
+ * - retryIdempotent: 여러 번 실행해도 결과가 같은 작업(로그아웃 revoke, OTP 검증)만
+ *   full jitter 백오프로 maxAttempts까지 재시도 후 429 LOCK_CONFLICT
+ *   (실패한 시도는 통째로 롤백되므로 재시도가 부작용을 겹치지 않는다)
+ *
+ * 메트릭:
+ * - db.lock.conflict{outcome=retried|rejected}
+ */
+@Slf4j
+@Component
+public class LockContention {
+
+    private final OverloadProperties.LockRetry props;
+    private final Counter retried;
+    private final Counter rejected;
+
+    public LockContention(OverloadProperties overloadProperties, MeterRegistry meterRegistry) {
+        this.props = overloadProperties.lockRetry();
+        this.retried = Counter.builder("db.lock.conflict")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("db.lock.conflict")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    public <T> T failFast(Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (PessimisticLockingFailureException e) {
+            throw reject(e);
+        }
+    }
+
+    public <T> T retryIdempotent(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= props.maxAttempts()) {
+                    throw reject(e);
+                }
+                retried.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private ApiException reject(PessimisticLockingFailureException e) {
+        rejected.increment();
+        log.warn("행 락 충돌로 요청 거절: {}", e.getMostSpecificCause().getMessage());
+        return new ApiException(ErrorCode.LOCK_CONFLICT, props.retryAfterSeconds());
+    }
+
+    private void backoff(int attempt) {
+        long cap = Math.min(props.maxBackoffMillis(), props.baseBackoffMillis() << Math.min(attempt, 20));
+        long sleepMillis = ThreadLocalRandom.current().nextLong(cap + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.LOCK_CONFLICT, props.retryAfterSeconds());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.kyonggi.backend.global.overload;
+
+import java.sql.SQLException;
+import java.util.function.IntSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.kyonggi.backend.security.SecurityErrorWriter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과부하 보호 필터 등록
+ *
+ * 순서: ConcurrencyLimitFilter(전체 한도) → WorkloadBulkheadFilter(그룹별 격벽) → Spring Security
+ * - ConcurrencyLimitFilter는 Spring Security 필터 체인(DEFAULT_FILTER_ORDER)보다 앞에 둔다.
+ *   → 차단할 요청이면 JWT 파싱/서명 검증 비용조차 쓰지 않는다.
+ * - DB 압력 신호: Hikari 커넥션 대기 스레드 수 (getThreadsAwaitingConnection)
+ *   풀이 아직 초기화 전(MXBean null)이거나 Hikari가 아니면 0으로 본다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(OverloadProperties.class)
+public class OverloadConfig {
+
+    public static final int FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 10;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            OverloadProperties props,
+            DataSource dataSource,
+            SecurityErrorWriter securityErrorWriter,
+            MeterRegistry meterRegistry
+    ) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                props.concurrency(), hikariPending(dataSource), securityErrorWriter, meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<WorkloadBulkheadFilter> workloadBulkheadFilter(
+            OverloadProperties props,
+            DataSource dataSource,
+            SecurityErrorWriter securityErrorWriter,
+            MeterRegistry meterRegistry
+    ) {
+        warnIfSignupCanDrainPool(props.bulkhead(), dataSource);
+
+        FilterRegistrationBean<WorkloadBulkheadFilter> registration = new FilterRegistrationBean<>(
+                new WorkloadBulkheadFilter(props.bulkhead(), securityErrorWriter, meterRegistry));
+        registration.setOrder(FILTER_ORDER + 1);
+        return registration;
+    }
+
+    /**
+     * OTP 발급/검증과 mail_outbox는 전용 풀(OtpDataSourceConfig, app.otp.pool)을 쓴다 → 메인 풀을 잡지 않는다.
+     * 가입 완료는 OTP 1회 소비 + users INSERT를 한 트랜잭션으로 묶어야 해서 메인 풀에 남는다
+     * → 메인 풀에서 가입 흐름이 쥘 수 있는 커넥션 상한은 SIGNUP permit 수다.
+     * → permit 수가 풀 크기 이상이면 격벽 의미가 없으므로 기동 시 경고한다.
+     */
+    private static void warnIfSignupCanDrainPool(OverloadProperties.Bulkhead bulkhead, DataSource dataSource) {
+        HikariDataSource hikari = unwrapHikari(dataSource);
+        if (!bulkhead.enabled() || hikari == null) {
+            return;
+        }
+        int poolSize = hikari.getMaximumPoolSize();
+        if (bulkhead.signup().maxConcurrent() >= poolSize) {
+            log.warn("app.overload.bulkhead.signup.max-concurrent({}) >= hikari maximum-pool-size({}) → 가입 흐름이 커넥션 풀을 모두 점유할 수 있음",
+                    bulkhead.signup().maxConcurrent(), poolSize);
+        }
+    }
+
+    private static IntSupplier hikariPending(DataSource dataSource) {
+        HikariDataSource hikari = unwrapHikari(dataSource);
+        if (hikari == null) {
+            return () -> 0;
+        }
+        return () -> {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+        };
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
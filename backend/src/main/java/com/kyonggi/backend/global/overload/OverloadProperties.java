@@ -0,0 +1,150 @@
+package com.kyonggi.backend.global.overload;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 과부하 보호 설정
+ *
+ * app:
+ *   overload:
+ *     concurrency:
+ *       enabled: true
+ *       initial-limit: 20
+ *       min-limit: 4
+ *       max-limit: 200
+ *       smoothing: 0.2
+ *       rtt-tolerance: 1.5
+ *       short-window: 10
+ *       long-window: 600
+ *       hikari-pending-threshold: 0
+ *       hikari-backoff-ratio: 0.9
+ *       normal-share: 0.8
+ *       low-share: 0.5
+ *       retry-after-seconds: 1
+ *     bulkhead:
+ *       enabled: true
+ *       token:  { max-concurrent: 64, max-wait-millis: 50 }
+ *       login:  { max-concurrent: 32, max-wait-millis: 0 }
+ *       signup: { max-concurrent: 4,  max-wait-millis: 0 }
+ *       retry-after-seconds: 1
+ *     key-lock:
+ *       stripes: 1024
+ *       max-wait-millis: 3000
+ *     lock-retry:
+ *       max-attempts: 3
+ *       base-backoff-millis: 10
+ *       max-backoff-millis: 100
+ *       retry-after-seconds: 1
+ *     deadline:
+ *       enabled: true
+ *       header: X-Request-Timeout-Ms
+ *       default-millis: 5000
+ *       routes:
+ *         "[/auth/me]": 2000
+ *         "[/auth/signup]": 10000
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.overload")
+public record OverloadProperties(
+        @Valid @NotNull Concurrency concurrency,
+        @Valid @NotNull Bulkhead bulkhead,
+        @Valid @NotNull KeyLock keyLock,
+        @Valid @NotNull LockRetry lockRetry,
+        @Valid @NotNull Deadline deadline
+) {
+
+    /**
+     * 적응형 동시성 한도 (GradientConcurrencyLimit / ConcurrencyLimitFilter)
+     * - initialLimit / minLimit / maxLimit: 한도 시작값 / 하한 / 상한
+     * - smoothing: 새 한도 반영 비율 (0~1, 작을수록 천천히 움직임)
+     * - rttTolerance: 단기 RTT가 장기 기준선의 몇 배까지는 "정상"으로 볼지
+     * - shortWindow / longWindow: 단기/장기 RTT EWMA 샘플 수
+     * - hikariPendingThreshold: 커넥션 대기 스레드가 이 값을 넘으면 RTT와 무관하게 한도를 줄인다
+     * - hikariBackoffRatio: 그때 적용할 감소 비율 (0.9 = 10% 감소)
+     * - normalShare / lowShare: 우선순위별 사용 가능한 한도 비율 (CRITICAL은 항상 100%)
+     * - retryAfterSeconds: 503 SERVER_BUSY 응답의 Retry-After
+     */
+    public record Concurrency(
+            boolean enabled,
+            @Min(1) int initialLimit,
+            @Min(1) int minLimit,
+            @Min(1) int maxLimit,
+            @DecimalMin("0.01") @DecimalMax("1.0") double smoothing,
+            @DecimalMin("1.0") double rttTolerance,
+            @Min(1) int shortWindow,
+            @Min(1) int longWindow,
+            @Min(0) int hikariPendingThreshold,
+            @DecimalMin("0.1") @DecimalMax("1.0") double hikariBackoffRatio,
+            @DecimalMin("0.05") @DecimalMax("1.0") double normalShare,
+            @DecimalMin("0.05") @DecimalMax("1.0") double lowShare,
+            @Min(1) int retryAfterSeconds
+    ) {}
+
+    /**
+     * 워크로드 격벽 (WorkloadBulkheadFilter)
+     * - 그룹별 독립 permit 풀: 한 그룹이 느려져도 다른 그룹의 permit/워커/DB 커넥션을 잠식하지 못한다.
+     * - signup.maxConcurrent는 Hikari maximum-pool-size보다 작게 둔다(= 가입 흐름이 동시에 쥘 수 있는 커넥션 상한).
+     */
+    public record Bulkhead(
+            boolean enabled,
+            @Valid @NotNull Pool token,
+            @Valid @NotNull Pool login,
+            @Valid @NotNull Pool signup,
+            @Min(1) int retryAfterSeconds
+    ) {}
+
+    /**
+     * - maxConcurrent: 동시에 처리할 수 있는 요청 수
+     * - maxWaitMillis: permit이 없을 때 기다릴 최대 시간 (0 = 기다리지 않고 즉시 503)
+     */
+    public record Pool(
+            @Min(1) int maxConcurrent,
+            @Min(0) long maxWaitMillis
+    ) {}
+
+    /**
+     * 같은 키(이메일/refresh 해시) 작업의 프로세스 내 직렬화 (StripedKeyLock)
+     * - stripes: 락 개수 (2의 거듭제곱으로 올림). 서로 다른 키가 같은 락을 공유할 확률 = 1/stripes
+     * - maxWaitMillis: 같은 키 선행 작업을 기다릴 최대 시간. 초과 시 503 SERVER_BUSY
+     */
+    public record KeyLock(
+            @Min(1) int stripes,
+            @Min(1) long maxWaitMillis
+    ) {}
+
+    /**
+     * 행 락 충돌(NOWAIT 실패/락 대기 타임아웃/데드락) 처리 (LockContention)
+     * - maxAttempts: 멱등 작업의 최대 시도 횟수 (첫 시도 포함)
+     * - baseBackoffMillis / maxBackoffMillis: 재시도 대기 = random(0, min(max, base × 2^attempt)) (full jitter)
+     * - retryAfterSeconds: 최종 실패 시 429 LOCK_CONFLICT의 Retry-After
+     */
+    public record LockRetry(
+            @Min(1) int maxAttempts,
+            @Min(0) long baseBackoffMillis,
+            @Min(0) long maxBackoffMillis,
+            @Min(1) int retryAfterSeconds
+    ) {}
+
+    /**
+     * 요청 마감 (RequestDeadlineFilter / RequestDeadline)
+     * - header: 클라이언트가 보내는 남은 시간(ms). 설정값보다 짧을 때만 반영
+     * - defaultMillis: routes에 없는 경로의 예산
+     * - routes: 경로 prefix → 예산(ms), 가장 긴 prefix 우선
+     */
+    public record Deadline(
+            boolean enabled,
+            @NotBlank String header,
+            @Min(1) long defaultMillis,
+            @NotNull Map<String, Long> routes
+    ) {}
+}
@@ -0,0 +1,126 @@
+package com.kyonggi.backend.global.overload;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 같은 키 작업의 프로세스 내 직렬화 (락 분할)
+ *
+ * 문제:
+ * - 더블클릭 OTP 요청, 여러 탭의 동시 refresh처럼 "같은 키" 요청이 동시에 들어오면
+ *   각자 트랜잭션을 열고 SELECT ... FOR UPDATE에서 줄을 선다.
+ *   → 기다리는 동안에도 요청마다 Hikari 커넥션을 하나씩 쥐고 있다.
+ *
+ * 정책:
+ * - 트랜잭션을 열기 "전에" 키 단위 락을 먼저 잡는다.
+ *   → 같은 키의 후속 요청은 커넥션 없이 메모리에서 기다리고, 노드당 키당 최대 1개 커넥션만 행 락을 기다린다.
+ * - 결과를 합치지(collapse) 않고 순서대로 실행만 한다.
+ *   (후속 요청도 자기 결과를 받아야 한다: 쿨다운 429, 로테이션 후 재사용 REFRESH_REUSED 등)
+ * - 최종 정합성은 여전히 DB 행 락/UNIQUE 제약이 책임진다. (다른 레플리카와는 공유되지 않음)
+ *
+ * 구현:
+ * - 키를 해시해 고정 개수의 ReentrantLock 중 하나로 매핑 (키별 객체 생성/정리 없음)
+ * - synchronized가 아니라 ReentrantLock: 가상 스레드 모드에서 캐리어를 고정시키지 않는다.
+ * - maxWaitMillis 안에 못 잡으면 503 SERVER_BUSY + Retry-After
+ * - 네임스페이스는 고정(REFRESH/SIGNUP_OTP) → 미터는 생성자에서 한 번만 등록하고, 락을 잡을 때마다 조회/등록하지 않는다.
+ *
+ * 메트릭:
+ * - overload.keylock.wait{namespace}    : 락 대기 시간
+ * - overload.keylock.timeout{namespace} : 대기 시간 초과 횟수
+ */
+@Component
+public class StripedKeyLock {
+
+    /** refresh 해시별 rotate/revoke */
+    public static final String REFRESH = "refresh";
+    /** 이메일별 가입 OTP 발급 */
+    public static final String SIGNUP_OTP = "signup-otp";
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final long maxWaitMillis;
+    private final int retryAfterSeconds;
+    private final Map<String, NamespaceMeters> meters;
+
+    public StripedKeyLock(OverloadProperties props, MeterRegistry meterRegistry) {
+        int stripes = props.keyLock().stripes();
+        int n = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+
+        this.locks = new ReentrantLock[n];
+        for (int i = 0; i < n; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = n - 1;
+        this.maxWaitMillis = props.keyLock().maxWaitMillis();
+        this.retryAfterSeconds = props.concurrency().retryAfterSeconds();
+        this.meters = Map.of(
+                REFRESH, NamespaceMeters.register(REFRESH, meterRegistry),
+                SIGNUP_OTP, NamespaceMeters.register(SIGNUP_OTP, meterRegistry));
+    }
+
+    public <T> T withLock(String namespace, String key, Supplier<T> action) {
+        NamespaceMeters m = meters.get(namespace);
+        if (m == null) {
+            throw new IllegalArgumentException("unknown key lock namespace: " + namespace);
+        }
+        ReentrantLock lock = locks[spread((namespace + ':' + key).hashCode()) & mask];
+
+        long started = System.nanoTime();
+        if (!tryLock(lock)) {
+            m.timeout().increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY, retryAfterSeconds);
+        }
+
+        try {
+            m.waitTime().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void runWithLock(String namespace, String key, Runnable action) {
+        withLock(namespace, key, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private boolean tryLock(ReentrantLock lock) {
+        try {
+            return lock.tryLock(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record NamespaceMeters(Timer waitTime, Counter timeout) {
+
+        static NamespaceMeters register(String namespace, MeterRegistry meterRegistry) {
+            return new NamespaceMeters(
+                    Timer.builder("overload.keylock.wait")
+                            .tag("namespace", namespace)
+                            .register(meterRegistry),
+                    Counter.builder("overload.keylock.timeout")
+                            .tag("namespace", namespace)
+                            .register(meterRegistry));
+        }
+    }
+
+    // String.hashCode 하위 비트 편향 보정 (HashMap.spread와 동일)
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,109 @@
+package com.kyonggi.backend.global.overload;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.SecurityErrorWriter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 워크로드 격벽 필터 (ConcurrencyLimitFilter 다음, Security Filter Chain 이전)
+ *
+ * 문제:
+ * - Tomcat 워커 / Hikari 커넥션은 모든 엔드포인트가 함께 쓰는 공유 자원이다.
+ *   OTP 발급 폭주(행 락 대기 + 아웃박스 INSERT) 또는 BCrypt 폭주가 이를 다 잡으면
+ *   이미 로그인한 사용자의 /auth/refresh까지 함께 멈춘다. (SMTP는 아웃박스 워커 스레드에서 나가므로 요청 스레드를 잡지 않는다)
+ *   OTP 발급/검증의 DB 커넥션은 전용 풀(OtpDataSourceConfig)에서 나오지만, Tomcat 워커와 가입 완료의 메인 풀 커넥션은 여전히 공유된다.
+ *
+ * 정책:
+ * - TOKEN / LOGIN / SIGNUP 그룹마다 독립된 Semaphore를 둔다. (OTHER는 격벽 없음)
+ * - permit을 maxWaitMillis 안에 못 얻으면 503 SERVER_BUSY + Retry-After.
+ * - 한 그룹이 자기 permit을 다 써도 다른 그룹의 permit은 그대로 남는다.
+ *   → SIGNUP permit 수 = 가입 흐름이 동시에 쥘 수 있는 DB 커넥션/워커 수의 상한
+ *
+ * 메트릭:
+ * - overload.bulkhead.available{workload} : 남은 permit
+ * - overload.bulkhead.rejected{workload}  : permit 획득 실패 횟수
+ */
+public class WorkloadBulkheadFilter extends OncePerRequestFilter {
+
+    private final OverloadProperties.Bulkhead props;
+    private final SecurityErrorWriter errorWriter;
+    private final Map<AuthWorkload, Compartment> compartments = new EnumMap<>(AuthWorkload.class);
+
+    public WorkloadBulkheadFilter(OverloadProperties.Bulkhead props, SecurityErrorWriter errorWriter, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.errorWriter = errorWriter;
+        compartments.put(AuthWorkload.TOKEN, new Compartment(AuthWorkload.TOKEN, props.token(), meterRegistry));
+        compartments.put(AuthWorkload.LOGIN, new Compartment(AuthWorkload.LOGIN, props.login(), meterRegistry));
+        compartments.put(AuthWorkload.SIGNUP, new Compartment(AuthWorkload.SIGNUP, props.signup(), meterRegistry));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.enabled() || !compartments.containsKey(AuthWorkload.of(request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Compartment compartment = compartments.get(AuthWorkload.of(request.getRequestURI()));
+
+        if (!compartment.tryEnter()) {
+            compartment.rejected.increment();
+            errorWriter.writeWithRetryAfter(response, ErrorCode.SERVER_BUSY, props.retryAfterSeconds());
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            compartment.permits.release();
+        }
+    }
+
+    private static final class Compartment {
+        private final Semaphore permits;
+        private final long maxWaitMillis;
+        private final Counter rejected;
+
+        Compartment(AuthWorkload workload, OverloadProperties.Pool pool, MeterRegistry meterRegistry) {
+            this.permits = new Semaphore(pool.maxConcurrent());
+            this.maxWaitMillis = pool.maxWaitMillis();
+
+            String tag = workload.name().toLowerCase();
+            this.rejected = Counter.builder("overload.bulkhead.rejected")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            Gauge.builder("overload.bulkhead.available", permits, Semaphore::availablePermits)
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+        }
+
+        boolean tryEnter() {
+            if (maxWaitMillis == 0) {
+                return permits.tryAcquire();
+            }
+            try {
+                return permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kyonggi.backend.global.runtime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 런타임(스레드 모델) 진단 설정
+ *
+ * app:
+ *   runtime:
+ *     pinning:
+ *       threshold-millis: 20
+ *       stack-depth: 8
+ *
+ * - spring.threads.virtual.enabled=true 일 때만 사용된다 (VirtualThreadPinningMonitor).
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.runtime")
+public record RuntimeProperties(@Valid @NotNull Pinning pinning) {
+
+    /**
+     * - thresholdMillis: 이 시간 이상 캐리어 스레드에 고정된 경우만 기록 (JFR 이벤트 threshold)
+     * - stackDepth: 로그에 남길 스택 프레임 수
+     */
+    public record Pinning(
+            @Min(0) long thresholdMillis,
+            @Min(1) int stackDepth
+    ) {}
+}
@@ -0,0 +1,146 @@
+package com.kyonggi.backend.global.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 pinning 감지 (spring.threads.virtual.enabled=true 일 때만 활성화)
+ *
+ * 배경:
+ * - Java 21 가상 스레드는 synchronized 블록/메서드 안에서 블로킹 I/O를 하면
+ *   캐리어(플랫폼) 스레드에서 내려오지 못하고 "고정(pinned)"된다.
+ *   → 캐리어 수(= CPU 수)만큼 고정되면 나머지 가상 스레드가 전부 멈춘다.
+ * - 우리 코드가 아니라 드라이버/라이브러리 내부 synchronized가 원인인 경우가 많다.
+ *   (MySQL Connector/J, JavaMail SMTPTransport 등)
+ *
+ * 동작:
+ * - JFR RecordingStream으로 jdk.VirtualThreadPinned 이벤트를 프로세스 내에서 구독한다.
+ * - 스택을 보고 원인 라이브러리를 분류해 메트릭 + WARN 로그로 남긴다.
+ *
+ * 메트릭:
+ * - jvm.threads.virtual.pinned{source=mysql-driver|javamail|hikari|app|other} : 고정 시간 분포
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(RuntimeProperties.class)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RuntimeProperties.Pinning props;
+    private final MeterRegistry meterRegistry;
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(RuntimeProperties runtimeProperties, MeterRegistry meterRegistry) {
+        this.props = runtimeProperties.pinning();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream rs = new RecordingStream();
+        rs.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(props.thresholdMillis()))
+                .withStackTrace();
+        rs.onEvent(PINNED_EVENT, this::onPinned);
+        rs.startAsync();
+        this.stream = rs;
+        log.info("가상 스레드 pinning 감지 시작: threshold={}ms", props.thresholdMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        PinSource source = PinSource.of(frames);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time a virtual thread stayed pinned to its carrier")
+                .tag("source", source.tag)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        log.warn("가상 스레드 pinning: source={}, durationMs={}, thread={}\n{}",
+                source.tag,
+                event.getDuration().toMillis(),
+                event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                frames.stream()
+                        .limit(props.stackDepth())
+                        .map(f -> "    at " + f.getMethod().getType().getName() + "." + f.getMethod().getName()
+                                + "(line " + f.getLineNumber() + ")")
+                        .collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * 원인 분류: 스택 안쪽(top)부터 보면서 처음 만나는 "알려진 라이브러리"로 귀속시킨다.
+     * 라이브러리 프레임이 없으면 우리 코드(app) 또는 기타(other).
+     */
+    enum PinSource {
+        MYSQL_DRIVER("mysql-driver", "com.mysql."),
+        JAVAMAIL("javamail", "jakarta.mail.", "com.sun.mail.", "org.eclipse.angus.mail."),
+        HIKARI("hikari", "com.zaxxer.hikari."),
+        APP("app", "com.kyonggi."),
+        OTHER("other");
+
+        private final String tag;
+        private final String[] packagePrefixes;
+
+        PinSource(String tag, String... packagePrefixes) {
+            this.tag = tag;
+            this.packagePrefixes = packagePrefixes;
+        }
+
+        static PinSource of(List<RecordedFrame> frames) {
+            boolean sawApp = false;
+            for (RecordedFrame frame : frames) {
+                String type = frame.getMethod().getType().getName();
+                for (PinSource candidate : List.of(MYSQL_DRIVER, JAVAMAIL, HIKARI)) {
+                    if (candidate.matches(type)) {
+                        return candidate;
+                    }
+                }
+                sawApp |= APP.matches(type);
+            }
+            return sawApp ? APP : OTHER;
+        }
+
+        private boolean matches(String type) {
+            for (String prefix : packagePrefixes) {
+                if (type.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
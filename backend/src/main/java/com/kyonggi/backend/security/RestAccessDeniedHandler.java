@@ -0,0 +1,33 @@
+package com.kyonggi.backend.security;
+
+import java.io.IOException;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+
+import com.kyonggi.backend.global.ErrorCode;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증은 됐지만 권한(role)이 부족할 때 호출되는 핸들러.
+ *
+ * - 예: USER 토큰으로 /actuator/metrics 등 MASTER 전용 리소스 접근
+ * - 기본 핸들러(빈 본문 403) 대신 다른 에러와 같은 JSON 형식(ACCESS_DENIED)으로 내려준다.
+ */
+@RequiredArgsConstructor
+public class RestAccessDeniedHandler implements AccessDeniedHandler {
+
+    private final SecurityErrorWriter errorWriter;
+
+    @Override
+    public void handle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            AccessDeniedException accessDeniedException) throws IOException {
+
+        errorWriter.write(response, ErrorCode.ACCESS_DENIED);
+    }
+}
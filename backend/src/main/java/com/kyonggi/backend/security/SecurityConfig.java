@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
  * - JWT 인증: JwtAuthenticationFilter
  * - 인증 필요 리소스 접근 시 인증 없으면: RestAuthEntryPoint (AUTH_REQUIRED)
  * - 토큰은 있는데 invalid면: JwtAuthenticationFilter (ACCESS_INVALID)
+ * - 인증은 됐지만 권한(role)이 부족하면: RestAccessDeniedHandler (ACCESS_DENIED, 403)
  * 
  *  1) @Configuration 
  *  - 이 클래스가 "스프링 설정 클래스"임을 의미
@@ -43,6 +44,11 @@ public class SecurityConfig {
         return new RestAuthEntryPoint(securityErrorWriter);
     }
 
+    @Bean
+    RestAccessDeniedHandler restAccessDeniedHandler() {
+        return new RestAccessDeniedHandler(securityErrorWriter);
+    }
+
     @Bean
     JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter(jwtService, securityErrorWriter);
@@ -59,7 +65,10 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 
                 // 인증 실패(= 인증 없이 보호 리소스 접근) 응답 방식 커스터마이즈 - 401 Unauthorized
-                .exceptionHandling(eh -> eh.authenticationEntryPoint(restAuthEntryPoint()))
+                // 인가 실패(= 인증은 됐지만 role 부족) 응답 방식 - 403 Forbidden
+                .exceptionHandling(eh -> eh
+                        .authenticationEntryPoint(restAuthEntryPoint())
+                        .accessDeniedHandler(restAccessDeniedHandler()))
 
                 // JWT 필터 등록: UsernamePasswordAuthenticationFilter 전에 실행되도록 설정
                 .addFilterBefore(
@@ -75,6 +84,10 @@ public class SecurityConfig {
                         // K8s Liveness/Readiness Probe가 인프라 헬스 체크 용도로 엔드포인트를 호출
                         .requestMatchers("/actuator/health/**").permitAll()
 
+                        // 그 외 actuator(metrics/heavyhitters/auditlog 등)는 운영자(MASTER)만
+                        // - 다른 사용자의 IP/refresh 해시 접두어/로그인 이력이 들어 있다 → 로그인만으로는 안 된다.
+                        .requestMatchers("/actuator/**").hasRole("MASTER")
+
                         // 인증 필요 없는 Auth 엔드포인트
                         .requestMatchers("/auth/signup/**").permitAll()
                         .requestMatchers("/auth/login").permitAll()
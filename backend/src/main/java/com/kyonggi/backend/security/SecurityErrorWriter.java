@@ -3,6 +3,7 @@ package com.kyonggi.backend.security;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,6 +31,22 @@ public class SecurityErrorWriter {
     }
 
     public void write(HttpServletResponse response, ErrorCode errorCode, String messageOverride) throws IOException {
+        writeBody(response, ApiError.of(errorCode, messageOverride), errorCode);
+    }
+
+    /**
+     * 429/503처럼 재시도 시점을 알려줘야 하는 응답 (GlobalExceptionHandler와 동일하게 Retry-After 헤더 + 바디)
+     * - 필터 단계 부하 차단(ConcurrencyLimitFilter)처럼 컨트롤러에 도달하지 않는 거절에서 쓴다.
+     */
+    public void writeWithRetryAfter(HttpServletResponse response, ErrorCode errorCode, int retryAfterSeconds) throws IOException {
+        if (response.isCommitted())
+            return;
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeBody(response, ApiError.of(errorCode, retryAfterSeconds), errorCode);
+    }
+
+    private void writeBody(HttpServletResponse response, ApiError body, ErrorCode errorCode) throws IOException {
         
         // 이미 다른 필터가 응답을 만들어버린 경우라면 건드리지 않음
         if(response.isCommitted()) 
@@ -45,7 +62,7 @@ public class SecurityErrorWriter {
         
         objectMapper.writeValue(
                 response.getWriter(),
-                ApiError.of(errorCode, messageOverride)
+                body
         );
     }
 
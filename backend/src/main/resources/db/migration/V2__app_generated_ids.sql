@@ -0,0 +1,8 @@
+-- V2__app_generated_ids.sql
+-- refresh_tokens / email_otp PK를 애플리케이션이 생성(TimeOrderedIds)하도록 AUTO_INCREMENT 제거
+-- - IDENTITY는 INSERT 즉시 실행을 강제해서 JDBC 배치가 불가능하다.
+-- - users.id는 클라이언트에 노출되는 ID(JS 2^53 한계)라 AUTO_INCREMENT를 유지한다.
+
+ALTER TABLE refresh_tokens MODIFY id BIGINT UNSIGNED NOT NULL;
+
+ALTER TABLE email_otp MODIFY id BIGINT UNSIGNED NOT NULL;
@@ -0,0 +1,6 @@
+-- V3__widen_password_hash.sql
+-- DelegatingPasswordEncoder 도입: "{bcrypt}$2a$..." / "{argon2}$argon2id$v=19$m=...,t=...,p=...$salt$hash"
+-- - id prefix + Argon2id 인코딩은 100자를 넘을 수 있다.
+-- - 기존 prefix 없는 BCrypt 해시는 그대로 두고, 다음 로그인 성공 시 새 형식으로 재해싱된다.
+
+ALTER TABLE users MODIFY password_hash VARCHAR(255) NOT NULL;
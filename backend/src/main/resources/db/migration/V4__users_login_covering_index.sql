@@ -0,0 +1,8 @@
+-- V4__users_login_covering_index.sql
+-- 로그인 조회(UserRepository.findLoginCredentialByEmail) 전용 커버링 인덱스
+-- - 로그인은 id / password_hash / status / role 만 읽는다 → 인덱스만으로 응답(EXPLAIN Extra: Using index)
+-- - InnoDB 보조 인덱스 리프에는 PK(id)가 항상 포함되므로 id는 컬럼 목록에 따로 넣지 않는다.
+-- - email 단독 UNIQUE(uq_users_email)는 무결성 제약이라 그대로 둔다.
+--   (unique 동등 조건은 옵티마이저가 const 접근으로 uq_users_email을 고르므로, 조회 쿼리에서 FORCE INDEX로 지정한다)
+
+CREATE INDEX idx_users_login_cover ON users (email, password_hash, status, role);
@@ -0,0 +1,24 @@
+-- V5__mail_outbox.sql
+-- 메일 outbox: OTP 발급(email_otp upsert)과 "보낼 메일"을 같은 트랜잭션으로 커밋한다.
+-- - 요청 스레드는 SMTP를 기다리지 않는다. MailOutboxDispatcher 워커가 비동기로 꺼내 보낸다.
+-- - 발송 성공 행은 즉시 DELETE → 테이블에는 대기(PENDING) / 실패 확정(DEAD) 행만 남는다.
+-- - payload는 OTP 원문이 아니라 암호문(OtpCodeCipher, AES-GCM)이다. DEAD 전환 시 비운다.
+
+CREATE TABLE mail_outbox (
+  id BIGINT UNSIGNED NOT NULL,
+  kind VARCHAR(30) NOT NULL,
+  recipient VARCHAR(255) NOT NULL,
+  payload VARCHAR(255) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+
+  attempts INT UNSIGNED NOT NULL DEFAULT 0,
+  next_attempt_at DATETIME(6) NOT NULL,
+  claimed_until DATETIME(6) NULL,   -- 워커 임대 만료 (노드가 죽으면 이 시각 이후 다른 워커가 다시 가져간다)
+  expires_at DATETIME(6) NOT NULL,  -- 이 시각이 지나면 보내도 의미가 없다(OTP 만료) → DEAD
+  last_error VARCHAR(500) NULL,
+
+  created_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_mail_outbox_due (status, next_attempt_at),
+  KEY idx_mail_outbox_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
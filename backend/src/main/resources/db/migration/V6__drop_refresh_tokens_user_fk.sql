@@ -0,0 +1,7 @@
+-- V6__drop_refresh_tokens_user_fk.sql
+-- refresh_tokens 수평 샤딩 (RefreshTokenShards)
+-- - 샤드 1..N은 users가 없는 별도 DB다 → 샤드 0(이 DB)의 refresh_tokens도 같은 스키마(FK 없음)로 맞춘다.
+-- - 사용자 삭제 시 세션 정리는 FK가 아니라 rotate의 사용자 조회(없으면 REFRESH_INVALID)가 막는다.
+-- - idx_refresh_tokens_user_id는 FK가 쓰던 인덱스지만 사용자 단위 세션 조회용으로 남긴다.
+
+ALTER TABLE refresh_tokens DROP FOREIGN KEY fk_refresh_tokens_user;
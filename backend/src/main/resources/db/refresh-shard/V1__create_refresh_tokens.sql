@@ -0,0 +1,28 @@
+-- V1__create_refresh_tokens.sql (refresh 샤드 1..N 전용, classpath:db/refresh-shard)
+-- - 메인 DB의 refresh_tokens(V1 + V2 + V6)와 같은 모양: 앱 생성 PK, users FK 없음
+-- - 샤드 DB에는 이 테이블만 있다. 메인 마이그레이션(db/migration)과 이력 테이블을 공유하지 않는다.
+
+CREATE TABLE refresh_tokens (
+  id BIGINT UNSIGNED NOT NULL,
+  user_id BIGINT UNSIGNED NOT NULL,
+
+  -- refresh token 원문은 저장 금지: SHA-256(hex) 같은 해시만 저장
+  token_hash CHAR(64) NOT NULL,
+
+  remember_me TINYINT(1) NOT NULL DEFAULT 0,
+
+  expires_at DATETIME(6) NOT NULL,
+  last_used_at DATETIME(6) NULL,
+  revoked_at DATETIME(6) NULL,
+  revoke_reason VARCHAR(50) NULL,
+
+  user_agent VARCHAR(255) NULL,
+  ip_address VARCHAR(45) NULL,
+
+  created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+
+  PRIMARY KEY (id),
+  UNIQUE KEY uq_refresh_tokens_token_hash (token_hash),
+  KEY idx_refresh_tokens_user_id (user_id),
+  KEY idx_refresh_tokens_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
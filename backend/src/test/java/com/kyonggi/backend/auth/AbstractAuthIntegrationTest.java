@@ -6,6 +6,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.kyonggi.backend.auth.domain.User;
 import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+import com.kyonggi.backend.auth.repo.OutboxMailRepository;
 import com.kyonggi.backend.auth.repo.UserRepository;
 import com.kyonggi.backend.auth.support.MailhogSupport;
 import com.kyonggi.backend.auth.token.repo.RefreshTokenRepository;
@@ -29,6 +30,7 @@ public abstract class AbstractAuthIntegrationTest extends AbstractIntegrationTes
     @Autowired protected UserRepository userRepository;
     @Autowired protected RefreshTokenRepository refreshTokenRepository;
     @Autowired protected EmailOtpRepository emailOtpRepository;
+    @Autowired protected OutboxMailRepository outboxMailRepository;
     @Autowired protected PasswordEncoder passwordEncoder;
 
     @BeforeEach
@@ -36,9 +38,10 @@ public abstract class AbstractAuthIntegrationTest extends AbstractIntegrationTes
         // 메일 잔여분 제거 (OTP 테스트 흔들림 방지)
         MailhogSupport.clearAll(); 
 
-        // 테이블 레코드 전체 삭제 (단 FK 걸린 것부터 제거)
+        // 테이블 레코드 전체 삭제 (refresh_tokens는 shard 0 = 메인 DB분만, 추가 샤드는 해당 테스트가 비운다)
         refreshTokenRepository.deleteAll();
         emailOtpRepository.deleteAll();
+        outboxMailRepository.deleteAll();
         userRepository.deleteAll();
     }
 
@@ -0,0 +1,94 @@
+package com.kyonggi.backend.auth.audit;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.kyonggi.backend.auth.config.AuditProperties;
+import com.kyonggi.backend.auth.event.AuthEvent;
+import com.kyonggi.backend.auth.token.domain.RefreshRevokeReason;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감사 로그 기록기 처리량 벤치마크 (목표: 100k events/s, 기록 스레드 1개)
+ *
+ * - 기본 test 태스크에서는 제외된다(@Tag("benchmark")). 실행: ./gradlew benchmark
+ * - 버스를 거치지 않고 onBatch에 버스 최대 배치 크기(256)로 직접 넣는다 → 기록기 자체의 상한을 잰다.
+ * - 이벤트 구성은 실제 흐름과 비슷하게 섞는다(실패 로그인 = 이메일이 붙는 가변 길이 프레임).
+ * - fsync 정책별로 events/s를 로그로 남기고, 기록 건수만 단언한다 (절대값은 디스크마다 다르다).
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("[Auth][Audit][Benchmark] 감사 로그 기록 처리량 (fsync 정책별)")
+class AuditLogWriterBenchmarkIT {
+
+    private static final int BATCH = 256;
+    private static final int WARMUP = BATCH * 1_000;
+    private static final int EVENTS = BATCH * 8_000; // 약 200만 건
+    private static final long TARGET_PER_SECOND = 100_000;
+
+    @ParameterizedTest
+    @EnumSource(AuditProperties.Fsync.class)
+    @DisplayName("onBatch events/s vs 목표 100k/s")
+    void write_throughput(AuditProperties.Fsync fsync, @TempDir Path dir) throws Exception {
+        AuditProperties props = new AuditProperties(true, dir.toString(), 64L << 20, 64, fsync, 1000, 1000);
+        List<List<AuthEvent>> batches = batches(Instant.parse("2026-03-01T00:00:00Z"));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuditLogWriter writer = new AuditLogWriter(props, registry);
+        long nanos;
+        try {
+            push(writer, batches, WARMUP);
+            long start = System.nanoTime();
+            push(writer, batches, EVENTS);
+            nanos = System.nanoTime() - start;
+        } finally {
+            writer.destroy();
+        }
+
+        assertThat(registry.get("auth.audit.records").counter().count()).isEqualTo((double) (WARMUP + EVENTS));
+
+        long perSecond = Math.round(EVENTS / (nanos / 1_000_000_000.0));
+        log.info("[benchmark] audit fsync={} events={} | {} events/s ({} ms) | target {}/s {} | segments={}",
+                fsync, EVENTS, perSecond, nanos / 1_000_000, TARGET_PER_SECOND,
+                perSecond >= TARGET_PER_SECOND ? "OK" : "BELOW",
+                AuditLogFormat.listSegments(dir).size());
+    }
+
+    private static void push(AuditLogWriter writer, List<List<AuthEvent>> batches, int events) {
+        for (int sent = 0, i = 0; sent < events; sent += BATCH, i++) {
+            writer.onBatch(batches.get(i % batches.size()));
+        }
+    }
+
+    // 로그인 성공 4 : refresh 로테이션 4 : 실패 로그인 1 : 로그아웃 1 비율 (미리 만들어 할당을 측정에서 뺀다)
+    private static List<List<AuthEvent>> batches(Instant base) {
+        List<List<AuthEvent>> batches = new ArrayList<>();
+        for (int b = 0; b < 64; b++) {
+            List<AuthEvent> batch = new ArrayList<>(BATCH);
+            for (int i = 0; i < BATCH; i++) {
+                long userId = b * BATCH + i;
+                Instant at = base.plusMillis(userId);
+                batch.add(switch (i % 10) {
+                    case 0, 1, 2, 3 -> new AuthEvent.LoginSucceeded(userId, i % 2 == 0, at);
+                    case 4, 5, 6, 7 -> new AuthEvent.RefreshRotated(userId, at);
+                    case 8 -> new AuthEvent.LoginFailed("user" + userId + "@kyonggi.ac.kr", ErrorCode.INVALID_CREDENTIALS, at);
+                    default -> new AuthEvent.SessionRevoked(userId, RefreshRevokeReason.LOGOUT, at);
+                });
+            }
+            batches.add(List.copyOf(batch));
+        }
+        return batches;
+    }
+}
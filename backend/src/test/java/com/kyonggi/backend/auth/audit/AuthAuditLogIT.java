@@ -0,0 +1,231 @@
+package com.kyonggi.backend.auth.audit;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.AuditProperties;
+import com.kyonggi.backend.auth.domain.UserRole;
+import com.kyonggi.backend.auth.event.AuthEvent;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport.LoginResult;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.infra.TestClockConfig;
+import com.kyonggi.backend.security.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 인증 감사 로그 통합 테스트
+ *
+ * - 흐름 검증: 테스트 Clock을 이 테스트만 쓰는 시각으로 옮기고 [그 시각, +1ms) 범위로 읽는다
+ *   (같은 컨텍스트를 쓰는 다른 테스트의 레코드와 섞이지 않게).
+ * - 회전/재기동/보관: 임시 디렉터리에 AuditLogWriter를 직접 만들어 검증한다 (빈 설정은 그대로).
+ */
+@DisplayName("[Auth][Audit] 감사 로그(mmap 세그먼트) 통합 테스트")
+class AuthAuditLogIT extends AbstractAuthIntegrationTest {
+
+    private static final Duration AWAIT = Duration.ofSeconds(5);
+
+    @Autowired MockMvc mvc;
+    @Autowired AuditLogReader reader;
+    @Autowired JwtService jwtService;
+
+    @Test
+    @DisplayName("flow: 로그인 성공/실패 → 로테이션 → 재사용(REFRESH_REUSED) → 로그아웃이 발생 순서대로 기록된다")
+    void auth_flow_is_recorded_in_order() throws Exception {
+        Instant at = pinClock(Duration.ofDays(1000));
+        long userId = createDefaultUser().getId();
+
+        LoginResult login = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, true);
+        AuthHttpSupport.performLogin(mvc, EMAIL, "wrong-password1!", false)
+                .andExpect(status().isUnauthorized());
+        String rotatedRaw = AuthFlowSupport.refreshOk(mvc, login.refreshRaw()).refreshRaw();
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performRefresh(mvc, new Cookie(AuthHttpSupport.REFRESH_COOKIE, login.refreshRaw())),
+                ErrorCode.REFRESH_REUSED);
+        AuthHttpSupport.performLogout(mvc, new Cookie(AuthHttpSupport.REFRESH_COOKIE, rotatedRaw))
+                .andExpect(status().isNoContent());
+
+        awaitTrue(() -> readAt(at).size() == 5, "5 audit records");
+        List<AuditRecord> records = readAt(at);
+
+        assertThat(records).extracting(AuditRecord::type).containsExactly(
+                "LOGIN_SUCCEEDED", "LOGIN_FAILED", "REFRESH_ROTATED", "REFRESH_REUSED", "SESSION_REVOKED");
+        assertThat(records.get(0).userId()).isEqualTo(userId);
+        assertThat(records.get(0).rememberMe()).isTrue();
+        assertThat(records.get(1).userId()).isNull();
+        assertThat(records.get(1).email()).isEqualTo(EMAIL);
+        assertThat(records.get(1).reason()).isEqualTo("INVALID_CREDENTIALS");
+        assertThat(records.get(3).userId()).isEqualTo(userId);
+        assertThat(records.get(4).reason()).isEqualTo("LOGOUT");
+        assertThat(records).allMatch(r -> r.occurredAt().equals(at));
+        assertThat(records).extracting(AuditRecord::sequence).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("endpoint: /actuator/auditlog(MASTER) 범위 조회 + 실패 로그인 이메일 마스킹, 잘못된 시각은 400")
+    void endpoint_reads_time_range_with_masked_email() throws Exception {
+        Instant at = pinClock(Duration.ofDays(1001));
+        long userId = createDefaultUser().getId();
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+        AuthHttpSupport.performLogin(mvc, EMAIL, "wrong-password1!", false)
+                .andExpect(status().isUnauthorized());
+        awaitTrue(() -> readAt(at).size() == 2, "2 audit records");
+        String masterBearer = AuthHttpSupport.bearer(jwtService.issueAccessToken(userId, UserRole.MASTER));
+
+        MvcResult res = mvc.perform(get("/actuator/auditlog")
+                        .header(HttpHeaders.AUTHORIZATION, masterBearer)
+                        .param("from", at.toString())
+                        .param("to", at.plusMillis(1).toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode records = AuthHttpSupport.readJson(res).get("records");
+        assertThat(records).hasSize(2);
+        assertThat(records.get(1).get("type").asText()).isEqualTo("LOGIN_FAILED");
+        assertThat(records.get(1).get("email").asText()).isEqualTo("ad*********@kyonggi.ac.kr");
+
+        // limit=1 → truncated + lastSequence, afterSequence로 다음 페이지
+        JsonNode first = AuthHttpSupport.readJson(mvc.perform(get("/actuator/auditlog")
+                        .header(HttpHeaders.AUTHORIZATION, masterBearer)
+                        .param("from", at.toString())
+                        .param("to", at.plusMillis(1).toString())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn());
+        assertThat(first.get("truncated").asBoolean()).isTrue();
+        assertThat(first.get("records").get(0).get("type").asText()).isEqualTo("LOGIN_SUCCEEDED");
+        JsonNode second = AuthHttpSupport.readJson(mvc.perform(get("/actuator/auditlog")
+                        .header(HttpHeaders.AUTHORIZATION, masterBearer)
+                        .param("from", at.toString())
+                        .param("to", at.plusMillis(1).toString())
+                        .param("afterSequence", first.get("lastSequence").asText())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn());
+        assertThat(second.get("records")).hasSize(1);
+        assertThat(second.get("records").get(0).get("type").asText()).isEqualTo("LOGIN_FAILED");
+
+        mvc.perform(get("/actuator/auditlog")
+                        .header(HttpHeaders.AUTHORIZATION, masterBearer)
+                        .param("from", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("segments: 다 차면 회전 + 보관 개수 초과분 삭제, 재기동하면 시퀀스가 이어지고 범위 밖 세그먼트는 건너뛴다")
+    void segments_rotate_and_sequence_survives_restart(@TempDir Path dir) throws Exception {
+        AuditProperties props = new AuditProperties(true, dir.toString(), 65536, 3, AuditProperties.Fsync.BATCH, 1000, 100000);
+        Instant base = Instant.parse("2026-03-01T00:00:00Z");
+
+        AuditLogWriter writer = new AuditLogWriter(props, new SimpleMeterRegistry());
+        for (int i = 0; i < 5000; i++) { // 레코드 28B → 64KB 세그먼트 약 2300건 → 2번 회전
+            writer.onBatch(List.of(new AuthEvent.RefreshRotated(i, base.plusSeconds(i))));
+        }
+        assertThatThrownBy(() -> new AuditLogWriter(props, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class); // 같은 디렉터리에 두 번째 기록기 금지
+        writer.destroy();
+
+        AuditLogWriter restarted = new AuditLogWriter(props, new SimpleMeterRegistry());
+        restarted.onBatch(List.of(new AuthEvent.UserRegistered(9999, base.plusSeconds(9999))));
+        restarted.destroy();
+
+        List<Path> segments = AuditLogFormat.listSegments(dir);
+        assertThat(segments).hasSize(3); // 회전 2번 + 재기동 1번 = 4개 중 가장 오래된 1개 삭제
+
+        AuditLogReader segmentReader = new AuditLogReader(props);
+        AuditLogReader.AuditPage all = segmentReader.read(base, base.plusSeconds(100000), 100000);
+        long firstRetained = AuditLogFormat.baseSequenceOf(segments.get(0));
+        assertThat(all.records().get(0).sequence()).isEqualTo(firstRetained);
+        assertThat(all.records().get(all.records().size() - 1).sequence()).isEqualTo(5000);
+        assertThat(all.records().get(all.records().size() - 1).type()).isEqualTo("USER_REGISTERED");
+
+        AuditLogReader.AuditPage tail = segmentReader.read(base.plusSeconds(4990), base.plusSeconds(5000), 100);
+        assertThat(tail.records()).hasSize(10);
+        assertThat(tail.segmentsSkipped()).isEqualTo(1);
+        assertThat(tail.records().get(0).userId()).isEqualTo(4990);
+
+        AuditLogReader.AuditPage limited = segmentReader.read(base, base.plusSeconds(100000), 3);
+        assertThat(limited.records()).hasSize(3);
+        assertThat(limited.truncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("paging: afterSequence 커서 → 같은 ms 레코드도, 늦게 기록된 이른 시각 레코드도 한 번씩만")
+    void sequence_cursor_pages_each_record_exactly_once(@TempDir Path dir) throws Exception {
+        AuditProperties props = new AuditProperties(true, dir.toString(), 65536, 8, AuditProperties.Fsync.NONE, 1000, 100000);
+        Instant base = Instant.parse("2026-03-01T00:00:00Z");
+
+        AuditLogWriter writer = new AuditLogWriter(props, new SimpleMeterRegistry());
+        for (int i = 0; i < 5000; i++) { // 3건씩 같은 ms, 5건마다 한 건은 앞선 시각으로 늦게 기록 (요청 스레드 시각 ≠ 버스 순서)
+            Instant at = base.plusMillis(10 + i / 3 - (i % 5 == 4 ? 2 : 0));
+            writer.onBatch(List.of(new AuthEvent.RefreshRotated(i, at)));
+        }
+        writer.destroy();
+
+        AuditLogReader segmentReader = new AuditLogReader(props);
+        Instant to = base.plusSeconds(60);
+        List<Long> expected = segmentReader.read(base, to, 100000).records().stream().map(AuditRecord::sequence).toList();
+
+        List<Long> paged = new ArrayList<>();
+        long cursor = -1;
+        AuditLogReader.AuditPage page;
+        do {
+            page = segmentReader.read(base, to, cursor, 7);
+            page.records().forEach(r -> paged.add(r.sequence()));
+            if (page.lastSequence() != null) {
+                cursor = page.lastSequence();
+            }
+        } while (page.truncated());
+
+        assertThat(expected).hasSize(5000);
+        assertThat(paged).containsExactlyElementsOf(expected);
+        assertThat(AuditLogFormat.listSegments(dir)).hasSizeGreaterThan(1); // 커서가 세그먼트 경계를 넘는다
+    }
+
+    private Instant pinClock(Duration offset) {
+        Instant at = TestClockConfig.TEST_START.plus(offset);
+        TestClockConfig.TEST_CLOCK.set(at);
+        return at;
+    }
+
+    private List<AuditRecord> readAt(Instant at) {
+        return new ArrayList<>(reader.read(at, at.plusMillis(1), 100).records());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, String what) {
+        long deadline = System.nanoTime() + AWAIT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("interrupted while waiting: " + what, e);
+            }
+        }
+        throw new AssertionError("timed out waiting: " + what);
+    }
+}
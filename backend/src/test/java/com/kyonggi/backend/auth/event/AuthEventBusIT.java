@@ -0,0 +1,273 @@
+package com.kyonggi.backend.auth.event;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.AuthProperties;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport.LoginResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 인증 이벤트 버스 통합 테스트
+ *
+ * - 흐름 검증: 실제 빈(AuthActivityMetrics)이 센 auth.activity 카운터 증가분으로 확인한다 (소비는 비동기 → 폴링).
+ * - 넘침 정책(DROP/BLOCK): 작은 capacity + 멈춰 있는 소비자로 AuthEventBus를 직접 만들어 검증한다.
+ */
+@DisplayName("[Auth][Event] 인증 이벤트 버스 통합 테스트")
+class AuthEventBusIT extends AbstractAuthIntegrationTest {
+
+    private static final Duration AWAIT = Duration.ofSeconds(5);
+
+    @Autowired MockMvc mvc;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired AuthProperties authProperties;
+
+    @BeforeEach
+    void setUp() {
+        createDefaultUser();
+    }
+
+    @Test
+    @DisplayName("login: 성공/실패가 각각 login_succeeded / login_failed{reason} 로 소비된다")
+    void login_outcomes_reach_consumers() throws Exception {
+        double succeededBefore = activity("login_succeeded");
+        double failedBefore = activity("login_failed");
+        double invalidBefore = loginFailedReason("INVALID_CREDENTIALS");
+
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+        AuthHttpSupport.performLogin(mvc, EMAIL, "wrong-password1!", false)
+                .andExpect(status().isUnauthorized());
+
+        awaitTrue(() -> activity("login_succeeded") - succeededBefore == 1, "login_succeeded +1");
+        awaitTrue(() -> activity("login_failed") - failedBefore == 1, "login_failed +1");
+        assertThat(loginFailedReason("INVALID_CREDENTIALS") - invalidBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("refresh/logout: 로테이션 1건 + revoke 1건, 같은 토큰으로 다시 logout하면 추가 이벤트 없음")
+    void rotation_and_revocation_are_published_once() throws Exception {
+        double rotatedBefore = activity("refresh_rotated");
+        double revokedBefore = activity("session_revoked");
+
+        LoginResult login = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+        String rotatedRaw = AuthFlowSupport.refreshOk(mvc, login.refreshRaw()).refreshRaw();
+
+        Cookie cookie = new Cookie(AuthHttpSupport.REFRESH_COOKIE, rotatedRaw);
+        AuthHttpSupport.performLogout(mvc, cookie).andExpect(status().isNoContent());
+        AuthHttpSupport.performLogout(mvc, cookie).andExpect(status().isNoContent());
+
+        awaitTrue(() -> activity("refresh_rotated") - rotatedBefore == 1, "refresh_rotated +1");
+        awaitTrue(() -> activity("session_revoked") - revokedBefore >= 1, "session_revoked +1");
+        assertThat(activity("session_revoked") - revokedBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("overflow=DROP: 소비자가 멈춰 버퍼가 차면 publish=false + dropped 증가, 풀리면 남은 이벤트 소비")
+    void full_buffer_drops_when_policy_is_drop() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockedConsumer consumer = new BlockedConsumer();
+        AuthEventBus bus = new AuthEventBus(withEvents(4, AuthProperties.Overflow.DROP), List.of(consumer), registry);
+        bus.start();
+        try {
+            for (int i = 0; i < 4; i++) {
+                assertThat(bus.publish(registered(i))).isTrue();
+            }
+            assertThat(bus.publish(registered(4))).isFalse();
+            assertThat(registry.get("auth.events.dropped").counter().count()).isEqualTo(1);
+            assertThat(registry.get("auth.events.lag").tag("consumer", "blocked").gauge().value()).isEqualTo(4);
+
+            consumer.release.countDown();
+            awaitTrue(() -> consumer.seen.get() == 4, "4 events consumed");
+            assertThat(consumer.lastUserId.get()).isEqualTo(3);
+        } finally {
+            consumer.release.countDown();
+            bus.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("overflow=BLOCK: 버퍼가 차면 발행자가 기다렸다가 자리가 나면 발행 (유실 없음)")
+    void full_buffer_blocks_publisher_when_policy_is_block() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockedConsumer consumer = new BlockedConsumer();
+        AuthEventBus bus = new AuthEventBus(withEvents(2, AuthProperties.Overflow.BLOCK), List.of(consumer), registry);
+        bus.start();
+        try {
+            assertThat(bus.publish(registered(0))).isTrue();
+            assertThat(bus.publish(registered(1))).isTrue();
+
+            CountDownLatch published = new CountDownLatch(1);
+            Thread publisher = new Thread(() -> {
+                bus.publish(registered(2));
+                published.countDown();
+            }, "test-publisher");
+            publisher.start();
+
+            assertThat(published.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+            consumer.release.countDown();
+            assertThat(published.await(AWAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+            awaitTrue(() -> consumer.seen.get() == 3, "3 events consumed");
+            assertThat(registry.get("auth.events.dropped").counter().count()).isZero();
+        } finally {
+            consumer.release.countDown();
+            bus.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("lossless 소비자(감사 로그)가 있으면 overflow=DROP 설정이어도 BLOCK으로 동작한다")
+    void lossless_consumer_forces_block_even_when_policy_is_drop() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockedConsumer consumer = new BlockedConsumer(true);
+        AuthEventBus bus = new AuthEventBus(withEvents(2, AuthProperties.Overflow.DROP), List.of(consumer), registry);
+        bus.start();
+        try {
+            assertThat(bus.publish(registered(0))).isTrue();
+            assertThat(bus.publish(registered(1))).isTrue();
+
+            CountDownLatch published = new CountDownLatch(1);
+            Thread publisher = new Thread(() -> {
+                if (bus.publish(registered(2))) {
+                    published.countDown();
+                }
+            }, "test-publisher");
+            publisher.start();
+
+            assertThat(published.await(200, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(registry.get("auth.events.dropped").counter().count()).isZero();
+
+            consumer.release.countDown();
+            assertThat(published.await(AWAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+            awaitTrue(() -> consumer.seen.get() == 3, "3 events consumed");
+        } finally {
+            consumer.release.countDown();
+            bus.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("버스 정지(기동 전/종료 후): 버퍼에 자리가 있어도 publish=false + dropped 증가, 소비자에게 가지 않는다")
+    void stopped_bus_drops_even_with_free_slots() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockedConsumer consumer = new BlockedConsumer();
+        consumer.release.countDown();
+        AuthEventBus bus = new AuthEventBus(withEvents(16, AuthProperties.Overflow.BLOCK), List.of(consumer), registry);
+
+        assertThat(bus.publish(registered(0))).isFalse(); // 기동 전
+
+        bus.start();
+        try {
+            assertThat(bus.publish(registered(1))).isTrue();
+            awaitTrue(() -> consumer.seen.get() == 1, "1 event consumed");
+        } finally {
+            bus.stop();
+        }
+
+        assertThat(bus.publish(registered(2))).isFalse(); // 종료 후
+        assertThat(registry.get("auth.events.dropped").counter().count()).isEqualTo(2);
+        assertThat(registry.get("auth.events.published").functionCounter().count()).isEqualTo(1);
+        assertThat(consumer.seen.get()).isEqualTo(1);
+        assertThat(consumer.lastUserId.get()).isEqualTo(1);
+    }
+
+    private AuthProperties withEvents(int capacity, AuthProperties.Overflow overflow) {
+        return new AuthProperties(
+                authProperties.jwt(),
+                authProperties.refresh(),
+                authProperties.password(),
+                authProperties.emailFilter(),
+                new AuthProperties.Events(capacity, overflow, 16, 100));
+    }
+
+    private static AuthEvent registered(long userId) {
+        return new AuthEvent.UserRegistered(userId, Instant.now());
+    }
+
+    private double activity(String event) {
+        return meterRegistry.get("auth.activity").tag("event", event).counter().count();
+    }
+
+    private double loginFailedReason(String reason) {
+        var counter = meterRegistry.find("auth.activity.login_failed").tag("reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    // 첫 배치에서 release될 때까지 멈춘다 → 그동안 소비자 sequence가 -1에 머문다
+    private static final class BlockedConsumer implements AuthEventConsumer {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger seen = new AtomicInteger();
+        final AtomicLong lastUserId = new AtomicLong(-1);
+        private final boolean lossless;
+
+        BlockedConsumer() {
+            this(false);
+        }
+
+        BlockedConsumer(boolean lossless) {
+            this.lossless = lossless;
+        }
+
+        @Override
+        public String name() {
+            return "blocked";
+        }
+
+        @Override
+        public boolean lossless() {
+            return lossless;
+        }
+
+        @Override
+        public void onBatch(List<AuthEvent> batch) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (AuthEvent event : batch) {
+                if (event instanceof AuthEvent.UserRegistered e) {
+                    lastUserId.set(e.userId());
+                }
+            }
+            seen.addAndGet(batch.size());
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, String what) {
+        long deadline = System.nanoTime() + AWAIT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("interrupted while waiting: " + what, e);
+            }
+        }
+        throw new AssertionError("timed out waiting: " + what);
+    }
+}
@@ -0,0 +1,100 @@
+package com.kyonggi.backend.auth.guard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 인증 엔드포인트 레이트 리밋 / 헤비 히터 통합 테스트
+ *
+ * - 기본 테스트 프로필은 한도를 사실상 없애 두었으므로, 여기서만 한도를 좁힌다(별도 컨텍스트).
+ * - 각 테스트는 고유 이메일/고유 remoteAddr를 써서 버킷을 공유하지 않는다.
+ */
+@TestPropertySource(properties = {
+        "app.guard.rate-limit.login-ip.capacity=5",
+        "app.guard.rate-limit.login-ip.refill-per-minute=1",
+        "app.guard.rate-limit.login-email.capacity=2",
+        "app.guard.rate-limit.login-email.refill-per-minute=1",
+        "app.guard.heavy-hitters.auto-throttle=true",
+        "app.guard.heavy-hitters.throttle-threshold=20"
+})
+@DisplayName("[Auth][Guard] 레이트 리밋 / 헤비 히터 통합 테스트")
+class AuthRateLimitIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired HeavyHittersEndpoint heavyHittersEndpoint;
+
+    @Test
+    @DisplayName("login: 같은 이메일 한도 초과 → 429 RATE_LIMITED + Retry-After (BCrypt/DB 이전에 거절)")
+    void login_email_limit_returns_429_with_retry_after() throws Exception {
+        String email = uniqueKyonggiEmail("ratelimit");
+
+        AuthHttpSupport.expectErrorWithCode(login(email, "10.0.0.1"), ErrorCode.INVALID_CREDENTIALS);
+        AuthHttpSupport.expectErrorWithCode(login(email, "10.0.0.2"), ErrorCode.INVALID_CREDENTIALS);
+
+        MvcResult limited = AuthHttpSupport.expectErrorWithCode(login(email, "10.0.0.3"), ErrorCode.RATE_LIMITED);
+        String retryAfter = limited.getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+        assertThat(retryAfter).isNotNull();
+        assertThat(Integer.parseInt(retryAfter)).isBetween(1, 60);
+    }
+
+    @Test
+    @DisplayName("login: 같은 IP 한도 초과 → 이메일이 매번 달라도 429 RATE_LIMITED")
+    void login_ip_limit_applies_across_emails() throws Exception {
+        String ip = "10.1.2.3";
+        for (int i = 0; i < 5; i++) {
+            AuthHttpSupport.expectErrorWithCode(login(uniqueKyonggiEmail("ip" + i), ip), ErrorCode.INVALID_CREDENTIALS);
+        }
+
+        AuthHttpSupport.expectErrorWithCode(login(uniqueKyonggiEmail("ip-over"), ip), ErrorCode.RATE_LIMITED);
+        AuthHttpSupport.expectErrorWithCode(login(uniqueKyonggiEmail("other-ip"), "10.1.2.4"), ErrorCode.INVALID_CREDENTIALS);
+    }
+
+    @Test
+    @DisplayName("refresh: 같은 IP가 임계치까지 반복 → 헤비 히터로 보고 + auto-throttle 429")
+    void refresh_heavy_hitter_is_reported_and_throttled() throws Exception {
+        String ip = "10.3.0.1";
+        for (int i = 0; i < 19; i++) {
+            AuthHttpSupport.expectErrorWithCode(refresh(ip), ErrorCode.REFRESH_INVALID); // 쿠키 없음
+        }
+        AuthHttpSupport.expectErrorWithCode(refresh(ip), ErrorCode.RATE_LIMITED);
+
+        assertThat(heavyHittersEndpoint.heavyHitters().get("ip"))
+                .anySatisfy(offender -> {
+                    assertThat(offender.key()).isEqualTo(ip);
+                    assertThat(offender.count()).isGreaterThanOrEqualTo(20);
+                });
+    }
+
+    private ResultActions refresh(String remoteAddr) throws Exception {
+        return mvc.perform(post(AuthHttpSupport.REFRESH_ENDPOINT)
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                }));
+    }
+
+    private ResultActions login(String email, String remoteAddr) throws Exception {
+        return mvc.perform(post(AuthHttpSupport.LOGIN_ENDPOINT)
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s","password":"%s","rememberMe":false}
+                        """.formatted(email, PASSWORD)));
+    }
+}
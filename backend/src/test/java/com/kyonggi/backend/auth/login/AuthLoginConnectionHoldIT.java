@@ -0,0 +1,103 @@
+package com.kyonggi.backend.auth.login;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.password.PasswordHasher;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 로그인 1회당 Hikari 커넥션 보유 시간 검증
+ *
+ * - hikari.connections.usage: 커넥션을 빌린 시점 ~ 반납 시점 (Hikari가 Micrometer로 기록)
+ * - BCrypt(~수십~100ms)가 트랜잭션 밖에서 돌면, 로그인 1회의 커넥션 보유 합계는
+ *   "로그인 조회 + (lastLoginAt UPDATE + refresh INSERT)" 쿼리 시간뿐이어야 한다.
+ * - 테스트 프로필은 cost 4(해싱 ~1ms)라 해싱이 커넥션 안에 있어도 10ms를 넘지 않는다
+ *   → 이 테스트만 운영 바닥값 cost 10으로 올린다(해싱이 안에 있으면 확실히 넘는다).
+ * - 시간과 무관한 구조 검증도 같이 한다: matches가 불릴 때 요청 스레드에 트랜잭션/커넥션이 묶여 있으면 안 된다.
+ */
+@TestPropertySource(properties = {
+        "app.auth.password.bcrypt-min-strength=10",
+        "app.auth.password.bcrypt-max-strength=10"
+})
+@DisplayName("[Auth][Login] 커넥션 보유 시간 통합 테스트")
+class AuthLoginConnectionHoldIT extends AbstractAuthIntegrationTest {
+
+    private static final int LOGINS = 5;
+
+    @Autowired MockMvc mvc;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired DataSource dataSource;
+    @MockitoSpyBean PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void seedUser() {
+        createDefaultUser();
+    }
+
+    @Test
+    @DisplayName("login: 해싱은 커넥션 밖에서 실행 → 로그인 1회당 커넥션 보유 시간 < 10ms")
+    void login_holds_connection_for_single_digit_millis() throws Exception {
+        // 워밍업: JIT / 풀 커넥션 생성 / 쿼리 플랜 캐시가 측정에 섞이지 않게 한다.
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+
+        Timer usage = meterRegistry.get("hikari.connections.usage").timer();
+        long countBefore = usage.count();
+        double heldBeforeMs = usage.totalTime(TimeUnit.MILLISECONDS);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < LOGINS; i++) {
+            AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+        }
+        double wallPerLoginMs = (System.nanoTime() - startedAt) / 1_000_000.0 / LOGINS;
+
+        long checkouts = usage.count() - countBefore;
+        double heldPerLoginMs = (usage.totalTime(TimeUnit.MILLISECONDS) - heldBeforeMs) / LOGINS;
+
+        assertThat(checkouts).isGreaterThanOrEqualTo(LOGINS);
+        assertThat(heldPerLoginMs)
+                .as("connection held per login (wall per login = %.1fms)", wallPerLoginMs)
+                .isLessThan(10.0);
+    }
+
+    @Test
+    @DisplayName("login: matches 호출 시점에 요청 스레드에 트랜잭션/JDBC 커넥션이 묶여 있지 않다")
+    void password_is_verified_outside_transaction() throws Exception {
+        List<String> violations = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                violations.add("transaction active");
+            }
+            if (TransactionSynchronizationManager.hasResource(dataSource)) {
+                violations.add("connection bound");
+            }
+            return invocation.callRealMethod();
+        }).when(passwordHasher).matches(anyString(), anyString());
+
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+
+        verify(passwordHasher, atLeastOnce()).matches(anyString(), anyString());
+        assertThat(violations).isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package com.kyonggi.backend.auth.login;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.password.PasswordHasher;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 요청 마감(X-Request-Timeout-Ms) 통합 테스트
+ *
+ * - 1ms 예산: DB 왕복/해싱 대기 어디선가 반드시 마감을 넘는다 → 503 DEADLINE_EXCEEDED, 토큰/쿠키 발급 없음
+ * - 넉넉한 예산: 기존 로그인 흐름 그대로
+ * - 선택적 재해싱(rehashIfOutdated)이 마감에 걸려도 로그인은 성공한다 (재해싱만 다음 로그인으로 미룸)
+ */
+@DisplayName("[Auth][Login] 요청 마감 전파")
+class AuthLoginDeadlineIT extends AbstractAuthIntegrationTest {
+
+    private static final String DEADLINE_HEADER = "X-Request-Timeout-Ms";
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+    @MockitoSpyBean PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void seedUser() {
+        createDefaultUser();
+    }
+
+    @Test
+    @DisplayName("클라이언트 예산 1ms → 503 DEADLINE_EXCEEDED + Set-Cookie 없음")
+    void exhausted_budget_is_503_deadline_exceeded() throws Exception {
+        ResultActions actions = performLoginWithBudget("1");
+
+        AuthHttpSupport.expectErrorWithCode(actions, ErrorCode.DEADLINE_EXCEEDED);
+        actions.andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE));
+    }
+
+    @Test
+    @DisplayName("클라이언트 예산이 충분하면 → 200 (경로 예산 상한만 적용)")
+    void sufficient_budget_logs_in() throws Exception {
+        performLoginWithBudget("60000")
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("비밀번호 일치 후 재해싱이 DEADLINE_EXCEEDED → 로그인은 200, 해시는 그대로(다음 로그인에서 재시도)")
+    void rehash_hitting_deadline_does_not_fail_login() throws Exception {
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD); // 업그레이드 대상
+        jdbc.update("update users set password_hash = ? where email = ?", legacyHash, EMAIL);
+        doThrow(new ApiException(ErrorCode.DEADLINE_EXCEEDED)).when(passwordHasher).encode(anyString());
+
+        performLoginWithBudget("60000")
+                .andExpect(status().isOk());
+
+        String storedHash = jdbc.queryForObject("select password_hash from users where email = ?", String.class, EMAIL);
+        assertThat(storedHash).isEqualTo(legacyHash);
+    }
+
+    private ResultActions performLoginWithBudget(String budgetMillis) throws Exception {
+        return mvc.perform(post(AuthHttpSupport.LOGIN_ENDPOINT)
+                .header(DEADLINE_HEADER, budgetMillis)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s","password":"%s","rememberMe":false}
+                        """.formatted(EMAIL, PASSWORD)));
+    }
+}
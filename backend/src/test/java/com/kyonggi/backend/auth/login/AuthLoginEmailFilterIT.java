@@ -0,0 +1,157 @@
+package com.kyonggi.backend.auth.login;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.AuthProperties;
+import com.kyonggi.backend.auth.identity.filter.RegisteredEmailFilter;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 가입 이메일 Bloom filter 통합 테스트
+ *
+ * 1) JPA insert(가입 경로) → 즉시 "있을 수도 있음"
+ * 2) 미가입 이메일 대부분 → "확실히 없음" + 로그인은 그대로 401 INVALID_CREDENTIALS
+ * 3) JPA를 거치지 않은 insert(= 다른 레플리카의 가입) → 증분 동기화 후 반영
+ * 4) 동기화 전이라도 미스 응답 전 max(id) 재확인으로 반영 (테스트 프로필 miss-recheck-millis=0)
+ *    재확인 간격 안에서는 미스가 남는다(문서화된 창) → 별도 인스턴스로 간격을 늘려 확인
+ * 5) add와 재구축 교체가 겹쳐도 add한 이메일이 사라지지 않는다
+ */
+@DisplayName("[Auth][Login] 가입 이메일 필터 통합 테스트")
+class AuthLoginEmailFilterIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired RegisteredEmailFilter registeredEmailFilter;
+    @Autowired AuthProperties authProperties;
+
+    @Test
+    @DisplayName("가입(JPA insert) 직후 필터에 반영 → 로그인 성공")
+    void persisted_user_is_visible_immediately() throws Exception {
+        createDefaultUser();
+
+        assertThat(registeredEmailFilter.mightExist(EMAIL)).isTrue();
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+    }
+
+    @Test
+    @DisplayName("미가입 이메일은 대부분 '확실히 없음' + 로그인은 401 INVALID_CREDENTIALS (동일 에러)")
+    void unknown_emails_are_definite_misses() throws Exception {
+        long misses = IntStream.range(0, 100)
+                .mapToObj(i -> uniqueKyonggiEmail("nobody" + i))
+                .filter(email -> !registeredEmailFilter.mightExist(email))
+                .count();
+        assertThat(misses).as("오탐률 1%% 기준").isGreaterThanOrEqualTo(90);
+
+        ResultActions actions = AuthHttpSupport.performLogin(mvc, uniqueKyonggiEmail("nobody"), PASSWORD, false);
+        AuthHttpSupport.expectErrorWithCode(actions, ErrorCode.INVALID_CREDENTIALS);
+    }
+
+    @Test
+    @DisplayName("다른 레플리카에서 가입(JPA 우회 insert) → 증분 동기화 후 로그인 성공")
+    void other_replica_signup_is_picked_up_by_sync() throws Exception {
+        String email = uniqueKyonggiEmail("replica");
+        jdbc.update("insert into users (email, password_hash, nickname) values (?, ?, ?)",
+                email, passwordEncoder.encode(PASSWORD), "replica" + (System.nanoTime() % 100000));
+
+        registeredEmailFilter.syncRecent();
+
+        assertThat(registeredEmailFilter.mightExist(email)).isTrue();
+        AuthFlowSupport.loginOk(mvc, email, PASSWORD, false);
+    }
+
+    @Test
+    @DisplayName("다른 레플리카 가입 직후(동기화 전) 로그인 → 미스 전 max(id) 재확인으로 401이 아니라 성공")
+    void other_replica_signup_is_visible_before_scheduled_sync() throws Exception {
+        String email = insertAsOtherReplica("replica_now");
+
+        AuthFlowSupport.loginOk(mvc, email, PASSWORD, false);
+    }
+
+    @Test
+    @DisplayName("재확인 간격(miss-recheck-millis) 안에서는 다른 레플리카 가입분이 미스로 남는다 → 동기화 후 반영")
+    void recheck_interval_is_the_remaining_window() {
+        RegisteredEmailFilter filter = newFilter(60_000);
+        filter.rebuild();
+        stampRecheck(filter);
+
+        String email = insertAsOtherReplica("replica_window");
+        assertThat(filter.mightExist(email)).isFalse();
+
+        filter.syncRecent();
+        assertThat(filter.mightExist(email)).isTrue();
+    }
+
+    @Test
+    @DisplayName("add와 재구축(필터 교체)이 겹쳐도 add한 이메일은 빠지지 않는다")
+    void add_survives_concurrent_rebuild() throws Exception {
+        RegisteredEmailFilter filter = newFilter(60_000);
+        filter.rebuild();
+        stampRecheck(filter);
+
+        AtomicBoolean adding = new AtomicBoolean(true);
+        Thread rebuilder = new Thread(() -> {
+            while (adding.get()) {
+                filter.rebuild();
+            }
+        }, "test-rebuilder");
+        rebuilder.start();
+
+        List<String> added = new ArrayList<>();
+        try {
+            for (int i = 0; i < 2000; i++) {
+                String email = uniqueKyonggiEmail("added" + i);
+                filter.add(email);
+                added.add(email);
+            }
+        } finally {
+            adding.set(false);
+            rebuilder.join();
+        }
+
+        assertThat(added).allMatch(filter::mightExist);
+    }
+
+    // 미가입 이메일로 미스를 한 번 내서 max(id) 확인 시점을 지금으로 고정한다 (오탐이면 다음 이메일로)
+    private void stampRecheck(RegisteredEmailFilter filter) {
+        for (int i = 0; i < 100; i++) {
+            if (!filter.mightExist(uniqueKyonggiEmail("nobody" + i))) {
+                return;
+            }
+        }
+        throw new AssertionError("no definite miss in 100 unknown emails");
+    }
+
+    // JPA(@PostPersist → add)를 거치지 않는 insert = 다른 레플리카에서 가입한 것과 같다
+    private String insertAsOtherReplica(String prefix) {
+        String email = uniqueKyonggiEmail(prefix);
+        jdbc.update("insert into users (email, password_hash, nickname) values (?, ?, ?)",
+                email, passwordEncoder.encode(PASSWORD), prefix.substring(0, 3) + (System.nanoTime() % 100000));
+        return email;
+    }
+
+    private RegisteredEmailFilter newFilter(long missRecheckMillis) {
+        AuthProperties.EmailFilter base = authProperties.emailFilter();
+        AuthProperties.EmailFilter emailFilter = new AuthProperties.EmailFilter(
+                true, base.expectedInsertions(), base.falsePositiveRate(), base.syncIntervalSeconds(),
+                base.syncOverlapIds(), base.rebuildIntervalSeconds(), base.scanBatchSize(), missRecheckMillis);
+        AuthProperties props = new AuthProperties(
+                authProperties.jwt(), authProperties.refresh(), authProperties.password(), emailFilter, authProperties.events());
+        return new RegisteredEmailFilter(jdbc, props, new SimpleMeterRegistry());
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -146,6 +147,21 @@ class AuthLoginIT extends AbstractAuthIntegrationTest {
         
     }
 
+    @Test
+    @DisplayName("login 성공: 레거시(prefix 없는) BCrypt 해시는 현재 정책 해시로 재저장된다")
+    void success_rehashes_legacy_bcrypt_hash() throws Exception {
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD); // DelegatingPasswordEncoder 도입 전 형식
+        jdbc.update("update users set password_hash = ? where email = ?", legacyHash, EMAIL);
+
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+
+        String storedHash = jdbc.queryForObject("select password_hash from users where email = ?", String.class, EMAIL);
+        assertThat(storedHash).startsWith("{bcrypt}");
+
+        // 재해싱된 값으로도 그대로 로그인된다
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+    }
+
 
     // ==============
     // helper methods
@@ -0,0 +1,116 @@
+package com.kyonggi.backend.auth.login;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 조회 p99 벤치마크 (users 1M rows)
+ *
+ * - 기본 test 태스크에서는 제외된다(@Tag("benchmark")). 실행: ./gradlew benchmark
+ * - 엔티티 조회(findByEmail) vs 커버링 인덱스 프로젝션(findLoginCredentialByEmail)을 같은 조건에서 비교한다.
+ * - 절대값은 머신마다 다르므로 "인덱스만으로 응답하는지(EXPLAIN)"만 단언하고, 지연은 로그로 남긴다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("[Auth][Login][Benchmark] 로그인 조회 p99 @ 1M users")
+class LoginLookupBenchmarkIT extends AbstractAuthIntegrationTest {
+
+    private static final int USERS = 1_000_000;
+    private static final int WARMUP = 2_000;
+    private static final int SAMPLES = 20_000;
+    private static final String EMAIL_PREFIX = "bench_";
+
+    @Autowired JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seedUsers() {
+        // 0 ~ 999,999 (digits 6번 cross join) → 한 문장 INSERT ... SELECT
+        jdbc.update("""
+                insert into users (email, password_hash, nickname)
+                select concat(?, n, '@kyonggi.ac.kr'), '{bcrypt}$2a$04$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm', concat('b', n)
+                from (
+                    select a.d + b.d * 10 + c.d * 100 + d.d * 1000 + e.d * 10000 + f.d * 100000 as n
+                    from (select 0 d union all select 1 union all select 2 union all select 3 union all select 4
+                          union all select 5 union all select 6 union all select 7 union all select 8 union all select 9) a
+                    cross join (select 0 d union all select 1 union all select 2 union all select 3 union all select 4
+                          union all select 5 union all select 6 union all select 7 union all select 8 union all select 9) b
+                    cross join (select 0 d union all select 1 union all select 2 union all select 3 union all select 4
+                          union all select 5 union all select 6 union all select 7 union all select 8 union all select 9) c
+                    cross join (select 0 d union all select 1 union all select 2 union all select 3 union all select 4
+                          union all select 5 union all select 6 union all select 7 union all select 8 union all select 9) d
+                    cross join (select 0 d union all select 1 union all select 2 union all select 3 union all select 4
+                          union all select 5 union all select 6 union all select 7 union all select 8 union all select 9) e
+                    cross join (select 0 d union all select 1 union all select 2 union all select 3 union all select 4
+                          union all select 5 union all select 6 union all select 7 union all select 8 union all select 9) f
+                ) seq
+                """, EMAIL_PREFIX);
+        jdbc.execute("analyze table users");
+    }
+
+    @AfterEach
+    void dropUsers() {
+        // 베이스 클래스의 userRepository.deleteAll()은 엔티티를 1M개 로딩하므로 여기서 먼저 SQL로 지운다.
+        jdbc.update("delete from users where email like ?", EMAIL_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("projection 조회는 커버링 인덱스만 읽는다 + p50/p99 비교 로그")
+    void projection_lookup_is_index_only_and_reports_p99() {
+        Map<String, Object> plan = jdbc.queryForMap("""
+                explain select u.id, u.password_hash, u.status, u.role
+                from users u force index (idx_users_login_cover)
+                where u.email = ?
+                """, email(42));
+        assertThat(plan.get("key")).isEqualTo("idx_users_login_cover");
+        assertThat(String.valueOf(plan.get("Extra"))).contains("Using index");
+
+        long[] entity = measure(email -> userRepository.findByEmail(email).orElseThrow());
+        long[] projection = measure(email -> userRepository.findLoginCredentialByEmail(email).orElseThrow());
+
+        log.info("[benchmark] users={} samples={} entity p50={}us p99={}us | projection p50={}us p99={}us",
+                USERS, SAMPLES,
+                percentileMicros(entity, 50), percentileMicros(entity, 99),
+                percentileMicros(projection, 50), percentileMicros(projection, 99));
+    }
+
+    private long[] measure(Consumer<String> lookup) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < WARMUP; i++) {
+            lookup.accept(email(random.nextInt(USERS)));
+        }
+
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            String email = email(random.nextInt(USERS));
+            long start = System.nanoTime();
+            lookup.accept(email);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static long percentileMicros(long[] sortedNanos, int percentile) {
+        int idx = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, idx)] / 1_000;
+    }
+
+    private static String email(int n) {
+        return EMAIL_PREFIX + n + "@kyonggi.ac.kr";
+    }
+}
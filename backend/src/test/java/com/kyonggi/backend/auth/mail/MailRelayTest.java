@@ -0,0 +1,72 @@
+package com.kyonggi.backend.auth.mail;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.kyonggi.backend.auth.config.AppMailProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 릴레이 순위 점수 단위 테스트 (스프링 컨텍스트/SMTP 없음)
+ *
+ * - 점수(ms) = EWMA(수락 지연) + EWMA(오류율) × errorPenaltyMillis, 낮을수록 먼저 시도
+ * - 연결 풀은 만들기만 하고 연결하지 않는다 (점수 계산은 기록 메서드만 쓴다).
+ */
+@DisplayName("[Auth][Mail] MailRelay 순위 점수")
+class MailRelayTest {
+
+    private static final long PENALTY_MILLIS = 5000;
+
+    @Test
+    @DisplayName("관측 전 → +∞")
+    void unobserved_relay_scores_infinity() {
+        assertThat(relay("idle").score()).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    @DisplayName("실패만 있는 릴레이 → 점수 ≥ 벌점, 지연 3초짜리 건강한 릴레이보다 뒤")
+    void failure_only_relay_ranks_behind_slow_but_healthy_relay() {
+        MailRelay failing = relay("failing");
+        MailRelay healthy = relay("healthy");
+
+        failing.recordFailure();
+        healthy.recordSuccess(TimeUnit.MILLISECONDS.toNanos(3000));
+
+        assertThat(failing.score()).isGreaterThanOrEqualTo(PENALTY_MILLIS);
+        assertThat(healthy.score()).isEqualTo(3000);
+        assertThat(failing.score()).isGreaterThan(healthy.score());
+    }
+
+    @Test
+    @DisplayName("수락 표본이 생기면 그 지연으로 대체: 실패 1회 후 100ms 수락 → 100 + 0.16 × 5000 = 900")
+    void first_success_replaces_penalty_latency() {
+        MailRelay relay = relay("recovering");
+
+        relay.recordFailure();                                   // 오류율 0.2
+        relay.recordSuccess(TimeUnit.MILLISECONDS.toNanos(100)); // 오류율 0.2 × 0.8 = 0.16
+
+        assertThat(relay.score()).isCloseTo(900, within(0.001));
+    }
+
+    @Test
+    @DisplayName("수신자 거절(rejected)은 점수에 영향 없음")
+    void rejected_recipient_does_not_move_score() {
+        MailRelay relay = relay("rejecting");
+        relay.recordSuccess(TimeUnit.MILLISECONDS.toNanos(200));
+
+        relay.recordRejected();
+
+        assertThat(relay.score()).isEqualTo(200);
+    }
+
+    private static MailRelay relay(String name) {
+        return new MailRelay(name, 0, new JavaMailSenderImpl(),
+                new AppMailProperties.SmtpPool(true, 1, 1000, 100, 30), PENALTY_MILLIS, new SimpleMeterRegistry());
+    }
+}
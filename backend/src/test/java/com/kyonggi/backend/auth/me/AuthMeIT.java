@@ -113,7 +113,7 @@ class AuthMeIT extends AbstractAuthIntegrationTest {
             Long.class,
             EMAIL
         );
-        jdbc.update("delete from refresh_tokens where user_id = ?", userId); // FK 때문에 refresh_tokens 먼저 삭제
+        jdbc.update("delete from refresh_tokens where user_id = ?", userId); // 세션도 함께 정리 (refresh_tokens는 users FK 없음)
         jdbc.update("delete from users where email = ?", EMAIL);
 
         ResultActions actions = AuthHttpSupport.performMe(mvc, AuthHttpSupport.bearer(login.accessToken()));
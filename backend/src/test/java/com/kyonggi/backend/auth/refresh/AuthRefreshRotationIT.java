@@ -1,6 +1,12 @@
 package com.kyonggi.backend.auth.refresh;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
@@ -178,6 +184,37 @@ class AuthRefreshRotationIT extends AbstractAuthIntegrationTest {
         assertThat(newRow.get().isRevoked()).isFalse();
     }
 
+    @Test
+    @DisplayName("리프레시: 같은 refresh 동시 제출(여러 탭) → 1건만 로테이션 성공, 나머지는 401 REFRESH_REUSED")
+    void concurrent_refresh_with_same_token_rotates_once() throws Exception {
+        LoginResult login = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+        Cookie cookie = new Cookie(AuthHttpSupport.REFRESH_COOKIE, login.refreshRaw());
+
+        int tabs = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(tabs)) {
+            for (int i = 0; i < tabs; i++) {
+                statuses.add(pool.submit(() -> {
+                    start.await();
+                    return AuthHttpSupport.performRefresh(mvc, cookie).andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            int ok = 0;
+            for (Future<Integer> status : statuses) {
+                if (status.get() == 200) ok++;
+            }
+            assertThat(ok).isEqualTo(1);
+        }
+
+        // 성공한 1건이 만든 새 토큰 1개 + ROTATED 된 old 1개
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+        RefreshToken old = refreshTokenRepository.findByTokenHash(TokenHashUtils.sha256Hex(login.refreshRaw())).orElseThrow();
+        assertThat(old.isRotated()).isTrue();
+    }
+
     // -----------------
     // helper
     // -----------------
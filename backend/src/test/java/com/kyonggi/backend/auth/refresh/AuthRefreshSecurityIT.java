@@ -77,7 +77,7 @@ class AuthRefreshSecurityIT extends AbstractAuthIntegrationTest {
         String raw = login.refreshRaw();
         Long userId = jdbc.queryForObject("select id from users where email = ?", Long.class, EMAIL);
 
-        // FK 때문에 refresh_tokens 먼저 삭제
+        // 세션도 함께 정리 (refresh_tokens는 users FK가 없다: 샤드 DB에 있을 수 있음)
         jdbc.update("delete from refresh_tokens where user_id = ?", userId);
         jdbc.update("delete from users where id = ?", userId);
 
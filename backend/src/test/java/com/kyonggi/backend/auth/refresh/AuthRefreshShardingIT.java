@@ -0,0 +1,211 @@
+package com.kyonggi.backend.auth.refresh;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.testcontainers.containers.MySQLContainer;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.AuthProperties;
+import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport.LoginResult;
+import com.kyonggi.backend.auth.support.AuthHttpSupport.RefreshResult;
+import com.kyonggi.backend.auth.token.domain.RefreshToken;
+import com.kyonggi.backend.auth.token.shard.RefreshShardsEndpoint;
+import com.kyonggi.backend.auth.token.shard.RefreshShardsEndpoint.ShardStatus;
+import com.kyonggi.backend.auth.token.shard.RefreshTokenShards;
+import com.kyonggi.backend.auth.token.support.TokenHashUtils;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.infra.TestClockConfig;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * refresh_tokens 샤딩 통합 테스트 (RefreshTokenShards)
+ *
+ * - shard 0 = 공통 MySQL 컨테이너(메인 DB), shard 1 = 두 번째 MySQL 컨테이너 (refresh_tokens만, db/refresh-shard 마이그레이션)
+ * - new-token-shards=0,1 → 사용자마다 user_id 해시로 둘 중 하나
+ * - 각 DB를 JdbcTemplate으로 직접 세어 "정확히 한 샤드에만" 있는지 확인한다.
+ */
+@DisplayName("[Auth][Refresh][Shard] refresh_tokens 샤드 라우팅")
+class AuthRefreshShardingIT extends AbstractAuthIntegrationTest {
+
+    private static final int USERS = 16;
+
+    static final MySQLContainer<?> SHARD_1 = new MySQLContainer<>("mysql:8.0.36")
+            .withDatabaseName("kyonggi_refresh_shard1")
+            .withUsername("kyonggi")
+            .withPassword("kyonggi")
+            .withStartupAttempts(3)
+            .withStartupTimeout(Duration.ofMinutes(2));
+
+    static {
+        SHARD_1.start();
+    }
+
+    @DynamicPropertySource
+    static void refreshShards(DynamicPropertyRegistry r) {
+        r.add("app.auth.refresh-sharding.shards[0].url", SHARD_1::getJdbcUrl);
+        r.add("app.auth.refresh-sharding.shards[0].username", SHARD_1::getUsername);
+        r.add("app.auth.refresh-sharding.shards[0].password", SHARD_1::getPassword);
+        r.add("app.auth.refresh-sharding.new-token-shards", () -> "0,1");
+    }
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired Clock clock;
+    @Autowired AuthProperties authProps;
+    @Autowired RefreshTokenShards shards;
+    @Autowired RefreshShardsEndpoint endpoint;
+
+    private final JdbcTemplate shardJdbc = new JdbcTemplate(
+            new DriverManagerDataSource(SHARD_1.getJdbcUrl(), SHARD_1.getUsername(), SHARD_1.getPassword()));
+
+    @BeforeEach
+    void clearShard() {
+        shardJdbc.update("delete from refresh_tokens");
+    }
+
+    @Test
+    @DisplayName("login: 새 refresh 원문 = \"<shardFor(userId)>.\" + 행은 그 샤드에만 저장")
+    void login_stores_token_on_exactly_one_shard() throws Exception {
+        Set<Integer> used = new HashSet<>();
+
+        for (int i = 0; i < USERS; i++) {
+            String email = uniqueKyonggiEmail("shard_login_" + i);
+            User user = createUser(email, PASSWORD, "login" + i);
+            int expected = shards.shardFor(user.getId());
+
+            String raw = AuthFlowSupport.loginOk(mvc, email, PASSWORD, false).refreshRaw();
+
+            assertThat(raw).startsWith(expected + ".");
+            assertThat(rows(expected, raw)).isEqualTo(1);
+            assertThat(rows(1 - expected, raw)).isZero();
+            used.add(expected);
+        }
+
+        assertThat(used).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    @DisplayName("rotate/logout: prefix가 가리키는 샤드에서만 ROTATED/LOGOUT 처리 (메인 DB에는 행 없음)")
+    void rotate_and_logout_stay_on_token_shard() throws Exception {
+        String email = userOnShard(1).getEmail();
+
+        LoginResult login = AuthFlowSupport.loginOk(mvc, email, PASSWORD, false);
+        RefreshResult rotated = AuthFlowSupport.refreshOk(mvc, login.refreshRaw());
+
+        assertThat(rotated.refreshRaw()).startsWith("1.");
+        assertThat(revokeReason(1, login.refreshRaw())).isEqualTo("ROTATED");
+        assertThat(revokeReason(1, rotated.refreshRaw())).isNull();
+
+        AuthHttpSupport.performLogout(mvc, new Cookie(AuthHttpSupport.REFRESH_COOKIE, rotated.refreshRaw()))
+                .andExpect(status().isNoContent());
+
+        assertThat(revokeReason(1, rotated.refreshRaw())).isEqualTo("LOGOUT");
+        assertThat(jdbc.queryForObject("select count(*) from refresh_tokens", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("rotate: 샤드 1의 ROTATED 토큰 재제출 → 401 REFRESH_REUSED")
+    void reuse_is_detected_on_shard() throws Exception {
+        String email = userOnShard(1).getEmail();
+        LoginResult login = AuthFlowSupport.loginOk(mvc, email, PASSWORD, false);
+        AuthFlowSupport.refreshOk(mvc, login.refreshRaw());
+
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performRefresh(mvc, new Cookie(AuthHttpSupport.REFRESH_COOKIE, login.refreshRaw())),
+                ErrorCode.REFRESH_REUSED);
+    }
+
+    @Test
+    @DisplayName("legacy: prefix 없는 토큰은 shard 0에서 ROTATED → 새 토큰은 사용자 샤드(1)로 옮겨 간다")
+    void legacy_token_migrates_to_user_shard_on_rotate() throws Exception {
+        User user = userOnShard(1);
+
+        String legacyRaw = "legacyRefreshTokenWithoutShardPrefix";
+        LocalDateTime now = LocalDateTime.now(clock);
+        refreshTokenRepository.save(RefreshToken.issue(
+                user.getId(), TokenHashUtils.sha256Hex(legacyRaw), false, now, now.plusHours(1))); // 문맥 없음 = shard 0
+
+        RefreshResult rotated = AuthFlowSupport.refreshOk(mvc, legacyRaw);
+
+        assertThat(revokeReason(0, legacyRaw)).isEqualTo("ROTATED");
+        assertThat(rotated.refreshRaw()).startsWith("1.");
+        assertThat(rows(1, rotated.refreshRaw())).isEqualTo(1);
+        assertThat(rows(0, rotated.refreshRaw())).isZero();
+    }
+
+    @Test
+    @DisplayName("prefix가 없는 샤드/잘못된 형식 → refresh 401 REFRESH_INVALID, logout 204")
+    void unknown_shard_prefix_is_invalid() throws Exception {
+        for (String raw : List.of("9.abc", "x.abc", ".abc")) {
+            AuthHttpSupport.expectErrorWithCode(
+                    AuthHttpSupport.performRefresh(mvc, new Cookie(AuthHttpSupport.REFRESH_COOKIE, raw)),
+                    ErrorCode.REFRESH_INVALID);
+            AuthHttpSupport.performLogout(mvc, new Cookie(AuthHttpSupport.REFRESH_COOKIE, raw))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    @Test
+    @DisplayName("actuator refreshshards: 샤드별 live 집계 + 만료 행 purge는 그 샤드만 비운다")
+    void endpoint_reports_and_purges_per_shard() throws Exception {
+        String email = userOnShard(1).getEmail();
+        AuthFlowSupport.loginOk(mvc, email, PASSWORD, false);
+
+        assertThat(endpoint.refreshShards())
+                .extracting(ShardStatus::shard, ShardStatus::acceptsNew, ShardStatus::live)
+                .containsExactly(
+                        tuple(0, true, 0L),
+                        tuple(1, true, 1L));
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(authProps.refresh().sessionTtlSeconds() + 1));
+
+        assertThat(endpoint.purgeExpired(1).deleted()).isEqualTo(1);
+        assertThat(shardJdbc.queryForObject("select count(*) from refresh_tokens", Long.class)).isZero();
+    }
+
+    private User userOnShard(int shard) {
+        for (int i = 0; i < 64; i++) {
+            String email = uniqueKyonggiEmail("shard_" + shard + "_" + i);
+            User user = createUser(email, PASSWORD, "shard" + i); // 닉네임 유니크 (테스트마다 users 초기화)
+            if (shards.shardFor(user.getId()) == shard) {
+                return user;
+            }
+        }
+        throw new IllegalStateException("no user id hashed to shard " + shard);
+    }
+
+    private long rows(int shard, String raw) {
+        return db(shard).queryForObject("select count(*) from refresh_tokens where token_hash = ?",
+                Long.class, TokenHashUtils.sha256Hex(raw));
+    }
+
+    private String revokeReason(int shard, String raw) {
+        return db(shard).queryForObject("select revoke_reason from refresh_tokens where token_hash = ?",
+                String.class, TokenHashUtils.sha256Hex(raw));
+    }
+
+    private JdbcTemplate db(int shard) {
+        return shard == 0 ? jdbc : shardJdbc;
+    }
+}
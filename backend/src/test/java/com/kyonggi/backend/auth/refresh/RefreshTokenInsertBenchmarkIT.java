@@ -0,0 +1,125 @@
+package com.kyonggi.backend.auth.refresh;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.token.domain.RefreshToken;
+import com.kyonggi.backend.auth.token.support.TokenHashUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * refresh_tokens INSERT 처리량 벤치마크: IDENTITY(행마다 즉시 INSERT + 생성 키 조회) vs 앱 생성 ID + JDBC 배치
+ *
+ * - 기본 test 태스크에서는 제외된다(@Tag("benchmark")). 실행: ./gradlew benchmark
+ * - IDENTITY 쪽은 AUTO_INCREMENT를 되살린 복제 테이블에 Hibernate IDENTITY와 같은 방식(행당 1왕복 + getGeneratedKeys)으로 넣는다.
+ * - 앱 생성 ID 쪽은 실제 경로(RefreshToken 엔티티 saveAll → flush 시 batch_size 단위 multi-row INSERT)를 그대로 쓴다.
+ * - 절대값은 머신마다 다르므로 행 수만 단언하고, 처리량(rows/s)은 로그로 남긴다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("[Auth][Refresh][Benchmark] refresh_tokens INSERT: IDENTITY vs 앱 생성 ID + 배치")
+class RefreshTokenInsertBenchmarkIT extends AbstractAuthIntegrationTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ROWS = 20_000;
+    private static final String IDENTITY_TABLE = "bench_refresh_tokens_identity";
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = createDefaultUser().getId();
+        jdbc.execute("drop table if exists " + IDENTITY_TABLE);
+        jdbc.execute("create table " + IDENTITY_TABLE + " like refresh_tokens"); // FK는 복사되지 않는다
+        jdbc.execute("alter table " + IDENTITY_TABLE + " modify id bigint unsigned not null auto_increment");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("drop table if exists " + IDENTITY_TABLE);
+        jdbc.update("delete from refresh_tokens");
+    }
+
+    @Test
+    @DisplayName("같은 행 수를 한 트랜잭션에 넣을 때 rows/s 비교 로그")
+    void identity_vs_batched_time_ordered_ids() {
+        insertIdentity("w", WARMUP);
+        insertBatched("w", WARMUP);
+        jdbc.execute("truncate table " + IDENTITY_TABLE);
+        jdbc.update("delete from refresh_tokens");
+
+        long identityNanos = insertIdentity("i", ROWS);
+        long batchedNanos = insertBatched("b", ROWS);
+
+        assertThat(jdbc.queryForObject("select count(*) from " + IDENTITY_TABLE, Long.class)).isEqualTo(ROWS);
+        assertThat(refreshTokenRepository.count()).isEqualTo(ROWS);
+
+        log.info("[benchmark] refresh_tokens rows={} | identity {} rows/s ({} ms) | time-ordered+batch {} rows/s ({} ms) | x{}",
+                ROWS,
+                rowsPerSecond(identityNanos), identityNanos / 1_000_000,
+                rowsPerSecond(batchedNanos), batchedNanos / 1_000_000,
+                String.format("%.1f", (double) identityNanos / batchedNanos));
+    }
+
+    // Hibernate IDENTITY와 같은 모양: persist마다 INSERT 즉시 실행 + 생성 키 회수
+    private long insertIdentity(String prefix, int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp expiresAt = Timestamp.valueOf(now.plusDays(1));
+        String sql = "insert into " + IDENTITY_TABLE
+                + " (user_id, token_hash, remember_me, expires_at, created_at) values (?, ?, 0, ?, ?)";
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < rows; i++) {
+                String hash = TokenHashUtils.sha256Hex(prefix + i);
+                GeneratedKeyHolder keys = new GeneratedKeyHolder();
+                jdbc.update(con -> {
+                    PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                    ps.setLong(1, userId);
+                    ps.setString(2, hash);
+                    ps.setTimestamp(3, expiresAt);
+                    ps.setTimestamp(4, Timestamp.valueOf(now));
+                    return ps;
+                }, keys);
+            }
+        });
+        return System.nanoTime() - start;
+    }
+
+    // 실제 경로: 앱 생성 ID → flush 시점에 hibernate.jdbc.batch_size 단위로 모아 전송
+    private long insertBatched(String prefix, int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RefreshToken> tokens = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            tokens.add(RefreshToken.issue(userId, TokenHashUtils.sha256Hex(prefix + i), false, now, now.plusDays(1)));
+        }
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.saveAll(tokens));
+        return System.nanoTime() - start;
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return Math.round(ROWS / (nanos / 1_000_000_000.0));
+    }
+}
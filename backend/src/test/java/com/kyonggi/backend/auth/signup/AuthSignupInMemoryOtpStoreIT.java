@@ -0,0 +1,176 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.auth.identity.signup.store.InMemoryOtpStore;
+import com.kyonggi.backend.auth.identity.signup.store.OtpStore;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.infra.TestClockConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * app.otp.store=memory 통합 테스트
+ *
+ * - 같은 OTP 정책(쿨다운/실패 횟수/1회 소비)이 email_otp 테이블 없이 프로세스 메모리에서 지켜지는지 본다.
+ * - OTP 흐름 전체에서 email_otp 행이 한 번도 생기지 않아야 한다(DB 쓰기는 users INSERT뿐).
+ */
+@TestPropertySource(properties = "app.otp.store=memory")
+@DisplayName("[Auth][Signup][OTP] 인메모리 OTP 저장소 통합 테스트")
+class AuthSignupInMemoryOtpStoreIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired OtpStore otpStore;
+    @Autowired OtpProperties otpProps;
+
+    @Test
+    @DisplayName("memory: request → verify → complete 정상 + email_otp 행 없음 + 소비 후 상태 제거")
+    void signup_flow_without_email_otp_rows() throws Exception {
+        assertThat(otpStore).isInstanceOf(InMemoryOtpStore.class);
+
+        String email = uniqueKyonggiEmail("mem_ok");
+        String code = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+        assertThat(emailOtpRepository.count()).isZero();
+
+        MvcResult verified = AuthHttpSupport.performSignupOtpVerify(mvc, email, code)
+                .andExpect(status().isOk())
+                .andReturn();
+        String ticket = AuthHttpSupport.readJson(verified).get("signupTicket").asText();
+
+        AuthHttpSupport.performSignupComplete(mvc, email, PASSWORD, PASSWORD, NICKNAME, ticket)
+                .andExpect(status().is2xxSuccessful());
+
+        assertThat(userRepository.findByEmail(email)).isPresent();
+        assertThat(otpStore.find(email)).isEmpty();
+        assertThat(emailOtpRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("memory: 쿨다운 내 재요청 → 429 OTP_COOLDOWN")
+    void cooldown_is_enforced_in_memory() throws Exception {
+        String email = uniqueKyonggiEmail("mem_cooldown");
+        AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupOtpRequest(mvc, email),
+                ErrorCode.OTP_COOLDOWN
+        );
+    }
+
+    @Test
+    @DisplayName("memory: 코드 불일치 maxFailures회 → 이후 정답도 429 OTP_TOO_MANY_FAILURES")
+    void failures_accumulate_in_memory() throws Exception {
+        String email = uniqueKyonggiEmail("mem_fail");
+        String code = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+        String wrong = code.equals("000000") ? "111111" : "000000";
+
+        for (int i = 0; i < otpProps.maxFailures(); i++) {
+            AuthHttpSupport.expectErrorWithCode(
+                    AuthHttpSupport.performSignupOtpVerify(mvc, email, wrong),
+                    ErrorCode.OTP_INVALID
+            );
+        }
+
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupOtpVerify(mvc, email, code),
+                ErrorCode.OTP_TOO_MANY_FAILURES
+        );
+    }
+
+    @Test
+    @DisplayName("memory: verify 후 TTL 경과 → complete 400 OTP_EXPIRED (티켓 없이 저장소 상태로 판정)")
+    void expired_state_is_rejected_on_complete() throws Exception {
+        String email = uniqueKyonggiEmail("mem_expired");
+        String code = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+        AuthHttpSupport.performSignupOtpVerify(mvc, email, code)
+                .andExpect(status().isOk());
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofMinutes(otpProps.ttlMinutes()).plusSeconds(1));
+
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupComplete(mvc, email, PASSWORD, PASSWORD, NICKNAME),
+                ErrorCode.OTP_EXPIRED
+        );
+    }
+
+    @Test
+    @DisplayName("memory: issue(Stripe 락 → 휠 예약)와 tick(휠 → Stripe 락 정리)이 동시에 돌아도 교착되지 않는다")
+    void concurrent_issue_and_tick_do_not_deadlock() throws Exception {
+        // 호출마다 1초씩 가는 시계 → tick마다 휠이 실제로 버킷을 처리한다
+        AtomicLong seconds = new AtomicLong(TestClockConfig.TEST_START.getEpochSecond());
+        Clock ticking = new Clock() {
+            @Override public ZoneId getZone() { return TestClockConfig.TEST_ZONE; }
+            @Override public Clock withZone(ZoneId zone) { return this; }
+            @Override public Instant instant() { return Instant.ofEpochSecond(seconds.incrementAndGet()); }
+        };
+        InMemoryOtpStore store = new InMemoryOtpStore(ticking, new SimpleMeterRegistry());
+
+        // 과거 날짜로 발급 → 정리 시각이 이미 지남 → 다음 tick에서 바로 정리 대상 (tick이 계속 Stripe 락을 잡는다)
+        LocalDateTime past = LocalDateTime.of(2000, 1, 1, 0, 0);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            emails.add("deadlock" + i + "@kyonggi.ac.kr");
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        AtomicBoolean issuing = new AtomicBoolean(true);
+        try {
+            Future<?> ticker = pool.submit(() -> {
+                while (issuing.get()) {
+                    store.tick();
+                }
+            });
+            List<Future<?>> issuers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                issuers.add(pool.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        String email = emails.get((i + offset) % emails.size());
+                        store.issue(new OtpStore.IssueCommand(email, "hash", past, past, past, Integer.MAX_VALUE));
+                    }
+                }));
+            }
+
+            for (Future<?> issuer : issuers) {
+                issuer.get(30, TimeUnit.SECONDS);
+            }
+            issuing.set(false);
+            ticker.get(30, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            fail("issue/tick deadlocked (or stalled for 30s)");
+        } finally {
+            issuing.set(false);
+            pool.shutdownNow();
+        }
+
+        store.tick();
+        assertThat(emails).allMatch(email -> store.find(email).isEmpty());
+    }
+}
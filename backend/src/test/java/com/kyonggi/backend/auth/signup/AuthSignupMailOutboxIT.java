@@ -0,0 +1,124 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.OutboxMail;
+import com.kyonggi.backend.auth.domain.OutboxMailStatus;
+import com.kyonggi.backend.auth.identity.signup.support.OtpCodeCipher;
+import com.kyonggi.backend.auth.mail.MailOutbox;
+import com.kyonggi.backend.auth.mail.MailOutboxDispatcher;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.infra.TestClockConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메일 outbox 통합 테스트 (MailHog)
+ *
+ * - OTP 요청은 mail_outbox 적재까지만 하고 응답한다 → 메일은 디스패처 워커가 비동기로 MailHog에 보낸다.
+ * - 발송 성공 행은 삭제되고, 만료된 메일은 보내지 않고 DEAD로 남는다(payload 제거).
+ * - 워커는 SmtpConnectionPool의 연결을 재사용한다 → 연속 발송에서 핸드셰이크 수 < 발송 수.
+ */
+@DisplayName("[Auth][Signup][Mail] 메일 outbox 통합 테스트")
+class AuthSignupMailOutboxIT extends AbstractAuthIntegrationTest {
+
+    private static final Duration AWAIT = Duration.ofSeconds(10);
+
+    @Autowired MockMvc mvc;
+    @Autowired MailOutbox mailOutbox;
+    @Autowired MailOutboxDispatcher dispatcher;
+    @Autowired OtpCodeCipher codeCipher;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("request: 2xx → outbox 워커가 MailHog로 발송 + 발송된 outbox 행은 삭제")
+    void otp_mail_is_delivered_by_outbox_worker() throws Exception {
+        String email = uniqueKyonggiEmail("outbox_ok");
+
+        String code = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+
+        assertThat(code).hasSize(6);
+        awaitTrue(() -> outboxMailRepository.count() == 0, "발송 후 outbox 행 삭제");
+    }
+
+    @Test
+    @DisplayName("dispatch: OTP 만료 후에야 차례가 온 메일 → 보내지 않고 DEAD + payload 제거")
+    void expired_mail_is_dead_lettered_without_sending() {
+        String email = uniqueKyonggiEmail("outbox_expired");
+        LocalDateTime now = LocalDateTime.now(TestClockConfig.TEST_CLOCK);
+
+        mailOutbox.enqueueSignupOtp(email, "123456", now.minusSeconds(1));
+        dispatcher.wakeUp();
+
+        awaitTrue(() -> outboxMailRepository.findAll().stream()
+                .allMatch(m -> m.getStatus() == OutboxMailStatus.DEAD), "만료 메일 DEAD 전환");
+
+        OutboxMail dead = outboxMailRepository.findAll().get(0);
+        assertThat(dead.getRecipient()).isEqualTo(email);
+        assertThat(dead.getPayload()).isEmpty();
+        assertThat(dead.getLastError()).contains("expired");
+        assertThat(dead.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("payload: OTP 원문이 아니라 수신자에 묶인 암호문 (다른 수신자로는 열 수 없음)")
+    void payload_is_sealed_to_recipient() {
+        String email = uniqueKyonggiEmail("outbox_sealed");
+
+        String sealed = codeCipher.seal(email, "123456");
+
+        assertThat(sealed).doesNotContain("123456");
+        assertThat(codeCipher.open(email, sealed)).isEqualTo("123456");
+        assertThatThrownBy(() -> codeCipher.open(uniqueKyonggiEmail("other"), sealed))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("smtp-pool: 연속 발송 → 연결(핸드셰이크)을 메일마다 새로 맺지 않고 재사용")
+    void consecutive_mails_reuse_pooled_connections() throws Exception {
+        double handshakesBefore = smtpCount("auth.mail.smtp.handshake");
+        double messagesBefore = smtpCount("auth.mail.smtp.messages");
+
+        for (int i = 0; i < 4; i++) {
+            String email = uniqueKyonggiEmail("outbox_pool" + i);
+            AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+        }
+
+        double handshakes = smtpCount("auth.mail.smtp.handshake") - handshakesBefore;
+        double messages = smtpCount("auth.mail.smtp.messages") - messagesBefore;
+        assertThat(messages).isGreaterThanOrEqualTo(4);
+        assertThat(handshakes).isLessThan(messages);
+    }
+
+    private double smtpCount(String name) {
+        double timers = meterRegistry.find(name).timers().stream().mapToDouble(t -> t.count()).sum();
+        double counters = meterRegistry.find(name).counters().stream().mapToDouble(c -> c.count()).sum();
+        return timers + counters;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, String what) {
+        long deadline = System.nanoTime() + AWAIT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("interrupted while waiting: " + what, e);
+            }
+        }
+        throw new AssertionError("timed out waiting: " + what);
+    }
+}
@@ -0,0 +1,310 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.AppMailProperties;
+import com.kyonggi.backend.auth.mail.MailRecipientRejectedException;
+import com.kyonggi.backend.auth.mail.MailRelayRouter;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.MailhogSupport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 다중 릴레이 / 헤지 발송 통합 테스트
+ *
+ * - 백업 릴레이 = 두 번째 MailHog 컨테이너 (primary = 공통 MailHog)
+ * - "느린 릴레이" = 연결은 받지만 SMTP 인사(220)를 보내지 않는 로컬 소켓 → SMTP 타임아웃(5s)까지 멈춘다.
+ * - "수신자를 거절하는 릴레이" / "세션을 먼저 끊는 릴레이" = 로컬 최소 SMTP 응답기(scriptedSmtp).
+ * - 헤지/장애 전환/중복 제거/거절/끊긴 연결 재사용은 릴레이 구성을 바꾼 MailRelayRouter를 직접 만들어 검증한다 (빈 설정은 그대로).
+ */
+@DisplayName("[Auth][Signup][Mail] 다중 릴레이 + 헤지 발송 통합 테스트")
+class AuthSignupMailRelayIT extends AbstractAuthIntegrationTest {
+
+    private static final int SMTP_PORT = 1025;
+    private static final int HTTP_PORT = 8025;
+    private static final int SMTP_TIMEOUT_MILLIS = 5000;
+
+    static final GenericContainer<?> BACKUP_MAILHOG = new GenericContainer<>("mailhog/mailhog:v1.0.1")
+            .withExposedPorts(SMTP_PORT, HTTP_PORT)
+            .waitingFor(Wait.forHttp("/api/v2/messages")
+                    .forPort(HTTP_PORT)
+                    .forStatusCode(200)
+                    .withStartupTimeout(Duration.ofSeconds(30)));
+
+    static {
+        BACKUP_MAILHOG.start();
+    }
+
+    @DynamicPropertySource
+    static void backupRelay(DynamicPropertyRegistry r) {
+        r.add("app.mail.relays[0].name", () -> "backup");
+        r.add("app.mail.relays[0].host", BACKUP_MAILHOG::getHost);
+        r.add("app.mail.relays[0].port", () -> BACKUP_MAILHOG.getMappedPort(SMTP_PORT));
+    }
+
+    @Autowired MockMvc mvc;
+    @Autowired MailRelayRouter relayRouter;
+    @Autowired AppMailProperties mailProperties;
+
+    @BeforeEach
+    void clearBackupMailhog() throws Exception {
+        MailhogSupport.clearAll(backupBaseUrl());
+    }
+
+    @Test
+    @DisplayName("config: spring.mail = primary, app.mail.relays = 백업 → 평소엔 primary로 발송")
+    void primary_is_preferred_when_healthy() throws Exception {
+        assertThat(relayRouter.rankedRelayNames()).containsExactly("primary", "backup");
+
+        String email = uniqueKyonggiEmail("relay_primary");
+        String code = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+
+        assertThat(code).hasSize(6);
+        assertThat(relayRouter.rankedRelayNames().get(0)).isEqualTo("primary");
+        assertThat(MailhogSupport.messageIdsFor(backupBaseUrl(), email)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hedge: 1순위가 응답하지 않으면 hedge 지연 후 2순위로 → SMTP 타임아웃 전에 수락")
+    void slow_primary_is_hedged_to_backup() throws Exception {
+        try (ServerSocket silent = silentSmtp()) {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            MailRelayRouter router = new MailRelayRouter(
+                    senderTo(silent.getLocalPort()), relayProps(true), registry);
+            try {
+                String email = uniqueKyonggiEmail("relay_hedge");
+
+                long started = System.nanoTime();
+                router.send("<hedge-1@test.kyonggi>", otpMail(email));
+                long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+                assertThat(elapsedMillis).isLessThan(SMTP_TIMEOUT_MILLIS);
+                assertThat(registry.get("auth.mail.relay.hedged").counter().count()).isEqualTo(1);
+                assertThat(MailhogSupport.awaitOtpFor(backupBaseUrl(), email, Duration.ofSeconds(5)))
+                        .isEqualTo("123456");
+            } finally {
+                router.destroy();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("failover: 1순위 연결 거부 → 헤지 없이도 바로 2순위 + 이후 2순위가 1순위로 올라옴")
+    void refused_primary_fails_over_and_is_demoted() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MailRelayRouter router = new MailRelayRouter(senderTo(closedPort()), relayProps(false), registry);
+        try {
+            String email = uniqueKyonggiEmail("relay_failover");
+
+            router.send("<failover-1@test.kyonggi>", otpMail(email));
+
+            assertThat(MailhogSupport.awaitOtpFor(backupBaseUrl(), email, Duration.ofSeconds(5)))
+                    .isEqualTo("123456");
+            assertThat(router.rankedRelayNames()).containsExactly("backup", "primary");
+        } finally {
+            router.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("dedup: 같은 Message-ID 재발송 → 한 통만 도착 + 도착한 메일의 Message-ID 고정")
+    void same_message_id_is_sent_once() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MailRelayRouter router = new MailRelayRouter(senderTo(closedPort()), relayProps(false), registry);
+        try {
+            String email = uniqueKyonggiEmail("relay_dedup");
+            String messageId = "<dedup-1@test.kyonggi>";
+
+            router.send(messageId, otpMail(email));
+            router.send(messageId, otpMail(email));
+
+            MailhogSupport.awaitOtpFor(backupBaseUrl(), email, Duration.ofSeconds(5));
+            assertThat(MailhogSupport.messageIdsFor(backupBaseUrl(), email)).containsExactly(messageId);
+            assertThat(registry.get("auth.mail.relay.duplicates").counter().count()).isEqualTo(1);
+        } finally {
+            router.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("reject: 수신자 영구 거절(RCPT 550) → 백업으로 넘기지 않고 MailRecipientRejectedException, 릴레이 오류율/순위 영향 없음")
+    void rejected_recipient_is_not_a_relay_failure() throws Exception {
+        try (ServerSocket rejecting = scriptedSmtp("550 5.1.1 No such user", false)) {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            MailRelayRouter router = new MailRelayRouter(
+                    senderTo(rejecting.getLocalPort()), relayProps(false), registry);
+            try {
+                String email = uniqueKyonggiEmail("relay_reject");
+
+                assertThatThrownBy(() -> router.send("<reject-1@test.kyonggi>", otpMail(email)))
+                        .isInstanceOf(MailRecipientRejectedException.class);
+
+                assertThat(attempts(registry, "primary", "rejected")).isEqualTo(1);
+                assertThat(attempts(registry, "primary", "failed")).isZero();
+                assertThat(attempts(registry, "backup", "accepted")).isZero();
+                assertThat(router.rankedRelayNames()).containsExactly("primary", "backup");
+                assertThat(MailhogSupport.messageIdsFor(backupBaseUrl(), email)).isEmpty();
+            } finally {
+                router.destroy();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("pool: 서버가 먼저 끊은 idle 연결 → 빌릴 때 NOOP으로 걸러 새 연결로 발송 (릴레이 실패로 세지 않음)")
+    void dropped_idle_connection_is_replaced_before_send() throws Exception {
+        try (ServerSocket hangingUp = scriptedSmtp("250 OK", true)) {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            MailRelayRouter router = new MailRelayRouter(
+                    senderTo(hangingUp.getLocalPort()), relayProps(false), registry);
+            try {
+                router.send("<stale-1@test.kyonggi>", otpMail(uniqueKyonggiEmail("relay_stale1")));
+                Thread.sleep(1_100); // 방금 쓴 연결(1초 미만)은 NOOP 없이 재사용한다 → 그보다 오래 쉬게 한다
+                router.send("<stale-2@test.kyonggi>", otpMail(uniqueKyonggiEmail("relay_stale2")));
+
+                assertThat(attempts(registry, "primary", "accepted")).isEqualTo(2);
+                assertThat(attempts(registry, "primary", "failed")).isZero();
+                assertThat(registry.get("auth.mail.smtp.recycled")
+                        .tag("relay", "primary").tag("reason", "stale").counter().count()).isEqualTo(1);
+            } finally {
+                router.destroy();
+            }
+        }
+    }
+
+    private AppMailProperties relayProps(boolean hedgeEnabled) {
+        return new AppMailProperties(
+                mailProperties.from(),
+                mailProperties.outbox(),
+                mailProperties.smtpPool(),
+                List.of(new AppMailProperties.Relay(
+                        "backup", BACKUP_MAILHOG.getHost(), BACKUP_MAILHOG.getMappedPort(SMTP_PORT),
+                        null, null, Map.of())),
+                new AppMailProperties.Hedge(hedgeEnabled, 100, 300, 5000, 100));
+    }
+
+    private SimpleMailMessage otpMail(String email) {
+        SimpleMailMessage msg = new SimpleMailMessage();
+        msg.setTo(email);
+        msg.setFrom(mailProperties.from());
+        msg.setSubject("relay test");
+        msg.setText("인증번호: 123456");
+        return msg;
+    }
+
+    private static JavaMailSenderImpl senderTo(int port) {
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.auth", "false");
+        properties.setProperty("mail.smtp.starttls.enable", "false");
+        properties.setProperty("mail.smtp.connectiontimeout", String.valueOf(SMTP_TIMEOUT_MILLIS));
+        properties.setProperty("mail.smtp.timeout", String.valueOf(SMTP_TIMEOUT_MILLIS));
+        properties.setProperty("mail.smtp.writetimeout", String.valueOf(SMTP_TIMEOUT_MILLIS));
+
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(port);
+        sender.setDefaultEncoding("UTF-8");
+        sender.setJavaMailProperties(properties);
+        return sender;
+    }
+
+    // accept()하지 않아도 커널 backlog가 TCP 연결을 받아 준다 → 클라이언트는 220 인사를 기다리며 멈춘다
+    private static ServerSocket silentSmtp() throws Exception {
+        return new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * 최소 SMTP 응답기 (연결마다 순서대로 처리, 서버 소켓을 닫으면 스레드도 끝난다)
+     * @param rcptReply RCPT 응답 (예: "250 OK", "550 5.1.1 No such user")
+     * @param hangUpAfterMessage true면 메일 한 통을 받자마자(250 응답 후) 세션을 끊는다 → 서버 쪽 idle timeout 흉내
+     */
+    private static ServerSocket scriptedSmtp(String rcptReply, boolean hangUpAfterMessage) throws Exception {
+        ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread responder = new Thread(() -> {
+            while (!server.isClosed()) {
+                try (Socket socket = server.accept();
+                     BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                     Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+                    reply(out, "220 scripted.test ESMTP");
+                    String line;
+                    while ((line = in.readLine()) != null) {
+                        String command = line.length() < 4 ? line : line.substring(0, 4).toUpperCase(Locale.ROOT);
+                        if (command.equals("QUIT")) {
+                            reply(out, "221 bye");
+                            break;
+                        }
+                        if (command.equals("DATA")) {
+                            reply(out, "354 end with <CRLF>.<CRLF>");
+                            while ((line = in.readLine()) != null && !line.equals(".")) {
+                                // 본문은 버린다
+                            }
+                            reply(out, "250 2.0.0 queued");
+                            if (hangUpAfterMessage) {
+                                break;
+                            }
+                            continue;
+                        }
+                        reply(out, switch (command) {
+                            case "EHLO", "HELO" -> "250 scripted.test";
+                            case "RCPT" -> rcptReply;
+                            default -> "250 OK"; // MAIL / RSET / NOOP
+                        });
+                    }
+                } catch (IOException e) {
+                    // 서버 소켓 닫힘 또는 클라이언트 끊김 → 다음 연결(또는 종료)
+                }
+            }
+        }, "scripted-smtp");
+        responder.setDaemon(true);
+        responder.start();
+        return server;
+    }
+
+    private static void reply(Writer out, String line) throws IOException {
+        out.write(line + "\r\n");
+        out.flush();
+    }
+
+    private static double attempts(SimpleMeterRegistry registry, String relay, String outcome) {
+        return registry.get("auth.mail.relay.attempts").tag("relay", relay).tag("outcome", outcome).counter().count();
+    }
+
+    private static int closedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String backupBaseUrl() {
+        return "http://" + BACKUP_MAILHOG.getHost() + ":" + BACKUP_MAILHOG.getMappedPort(HTTP_PORT);
+    }
+}
@@ -0,0 +1,67 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.EmailOtp;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 행 락 충돌 fail-fast 통합 테스트
+ *
+ * - 다른 레플리카가 OTP 행을 잠그고 있는 상황을 별도 커넥션의 SELECT ... FOR UPDATE로 재현한다.
+ * - 기대: 50초(InnoDB 기본) 대기가 아니라 즉시 429 LOCK_CONFLICT + Retry-After, 실패 횟수는 그대로.
+ */
+@DisplayName("[Auth][Signup][OTP] 행 락 충돌 → 429 LOCK_CONFLICT")
+class AuthSignupOtpLockConflictIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired DataSource dataSource;
+
+    @Test
+    @DisplayName("verify: OTP 행이 다른 트랜잭션에 잠겨 있으면 → 즉시 429 LOCK_CONFLICT, 잠금 해제 후 정상 검증")
+    void verify_fails_fast_while_row_is_locked_elsewhere() throws Exception {
+        String email = uniqueKyonggiEmail("locked");
+        String code = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            try (PreparedStatement ps = other.prepareStatement(
+                    "select id from email_otp where email = ? for update")) {
+                ps.setString(1, email);
+                ps.executeQuery();
+            }
+
+            long started = System.nanoTime();
+            MvcResult res = AuthHttpSupport.expectErrorWithCode(
+                    AuthHttpSupport.performSignupOtpVerify(mvc, email, code), ErrorCode.LOCK_CONFLICT);
+            long tookMillis = (System.nanoTime() - started) / 1_000_000;
+
+            assertThat(res.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isNotBlank();
+            assertThat(tookMillis).as("NOWAIT + bounded retry").isLessThan(2_000);
+
+            other.rollback();
+        }
+
+        EmailOtp otp = emailOtpRepository.findByEmailAndPurpose(email, OtpPurpose.SIGNUP).orElseThrow();
+        assertThat(otp.getFailedAttempts()).isZero();
+
+        AuthHttpSupport.performSignupOtpVerify(mvc, email, code)
+                .andExpect(status().is2xxSuccessful());
+    }
+}
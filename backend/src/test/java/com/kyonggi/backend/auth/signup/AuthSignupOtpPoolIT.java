@@ -0,0 +1,80 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.OtpDataSourceConfig;
+import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport.LoginResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * OTP 전용 커넥션 풀 통합 테스트 (OtpDataSourceConfig)
+ *
+ * - OTP 발급은 otp 풀에서 커넥션을 얻는다 (hikaricp.connections.usage{pool=otp})
+ * - otp 풀을 모두 잡아도 메인 풀을 쓰는 login/refresh는 영향이 없다.
+ */
+@DisplayName("[Auth][Signup][OTP] OTP 전용 커넥션 풀")
+class AuthSignupOtpPoolIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired OtpProperties otpProperties;
+    @Autowired @Qualifier(OtpDataSourceConfig.OTP) DataSource otpDataSource;
+
+    @Test
+    @DisplayName("request: OTP 발급 트랜잭션은 otp 풀 커넥션을 쓴다")
+    void otp_request_uses_otp_pool() throws Exception {
+        long before = otpPoolUsages();
+
+        AuthHttpSupport.performSignupOtpRequest(mvc, uniqueKyonggiEmail("otp_pool"))
+                .andExpect(status().is2xxSuccessful());
+
+        assertThat(otpPoolUsages()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("otp 풀이 모두 점유돼도 login/refresh(메인 풀)는 성공")
+    void exhausted_otp_pool_does_not_block_login_or_refresh() throws Exception {
+        createDefaultUser();
+        LoginResult login = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < otpProperties.pool().maximumPoolSize(); i++) {
+                held.add(otpDataSource.getConnection());
+            }
+
+            AuthFlowSupport.refreshOk(mvc, login.refreshRaw());
+            AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        AuthHttpSupport.performSignupOtpRequest(mvc, uniqueKyonggiEmail("otp_pool_released"))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private long otpPoolUsages() {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", OtpDataSourceConfig.OTP).timer();
+        return usage == null ? 0 : usage.count();
+    }
+}
@@ -1,6 +1,12 @@
 package com.kyonggi.backend.auth.signup;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +49,7 @@ import com.kyonggi.backend.infra.TestClockConfig;
  * - @DisplayName("verify: 만료된 OTP → 400 OTP_EXPIRED")
  * - @DisplayName("verify: 실패횟수 초과(>= maxFailures) → 400 OTP_TOO_MANY_FAILURES")
  * - @DisplayName("verify: 코드 불일치 → 400 OTP_INVALID + failedAttempts가 DB에 +1 커밋됨(noRollbackFor 검증)")
+ * - @DisplayName("verify: 틀린 코드 동시 대입 → 실패 횟수는 정확히 maxFailures에서 멈춘다(lost update/초과 누적 없음)")
  * 
  * [AuthHttpSupport]
  * - performSignupOtpRequest = POST: /auth/signup/otp/request
@@ -286,6 +293,42 @@ class AuthSignupOtpServiceIT extends AbstractAuthIntegrationTest {
         assertThat(after.isVerified()).isFalse();
         assertThat(after.getFailedAttempts()).isEqualTo(failuresBefore + 1);
     }
-    
 
+    @Test
+    @DisplayName("verify: 틀린 코드 동시 대입 → 실패 횟수는 정확히 maxFailures에서 멈춘다(lost update/초과 누적 없음)")
+    void concurrent_wrong_codes_count_exactly_up_to_max_failures() throws Exception {
+        String email = uniqueKyonggiEmail("bruteforce");
+        AuthHttpSupport.performSignupOtpRequest(mvc, email)
+                .andExpect(status().is2xxSuccessful());
+
+        int max = otpProps.maxFailures();
+        int attempts = max * 2;
+        int clients = 4; // 가입 격벽(signup max-concurrent) 이하로 → 503 SERVER_BUSY 없이 DB까지 도달
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(clients)) {
+            for (int i = 0; i < attempts; i++) {
+                statuses.add(pool.submit(() -> {
+                    start.await();
+                    return AuthHttpSupport.performSignupOtpVerify(mvc, email, "000000")
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            int invalid = 0;
+            int tooMany = 0;
+            for (Future<Integer> status : statuses) {
+                int code = status.get();
+                if (code == ErrorCode.OTP_INVALID.status().value()) invalid++;
+                else if (code == ErrorCode.OTP_TOO_MANY_FAILURES.status().value()) tooMany++;
+            }
+            assertThat(invalid).isEqualTo(max);
+            assertThat(tooMany).isEqualTo(attempts - max);
+        }
+
+        EmailOtp after = emailOtpRepository.findByEmailAndPurpose(email, OtpPurpose.SIGNUP).orElseThrow();
+        assertThat(after.isVerified()).isFalse();
+        assertThat(after.getFailedAttempts()).isEqualTo(max);
+    }
 }
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
@@ -25,9 +26,9 @@ import com.kyonggi.backend.infra.TestClockConfig;
  * 1) 이메일 도메인(kyonggi) 검증 + normalize
  * 2) 비밀번호 정책 검증 (일치/강도)
  * 3) 닉네임 정책 검증 (정규식)
- * 4) OTP 레코드 조회(락) + verified/만료 검증
+ * 4) 가입 티켓(또는 OTP 레코드) 기반 verified/만료 검증
  * 5) user 이메일/닉네임 중복 검증
- * 6) user 저장 + OTP 삭제
+ * 6) user 저장 + OTP 조건부 삭제(1회 소비)
  */
 @DisplayName("[Auth][Signup][Service] completeSignup 통합 테스트")
 class AuthSignupServiceIT extends AbstractAuthIntegrationTest {
@@ -45,12 +46,15 @@ class AuthSignupServiceIT extends AbstractAuthIntegrationTest {
         // OTP request → 메일로 OTP 받음
         String otp = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, rawEmail, normalizedEmail);
 
-        // OTP verify → verified
-        AuthHttpSupport.performSignupOtpVerify(mvc, normalizedEmail, otp)
-                .andExpect(status().is2xxSuccessful());
+        // OTP verify → verified + 가입 티켓
+        MvcResult verified = AuthHttpSupport.performSignupOtpVerify(mvc, normalizedEmail, otp)
+                .andExpect(status().isOk())
+                .andReturn();
+        String ticket = AuthHttpSupport.readJson(verified).get("signupTicket").asText();
+        assertThat(ticket).isNotBlank();
 
-        // signup complete
-        AuthHttpSupport.performSignupComplete(mvc, rawEmail, PASSWORD, PASSWORD, NICKNAME)
+        // signup complete (티켓으로 검증 사실 확인 → OTP 행 조건부 삭제)
+        AuthHttpSupport.performSignupComplete(mvc, rawEmail, PASSWORD, PASSWORD, NICKNAME, ticket)
                 .andExpect(status().is2xxSuccessful());
 
         // user 생성 및 emailOtp 레코드 삭제 확인
@@ -198,4 +202,40 @@ class AuthSignupServiceIT extends AbstractAuthIntegrationTest {
                 ErrorCode.NICKNAME_ALREADY_EXISTS
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("completeSignup: 다른 이메일의 가입 티켓 → 400 OTP_NOT_VERIFIED, 원래 OTP는 그대로 남음")
+    void complete_signup_rejects_ticket_for_other_email() throws Exception {
+        String email = uniqueKyonggiEmail("ticket_owner");
+        String otp = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+
+        MvcResult verified = AuthHttpSupport.performSignupOtpVerify(mvc, email, otp)
+                .andExpect(status().isOk())
+                .andReturn();
+        String ticket = AuthHttpSupport.readJson(verified).get("signupTicket").asText();
+
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupComplete(mvc, uniqueKyonggiEmail("ticket_thief"), PASSWORD, PASSWORD, NICKNAME, ticket),
+                ErrorCode.OTP_NOT_VERIFIED
+        );
+        assertThat(emailOtpRepository.findByEmailAndPurpose(email, OtpPurpose.SIGNUP)).isPresent();
+    }
+
+    @Test
+    @DisplayName("completeSignup: 위조된 가입 티켓 → 400 OTP_NOT_VERIFIED")
+    void complete_signup_rejects_tampered_ticket() throws Exception {
+        String email = uniqueKyonggiEmail("ticket_forged");
+        String otp = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+
+        MvcResult verified = AuthHttpSupport.performSignupOtpVerify(mvc, email, otp)
+                .andExpect(status().isOk())
+                .andReturn();
+        String ticket = AuthHttpSupport.readJson(verified).get("signupTicket").asText();
+        String tampered = ticket.substring(0, ticket.length() - 1) + (ticket.endsWith("0") ? "1" : "0");
+
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupComplete(mvc, email, PASSWORD, PASSWORD, NICKNAME, tampered),
+                ErrorCode.OTP_NOT_VERIFIED
+        );
+    }
+}
@@ -90,6 +90,15 @@ public final class AuthHttpSupport {
                         """.formatted(email, password, passwordConfirm, nickname)));
     }
 
+    // POST: /auth/signup/complete (OTP 검증 응답의 가입 티켓 포함)
+    public static ResultActions performSignupComplete(MockMvc mvc, String email, String password, String passwordConfirm, String nickname, String signupTicket) throws Exception {
+        return mvc.perform(post(SIGNUP_COMPLETE_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s","password":"%s","passwordConfirm":"%s","nickname":"%s","signupTicket":"%s"}
+                        """.formatted(email, password, passwordConfirm, nickname, signupTicket)));
+    }
+
     // POST: /auth/login
     public static ResultActions performLogin(MockMvc mvc, String email, String password, boolean rememberMe) throws Exception {
         return mvc.perform(post(LOGIN_ENDPOINT)
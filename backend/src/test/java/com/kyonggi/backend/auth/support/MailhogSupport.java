@@ -45,8 +45,13 @@ public final class MailhogSupport {
 
     /** MailHog 전체 메일 삭제 (Flow 테스트 전 @BeforeEach에서 호출) */
     public static void clearAll() throws Exception {
+        clearAll(baseUrl());
+    }
+
+    /** 지정한 MailHog(백업 릴레이 역할 등)의 전체 메일 삭제 */
+    public static void clearAll(String baseUrl) throws Exception {
         HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl() + "/api/v1/messages"))
+                .uri(URI.create(baseUrl + "/api/v1/messages"))
                 .DELETE()
                 .timeout(HTTP_TIMEOUT)
                 .build();
@@ -56,11 +61,16 @@ public final class MailhogSupport {
 
     /** 특정 수신자에게 온 메일에서 6자리 OTP를 기다렸다가 반환 */
     public static String awaitOtpFor(String toEmail, Duration timeout) throws Exception {
+        return awaitOtpFor(baseUrl(), toEmail, timeout);
+    }
+
+    /** 지정한 MailHog에서 특정 수신자의 OTP를 기다렸다가 반환 */
+    public static String awaitOtpFor(String baseUrl, String toEmail, Duration timeout) throws Exception {
         long deadline = System.nanoTime() + timeout.toNanos();
         JsonNode lastRoot = null;
 
         while (System.nanoTime() < deadline) {
-            HttpResponse<String> res = fetchV2Messages();
+            HttpResponse<String> res = fetchV2Messages(baseUrl);
             if (res.statusCode() / 100 != 2) {
                 Thread.sleep(POLL_INTERVAL_MS);
                 continue;
@@ -77,14 +87,27 @@ public final class MailhogSupport {
 
         throw new AssertionError(
                 "OTP email not found in MailHog for: " + toEmail +
-                " (baseUrl=" + baseUrl() + ")\n" +
+                " (baseUrl=" + baseUrl + ")\n" +
                 "debug=" + summarize(lastRoot)
         );
     }
 
-    private static HttpResponse<String> fetchV2Messages() throws Exception {
+    /** 지정한 MailHog에 도착한, 특정 수신자의 Message-ID 헤더 목록 (중복 발송 검증용) */
+    public static List<String> messageIdsFor(String baseUrl, String toEmail) throws Exception {
+        HttpResponse<String> res = fetchV2Messages(baseUrl);
+        JsonNode items = om.readTree(res.body()).get("items");
+        List<String> ids = new ArrayList<>();
+        if (items == null || !items.isArray()) return ids;
+
+        for (JsonNode item : items) {
+            if (recipientMatches(item, toEmail)) ids.add(headerFirst(item, "Message-ID"));
+        }
+        return ids;
+    }
+
+    private static HttpResponse<String> fetchV2Messages(String baseUrl) throws Exception {
         HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl() + "/api/v2/messages?limit=50"))
+                .uri(URI.create(baseUrl + "/api/v2/messages?limit=50"))
                 .GET()
                 .timeout(HTTP_TIMEOUT)
                 .build();
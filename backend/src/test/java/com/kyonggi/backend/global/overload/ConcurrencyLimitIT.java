@@ -0,0 +1,110 @@
+package com.kyonggi.backend.global.overload;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.identity.me.service.MeService;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 적응형 동시성 한도 필터 통합 테스트 (ConcurrencyLimitFilter)
+ *
+ * - 한도를 2로 고정(initial=min=max)하고 NORMAL/LOW 비율을 0.5로 둔다 → NORMAL/LOW는 동시 1개, CRITICAL은 2개.
+ * - /auth/me(CRITICAL) 요청 하나를 MeService 안에서 붙잡아 inflight=1을 만든 뒤 우선순위별로 찔러본다.
+ *   → 가입(LOW)/로그인(NORMAL)은 inflight 2 > 허용 1 → 503 SERVER_BUSY + Retry-After, 세션 유지(CRITICAL)는 통과.
+ */
+@TestPropertySource(properties = {
+        "app.overload.concurrency.initial-limit=2",
+        "app.overload.concurrency.min-limit=2",
+        "app.overload.concurrency.max-limit=2",
+        "app.overload.concurrency.normal-share=0.5",
+        "app.overload.concurrency.low-share=0.5"
+})
+@DisplayName("[Overload] 동시성 한도 필터 통합 테스트")
+class ConcurrencyLimitIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @MockitoSpyBean MeService meService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicBoolean holdNext = new AtomicBoolean();
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        createDefaultUser();
+        bearer = AuthHttpSupport.bearer(AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken());
+
+        // holdNext가 켜져 있을 때 들어온 첫 /auth/me만 release까지 붙잡는다
+        doAnswer(invocation -> {
+            if (holdNext.compareAndSet(true, false)) {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return invocation.callRealMethod();
+        }).when(meService).me(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("inflight > 한도 × 비율 → LOW(가입)/NORMAL(로그인)은 503 SERVER_BUSY + Retry-After, CRITICAL(/auth/me)은 통과")
+    void low_and_normal_are_shed_before_critical() throws Exception {
+        Future<MvcResult> held = holdOneCriticalRequest();
+
+        MvcResult signup = AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupOtpRequest(mvc, uniqueKyonggiEmail("shed")),
+                ErrorCode.SERVER_BUSY);
+        assertThat(signup.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        AuthHttpSupport.performLogin(mvc, EMAIL, PASSWORD, false)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        AuthHttpSupport.performMe(mvc, bearer)
+                .andExpect(status().isOk());
+
+        release.countDown();
+        assertThat(held.get(5, TimeUnit.SECONDS).getResponse().getStatus()).isEqualTo(200);
+
+        // 붙잡은 요청이 끝나면 다시 받는다
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+    }
+
+    private Future<MvcResult> holdOneCriticalRequest() throws InterruptedException {
+        holdNext.set(true);
+        Future<MvcResult> held = executor.submit(() -> AuthHttpSupport.performMe(mvc, bearer).andReturn());
+        assertThat(entered.await(5, TimeUnit.SECONDS)).as("held /auth/me entered MeService").isTrue();
+        return held;
+    }
+}
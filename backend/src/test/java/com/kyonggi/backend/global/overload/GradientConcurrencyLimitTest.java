@@ -0,0 +1,122 @@
+package com.kyonggi.backend.global.overload;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 적응형 동시성 한도 계산 단위 테스트 (스프링 컨텍스트 없음)
+ *
+ * - 한도 = clamp(limit × gradient + sqrt(limit), min, max), gradient = clamp(tolerance × 장기 / 단기, 0.5, 1.0)
+ * - 계산을 손으로 따라갈 수 있게 shortWindow=1(단기 EWMA = 마지막 샘플), smoothing=1.0(바로 반영)을 기본으로 쓴다.
+ * - 첫 샘플은 기준선만 잡고 한도를 바꾸지 않는다 → 각 테스트는 seed() 후 검증한다.
+ */
+@DisplayName("[Overload] GradientConcurrencyLimit 한도 계산")
+class GradientConcurrencyLimitTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW_RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("초기 한도는 [min, max]로 잘린다")
+    void initial_limit_is_clamped() {
+        assertThat(new GradientConcurrencyLimit(props(500, 4, 200, 1.0)).current()).isEqualTo(200);
+        assertThat(new GradientConcurrencyLimit(props(1, 4, 200, 1.0)).current()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("첫 샘플은 기준선만 잡는다 → 한도 변화 없음")
+    void first_sample_only_seeds_baseline() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(props(100, 4, 200, 1.0));
+
+        limit.onSample(SLOW_RTT, 100, 10);
+
+        assertThat(limit.current()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("RTT 안정 → gradient 1.0(상한) + sqrt 여유: 100 → 100 + 10 = 110")
+    void stable_rtt_grows_by_sqrt_headroom() {
+        GradientConcurrencyLimit limit = seeded(props(100, 4, 200, 1.0));
+
+        limit.onSample(BASE_RTT, 100, 0);
+
+        assertThat(limit.current()).isEqualTo(110);
+    }
+
+    @Test
+    @DisplayName("RTT 급증 → gradient는 0.5 아래로 안 내려간다: 100 × 0.5 + 10 = 60")
+    void gradient_is_clamped_at_half() {
+        GradientConcurrencyLimit limit = seeded(props(100, 4, 200, 1.0));
+
+        limit.onSample(SLOW_RTT, 100, 0); // tolerance × 장기/단기 ≈ 0.02 → 0.5
+
+        assertThat(limit.current()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Hikari 대기 스레드 > 임계치 → RTT가 안정이어도 limit × backoff(0.9) 이하: 100 → 90")
+    void hikari_pending_backs_off_before_rtt_rises() {
+        GradientConcurrencyLimit limit = seeded(props(100, 4, 200, 1.0));
+
+        limit.onSample(BASE_RTT, 100, 1);
+
+        assertThat(limit.current()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("smoothing 0.2 → 새 한도(110)의 20%만 반영: 100 × 0.8 + 110 × 0.2 = 102")
+    void smoothing_blends_new_limit() {
+        GradientConcurrencyLimit limit = seeded(props(100, 4, 200, 0.2));
+
+        limit.onSample(BASE_RTT, 100, 0);
+
+        assertThat(limit.current()).isEqualTo(102);
+    }
+
+    @Test
+    @DisplayName("app-limited: 동시 요청 < 한도/2 이고 DB 압력 없음 → 한도를 바꾸지 않는다")
+    void app_limited_samples_do_not_move_limit() {
+        GradientConcurrencyLimit limit = seeded(props(100, 4, 200, 1.0));
+
+        limit.onSample(BASE_RTT, 49, 0);
+        limit.onSample(SLOW_RTT, 49, 0);
+
+        assertThat(limit.current()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("계속 안정이면 maxLimit에서, 계속 느리면 minLimit에서 멈춘다")
+    void limit_stays_within_bounds() {
+        GradientConcurrencyLimit growing = seeded(props(100, 20, 200, 1.0));
+        for (int i = 0; i < 30; i++) {
+            growing.onSample(BASE_RTT, 1000, 0);
+        }
+        assertThat(growing.current()).isEqualTo(200);
+
+        GradientConcurrencyLimit shrinking = seeded(props(100, 20, 200, 1.0));
+        for (int i = 0; i < 30; i++) {
+            shrinking.onSample(SLOW_RTT, 1000, 0);
+        }
+        assertThat(shrinking.current()).isEqualTo(20);
+    }
+
+    private static GradientConcurrencyLimit seeded(OverloadProperties.Concurrency props) {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(props);
+        limit.onSample(BASE_RTT, props.initialLimit(), 0);
+        return limit;
+    }
+
+    private static OverloadProperties.Concurrency props(int initial, int min, int max, double smoothing) {
+        return new OverloadProperties.Concurrency(
+                true, initial, min, max, smoothing,
+                1.5,   // rttTolerance
+                1,     // shortWindow → 단기 EWMA = 마지막 샘플
+                1001,  // longWindow → 장기 기준선은 거의 움직이지 않는다
+                0,     // hikariPendingThreshold
+                0.9,   // hikariBackoffRatio
+                0.8, 0.5, 1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.kyonggi.backend.global.overload;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.identity.signup.service.SignupOtpService;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport.LoginResult;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 워크로드 격벽 통합 테스트 (WorkloadBulkheadFilter)
+ *
+ * - SIGNUP 칸을 1개(대기 없음)로 줄이고, OTP 발급 요청 하나를 SignupOtpService 안에서 붙잡아 칸을 다 쓴다.
+ * - 그 상태에서 가입 요청은 503 SERVER_BUSY + Retry-After, 다른 칸(TOKEN/LOGIN)의 요청은 그대로 성공해야 한다.
+ */
+@TestPropertySource(properties = {
+        "app.overload.bulkhead.signup.max-concurrent=1",
+        "app.overload.bulkhead.signup.max-wait-millis=0"
+})
+@DisplayName("[Overload] 워크로드 격벽 통합 테스트")
+class WorkloadBulkheadIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @MockitoSpyBean SignupOtpService signupOtpService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicBoolean holdNext = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        createDefaultUser();
+
+        // holdNext가 켜져 있을 때 들어온 첫 OTP 발급만 release까지 붙잡는다
+        doAnswer(invocation -> {
+            if (holdNext.compareAndSet(true, false)) {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return invocation.callRealMethod();
+        }).when(signupOtpService).requestSignupOtp(anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("SIGNUP 칸이 다 차면 가입은 503 SERVER_BUSY + Retry-After, /auth/refresh와 /auth/login은 성공")
+    void exhausted_signup_compartment_does_not_block_refresh() throws Exception {
+        LoginResult login = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+
+        holdNext.set(true);
+        Future<MvcResult> held = executor.submit(() ->
+                AuthHttpSupport.performSignupOtpRequest(mvc, uniqueKyonggiEmail("held")).andReturn());
+        assertThat(entered.await(5, TimeUnit.SECONDS)).as("held OTP request entered SignupOtpService").isTrue();
+
+        MvcResult shed = AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupOtpRequest(mvc, uniqueKyonggiEmail("shed")),
+                ErrorCode.SERVER_BUSY);
+        assertThat(shed.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        AuthFlowSupport.refreshOk(mvc, login.refreshRaw());
+        AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false);
+
+        release.countDown();
+        assertThat(held.get(5, TimeUnit.SECONDS).getResponse().getStatus()).isEqualTo(204);
+    }
+}
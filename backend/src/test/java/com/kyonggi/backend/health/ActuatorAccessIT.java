@@ -0,0 +1,68 @@
+package com.kyonggi.backend.health;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.UserRole;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+import com.kyonggi.backend.auth.support.AuthHttpSupport;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.JwtService;
+
+/**
+ * Actuator 접근 권한 (health 외 운영 엔드포인트)
+ *
+ * - /actuator/health/** 만 익명 허용 (ActuatorHealthIT)
+ * - 그 외 actuator는 MASTER role 전용: 다른 사용자의 IP/로그인 이력/내부 지표가 들어 있다.
+ *   → 익명 401 AUTH_REQUIRED, USER 토큰 403 ACCESS_DENIED, MASTER 토큰 200
+ * - MASTER 토큰은 가입 흐름으로 만들 수 없으므로 JwtService로 직접 발급한다.
+ */
+@DisplayName("[Actuator] 운영 엔드포인트 접근 권한")
+class ActuatorAccessIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired JwtService jwtService;
+
+    private String userBearer;
+    private String masterBearer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Long userId = createDefaultUser().getId();
+        userBearer = AuthHttpSupport.bearer(AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken());
+        masterBearer = AuthHttpSupport.bearer(jwtService.issueAccessToken(userId, UserRole.MASTER));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/actuator/metrics", "/actuator/heavyhitters", "/actuator/auditlog"})
+    @DisplayName("actuator: 토큰 없음 → 401 AUTH_REQUIRED")
+    void anonymous_is_401(String path) throws Exception {
+        AuthHttpSupport.expectErrorWithCode(mvc.perform(get(path)), ErrorCode.AUTH_REQUIRED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/actuator/metrics", "/actuator/heavyhitters", "/actuator/auditlog"})
+    @DisplayName("actuator: 로그인한 일반 사용자(USER) → 403 ACCESS_DENIED")
+    void user_role_is_403(String path) throws Exception {
+        AuthHttpSupport.expectErrorWithCode(
+                mvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, userBearer)),
+                ErrorCode.ACCESS_DENIED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/actuator/metrics", "/actuator/heavyhitters", "/actuator/auditlog"})
+    @DisplayName("actuator: 운영자(MASTER) → 200")
+    void master_role_is_200(String path) throws Exception {
+        mvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, masterBearer))
+                .andExpect(status().isOk());
+    }
+}
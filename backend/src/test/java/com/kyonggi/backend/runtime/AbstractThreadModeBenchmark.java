@@ -0,0 +1,143 @@
+package com.kyonggi.backend.runtime;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.support.AuthFlowSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스레드 모델 벤치마크 (플랫폼 스레드 vs 가상 스레드) @ 동시 클라이언트 2,000
+ *
+ * - 실제 Tomcat을 띄우고(RANDOM_PORT) 2,000개 클라이언트가 동시에 GET /auth/me(JWT 검증 + DB 조회)를 반복한다.
+ * - 하위 클래스가 spring.threads.virtual.enabled만 바꿔서 같은 시나리오를 돌린다.
+ * - 과부하 보호(app.overload.*)는 꺼서 "스레드 모델 자체"의 처리량/메모리만 비교한다.
+ * - 절대값은 머신마다 다르므로 오류 없음만 단언하고, throughput/p99/스레드 수/힙은 로그로 남긴다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "app.overload.concurrency.enabled=false",
+                "app.overload.bulkhead.enabled=false"
+        })
+abstract class AbstractThreadModeBenchmark extends AbstractAuthIntegrationTest {
+
+    private static final int CLIENTS = 2_000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int WARMUP_REQUESTS = 2_000;
+
+    @Autowired MockMvc mvc;
+    @LocalServerPort int port;
+
+    protected abstract String mode();
+
+    @Test
+    @DisplayName("GET /auth/me 동시 2,000 클라이언트: 오류 없음 + throughput/p99/스레드/힙 로그")
+    void me_throughput_with_2000_concurrent_clients() throws Exception {
+        createDefaultUser();
+        String accessToken = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/me"))
+                .header("Authorization", "Bearer " + accessToken)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        threads.resetPeakThreadCount();
+
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger cursor = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long startedAt;
+        long elapsedNanos;
+        long peakHeap = heapBefore;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long t0 = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[cursor.getAndIncrement()] = System.nanoTime() - t0;
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> f : futures) {
+                while (!f.isDone()) {
+                    peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+                    Thread.sleep(50);
+                }
+                f.get();
+            }
+            elapsedNanos = System.nanoTime() - startedAt;
+        }
+
+        Arrays.sort(latencies);
+        double seconds = elapsedNanos / 1e9;
+        log.info("[thread-mode={}] clients={} requests={} failures={} throughput={} req/s p50={}ms p99={}ms "
+                        + "peakLiveThreads={} heapBeforeMb={} peakHeapMb={}",
+                mode(), CLIENTS, latencies.length, failures.get(),
+                String.format("%.0f", latencies.length / seconds),
+                String.format("%.2f", percentile(latencies, 0.50) / 1e6),
+                String.format("%.2f", percentile(latencies, 0.99) / 1e6),
+                threads.getPeakThreadCount(),
+                heapBefore / (1024 * 1024),
+                peakHeap / (1024 * 1024));
+
+        assertThat(failures.get()).isZero();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+}
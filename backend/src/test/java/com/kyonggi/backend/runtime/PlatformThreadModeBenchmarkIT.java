@@ -0,0 +1,14 @@
+package com.kyonggi.backend.runtime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("[Runtime][Benchmark] 플랫폼 스레드(Tomcat 워커 200) @ 2k clients")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadModeBenchmarkIT extends AbstractThreadModeBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
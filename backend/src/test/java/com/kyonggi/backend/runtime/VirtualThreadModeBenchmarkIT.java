@@ -0,0 +1,14 @@
+package com.kyonggi.backend.runtime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("[Runtime][Benchmark] 가상 스레드 @ 2k clients")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadModeBenchmarkIT extends AbstractThreadModeBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}